@@ -201,6 +201,11 @@ public interface ArcConfig {
      */
     ArcTestConfig test();
 
+    /**
+     * Parallel startup configuration.
+     */
+    ArcParallelStartupConfig parallelStartup();
+
     /**
      * The list of packages that will not be checked for split package issues.
      * <p>
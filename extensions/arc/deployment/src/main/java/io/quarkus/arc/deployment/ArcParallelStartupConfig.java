@@ -0,0 +1,32 @@
+package io.quarkus.arc.deployment;
+
+import java.util.OptionalInt;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.smallrye.config.WithDefault;
+
+@ConfigGroup
+public interface ArcParallelStartupConfig {
+
+    /**
+     * If set to {@code true} then the synchronous {@code StartupEvent} observers, including the observers generated for
+     * {@code @Startup} beans and methods, are notified concurrently.
+     * <p>
+     * Observers are still notified in the order of their priority: all observers with the same priority must complete
+     * before the observers with the next priority are notified. Within a priority, the observers whose beans depend on
+     * each other, as resolved from the injection points at build time, are notified sequentially on the same thread,
+     * while independent observers are notified concurrently.
+     * <p>
+     * The time spent by each observer and the critical path of the startup are logged at {@code DEBUG} level by the
+     * {@code io.quarkus.arc.runtime.ParallelStartup} logger.
+     */
+    @WithDefault("false")
+    boolean enabled();
+
+    /**
+     * The maximum number of threads used to notify the observers concurrently. If not set then the number of available
+     * processors is used.
+     */
+    OptionalInt maxThreads();
+
+}
@@ -2,8 +2,21 @@
 
 import static io.quarkus.deployment.annotations.ExecutionTime.RUNTIME_INIT;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
+import org.jboss.jandex.DotName;
+
+import io.quarkus.arc.processor.BeanInfo;
+import io.quarkus.arc.processor.DotNames;
+import io.quarkus.arc.processor.InjectionPointInfo;
+import io.quarkus.arc.processor.ObserverInfo;
 import io.quarkus.arc.runtime.ArcRecorder;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.annotations.Record;
@@ -11,19 +24,131 @@
 import io.quarkus.deployment.builditem.LaunchModeBuildItem;
 import io.quarkus.deployment.builditem.ServiceStartBuildItem;
 import io.quarkus.deployment.builditem.ShutdownContextBuildItem;
+import io.quarkus.runtime.StartupEvent;
 
 public class LifecycleEventsBuildStep {
 
+    private static final DotName STARTUP_EVENT = DotName.createSimple(StartupEvent.class);
+
     @BuildStep
     @Record(RUNTIME_INIT)
     ApplicationStartBuildItem startupEvent(ArcRecorder recorder,
             List<ServiceStartBuildItem> startList,
             BeanContainerBuildItem beanContainer,
             ShutdownContextBuildItem shutdown,
-            LaunchModeBuildItem launchMode, ArcConfig config) {
+            LaunchModeBuildItem launchMode, ArcConfig config,
+            SynthesisFinishedBuildItem synthesisFinished) {
+        Map<String, Integer> startupGroups = null;
+        int maxThreads = 0;
+        if (config.parallelStartup().enabled()) {
+            startupGroups = computeStartupGroups(synthesisFinished);
+            maxThreads = config.parallelStartup().maxThreads().orElse(0);
+        }
         recorder.handleLifecycleEvents(shutdown, launchMode.getLaunchMode(),
-                config.test().disableApplicationLifecycleObservers());
+                config.test().disableApplicationLifecycleObservers(), startupGroups, maxThreads);
         return new ApplicationStartBuildItem();
     }
 
+    /**
+     * Assigns a group to each {@code StartupEvent} observer. Two observers end up in the same group if the bean of one of
+     * them depends, directly or transitively, on the bean of the other one. Observers from different groups may be
+     * notified concurrently.
+     *
+     * @return the map of observer keys to group indexes
+     * @see io.quarkus.arc.runtime.ParallelStartup#observerKey(io.quarkus.arc.InjectableObserverMethod)
+     */
+    static Map<String, Integer> computeStartupGroups(RegisteredComponentsBuildItem components) {
+        // bean -> beans it depends on
+        Map<BeanInfo, List<BeanInfo>> dependencies = new HashMap<>();
+        for (InjectionPointInfo injectionPoint : components.getInjectionPoints()) {
+            BeanInfo resolved = injectionPoint.getResolvedBean();
+            if (resolved != null && injectionPoint.getTargetBean().isPresent()) {
+                dependencies.computeIfAbsent(injectionPoint.getTargetBean().get(), k -> new ArrayList<>()).add(resolved);
+            }
+        }
+        Map<DotName, List<BeanInfo>> beansByClass = new HashMap<>();
+        for (BeanInfo bean : components.getBeans()) {
+            if (bean.isProducerMethod() || bean.isProducerField()) {
+                // a producer needs an instance of the declaring bean unless it's static
+                dependencies.computeIfAbsent(bean, k -> new ArrayList<>()).add(bean.getDeclaringBean());
+            }
+            beansByClass.computeIfAbsent(bean.getBeanClass(), k -> new ArrayList<>()).add(bean);
+        }
+
+        // observer key -> beans the notification of the observer may initialize
+        Map<String, Set<BeanInfo>> participants = new HashMap<>();
+        for (ObserverInfo observer : components.getObservers()) {
+            if (observer.isAsync()) {
+                continue;
+            }
+            DotName observedType = observer.getObservedType().name();
+            if (!observedType.equals(STARTUP_EVENT) && !observedType.equals(DotNames.OBJECT)) {
+                continue;
+            }
+            String key;
+            Set<BeanInfo> roots = new HashSet<>();
+            if (observer.isSynthetic()) {
+                // the observers generated for @Startup beans only declare the bean class
+                key = observer.getBeanClass().toString();
+                roots.addAll(beansByClass.getOrDefault(observer.getBeanClass(), List.of()));
+            } else {
+                key = observer.getDeclaringBean().getIdentifier();
+                roots.add(observer.getDeclaringBean());
+            }
+            participants.computeIfAbsent(key, k -> new HashSet<>()).addAll(reachable(roots, dependencies));
+        }
+
+        // union the observers that reach the bean of another observer
+        List<String> keys = new ArrayList<>(participants.keySet());
+        int[] parents = new int[keys.size()];
+        for (int i = 0; i < parents.length; i++) {
+            parents[i] = i;
+        }
+        Set<String> roots = new HashSet<>(keys);
+        Map<BeanInfo, Integer> owners = new HashMap<>();
+        for (int i = 0; i < keys.size(); i++) {
+            for (BeanInfo bean : participants.get(keys.get(i))) {
+                if (!isStartupRoot(bean, roots)) {
+                    // the contexts guard the creation of shared dependencies; only a dependency on the bean of another
+                    // observer makes the order of notifications relevant
+                    continue;
+                }
+                Integer owner = owners.putIfAbsent(bean, i);
+                if (owner != null) {
+                    parents[find(parents, i)] = find(parents, owner);
+                }
+            }
+        }
+        Map<String, Integer> groups = new HashMap<>();
+        for (int i = 0; i < keys.size(); i++) {
+            groups.put(keys.get(i), find(parents, i));
+        }
+        return groups;
+    }
+
+    private static boolean isStartupRoot(BeanInfo bean, Set<String> roots) {
+        return roots.contains(bean.getIdentifier()) || roots.contains(bean.getBeanClass().toString());
+    }
+
+    private static Set<BeanInfo> reachable(Set<BeanInfo> roots, Map<BeanInfo, List<BeanInfo>> dependencies) {
+        Set<BeanInfo> visited = new HashSet<>(roots);
+        Deque<BeanInfo> queue = new ArrayDeque<>(roots);
+        while (!queue.isEmpty()) {
+            for (BeanInfo dependency : dependencies.getOrDefault(queue.poll(), List.of())) {
+                if (visited.add(dependency)) {
+                    queue.add(dependency);
+                }
+            }
+        }
+        return visited;
+    }
+
+    private static int find(int[] parents, int i) {
+        while (parents[i] != i) {
+            parents[i] = parents[parents[i]];
+            i = parents[i];
+        }
+        return i;
+    }
+
 }
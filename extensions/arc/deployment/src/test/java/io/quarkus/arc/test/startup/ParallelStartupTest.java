@@ -0,0 +1,124 @@
+package io.quarkus.arc.test.startup;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.Priority;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.inject.spi.ObserverMethod;
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.runtime.Startup;
+import io.quarkus.runtime.StartupEvent;
+import io.quarkus.test.QuarkusExtensionTest;
+
+public class ParallelStartupTest {
+
+    static final List<String> LOG = new CopyOnWriteArrayList<>();
+    static final Map<String, String> THREADS = new ConcurrentHashMap<>();
+    static final CountDownLatch INDEPENDENT = new CountDownLatch(2);
+    static volatile boolean concurrent;
+
+    @RegisterExtension
+    static final QuarkusExtensionTest config = new QuarkusExtensionTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClasses(First.class, Alpha.class, Bravo.class, Charlie.class, Delta.class, Last.class))
+            .overrideConfigKey("quarkus.arc.parallel-startup.enabled", "true")
+            .overrideConfigKey("quarkus.arc.parallel-startup.max-threads", "4");
+
+    @Test
+    public void testStartup() {
+        assertEquals(6, LOG.size(), "Unexpected number of log messages: " + LOG);
+        // priority levels are notified in order
+        assertEquals("first", LOG.get(0));
+        assertEquals("last", LOG.get(5));
+        // independent observers with the same priority are notified concurrently
+        assertTrue(concurrent);
+        assertNotEquals(THREADS.get("alpha"), THREADS.get("bravo"));
+        // dependent observers are notified on the same thread
+        assertEquals(THREADS.get("charlie"), THREADS.get("delta"));
+    }
+
+    static void awaitIndependent() {
+        INDEPENDENT.countDown();
+        try {
+            concurrent = INDEPENDENT.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    static void log(String message) {
+        LOG.add(message);
+        THREADS.put(message, Thread.currentThread().getName());
+    }
+
+    @Startup(ObserverMethod.DEFAULT_PRIORITY - 1)
+    static class First {
+
+        @PostConstruct
+        void init() {
+            log("first");
+        }
+    }
+
+    @Startup
+    static class Alpha {
+
+        @PostConstruct
+        void init() {
+            awaitIndependent();
+            log("alpha");
+        }
+    }
+
+    @Startup
+    static class Bravo {
+
+        @PostConstruct
+        void init() {
+            awaitIndependent();
+            log("bravo");
+        }
+    }
+
+    @Startup
+    static class Charlie {
+
+        @Inject
+        Delta delta;
+
+        @PostConstruct
+        void init() {
+            log("charlie");
+        }
+    }
+
+    @Startup
+    static class Delta {
+
+        @PostConstruct
+        void init() {
+            log("delta");
+        }
+    }
+
+    static class Last {
+
+        void onStart(@Observes @Priority(ObserverMethod.DEFAULT_PRIORITY + 1) StartupEvent event) {
+            log("last");
+        }
+    }
+}
@@ -92,8 +92,15 @@ public BeanContainer initBeanContainer(ArcContainer container, List<BeanContaine
         return beanContainer;
     }
 
+    /**
+     *
+     * @param startupGroups the groups of {@code StartupEvent} observers computed at build time, or {@code null} if the
+     *        observers should be notified sequentially
+     * @param maxThreads the maximum number of threads used to notify the observers concurrently, or {@code 0} to use the
+     *        number of available processors
+     */
     public void handleLifecycleEvents(ShutdownContext context, LaunchMode launchMode,
-            boolean disableApplicationLifecycleObservers) {
+            boolean disableApplicationLifecycleObservers, Map<String, Integer> startupGroups, int maxThreads) {
         ArcContainerImpl container = ArcContainerImpl.instance();
         List<Class<?>> mockBeanClasses;
 
@@ -112,7 +119,17 @@ public void handleLifecycleEvents(ShutdownContext context, LaunchMode launchMode
             mockBeanClasses = Collections.emptyList();
         }
 
-        fireLifecycleEvent(container, new StartupEvent(), mockBeanClasses);
+        if (startupGroups != null) {
+            ParallelStartup parallelStartup = new ParallelStartup(container, startupGroups, maxThreads);
+            fireLifecycleEvent(container, mockBeanClasses, new Runnable() {
+                @Override
+                public void run() {
+                    parallelStartup.fire(new StartupEvent());
+                }
+            });
+        } else {
+            fireLifecycleEvent(container, new StartupEvent(), mockBeanClasses);
+        }
 
         context.addShutdownTask(new Runnable() {
             @Override
@@ -157,12 +174,21 @@ public void initTestApplicationClassPredicate(Set<String> applicationBeanClasses
     }
 
     private void fireLifecycleEvent(ArcContainerImpl container, Object event, List<Class<?>> mockBeanClasses) {
+        fireLifecycleEvent(container, mockBeanClasses, new Runnable() {
+            @Override
+            public void run() {
+                container.beanManager().getEvent().fire(event);
+            }
+        });
+    }
+
+    private void fireLifecycleEvent(ArcContainerImpl container, List<Class<?>> mockBeanClasses, Runnable notification) {
         if (!mockBeanClasses.isEmpty()) {
             for (Class<?> beanClass : mockBeanClasses) {
                 container.mockObserversFor(beanClass, true);
             }
         }
-        container.beanManager().getEvent().fire(event);
+        notification.run();
         if (!mockBeanClasses.isEmpty()) {
             for (Class<?> beanClass : mockBeanClasses) {
                 container.mockObserversFor(beanClass, false);
@@ -0,0 +1,248 @@
+package io.quarkus.arc.runtime;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.enterprise.event.ObserverException;
+import jakarta.enterprise.inject.Any;
+import jakarta.enterprise.inject.Default;
+import jakarta.enterprise.inject.spi.EventContext;
+
+import org.jboss.logging.Logger;
+
+import io.quarkus.arc.InjectableObserverMethod;
+import io.quarkus.arc.ManagedContext;
+import io.quarkus.arc.impl.ArcContainerImpl;
+import io.quarkus.arc.impl.EventContextImpl;
+import io.quarkus.arc.impl.EventMetadataImpl;
+import io.quarkus.runtime.StartupEvent;
+
+/**
+ * Notifies the synchronous {@link StartupEvent} observers concurrently.
+ * <p>
+ * The observers are split in priority levels. A level is only started when the previous one completed. Within a level,
+ * the observers are partitioned by the groups computed at build time from the dependencies of their beans; the observers
+ * of a group are notified sequentially, in the priority order, while the groups are notified concurrently on a bounded
+ * executor that only lives for the duration of the startup.
+ */
+public final class ParallelStartup {
+
+    private static final Logger LOG = Logger.getLogger(ParallelStartup.class);
+
+    // observers that are not known at build time, e.g. observers of a supertype of StartupEvent, share a single group
+    private static final int UNKNOWN_GROUP = -1;
+
+    private final ArcContainerImpl container;
+    private final Map<String, Integer> groups;
+    private final int maxThreads;
+
+    ParallelStartup(ArcContainerImpl container, Map<String, Integer> groups, int maxThreads) {
+        this.container = container;
+        this.groups = groups;
+        this.maxThreads = maxThreads > 0 ? maxThreads : Runtime.getRuntime().availableProcessors();
+    }
+
+    static String observerKey(InjectableObserverMethod<?> observer) {
+        String beanIdentifier = observer.getDeclaringBeanIdentifier();
+        // synthetic observers, such as the ones generated for @Startup beans, are identified by the bean class
+        return beanIdentifier != null ? beanIdentifier : observer.getBeanClass().getName();
+    }
+
+    void fire(StartupEvent event) {
+        EventContext<StartupEvent> eventContext = new EventContextImpl<>(event,
+                new EventMetadataImpl(Set.of(Default.Literal.INSTANCE, Any.Literal.INSTANCE), StartupEvent.class, null));
+        List<InjectableObserverMethod<? super StartupEvent>> observers = new ArrayList<>();
+        for (InjectableObserverMethod<? super StartupEvent> observer : container
+                .<StartupEvent> resolveObserverMethods(StartupEvent.class, Default.Literal.INSTANCE, Any.Literal.INSTANCE)) {
+            if (!observer.isAsync()) {
+                observers.add(observer);
+            }
+        }
+
+        long start = System.nanoTime();
+        List<Level> levels = new ArrayList<>();
+        ExecutorService executor = null;
+        try {
+            int from = 0;
+            while (from < observers.size()) {
+                // the resolved observers are sorted by priority
+                int priority = observers.get(from).getPriority();
+                int to = from;
+                Map<Integer, Group> byGroup = new LinkedHashMap<>();
+                while (to < observers.size() && observers.get(to).getPriority() == priority) {
+                    InjectableObserverMethod<? super StartupEvent> observer = observers.get(to);
+                    byGroup.computeIfAbsent(groups.getOrDefault(observerKey(observer), UNKNOWN_GROUP), k -> new Group())
+                            .observers.add(observer);
+                    to++;
+                }
+                Level level = new Level(priority, new ArrayList<>(byGroup.values()));
+                levels.add(level);
+                if (level.groups.size() == 1) {
+                    level.groups.get(0).notify(eventContext);
+                } else {
+                    if (executor == null) {
+                        executor = Executors.newFixedThreadPool(maxThreads,
+                                new StartupThreadFactory(Thread.currentThread().getContextClassLoader()));
+                    }
+                    notifyConcurrently(executor, level, eventContext);
+                }
+                from = to;
+            }
+        } finally {
+            if (executor != null) {
+                executor.shutdownNow();
+            }
+        }
+        if (LOG.isDebugEnabled()) {
+            LOG.debug(timeline(levels, System.nanoTime() - start));
+        }
+    }
+
+    private void notifyConcurrently(ExecutorService executor, Level level, EventContext<StartupEvent> eventContext) {
+        List<Future<?>> futures = new ArrayList<>(level.groups.size());
+        for (Group group : level.groups) {
+            futures.add(executor.submit(new Runnable() {
+                @Override
+                public void run() {
+                    group.notify(eventContext);
+                }
+            }));
+        }
+        Throwable failure = null;
+        // wait for all groups so that no observer of this level is still running when the startup fails
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (ExecutionException e) {
+                if (failure == null) {
+                    failure = e.getCause();
+                } else {
+                    failure.addSuppressed(e.getCause());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                for (Future<?> f : futures) {
+                    f.cancel(true);
+                }
+                throw new IllegalStateException("Interrupted while notifying the StartupEvent observers", e);
+            }
+        }
+        if (failure instanceof RuntimeException) {
+            throw (RuntimeException) failure;
+        } else if (failure instanceof Error) {
+            throw (Error) failure;
+        } else if (failure != null) {
+            throw new ObserverException(failure);
+        }
+    }
+
+    private static String timeline(List<Level> levels, long totalNanos) {
+        long sequentialNanos = 0;
+        long criticalPathNanos = 0;
+        StringBuilder levelsInfo = new StringBuilder();
+        for (Level level : levels) {
+            Group slowest = null;
+            for (Group group : level.groups) {
+                sequentialNanos += group.nanos;
+                if (slowest == null || group.nanos > slowest.nanos) {
+                    slowest = group;
+                }
+            }
+            criticalPathNanos += slowest.nanos;
+            levelsInfo.append("\n\t- priority ").append(level.priority).append(": ").append(level.groups.size())
+                    .append(level.groups.size() == 1 ? " group" : " groups").append(", critical path ")
+                    .append(millis(slowest.nanos)).append(" ms on ").append(slowest.thread).append(" [");
+            for (int i = 0; i < slowest.observers.size(); i++) {
+                if (i > 0) {
+                    levelsInfo.append(", ");
+                }
+                levelsInfo.append(slowest.observers.get(i).getBeanClass().getName()).append(' ')
+                        .append(millis(slowest.observerNanos[i])).append(" ms");
+            }
+            levelsInfo.append(']');
+        }
+        return String.format(
+                "StartupEvent observers notified in %s ms: critical path %s ms, sequential notification %s ms%s",
+                millis(totalNanos), millis(criticalPathNanos), millis(sequentialNanos), levelsInfo);
+    }
+
+    private static String millis(long nanos) {
+        return String.format("%.1f", nanos / 1_000_000.0);
+    }
+
+    private final class Group {
+
+        final List<InjectableObserverMethod<? super StartupEvent>> observers = new ArrayList<>();
+
+        long[] observerNanos;
+        long nanos;
+        String thread;
+
+        @SuppressWarnings({ "rawtypes", "unchecked" })
+        void notify(EventContext<StartupEvent> eventContext) {
+            thread = Thread.currentThread().getName();
+            observerNanos = new long[observers.size()];
+            // the request context is activated for the notification of lifecycle events unless in the strict mode
+            ManagedContext requestContext = container.requestContext();
+            boolean activate = !container.strictCompatibility() && !requestContext.isActive();
+            if (activate) {
+                requestContext.activate();
+            }
+            long start = System.nanoTime();
+            try {
+                for (int i = 0; i < observers.size(); i++) {
+                    long observerStart = System.nanoTime();
+                    try {
+                        ((InjectableObserverMethod) observers.get(i)).notify(eventContext);
+                    } finally {
+                        observerNanos[i] = System.nanoTime() - observerStart;
+                    }
+                }
+            } finally {
+                nanos = System.nanoTime() - start;
+                if (activate) {
+                    requestContext.terminate();
+                }
+            }
+        }
+    }
+
+    private static final class Level {
+
+        final int priority;
+        final List<Group> groups;
+
+        Level(int priority, List<Group> groups) {
+            this.priority = priority;
+            this.groups = groups;
+        }
+    }
+
+    private static final class StartupThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger count = new AtomicInteger();
+        private final ClassLoader classLoader;
+
+        StartupThreadFactory(ClassLoader classLoader) {
+            this.classLoader = classLoader;
+        }
+
+        @Override
+        public Thread newThread(Runnable r) {
+            Thread thread = new Thread(r, "quarkus-parallel-startup-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            thread.setContextClassLoader(classLoader);
+            return thread;
+        }
+    }
+
+}
@@ -198,8 +198,10 @@ private List<Throwable> validateInterceptorBindingTarget(AnnotationInstance bind
                 if (CACHE_RESULT.equals(binding.name())) {
                     if (methodInfo.returnType().kind() == Type.Kind.VOID) {
                         throwables.add(new VoidReturnTypeTargetException(methodInfo));
-                    } else if (MULTI.equals(methodInfo.returnType().name())) {
-                        LOGGER.warnf("@CacheResult is not currently supported on a method returning %s [class=%s, method=%s]",
+                    } else if (MULTI.equals(methodInfo.returnType().name())
+                            && (binding.value("multiMaxItems") == null || binding.value("multiMaxItems").asInt() <= 0)) {
+                        LOGGER.warnf(
+                                "@CacheResult is not supported on a method returning %s unless multiMaxItems is set [class=%s, method=%s]",
                                 MULTI, methodInfo.declaringClass().name(), methodInfo.name());
                     }
                 }
@@ -0,0 +1,102 @@
+package io.quarkus.cache.test.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.cache.CacheResult;
+import io.quarkus.test.QuarkusExtensionTest;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Tests the {@link CacheResult#multiMaxItems()} attribute on methods returning {@link Multi}.
+ */
+public class CachedMultiValueTest {
+
+    @RegisterExtension
+    static final QuarkusExtensionTest TEST = new QuarkusExtensionTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class).addClass(CachedService.class));
+
+    @Inject
+    CachedService cachedService;
+
+    @Test
+    public void testItemsReplayed() {
+        Multi<String> multi1 = cachedService.cachedMethod("foo");
+        // The method is invoked lazily, when the Multi is subscribed
+        assertEquals(0, cachedService.invocations.get());
+        assertEquals(List.of("foo", "is", "cached"), multi1.collect().asList().await().indefinitely());
+        assertEquals(1, cachedService.invocations.get());
+
+        assertEquals(List.of("foo", "is", "cached"), cachedService.cachedMethod("foo").collect().asList().await().indefinitely());
+        assertEquals(List.of("foo", "is", "cached"), multi1.collect().asList().await().indefinitely());
+        assertEquals(1, cachedService.invocations.get());
+
+        assertEquals(List.of("bar", "is", "cached"), cachedService.cachedMethod("bar").collect().asList().await().indefinitely());
+        assertEquals(2, cachedService.invocations.get());
+    }
+
+    @Test
+    public void testConcurrentSubscribersShareUpstream() {
+        List<List<Long>> results = Multi.createFrom().range(0, 10)
+                .onItem().transformToUniAndMerge(i -> cachedService.slowMethod().collect().asList())
+                .collect().asList().await().atMost(Duration.ofSeconds(10));
+        assertEquals(10, results.size());
+        for (List<Long> result : results) {
+            assertEquals(List.of(0L, 1L, 2L), result);
+        }
+        assertEquals(1, cachedService.slowInvocations.get());
+    }
+
+    @Test
+    public void testTooManyItemsNotCached() {
+        assertEquals(List.of(0, 1, 2, 3, 4), cachedService.tooLargeMethod().collect().asList().await().indefinitely());
+        // The items are not cached but the rest of them is obtained from the same subscription
+        assertEquals(1, cachedService.tooLargeInvocations.get());
+        assertEquals(1, cachedService.tooLargeSubscriptions.get());
+        assertEquals(List.of(0, 1, 2, 3, 4), cachedService.tooLargeMethod().collect().asList().await().indefinitely());
+        assertEquals(2, cachedService.tooLargeInvocations.get());
+        assertEquals(2, cachedService.tooLargeSubscriptions.get());
+    }
+
+    @ApplicationScoped
+    static class CachedService {
+
+        final AtomicInteger invocations = new AtomicInteger();
+        final AtomicInteger slowInvocations = new AtomicInteger();
+        final AtomicInteger tooLargeInvocations = new AtomicInteger();
+        final AtomicInteger tooLargeSubscriptions = new AtomicInteger();
+
+        @CacheResult(cacheName = "multi-cache", multiMaxItems = 10)
+        public Multi<String> cachedMethod(String key) {
+            return Multi.createFrom().deferred(() -> {
+                invocations.incrementAndGet();
+                return Multi.createFrom().items(key, "is", "cached");
+            });
+        }
+
+        @CacheResult(cacheName = "slow-multi-cache", multiMaxItems = 10)
+        public Multi<Long> slowMethod() {
+            slowInvocations.incrementAndGet();
+            return Uni.createFrom().voidItem().onItem().delayIt().by(Duration.ofMillis(200))
+                    .onItem().transformToMulti(ignored -> Multi.createFrom().items(0L, 1L, 2L));
+        }
+
+        @CacheResult(cacheName = "too-large-multi-cache", multiMaxItems = 3)
+        public Multi<Integer> tooLargeMethod() {
+            tooLargeInvocations.incrementAndGet();
+            return Multi.createFrom().range(0, 5).onSubscription().invoke(tooLargeSubscriptions::incrementAndGet);
+        }
+    }
+}
@@ -38,6 +38,9 @@
  * a given delay. The lock timeout is disabled by default, meaning the lock is never interrupted. See the parameter Javadoc for
  * more details.
  * <p>
+ * A method returning {@link io.smallrye.mutiny.Multi} is only cached if {@link #multiMaxItems()} is set. In that case, the
+ * emitted items are collected and the cached items are replayed to every subscriber.
+ * <p>
  * This annotation cannot be used on a method returning {@code void}. It can be combined with multiple other caching
  * annotations on a single method. Caching operations will always be executed in the same order: {@link CacheInvalidateAll}
  * first, then {@link CacheInvalidate} and finally {@link CacheResult}.
@@ -68,4 +71,15 @@
      */
     @Nonbinding
     Class<? extends CacheKeyGenerator> keyGenerator() default UndefinedCacheKeyGenerator.class;
+
+    /**
+     * The maximum number of items that may be cached if the annotated method returns {@link io.smallrye.mutiny.Multi}. The
+     * items are collected when the {@code Multi} is subscribed and replayed to every subscriber afterwards. If the
+     * {@code Multi} emits more items, nothing is cached and the subscriber receives all the items from the same subscription.
+     * A value of {@code 0} (which is the default one) means that {@code Multi} values are never cached.
+     * <p>
+     * This attribute is ignored for methods that do not return {@code Multi}.
+     */
+    @Nonbinding
+    int multiMaxItems() default 0;
 }
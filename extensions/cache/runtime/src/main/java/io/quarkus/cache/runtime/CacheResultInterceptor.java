@@ -1,7 +1,10 @@
 package io.quarkus.cache.runtime;
 
 import java.time.Duration;
+import java.util.List;
+import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.function.Supplier;
 
 import jakarta.annotation.Priority;
@@ -27,14 +30,6 @@ public class CacheResultInterceptor extends CacheInterceptor {
 
     @AroundInvoke
     public Object intercept(InvocationContext invocationContext) throws Throwable {
-        /*
-         * io.smallrye.mutiny.Multi values are never cached.
-         * There's already a WARN log entry at build time so we don't need to log anything at run time.
-         */
-        if (Multi.class.isAssignableFrom(invocationContext.getMethod().getReturnType())) {
-            return invocationContext.proceed();
-        }
-
         CacheInterceptionContext<CacheResult> interceptionContext = getInterceptionContext(invocationContext,
                 CacheResult.class, true);
 
@@ -45,11 +40,23 @@ public Object intercept(InvocationContext invocationContext) throws Throwable {
         }
 
         CacheResult binding = interceptionContext.getInterceptorBindings().get(0);
+        boolean multi = Multi.class.isAssignableFrom(invocationContext.getMethod().getReturnType());
+        if (multi && binding.multiMaxItems() <= 0) {
+            /*
+             * io.smallrye.mutiny.Multi values are not cached unless the maximum number of items is set.
+             * There's already a WARN log entry at build time so we don't need to log anything at run time.
+             */
+            return invocationContext.proceed();
+        }
         AbstractCache cache = (AbstractCache) cacheManager.getCache(binding.cacheName()).get();
         Object key = getCacheKey(cache, binding.keyGenerator(), interceptionContext.getCacheKeyParameterPositions(),
                 invocationContext.getMethod(), invocationContext.getParameters());
         LOGGER.debugf("Loading entry with key [%s] from cache [%s]", key, binding.cacheName());
 
+        if (multi) {
+            return interceptMulti(invocationContext, binding, cache, key);
+        }
+
         try {
             ReturnType returnType = determineReturnType(invocationContext.getMethod().getReturnType());
             if (returnType != ReturnType.NonAsync) {
@@ -128,4 +135,90 @@ public Object apply(Object k) {
         }
     }
 
+    /*
+     * The items of the Multi are collected into a list which is stored in the cache and replayed to every subscriber.
+     * Concurrent subscribers that miss the same key share the pending computation, i.e. a single upstream subscription.
+     * If the Multi emits more items than allowed, nothing is cached and the subscriber that triggered the computation gets
+     * the rest of the items from the same upstream subscription.
+     */
+    private Object interceptMulti(InvocationContext invocationContext, CacheResult binding, AbstractCache cache, Object key)
+            throws Throwable {
+        int maxItems = binding.multiMaxItems();
+        Uni<List<Object>> cacheValue = cache.getAsync(key, new Function<Object, Uni<List<Object>>>() {
+            @SuppressWarnings("unchecked")
+            @Override
+            public Uni<List<Object>> apply(Object key) {
+                Multi<Object> multi;
+                try {
+                    multi = (Multi<Object>) invocationContext.proceed();
+                } catch (CacheException e) {
+                    throw e;
+                } catch (Exception e) {
+                    throw new CacheException(e);
+                }
+                return MultiItemsCollector.collect(multi, maxItems)
+                        .invoke(new Consumer<List<Object>>() {
+                            @Override
+                            public void accept(List<Object> items) {
+                                LOGGER.debugf("Adding entry with key [%s] and %s items into cache [%s]", key, items.size(),
+                                        binding.cacheName());
+                            }
+                        });
+            }
+        });
+        if (binding.lockTimeout() > 0) {
+            cacheValue = cacheValue.ifNoItem().after(Duration.ofMillis(binding.lockTimeout()))
+                    .failWith(MultiLockTimeoutException::new);
+        }
+        return cacheValue
+                .onItem().transformToMulti(new Function<List<Object>, Multi<?>>() {
+                    @Override
+                    public Multi<?> apply(List<Object> items) {
+                        return Multi.createFrom().iterable(items);
+                    }
+                })
+                .onFailure(new Predicate<Throwable>() {
+                    @Override
+                    public boolean test(Throwable failure) {
+                        return failure instanceof MultiItemsCollector.Overflow
+                                || failure instanceof MultiLockTimeoutException;
+                    }
+                })
+                .recoverWithMulti(new Function<Throwable, Multi<?>>() {
+                    @Override
+                    public Multi<?> apply(Throwable failure) {
+                        if (failure instanceof MultiItemsCollector.Overflow overflow) {
+                            LOGGER.debugf("Entry with key [%s] not cached in cache [%s]: more than %s items emitted", key,
+                                    binding.cacheName(), maxItems);
+                            Multi<Object> items = overflow.claim();
+                            if (items != null) {
+                                return items;
+                            }
+                        }
+                        // Lock timeout, or the items were already claimed by the subscriber that triggered the computation
+                        try {
+                            return (Multi<?>) invocationContext.proceed();
+                        } catch (RuntimeException e) {
+                            throw e;
+                        } catch (Exception e) {
+                            throw new CacheException(e);
+                        }
+                    }
+                })
+                .onFailure(CacheException.class).transform(new Function<Throwable, Throwable>() {
+                    @Override
+                    public Throwable apply(Throwable failure) {
+                        return failure.getCause() != null ? failure.getCause() : failure;
+                    }
+                });
+    }
+
+    @SuppressWarnings("serial")
+    private static final class MultiLockTimeoutException extends RuntimeException {
+
+        MultiLockTimeoutException() {
+            super(null, null, false, false);
+        }
+    }
+
 }
@@ -0,0 +1,198 @@
+package io.quarkus.cache.runtime;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.operators.AbstractMulti;
+import io.smallrye.mutiny.subscription.MultiSubscriber;
+import io.smallrye.mutiny.subscription.UniEmitter;
+
+/**
+ * Collects the items of a {@link Multi} into a list to be cached.
+ * <p>
+ * If the {@link Multi} emits more than the maximum number of items, the collection fails with an {@link Overflow} that holds
+ * the items emitted so far and the upstream subscription. The caller can then continue with the rest of the items instead of
+ * subscribing to a new {@link Multi}, i.e. without invoking the cached method again.
+ */
+final class MultiItemsCollector implements MultiSubscriber<Object> {
+
+    static Uni<List<Object>> collect(Multi<Object> multi, int maxItems) {
+        return Uni.createFrom()
+                .emitter(emitter -> multi.subscribe().withSubscriber(new MultiItemsCollector(emitter, maxItems)));
+    }
+
+    private final UniEmitter<? super List<Object>> emitter;
+    private final int maxItems;
+    private final List<Object> items;
+
+    private volatile Flow.Subscription upstream;
+    private volatile Overflow overflow;
+    private volatile boolean cancelled;
+
+    private MultiItemsCollector(UniEmitter<? super List<Object>> emitter, int maxItems) {
+        this.emitter = emitter;
+        this.maxItems = maxItems;
+        this.items = new ArrayList<>();
+        emitter.onTermination(this::terminated);
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        upstream = subscription;
+        if (cancelled) {
+            subscription.cancel();
+        } else {
+            // One more item is requested to detect the overflow
+            subscription.request(maxItems + 1L);
+        }
+    }
+
+    @Override
+    public void onItem(Object item) {
+        Overflow overflow = this.overflow;
+        if (overflow != null) {
+            overflow.onItem(item);
+            return;
+        }
+        items.add(item);
+        if (items.size() > maxItems) {
+            overflow = new Overflow(List.copyOf(items), upstream);
+            this.overflow = overflow;
+            emitter.fail(overflow);
+        }
+    }
+
+    @Override
+    public void onFailure(Throwable failure) {
+        Overflow overflow = this.overflow;
+        if (overflow != null) {
+            overflow.onFailure(failure);
+        } else {
+            emitter.fail(failure);
+        }
+    }
+
+    @Override
+    public void onCompletion() {
+        Overflow overflow = this.overflow;
+        if (overflow != null) {
+            overflow.onCompletion();
+        } else {
+            emitter.complete(List.copyOf(items));
+        }
+    }
+
+    private void terminated() {
+        // The Uni was either completed, failed or cancelled; the subscription is only kept for the overflow
+        if (overflow == null) {
+            cancelled = true;
+            Flow.Subscription subscription = upstream;
+            if (subscription != null) {
+                subscription.cancel();
+            }
+        }
+    }
+
+    /**
+     * The failure emitted when the {@link Multi} emits more items than allowed.
+     */
+    @SuppressWarnings("serial")
+    static final class Overflow extends RuntimeException {
+
+        private final List<Object> items;
+        private final Flow.Subscription upstream;
+        private final AtomicBoolean claimed;
+        private final Remainder remainder;
+
+        Overflow(List<Object> items, Flow.Subscription upstream) {
+            super(null, null, false, false);
+            this.items = items;
+            this.upstream = upstream;
+            this.claimed = new AtomicBoolean();
+            this.remainder = new Remainder();
+        }
+
+        /**
+         * Only the first caller obtains the items; concurrent callers that shared the pending computation get {@code null}.
+         *
+         * @return all the items of the {@link Multi}, or {@code null} if already claimed
+         */
+        Multi<Object> claim() {
+            if (!claimed.compareAndSet(false, true)) {
+                return null;
+            }
+            return Multi.createFrom().iterable(items).onCompletion().switchTo(remainder);
+        }
+
+        void onItem(Object item) {
+            remainder.downstream.onItem(item);
+        }
+
+        void onFailure(Throwable failure) {
+            remainder.terminate(failure);
+        }
+
+        void onCompletion() {
+            remainder.terminate(null);
+        }
+
+        /**
+         * Passes the signals of the upstream subscription through, after the items already emitted.
+         */
+        private final class Remainder extends AbstractMulti<Object> {
+
+            private volatile MultiSubscriber<? super Object> downstream;
+            // Guarded by this
+            private boolean subscribed;
+            private boolean terminated;
+            private boolean delivered;
+            private Throwable failure;
+
+            @Override
+            public void subscribe(MultiSubscriber<? super Object> subscriber) {
+                downstream = subscriber;
+                subscriber.onSubscribe(upstream);
+                boolean deliver;
+                synchronized (this) {
+                    subscribed = true;
+                    deliver = terminated && !delivered;
+                    delivered |= deliver;
+                }
+                if (deliver) {
+                    deliverTermination(subscriber);
+                }
+            }
+
+            void terminate(Throwable failure) {
+                boolean deliver;
+                synchronized (this) {
+                    this.terminated = true;
+                    this.failure = failure;
+                    // If the remainder is not subscribed yet, the termination is delivered on subscription
+                    deliver = subscribed && !delivered;
+                    delivered |= deliver;
+                }
+                if (deliver) {
+                    deliverTermination(downstream);
+                }
+            }
+
+            private void deliverTermination(MultiSubscriber<? super Object> subscriber) {
+                Throwable failure;
+                synchronized (this) {
+                    failure = this.failure;
+                }
+                if (failure != null) {
+                    subscriber.onFailure(failure);
+                } else {
+                    subscriber.onCompletion();
+                }
+            }
+        }
+    }
+
+}
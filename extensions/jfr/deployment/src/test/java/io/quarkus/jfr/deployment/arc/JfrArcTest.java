@@ -0,0 +1,129 @@
+package io.quarkus.jfr.deployment.arc;
+
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.io.IOException;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import jakarta.annotation.Priority;
+import jakarta.enterprise.context.Dependent;
+import jakarta.enterprise.context.RequestScoped;
+import jakarta.inject.Inject;
+import jakarta.interceptor.AroundInvoke;
+import jakarta.interceptor.Interceptor;
+import jakarta.interceptor.InterceptorBinding;
+import jakarta.interceptor.InvocationContext;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.test.QuarkusExtensionTest;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+public class JfrArcTest {
+
+    @RegisterExtension
+    static final QuarkusExtensionTest config = new QuarkusExtensionTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(Traced.class, TracedInterceptor.class, RequestBean.class, DependentBean.class))
+            .overrideRuntimeConfigKey("quarkus.jfr.arc.enabled", "true");
+
+    @Inject
+    RequestBean requestBean;
+
+    @Test
+    public void test() throws IOException {
+        final Path dumpPath = Path.of("./dump.jfr");
+        try {
+            try (Recording r = new Recording()) {
+                r.enable("quarkus.arc.InterceptorChain");
+                r.enable("quarkus.arc.BeanCreation");
+                r.start();
+                Arc.container().requestContext().activate();
+                try {
+                    // The dependent bean is only created by the injection into the request scoped bean
+                    Assertions.assertEquals("ping:ok", requestBean.ping());
+                } finally {
+                    Arc.container().requestContext().terminate();
+                }
+                r.stop();
+                r.dump(dumpPath);
+            } catch (Exception e) {
+                Assertions.fail(e);
+            }
+            List<RecordedEvent> recordedEvents = RecordingFile.readAllEvents(dumpPath);
+
+            List<RecordedEvent> chainEvents = recordedEvents.stream()
+                    .filter(e -> e.getEventType().getName().equals("quarkus.arc.InterceptorChain")).toList();
+            Assertions.assertEquals(1, chainEvents.size());
+            RecordedEvent chainEvent = chainEvents.get(0);
+            Assertions.assertEquals(RequestBean.class.getName(), chainEvent.getClass("declaringClass").getName());
+            Assertions.assertEquals("ping", chainEvent.getString("method"));
+            Assertions.assertEquals(TracedInterceptor.class.getName(), chainEvent.getString("interceptors"));
+
+            List<String> createdBeans = recordedEvents.stream()
+                    .filter(e -> e.getEventType().getName().equals("quarkus.arc.BeanCreation"))
+                    .map(e -> e.getClass("beanClass").getName())
+                    .toList();
+            Assertions.assertTrue(createdBeans.contains(RequestBean.class.getName()), createdBeans.toString());
+            Assertions.assertEquals(1, createdBeans.stream().filter(DependentBean.class.getName()::equals).count(),
+                    createdBeans.toString());
+        } finally {
+            if (Files.exists(dumpPath)) {
+                Files.delete(dumpPath);
+            }
+        }
+    }
+
+    @InterceptorBinding
+    @Retention(RUNTIME)
+    @Target({ TYPE, METHOD })
+    public @interface Traced {
+    }
+
+    @Traced
+    @Priority(1)
+    @Interceptor
+    public static class TracedInterceptor {
+
+        @AroundInvoke
+        Object around(InvocationContext ctx) throws Exception {
+            return ctx.proceed() + ":ok";
+        }
+
+    }
+
+    @RequestScoped
+    public static class RequestBean {
+
+        @Inject
+        DependentBean dependentBean;
+
+        @Traced
+        public String ping() {
+            return dependentBean.ping();
+        }
+
+    }
+
+    @Dependent
+    public static class DependentBean {
+
+        public String ping() {
+            return "ping";
+        }
+
+    }
+}
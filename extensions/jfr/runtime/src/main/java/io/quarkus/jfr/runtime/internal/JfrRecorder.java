@@ -5,6 +5,7 @@
 
 import org.jboss.logging.Logger;
 
+import io.quarkus.arc.impl.JfrEvents;
 import io.quarkus.jfr.runtime.internal.config.JfrRuntimeConfig;
 import io.quarkus.jfr.runtime.internal.http.rest.RestEndEvent;
 import io.quarkus.jfr.runtime.internal.http.rest.RestPeriodEvent;
@@ -36,7 +37,11 @@ public void runtimeInit() {
                 logger.info("quarkus-jfr for REST server is disabled at runtime");
                 this.disabledRestJfr();
             }
+            if (runtimeConfig.getValue().arcEnabled()) {
+                logger.info("quarkus-jfr for ArC is enabled at runtime");
+            }
         }
+        JfrEvents.setEnabled(runtimeConfig.getValue().enabled() && runtimeConfig.getValue().arcEnabled());
     }
 
     public void disabledRestJfr() {
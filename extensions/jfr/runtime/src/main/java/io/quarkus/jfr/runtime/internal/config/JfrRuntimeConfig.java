@@ -37,4 +37,15 @@ public interface JfrRuntimeConfig {
     @WithName("runtime.enabled")
     @WithDefault("true")
     boolean runtimeEnabled();
+
+    /**
+     * If true, ArC events in quarkus-jfr are recorded, i.e. the execution of interceptor chains of intercepted methods
+     * and the creation of bean instances.
+     * These events are recorded for every intercepted method invocation and every bean instantiation, therefore they are
+     * not recorded by default.
+     * Default value is <code>false</code>
+     */
+    @WithName("arc.enabled")
+    @WithDefault("false")
+    boolean arcEnabled();
 }
@@ -0,0 +1,68 @@
+package io.quarkus.load.shedding.runtime;
+
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.smallrye.config.SmallRyeConfigBuilder;
+
+/**
+ * Measures the overhead of the {@link OverloadDetector} per request, with all available threads
+ * beginning and ending requests concurrently.
+ * <p>
+ * An empty {@code sampleWindow} means that the limit is updated on every request completion.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Threads(Threads.MAX)
+@Fork(2)
+public class OverloadDetectorBenchmark {
+
+    @Param({ "vegas", "gradient2", "aimd" })
+    public String algorithm;
+
+    @Param({ "", "10ms" })
+    public String sampleWindow;
+
+    private OverloadDetector detector;
+
+    @Setup
+    public void setup() {
+        LoadSheddingRuntimeConfig config = new SmallRyeConfigBuilder()
+                .addDiscoveredConverters()
+                .withMapping(LoadSheddingRuntimeConfig.class)
+                .withDefaultValue("quarkus.load-shedding.algorithm", algorithm)
+                .withDefaultValue("quarkus.load-shedding.sample-window", sampleWindow)
+                .build().getConfigMapping(LoadSheddingRuntimeConfig.class);
+        detector = new OverloadDetector(config);
+    }
+
+    @Benchmark
+    public boolean request() {
+        boolean overloaded = detector.isOverloaded();
+        detector.requestBegin();
+        detector.requestEnd(ThreadLocalRandom.current().nextLong(500, 1_500));
+        return overloaded;
+    }
+
+    public static void main(String[] args) throws IOException {
+        org.openjdk.jmh.Main.main(new String[] { "-prof", "gc" });
+    }
+
+}
@@ -0,0 +1,32 @@
+package io.quarkus.load.shedding.runtime;
+
+/**
+ * A limit algorithm based on additive increase and multiplicative decrease, similar to TCP congestion control.
+ * <p>
+ * The limit is decreased multiplicatively if a request takes longer than the configured latency threshold
+ * and increased by one if a request completes in time while the limit is being used.
+ */
+final class AimdLimit implements LimitAlgorithm {
+    private final int maxLimit;
+    private final double backoffRatio;
+    private final long latencyThreshold;
+
+    AimdLimit(LoadSheddingRuntimeConfig config) {
+        maxLimit = config.maxLimit();
+        backoffRatio = config.aimd().backoffRatio();
+        latencyThreshold = config.aimd().latencyThreshold().toNanos() / 1_000;
+    }
+
+    @Override
+    public long update(long requestTime, int currentRequests, long currentLimit) {
+        long newLimit;
+        if (requestTime > latencyThreshold) {
+            newLimit = (long) (currentLimit * backoffRatio);
+        } else if (2L * currentRequests >= currentLimit) {
+            newLimit = currentLimit + 1;
+        } else {
+            return currentLimit;
+        }
+        return Math.max(1, Math.min(maxLimit, newLimit));
+    }
+}
@@ -0,0 +1,61 @@
+package io.quarkus.load.shedding.runtime;
+
+/**
+ * A limit algorithm based on the Gradient2 algorithm, as implemented by
+ * <a href="https://github.com/Netflix/concurrency-limits/">Netflix Concurrency Limits</a>.
+ * <p>
+ * The limit is adjusted by the gradient of the long-term exponential average of request times
+ * and the current request time.
+ */
+final class Gradient2Limit implements LimitAlgorithm {
+    private static final int WARMUP_SAMPLES = 10;
+
+    private final int maxLimit;
+    private final double tolerance;
+    private final double smoothing;
+    private final int queueSize;
+    private final double longWindowFactor;
+
+    private double estimatedLimit;
+    private double longRequestTime;
+    private int samples;
+
+    Gradient2Limit(LoadSheddingRuntimeConfig config) {
+        maxLimit = config.maxLimit();
+        tolerance = config.gradient2().tolerance();
+        smoothing = config.gradient2().smoothing();
+        queueSize = config.gradient2().queueSize();
+        longWindowFactor = 2.0 / (config.gradient2().longWindow() + 1);
+        estimatedLimit = config.initialLimit();
+    }
+
+    @Override
+    public long update(long requestTime, int currentRequests, long currentLimit) {
+        // sub-microsecond requests are recorded as 0, which would turn the gradient into NaN and the limit into 0
+        double shortRequestTime = Math.max(1, requestTime);
+        if (samples < WARMUP_SAMPLES) {
+            // simple average during warmup
+            samples++;
+            longRequestTime = (longRequestTime * (samples - 1) + shortRequestTime) / samples;
+        } else {
+            longRequestTime = longRequestTime * (1.0 - longWindowFactor) + shortRequestTime * longWindowFactor;
+        }
+
+        // if the long-term average is far above the current request time, the service recovered from a load spike,
+        // so the long-term average decays faster
+        if (longRequestTime / shortRequestTime > 2.0) {
+            longRequestTime *= 0.95;
+        }
+
+        // don't grow the limit if the service is not using it
+        if (2L * currentRequests < estimatedLimit) {
+            return currentLimit;
+        }
+
+        double gradient = Math.max(0.5, Math.min(1.0, tolerance * longRequestTime / shortRequestTime));
+        double newLimit = estimatedLimit * gradient + queueSize;
+        newLimit = estimatedLimit * (1.0 - smoothing) + newLimit * smoothing;
+        estimatedLimit = Math.max(1, Math.min(maxLimit, newLimit));
+        return (long) estimatedLimit;
+    }
+}
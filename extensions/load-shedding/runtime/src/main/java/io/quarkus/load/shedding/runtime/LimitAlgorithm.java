@@ -0,0 +1,26 @@
+package io.quarkus.load.shedding.runtime;
+
+/**
+ * An algorithm that adjusts the limit of concurrent requests based on observed request times.
+ * <p>
+ * Implementations are not thread-safe; the {@link OverloadDetector} makes sure that {@link #update(long, int, long)}
+ * is never called concurrently.
+ */
+interface LimitAlgorithm {
+
+    /**
+     * @param requestTime the request time in microseconds
+     * @param currentRequests the number of concurrent requests at the time the request ended
+     * @param currentLimit the current limit of concurrent requests
+     * @return the new limit of concurrent requests, may be equal to {@code currentLimit}
+     */
+    long update(long requestTime, int currentRequests, long currentLimit);
+
+    static LimitAlgorithm create(LoadSheddingRuntimeConfig config) {
+        return switch (config.algorithm()) {
+            case VEGAS -> new VegasLimit(config);
+            case GRADIENT2 -> new Gradient2Limit(config);
+            case AIMD -> new AimdLimit(config);
+        };
+    }
+}
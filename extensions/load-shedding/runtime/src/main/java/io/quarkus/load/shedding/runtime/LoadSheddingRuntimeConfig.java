@@ -1,5 +1,8 @@
 package io.quarkus.load.shedding.runtime;
 
+import java.time.Duration;
+import java.util.Optional;
+
 import io.quarkus.runtime.annotations.ConfigGroup;
 import io.quarkus.runtime.annotations.ConfigPhase;
 import io.quarkus.runtime.annotations.ConfigRoot;
@@ -16,6 +19,21 @@ public interface LoadSheddingRuntimeConfig {
     @WithDefault("true")
     boolean enabled();
 
+    /**
+     * The algorithm used to adjust the limit of concurrent requests.
+     */
+    @WithDefault("vegas")
+    Algorithm algorithm();
+
+    /**
+     * If set, request samples are collected per thread without a global lock and the limit of concurrent requests
+     * is updated once per this window, based on the average request time and the maximum number of concurrent
+     * requests observed in the window. If not set, the limit is updated on every request completion.
+     * <p>
+     * Setting this may reduce contention on machines with a large number of event loop threads.
+     */
+    Optional<Duration> sampleWindow();
+
     /**
      * The maximum number of concurrent requests allowed.
      */
@@ -46,6 +64,16 @@ public interface LoadSheddingRuntimeConfig {
     @WithDefault("100")
     int initialLimit();
 
+    /**
+     * Configuration of the Gradient2 overload detection algorithm.
+     */
+    Gradient2 gradient2();
+
+    /**
+     * Configuration of the AIMD overload detection algorithm.
+     */
+    Aimd aimd();
+
     /**
      * Configuration of priority load shedding.
      */
@@ -59,4 +87,63 @@ interface PriorityLoadShedding {
         @WithDefault("true")
         boolean enabled();
     }
+
+    enum Algorithm {
+        /**
+         * An adaptation of TCP Vegas, which estimates the length of the request queue from the lowest
+         * and the current request time.
+         */
+        VEGAS,
+        /**
+         * An adaptation of the Gradient2 algorithm, which compares the long-term average request time
+         * with the current request time.
+         */
+        GRADIENT2,
+        /**
+         * Additive increase, multiplicative decrease, based on a latency threshold.
+         */
+        AIMD,
+    }
+
+    @ConfigGroup
+    interface Gradient2 {
+        /**
+         * How much the current request time may exceed the long-term average before the limit is reduced.
+         */
+        @WithDefault("1.5")
+        double tolerance();
+
+        /**
+         * The smoothing factor applied when updating the limit, between 0.0 and 1.0.
+         */
+        @WithDefault("0.2")
+        double smoothing();
+
+        /**
+         * The number of requests added to the limit to allow for some queueing.
+         */
+        @WithDefault("4")
+        int queueSize();
+
+        /**
+         * The number of samples over which the long-term average request time is computed.
+         */
+        @WithDefault("600")
+        int longWindow();
+    }
+
+    @ConfigGroup
+    interface Aimd {
+        /**
+         * The ratio by which the limit is multiplied when a request exceeds the latency threshold.
+         */
+        @WithDefault("0.9")
+        double backoffRatio();
+
+        /**
+         * Request time above which the limit is decreased.
+         */
+        @WithDefault("5s")
+        Duration latencyThreshold();
+    }
 }
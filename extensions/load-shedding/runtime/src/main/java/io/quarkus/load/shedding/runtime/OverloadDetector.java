@@ -1,46 +1,33 @@
 package io.quarkus.load.shedding.runtime;
 
-import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
 
 /**
- * An overload detector based on TCP Vegas, as implemented by
- * <a href="https://github.com/Netflix/concurrency-limits/">Netflix Concurrency Limits</a>.
+ * An overload detector that maintains a limit of concurrent requests. The limit is adjusted by a {@link LimitAlgorithm}
+ * selected by {@link LoadSheddingRuntimeConfig#algorithm()}; by default, an algorithm based on TCP Vegas is used.
+ * <p>
+ * By default, the limit is updated on every request completion. If {@link LoadSheddingRuntimeConfig#sampleWindow()}
+ * is set, request samples are recorded without locking and the limit is updated once per window.
  */
 @Singleton
 public class OverloadDetector {
-    private static final int[] LOG10_PLUS_1_TABLE = new int[1_000];
-
-    static {
-        LOG10_PLUS_1_TABLE[0] = 1;
-        for (int i = 1; i < 1_000; i++) {
-            LOG10_PLUS_1_TABLE[i] = 1 + (int) Math.log10(i);
-        }
-    }
-
-    private final int maxLimit;
-    private final int alphaFactor;
-    private final int betaFactor;
-    private final double probeFactor;
+    private final LimitAlgorithm algorithm;
 
     private final AtomicInteger currentRequests = new AtomicInteger();
     private volatile long currentLimit;
 
-    private long lowestRequestTime = Long.MAX_VALUE;
-    private double probeCount = 0.0;
-    private double probeJitter;
+    // null if the limit is updated on every request completion
+    private final StripedSampler sampler;
+    private final StripedSampler.Sample sample = new StripedSampler.Sample();
 
     @Inject
     public OverloadDetector(LoadSheddingRuntimeConfig config) {
-        maxLimit = config.maxLimit();
-        alphaFactor = config.alphaFactor();
-        betaFactor = config.betaFactor();
-        probeFactor = config.probeFactor();
+        algorithm = LimitAlgorithm.create(config);
         currentLimit = config.initialLimit();
-        resetProbeJitter();
+        sampler = config.sampleWindow().map(window -> new StripedSampler(window.toNanos())).orElse(null);
     }
 
     public boolean isOverloaded() {
@@ -54,56 +41,21 @@ public void requestBegin() {
     public void requestEnd(long timeInMicros) {
         int current = currentRequests.getAndDecrement();
 
-        update(timeInMicros, current);
+        if (sampler == null) {
+            update(timeInMicros, current);
+        } else if (sampler.record(timeInMicros, current)) {
+            merge();
+        }
     }
 
     private synchronized void update(long requestTime, int currentRequests) {
-        probeCount++;
-        if (probeFactor * probeJitter * currentLimit <= probeCount) {
-            resetProbeJitter();
-            probeCount = 0.0;
-            lowestRequestTime = requestTime;
-            return;
-        }
-
-        if (requestTime < lowestRequestTime) {
-            lowestRequestTime = requestTime;
-            return;
-        }
-
-        long currentLimit = this.currentLimit;
-
-        if (2L * currentRequests < currentLimit) {
-            return;
-        }
-
-        int queueSize = (int) Math.ceil(currentLimit * (1.0 - (double) lowestRequestTime / (double) requestTime));
-
-        int currentLimitLog10Plus1;
-        if (currentLimit >= 0 && currentLimit < 1_000) {
-            currentLimitLog10Plus1 = LOG10_PLUS_1_TABLE[(int) currentLimit];
-        } else {
-            currentLimitLog10Plus1 = 1 + (int) Math.log10(currentLimit);
-        }
-        int alpha = alphaFactor * currentLimitLog10Plus1;
-        int beta = betaFactor * currentLimitLog10Plus1;
-
-        long newLimit;
-        if (queueSize <= currentLimitLog10Plus1) {
-            newLimit = currentLimit + beta;
-        } else if (queueSize < alpha) {
-            newLimit = currentLimit + currentLimitLog10Plus1;
-        } else if (queueSize > beta) {
-            newLimit = currentLimit - currentLimitLog10Plus1;
-        } else {
-            return;
-        }
-
-        newLimit = Math.max(1, Math.min(maxLimit, newLimit));
-        this.currentLimit = newLimit;
+        currentLimit = algorithm.update(requestTime, currentRequests, currentLimit);
     }
 
-    private void resetProbeJitter() {
-        probeJitter = ThreadLocalRandom.current().nextDouble(0.5, 1);
+    // only contended if merging takes longer than the sample window
+    private synchronized void merge() {
+        if (sampler.merge(sample)) {
+            currentLimit = algorithm.update(sample.requestTime, sample.currentRequests, currentLimit);
+        }
     }
 }
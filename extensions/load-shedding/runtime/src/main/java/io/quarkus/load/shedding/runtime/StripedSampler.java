@@ -0,0 +1,93 @@
+package io.quarkus.load.shedding.runtime;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Collects request samples without a global lock. Each thread records its samples into one of several stripes
+ * (typically, each event loop thread ends up with its own stripe) and the stripes are merged into a single sample
+ * periodically. A stripe checks whether the stripes should be merged after every 16 samples, so with low traffic, the
+ * merge may happen later than after the configured window.
+ */
+final class StripedSampler {
+    private static final long CLOCK_CHECK_MASK = 0xF;
+
+    private final Stripe[] stripes;
+    private final int mask;
+    private final long windowNanos;
+    private final AtomicLong nextMerge;
+
+    StripedSampler(long windowNanos) {
+        int size = Integer.highestOneBit(Math.max(1, Runtime.getRuntime().availableProcessors() * 2 - 1)) << 1;
+        this.stripes = new Stripe[size];
+        for (int i = 0; i < size; i++) {
+            stripes[i] = new Stripe();
+        }
+        this.mask = size - 1;
+        this.windowNanos = windowNanos;
+        this.nextMerge = new AtomicLong(System.nanoTime() + windowNanos);
+    }
+
+    /**
+     * @param requestTime the request time in microseconds
+     * @param currentRequests the number of concurrent requests at the time the request ended
+     * @return {@code true} if the calling thread should merge the stripes
+     */
+    boolean record(long requestTime, int currentRequests) {
+        Stripe stripe = stripes[(int) mix(Thread.currentThread().threadId()) & mask];
+        long count = stripe.count.incrementAndGet();
+        stripe.requestTimeSum.addAndGet(requestTime);
+        int max = stripe.maxRequests.get();
+        while (currentRequests > max && !stripe.maxRequests.compareAndSet(max, currentRequests)) {
+            max = stripe.maxRequests.get();
+        }
+
+        if ((count & CLOCK_CHECK_MASK) != 0) {
+            // avoid reading the clock on every request
+            return false;
+        }
+        long next = nextMerge.get();
+        long now = System.nanoTime();
+        return now - next >= 0 && nextMerge.compareAndSet(next, now + windowNanos);
+    }
+
+    /**
+     * Drains all stripes. Samples recorded concurrently with the merge may end up in the next window.
+     *
+     * @param sample the sample to be filled in
+     * @return {@code true} if at least one request was recorded since the last merge
+     */
+    boolean merge(Sample sample) {
+        long count = 0;
+        long requestTimeSum = 0;
+        int maxRequests = 0;
+        for (Stripe stripe : stripes) {
+            count += stripe.count.getAndSet(0);
+            requestTimeSum += stripe.requestTimeSum.getAndSet(0);
+            maxRequests = Math.max(maxRequests, stripe.maxRequests.getAndSet(0));
+        }
+        if (count == 0) {
+            return false;
+        }
+        sample.requestTime = requestTimeSum / count;
+        sample.currentRequests = maxRequests;
+        return true;
+    }
+
+    private static long mix(long threadId) {
+        // thread IDs are sequential, spread them across the stripes
+        long h = threadId * 0x9E3779B97F4A7C15L;
+        return h ^ (h >>> 32);
+    }
+
+    static final class Sample {
+        long requestTime;
+        int currentRequests;
+    }
+
+    private static final class Stripe {
+        final AtomicLong count = new AtomicLong();
+        final AtomicLong requestTimeSum = new AtomicLong();
+        final AtomicInteger maxRequests = new AtomicInteger();
+    }
+}
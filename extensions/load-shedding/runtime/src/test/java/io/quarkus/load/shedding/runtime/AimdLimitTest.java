@@ -0,0 +1,62 @@
+package io.quarkus.load.shedding.runtime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+public class AimdLimitTest {
+    // the default latency threshold is 5 seconds
+    private static final long FAST = 1_000;
+    private static final long SLOW = 6_000_000;
+
+    @Test
+    public void increaseAdditively() {
+        LimitAlgorithm aimd = new AimdLimit(TestConfig.create());
+
+        long limit = 100;
+        for (int i = 1; i <= 10; i++) {
+            limit = aimd.update(FAST, (int) limit, limit);
+            assertThat(limit).isEqualTo(100 + i);
+        }
+    }
+
+    @Test
+    public void decreaseMultiplicatively() {
+        LimitAlgorithm aimd = new AimdLimit(TestConfig.create());
+
+        assertThat(aimd.update(SLOW, 100, 100)).isEqualTo(90);
+        assertThat(aimd.update(SLOW, 90, 90)).isEqualTo(81);
+        assertThat(aimd.update(SLOW, 0, 81)).isEqualTo(72);
+    }
+
+    @Test
+    public void increaseThenDecrease() {
+        LimitAlgorithm aimd = new AimdLimit(TestConfig.create("aimd.backoff-ratio", "0.5"));
+
+        long limit = 10;
+        for (int i = 0; i < 10; i++) {
+            limit = aimd.update(FAST, (int) limit, limit);
+        }
+        assertThat(limit).isEqualTo(20);
+
+        limit = aimd.update(SLOW, (int) limit, limit);
+        assertThat(limit).isEqualTo(10);
+        limit = aimd.update(SLOW, (int) limit, limit);
+        assertThat(limit).isEqualTo(5);
+    }
+
+    @Test
+    public void noIncreaseWhenUnderutilized() {
+        LimitAlgorithm aimd = new AimdLimit(TestConfig.create());
+
+        assertThat(aimd.update(FAST, 10, 100)).isEqualTo(100);
+    }
+
+    @Test
+    public void bounds() {
+        LimitAlgorithm aimd = new AimdLimit(TestConfig.create("max-limit", "50"));
+
+        assertThat(aimd.update(FAST, 50, 50)).isEqualTo(50);
+        assertThat(aimd.update(SLOW, 1, 1)).isEqualTo(1);
+    }
+}
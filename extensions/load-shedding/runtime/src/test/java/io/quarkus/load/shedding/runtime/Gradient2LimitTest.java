@@ -0,0 +1,83 @@
+package io.quarkus.load.shedding.runtime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+public class Gradient2LimitTest {
+    @Test
+    public void increaseThenDecrease() {
+        LimitAlgorithm gradient2 = new Gradient2Limit(TestConfig.create());
+
+        long limit = 100;
+        // stable request times let the limit grow slowly, thanks to the queue size
+        for (int i = 0; i < 10; i++) {
+            limit = gradient2.update(1_000, (int) limit, limit);
+        }
+        assertThat(limit).isGreaterThan(100);
+
+        // request times well above the long-term average shrink the limit
+        for (int i = 0; i < 10; i++) {
+            long newLimit = gradient2.update(10_000, (int) limit, limit);
+            assertThat(newLimit).isLessThan(limit);
+            limit = newLimit;
+        }
+    }
+
+    @Test
+    public void noChangeWhenUnderutilized() {
+        LimitAlgorithm gradient2 = new Gradient2Limit(TestConfig.create());
+
+        assertThat(gradient2.update(1_000, 10, 42)).isEqualTo(42);
+        assertThat(gradient2.update(10_000, 10, 42)).isEqualTo(42);
+    }
+
+    @Test
+    public void maxLimit() {
+        LimitAlgorithm gradient2 = new Gradient2Limit(TestConfig.create("initial-limit", "2", "max-limit", "3"));
+
+        long limit = 2;
+        for (int i = 0; i < 100; i++) {
+            limit = gradient2.update(1_000, (int) limit, limit);
+            assertThat(limit).isBetween(2L, 3L);
+        }
+        assertThat(limit).isEqualTo(3);
+    }
+
+    @Test
+    public void minLimit() {
+        // without the queue size, the limit may drop all the way down
+        LimitAlgorithm gradient2 = new Gradient2Limit(TestConfig.create("initial-limit", "2", "gradient2.queue-size", "0"));
+
+        long limit = 2;
+        for (int i = 0; i < 20; i++) {
+            limit = gradient2.update(1_000, (int) limit, limit);
+        }
+        for (int i = 0; i < 100; i++) {
+            limit = gradient2.update(100_000, (int) limit, limit);
+            assertThat(limit).isBetween(1L, 2L);
+        }
+        assertThat(limit).isEqualTo(1);
+    }
+
+    @Test
+    public void zeroRequestTimes() {
+        LimitAlgorithm gradient2 = new Gradient2Limit(TestConfig.create());
+
+        long limit = 100;
+        for (int i = 0; i < 20; i++) {
+            limit = gradient2.update(0, (int) limit, limit);
+            assertThat(limit).isGreaterThanOrEqualTo(100);
+        }
+        // the limit still reacts to slower requests
+        long newLimit = gradient2.update(10_000, (int) limit, limit);
+        assertThat(newLimit).isPositive().isLessThan(limit);
+    }
+
+    @Test
+    public void algorithmSelection() {
+        assertThat(LimitAlgorithm.create(TestConfig.create())).isInstanceOf(VegasLimit.class);
+        assertThat(LimitAlgorithm.create(TestConfig.create("algorithm", "gradient2"))).isInstanceOf(Gradient2Limit.class);
+        assertThat(LimitAlgorithm.create(TestConfig.create("algorithm", "aimd"))).isInstanceOf(AimdLimit.class);
+    }
+}
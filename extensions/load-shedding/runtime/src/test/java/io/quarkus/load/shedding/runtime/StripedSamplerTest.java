@@ -0,0 +1,79 @@
+package io.quarkus.load.shedding.runtime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+public class StripedSamplerTest {
+    @Test
+    public void concurrentRecording() throws Exception {
+        int threads = 8;
+        int samplesPerThread = 100_000;
+        StripedSampler sampler = new StripedSampler(TimeUnit.HOURS.toNanos(1));
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                int index = i;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int j = 0; j < samplesPerThread; j++) {
+                        // only the first thread records a non-zero request time, so a lost update
+                        // of either the count or the sum changes the average
+                        sampler.record(index == 0 ? 800 : 0, index + 1);
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        StripedSampler.Sample sample = new StripedSampler.Sample();
+        assertThat(sampler.merge(sample)).isTrue();
+        assertThat(sample.requestTime).isEqualTo(800 / threads);
+        assertThat(sample.currentRequests).isEqualTo(threads);
+
+        // merging drains the stripes
+        assertThat(sampler.merge(sample)).isFalse();
+    }
+
+    @Test
+    public void mergeAfterWindow() {
+        StripedSampler sampler = new StripedSampler(0);
+
+        // the clock is only checked every 16 samples
+        for (int i = 1; i < 16; i++) {
+            assertThat(sampler.record(100, 1)).isFalse();
+        }
+        assertThat(sampler.record(100, 1)).isTrue();
+
+        StripedSampler.Sample sample = new StripedSampler.Sample();
+        assertThat(sampler.merge(sample)).isTrue();
+        assertThat(sample.requestTime).isEqualTo(100);
+        assertThat(sample.currentRequests).isEqualTo(1);
+    }
+
+    @Test
+    public void noMergeWithinWindow() {
+        StripedSampler sampler = new StripedSampler(TimeUnit.HOURS.toNanos(1));
+
+        for (int i = 0; i < 1_000; i++) {
+            assertThat(sampler.record(100, 1)).isFalse();
+        }
+    }
+}
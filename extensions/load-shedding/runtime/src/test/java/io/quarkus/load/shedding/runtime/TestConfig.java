@@ -0,0 +1,27 @@
+package io.quarkus.load.shedding.runtime;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import io.quarkus.runtime.configuration.ConfigUtils;
+import io.smallrye.config.PropertiesConfigSource;
+
+final class TestConfig {
+    private TestConfig() {
+    }
+
+    /**
+     * @param properties alternating keys (without the {@code quarkus.load-shedding.} prefix) and values
+     */
+    static LoadSheddingRuntimeConfig create(String... properties) {
+        Map<String, String> map = new HashMap<>();
+        for (int i = 0; i < properties.length; i += 2) {
+            map.put("quarkus.load-shedding." + properties[i], properties[i + 1]);
+        }
+        return ConfigUtils.emptyConfigBuilder()
+                .withMapping(LoadSheddingRuntimeConfig.class)
+                .withSources(new PropertiesConfigSource(map, "test"))
+                .build()
+                .getConfigMapping(LoadSheddingRuntimeConfig.class);
+    }
+}
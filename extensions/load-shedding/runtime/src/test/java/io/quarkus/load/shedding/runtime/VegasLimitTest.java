@@ -0,0 +1,65 @@
+package io.quarkus.load.shedding.runtime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+public class VegasLimitTest {
+    // with a limit of about 100 and the default probe factor, probing never happens in these tests,
+    // because it requires at least 1500 updates
+
+    @Test
+    public void increaseWhenNoQueueing() {
+        LimitAlgorithm vegas = new VegasLimit(TestConfig.create());
+        // establishes the lowest request time
+        assertThat(vegas.update(1_000, 0, 100)).isEqualTo(100);
+
+        // log10(100) + 1 == 3, beta == 6 * 3
+        assertThat(vegas.update(1_000, 60, 100)).isEqualTo(118);
+    }
+
+    @Test
+    public void decreaseWhenQueueing() {
+        LimitAlgorithm vegas = new VegasLimit(TestConfig.create());
+        assertThat(vegas.update(1_000, 0, 100)).isEqualTo(100);
+
+        // estimated queue size is 50, which is more than beta == 18
+        assertThat(vegas.update(2_000, 60, 100)).isEqualTo(97);
+    }
+
+    @Test
+    public void increaseThenDecrease() {
+        LimitAlgorithm vegas = new VegasLimit(TestConfig.create());
+        long limit = 100;
+        limit = vegas.update(1_000, 0, limit);
+
+        for (int i = 0; i < 5; i++) {
+            long newLimit = vegas.update(1_000, (int) limit, limit);
+            assertThat(newLimit).isGreaterThan(limit);
+            limit = newLimit;
+        }
+
+        for (int i = 0; i < 5; i++) {
+            long newLimit = vegas.update(3_000, (int) limit, limit);
+            assertThat(newLimit).isLessThan(limit);
+            limit = newLimit;
+        }
+    }
+
+    @Test
+    public void noChangeWhenUnderutilized() {
+        LimitAlgorithm vegas = new VegasLimit(TestConfig.create());
+        vegas.update(1_000, 0, 100);
+
+        assertThat(vegas.update(1_000, 10, 100)).isEqualTo(100);
+        assertThat(vegas.update(5_000, 10, 100)).isEqualTo(100);
+    }
+
+    @Test
+    public void maxLimit() {
+        LimitAlgorithm vegas = new VegasLimit(TestConfig.create("max-limit", "110"));
+        vegas.update(1_000, 0, 100);
+
+        assertThat(vegas.update(1_000, 100, 100)).isEqualTo(110);
+    }
+}
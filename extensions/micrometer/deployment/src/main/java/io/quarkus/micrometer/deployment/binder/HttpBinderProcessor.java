@@ -33,6 +33,7 @@ public class HttpBinderProcessor {
     private static final String JAKARTA_REST_CLIENT_REQUEST_FILTER = "jakarta.ws.rs.client.ClientRequestFilter";
     private static final String RESTEASY_CLIENT_METRICS_FILTER = "io.quarkus.micrometer.runtime.binder.ResteasyClientMetricsFilter";
     private static final String REST_CLIENT_METRICS_FILTER = "io.quarkus.micrometer.runtime.binder.vertx.RestClientMetricsFilter";
+    private static final String REST_CLIENT_CONNECTION_POOL_METRICS = "io.quarkus.micrometer.runtime.binder.vertx.RestClientConnectionPoolMetrics";
 
     static class HttpServerBinderEnabled implements BooleanSupplier {
         MicrometerConfig mConfig;
@@ -106,6 +107,7 @@ void registerProvider(Capabilities capabilities,
         } else if (capabilities.isPresent(Capability.REST_CLIENT_REACTIVE)) {
             additionalIndexed.produce(new AdditionalIndexedClassesBuildItem(REST_CLIENT_METRICS_FILTER));
             additionalBeans.produce(new AdditionalBeanBuildItem(REST_CLIENT_METRICS_FILTER));
+            createAdditionalBean(additionalBeans, REST_CLIENT_CONNECTION_POOL_METRICS);
         }
     }
 
@@ -0,0 +1,103 @@
+package io.quarkus.micrometer.deployment.binder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.eclipse.microprofile.rest.client.inject.RegisterRestClient;
+import org.eclipse.microprofile.rest.client.inject.RestClient;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.quarkus.test.QuarkusExtensionTest;
+
+public class RestClientConnectionPoolMetricsTest {
+
+    final static SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @RegisterExtension
+    static final QuarkusExtensionTest TEST = new QuarkusExtensionTest()
+            .withApplicationRoot(
+                    jar -> jar.addClasses(Resource.class, FirstClient.class, SecondClient.class))
+            .overrideConfigKey("quarkus.otel.enabled", "false")
+            .overrideConfigKey("quarkus.redis.devservices.enabled", "false")
+            .overrideConfigKey("quarkus.rest-client.shared-connection-pool", "true")
+            .overrideConfigKey("quarkus.rest-client.\"first\".url", "http://localhost:${quarkus.http.test-port:8081}")
+            .overrideConfigKey("quarkus.rest-client.\"second\".url", "http://localhost:${quarkus.http.test-port:8081}");
+
+    @RestClient
+    FirstClient first;
+
+    @RestClient
+    SecondClient second;
+
+    @ConfigProperty(name = "quarkus.http.test-port")
+    Integer testPort;
+
+    @BeforeAll
+    static void setRegistry() {
+        Metrics.addRegistry(registry);
+    }
+
+    @AfterAll()
+    static void removeRegistry() {
+        Metrics.removeRegistry(registry);
+    }
+
+    @Test
+    public void testSharedPoolMetrics() {
+        assertEquals("ok", first.get());
+        assertEquals("ok", second.get());
+
+        String authority = "localhost:" + testPort;
+        // both clients use the same connection options and thus the same pool
+        Timer acquire = registry.find("http.client.pool.acquire").tag("authority", authority).timer();
+        assertNotNull(acquire);
+        assertEquals(2, acquire.count());
+        assertEquals(1, registry.find("http.client.pool.acquire").timers().size());
+
+        Gauge queued = registry.find("http.client.pool.queue.depth").tag("authority", authority).gauge();
+        assertNotNull(queued);
+        assertEquals(0, queued.value());
+        Gauge active = registry.find("http.client.pool.active.streams").tag("authority", authority).gauge();
+        assertNotNull(active);
+        assertEquals(0, active.value());
+    }
+
+    @Path("/pool")
+    @RegisterRestClient(configKey = "first")
+    public interface FirstClient {
+
+        @GET
+        String get();
+    }
+
+    @Path("/pool")
+    @RegisterRestClient(configKey = "second")
+    public interface SecondClient {
+
+        @GET
+        String get();
+    }
+
+    @Path("/pool")
+    public static class Resource {
+
+        @GET
+        @Produces(MediaType.TEXT_PLAIN)
+        public String get() {
+            return "ok";
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package io.quarkus.micrometer.deployment.binder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.URI;
+
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.eclipse.microprofile.rest.client.RestClientBuilder;
+import org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.quarkus.test.QuarkusExtensionTest;
+
+public class RestClientSameNamePoolMetricsTest {
+
+    final static SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @RegisterExtension
+    static final QuarkusExtensionTest TEST = new QuarkusExtensionTest()
+            .withApplicationRoot(jar -> jar.addClasses(Resource.class, Client.class))
+            .overrideConfigKey("quarkus.otel.enabled", "false")
+            .overrideConfigKey("quarkus.redis.devservices.enabled", "false");
+
+    @ConfigProperty(name = "quarkus.http.test-port")
+    Integer testPort;
+
+    @BeforeAll
+    static void setRegistry() {
+        Metrics.addRegistry(registry);
+    }
+
+    @AfterAll()
+    static void removeRegistry() {
+        Metrics.removeRegistry(registry);
+    }
+
+    @Test
+    public void testSameNamePools() throws IOException {
+        URI uri = URI.create("http://localhost:" + testPort);
+        Client first = RestClientBuilder.newBuilder().baseUri(uri)
+                .property(QuarkusRestClientProperties.NAME, "same")
+                .build(Client.class);
+        Client second = RestClientBuilder.newBuilder().baseUri(uri)
+                .property(QuarkusRestClientProperties.NAME, "same")
+                .build(Client.class);
+
+        assertEquals("ok", first.get());
+        assertEquals("ok", second.get());
+
+        String authority = "localhost:" + testPort;
+        Timer acquire = registry.find("http.client.pool.acquire").tags("pool", "same", "authority", authority).timer();
+        assertNotNull(acquire);
+        assertEquals(2, acquire.count());
+
+        // closing one of the pools must not remove the meters of the other one
+        ((Closeable) first).close();
+        assertNotNull(registry.find("http.client.pool.acquire").tags("pool", "same", "authority", authority).timer());
+        Gauge active = registry.find("http.client.pool.active.streams").tags("pool", "same", "authority", authority)
+                .gauge();
+        assertNotNull(active);
+        assertEquals(0, active.value());
+
+        assertEquals("ok", second.get());
+        assertEquals(3, acquire.count());
+
+        ((Closeable) second).close();
+        assertNull(registry.find("http.client.pool.acquire").tags("pool", "same", "authority", authority).timer());
+        assertNull(registry.find("http.client.pool.queue.depth").tags("pool", "same", "authority", authority).gauge());
+    }
+
+    @Path("/pool")
+    public interface Client {
+
+        @GET
+        String get();
+    }
+
+    @Path("/pool")
+    public static class Resource {
+
+        @GET
+        @Produces(MediaType.TEXT_PLAIN)
+        public String get() {
+            return "ok";
+        }
+    }
+}
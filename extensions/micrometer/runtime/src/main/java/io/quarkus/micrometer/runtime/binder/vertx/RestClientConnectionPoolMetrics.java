@@ -0,0 +1,132 @@
+package io.quarkus.micrometer.runtime.binder.vertx;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.inject.Singleton;
+
+import org.jboss.resteasy.reactive.client.impl.ConnectionPoolTracker;
+import org.jboss.resteasy.reactive.client.spi.ClientConnectionPool;
+import org.jboss.resteasy.reactive.client.spi.ClientConnectionPoolObserver;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.quarkus.arc.Unremovable;
+
+/**
+ * Records the queue depth, the acquire latency and the active streams of the connection pools of the Quarkus REST Client,
+ * per pool and authority.
+ * <p>
+ * Pools with the same name and authority, e.g. two clients with the same configuration that do not share their pool,
+ * share the same meters: the gauges report the sum over these pools and the meters are removed with the last of them.
+ */
+@Unremovable
+@Singleton
+@SuppressWarnings("unused") // this is used by io.quarkus.micrometer.deployment.binder.HttpBinderProcessor
+public class RestClientConnectionPoolMetrics implements MeterBinder, ClientConnectionPoolObserver {
+
+    static final String PREFIX = "http.client.pool.";
+
+    private final Map<Tags, PoolMeters> meters = new ConcurrentHashMap<>();
+    private final Map<ClientConnectionPool, PoolMeters> pools = new ConcurrentHashMap<>();
+    private volatile MeterRegistry registry;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        this.registry = registry;
+        ConnectionPoolTracker.addObserver(this);
+    }
+
+    @PreDestroy
+    void destroy() {
+        ConnectionPoolTracker.removeObserver(this);
+    }
+
+    @Override
+    public synchronized void poolCreated(ClientConnectionPool pool) {
+        if (pools.containsKey(pool)) {
+            return;
+        }
+        PoolMeters poolMeters = meters.computeIfAbsent(Tags.of("pool", pool.name(), "authority", pool.authority()),
+                this::register);
+        poolMeters.pools.add(pool);
+        pools.put(pool, poolMeters);
+    }
+
+    @Override
+    public void streamAcquired(ClientConnectionPool pool, long durationNanos) {
+        PoolMeters poolMeters = pools.get(pool);
+        if (poolMeters != null) {
+            poolMeters.acquire.record(durationNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @Override
+    public synchronized void poolClosed(ClientConnectionPool pool) {
+        PoolMeters poolMeters = pools.remove(pool);
+        if (poolMeters == null) {
+            return;
+        }
+        poolMeters.pools.remove(pool);
+        if (poolMeters.pools.isEmpty()) {
+            meters.remove(poolMeters.tags);
+            for (Meter meter : poolMeters.all) {
+                registry.remove(meter);
+            }
+        }
+    }
+
+    private PoolMeters register(Tags tags) {
+        PoolMeters poolMeters = new PoolMeters(tags);
+        Gauge queued = Gauge.builder(PREFIX + "queue.depth", poolMeters, PoolMeters::queueDepth)
+                .description("The number of requests waiting for a connection or an HTTP/2 stream")
+                .tags(tags)
+                .register(registry);
+        Gauge active = Gauge.builder(PREFIX + "active.streams", poolMeters, PoolMeters::activeStreams)
+                .description("The number of requests holding a connection or an HTTP/2 stream")
+                .tags(tags)
+                .register(registry);
+        poolMeters.acquire = Timer.builder(PREFIX + "acquire")
+                .description("The time spent waiting for a connection or an HTTP/2 stream")
+                .tags(tags)
+                .register(registry);
+        poolMeters.all = List.of(queued, active, poolMeters.acquire);
+        return poolMeters;
+    }
+
+    private static final class PoolMeters {
+
+        private final Tags tags;
+        private final Set<ClientConnectionPool> pools = ConcurrentHashMap.newKeySet();
+        private volatile Timer acquire;
+        private volatile List<Meter> all;
+
+        PoolMeters(Tags tags) {
+            this.tags = tags;
+        }
+
+        double queueDepth() {
+            int sum = 0;
+            for (ClientConnectionPool pool : pools) {
+                sum += pool.queueDepth();
+            }
+            return sum;
+        }
+
+        double activeStreams() {
+            int sum = 0;
+            for (ClientConnectionPool pool : pools) {
+                sum += pool.activeStreams();
+            }
+            return sum;
+        }
+    }
+}
@@ -9,6 +9,7 @@
 
 import org.jboss.jandex.DotName;
 
+import io.quarkus.qute.EngineBuilder;
 import io.quarkus.qute.EngineConfiguration;
 import io.quarkus.qute.Locate;
 import io.quarkus.qute.Locate.Locates;
@@ -53,6 +54,7 @@ final class Names {
     static final DotName ENGINE_CONFIGURATION = DotName.createSimple(EngineConfiguration.class.getName());
     static final DotName SECTION_HELPER_FACTORY = DotName.createSimple(SectionHelperFactory.class.getName());
     static final DotName VALUE_RESOLVER = DotName.createSimple(ValueResolver.class.getName());
+    static final DotName ENGINE_BUILDER = DotName.createSimple(EngineBuilder.class);
     static final DotName NAMESPACE_RESOLVER = DotName.createSimple(NamespaceResolver.class.getName());
     static final DotName PARSER_HOOK = DotName.createSimple(ParserHook.class);
     static final DotName TEMPLATE_CONTENTS = DotName.createSimple(TemplateContents.class);
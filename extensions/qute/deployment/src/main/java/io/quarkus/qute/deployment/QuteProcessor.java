@@ -36,6 +36,7 @@
 import java.util.Set;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.TimeUnit;
+import java.util.function.BiPredicate;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.regex.Pattern;
@@ -78,6 +79,7 @@
 import io.quarkus.arc.processor.BuiltinScope;
 import io.quarkus.arc.processor.DotNames;
 import io.quarkus.arc.processor.InjectionPointInfo;
+import io.quarkus.arc.processor.ObserverInfo;
 import io.quarkus.arc.processor.QualifierRegistrar;
 import io.quarkus.bootstrap.model.ApplicationModel;
 import io.quarkus.bootstrap.workspace.SourceDir;
@@ -149,6 +151,7 @@
 import io.quarkus.qute.deployment.TypeInfos.Info;
 import io.quarkus.qute.deployment.TypeInfos.TypeInfo;
 import io.quarkus.qute.deployment.Types.AssignabilityCheck;
+import io.quarkus.qute.generator.CompiledTemplateGenerator;
 import io.quarkus.qute.generator.ExtensionMethodGenerator;
 import io.quarkus.qute.generator.ExtensionMethodGenerator.NamespaceExtensionMethodInfo;
 import io.quarkus.qute.generator.ExtensionMethodGenerator.Param;
@@ -1052,6 +1055,8 @@ public String apply(String id) {
                 .collect(toMap(BeanInfo::getName, Function.identity()));
         // Map implicit class -> set of used members
         Map<DotName, Set<String>> implicitClassToMembersUsed = new HashMap<>();
+        // Types of param declarations and globals
+        List<Type> declaredTypes = new ArrayList<>();
 
         Map<String, TemplateDataBuildItem> namespaceTemplateData = templateData.stream()
                 .filter(TemplateDataBuildItem::hasNamespace)
@@ -1091,8 +1096,11 @@ public String apply(String id) {
             // Register all param declarations as targets of implicit value resolvers
             for (ParameterDeclaration paramDeclaration : templateAnalysis.parameterDeclarations) {
                 Type type = TypeInfos.resolveTypeFromTypeInfo(paramDeclaration.getTypeInfo());
-                if (type != null && !implicitClassToMembersUsed.containsKey(type.name())) {
-                    implicitClassToMembersUsed.put(type.name(), new HashSet<>());
+                if (type != null) {
+                    declaredTypes.add(type);
+                    if (!implicitClassToMembersUsed.containsKey(type.name())) {
+                        implicitClassToMembersUsed.put(type.name(), new HashSet<>());
+                    }
                 }
             }
 
@@ -1125,16 +1133,40 @@ public String apply(String id) {
         // ==========================================================================
         // Register implicit value resolvers for classes collected during validation
         // ==========================================================================
+        Set<DotName> reachableClasses = Set.of();
+        if (config.generateResolversForReachableClasses()) {
+            for (TemplateGlobalBuildItem global : globals) {
+                declaredTypes.add(global.getVariableType());
+            }
+            for (DotName implicitClass : implicitClassToMembersUsed.keySet()) {
+                declaredTypes.add(Type.create(implicitClass, org.jboss.jandex.Type.Kind.CLASS));
+            }
+            Set<DotName> unresolved = new HashSet<>();
+            reachableClasses = Types.getReachableClasses(declaredTypes, index, unresolved);
+            if (!unresolved.isEmpty()) {
+                LOGGER.warnf("Value resolvers cannot be generated for the following classes reachable from templates "
+                        + "because they are not part of the index; their properties will be resolved via reflection: %s",
+                        unresolved.stream().map(Object::toString).sorted().collect(Collectors.joining(", ")));
+            }
+            for (DotName reachableClass : reachableClasses) {
+                if (!implicitClassToMembersUsed.containsKey(reachableClass)) {
+                    implicitClassToMembersUsed.put(reachableClass, new HashSet<>());
+                }
+            }
+            LOGGER.debugf("Found %s classes reachable from templates", reachableClasses.size());
+        }
+
         boolean isNonNativeBuild = !nativeConfig.enabled();
         for (Entry<DotName, Set<String>> entry : implicitClassToMembersUsed.entrySet()) {
-            if (entry.getValue().isEmpty() && isNonNativeBuild) {
+            boolean reachable = reachableClasses.contains(entry.getKey());
+            if (entry.getValue().isEmpty() && isNonNativeBuild && !reachable) {
                 // No members used - skip the generation for non-native builds
                 continue;
             }
             ClassInfo clazz = index.getClassByName(entry.getKey());
             if (clazz != null) {
                 TemplateDataBuilder builder = new TemplateDataBuilder();
-                if (isNonNativeBuild) {
+                if (isNonNativeBuild && !reachable) {
                     // Optimize the generated value resolvers
                     // I.e. only fields/methods used in templates are considered and all other members are ignored
                     builder.addIgnore(buildIgnorePattern(entry.getValue()));
@@ -2777,16 +2809,110 @@ private String findDefaultVariant(QuteConfig config, List<String> variants) {
         return null;
     }
 
+    @BuildStep
+    void compileTemplates(QuteConfig config,
+            BuildProducer<GeneratedClassBuildItem> generatedClasses,
+            BuildProducer<GeneratedResourceBuildItem> generatedResources,
+            BuildProducer<GeneratedServiceProviderBuildItem> generatedServiceProviders,
+            BeanArchiveIndexBuildItem beanArchiveIndex,
+            TemplatesAnalysisBuildItem templatesAnalysis,
+            List<CheckedTemplateBuildItem> checkedTemplates,
+            List<TemplateExtensionMethodBuildItem> templateExtensionMethods,
+            List<IncorrectExpressionBuildItem> incorrectExpressions,
+            BuildProducer<CompiledTemplateBuildItem> compiledTemplates,
+            BuildProducer<ReflectiveClassBuildItem> reflectiveClass,
+            SynthesisFinishedBuildItem synthesisFinished) {
+
+        if (!config.compileTypeSafeTemplates() || !incorrectExpressions.isEmpty()) {
+            // Skip generation if a validation error occurs
+            return;
+        }
+        // A compiled template accesses the properties directly, i.e. it would bypass a custom value resolver
+        List<String> customResolvers = customValueResolvers(synthesisFinished);
+        if (!customResolvers.isEmpty()) {
+            LOGGER.debugf("Type-safe templates are not compiled because custom value resolvers may be registered by: %s",
+                    customResolvers);
+            return;
+        }
+
+        // A property is never accessed directly if it could be matched by a template extension method
+        List<TemplateExtensionMethodBuildItem> extensionMethods = templateExtensionMethods.stream()
+                .filter(m -> !m.hasNamespace()).collect(Collectors.toList());
+        CompiledTemplateGenerator generator = new CompiledTemplateGenerator(beanArchiveIndex.getIndex(),
+                new GeneratedClassGizmo2Adaptor(generatedClasses, generatedResources, generatedServiceProviders, true),
+                new BiPredicate<ClassInfo, String>() {
+                    @Override
+                    public boolean test(ClassInfo clazz, String name) {
+                        for (TemplateExtensionMethodBuildItem extensionMethod : extensionMethods) {
+                            if (extensionMethod.matchesName(name)) {
+                                return false;
+                            }
+                        }
+                        return true;
+                    }
+                });
+
+        for (TemplateAnalysis analysis : templatesAnalysis.getAnalysis()) {
+            if (analysis.id != null) {
+                // Message bundle templates are not compiled
+                continue;
+            }
+            String path = templatePathWithoutSuffix(analysis.path, config);
+            for (CheckedTemplateBuildItem checkedTemplate : checkedTemplates) {
+                if (!checkedTemplate.isFragment() && checkedTemplate.templateId.equals(path)) {
+                    String generatedClass = generator.generate(analysis.path, analysis.getNodes(), checkedTemplate.bindings);
+                    if (generatedClass != null) {
+                        compiledTemplates.produce(new CompiledTemplateBuildItem(analysis.path, generatedClass));
+                        reflectiveClass.produce(ReflectiveClassBuildItem.builder(generatedClass).build());
+                    }
+                    break;
+                }
+            }
+        }
+        LOGGER.debugf("Compiled %s type-safe templates: %s", generator.getGeneratedTypes().size(),
+                generator.getGeneratedTypes());
+    }
+
+    /**
+     *
+     * @return the custom value resolver beans, including the {@link EngineConfiguration} classes, and the observers of
+     *         {@link EngineBuilder} that are not provided by Qute
+     */
+    private static List<String> customValueResolvers(SynthesisFinishedBuildItem synthesisFinished) {
+        List<String> ret = new ArrayList<>();
+        for (BeanInfo bean : synthesisFinished.beanStream().withBeanType(Names.VALUE_RESOLVER)) {
+            if (!isQuteClass(bean.getBeanClass())) {
+                ret.add(bean.getBeanClass().toString());
+            }
+        }
+        for (ObserverInfo observer : synthesisFinished.getObservers()) {
+            if (observer.getObservedType().name().equals(Names.ENGINE_BUILDER)
+                    && (observer.getBeanClass() == null || !isQuteClass(observer.getBeanClass()))) {
+                ret.add(observer.getObserverMethod() != null
+                        ? observer.getBeanClass() + "#" + observer.getObserverMethod().name()
+                        : "synthetic observer " + observer.getIdentifier());
+            }
+        }
+        return ret;
+    }
+
+    private static boolean isQuteClass(DotName name) {
+        return name.toString().startsWith("io.quarkus.qute.");
+    }
+
     @BuildStep
     @Record(value = STATIC_INIT)
     void initializeGeneratedClasses(BeanContainerBuildItem beanContainer, QuteRecorder recorder,
             List<GeneratedValueResolverBuildItem> generatedValueResolvers,
-            List<TemplateGlobalProviderBuildItem> templateInitializers) {
+            List<TemplateGlobalProviderBuildItem> templateInitializers,
+            List<CompiledTemplateBuildItem> compiledTemplates) {
         // The generated classes must be initialized after the template expressions are validated in order to break the cycle in the build chain
         recorder.initializeGeneratedClasses(generatedValueResolvers.stream()
                 .map(GeneratedValueResolverBuildItem::getClassName).collect(Collectors.toList()),
                 templateInitializers.stream()
-                        .map(TemplateGlobalProviderBuildItem::getClassName).collect(Collectors.toList()));
+                        .map(TemplateGlobalProviderBuildItem::getClassName).collect(Collectors.toList()),
+                compiledTemplates.stream()
+                        .map(CompiledTemplateBuildItem::getClassName).collect(Collectors.toList()));
     }
 
     @BuildStep
@@ -1,17 +1,23 @@
 package io.quarkus.qute.deployment;
 
+import java.lang.reflect.Modifier;
 import java.util.ArrayDeque;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 
 import org.jboss.jandex.ClassInfo;
 import org.jboss.jandex.DotName;
+import org.jboss.jandex.FieldInfo;
 import org.jboss.jandex.IndexView;
+import org.jboss.jandex.MethodInfo;
 import org.jboss.jandex.ParameterizedType;
 import org.jboss.jandex.PrimitiveType.Primitive;
 import org.jboss.jandex.Type;
@@ -24,6 +30,7 @@
 public final class Types {
 
     static final String JAVA_LANG_PREFIX = "java.lang.";
+    static final String JAVA_UTIL_PREFIX = "java.util.";
 
     private static final Logger LOG = Logger.getLogger(Types.class);
 
@@ -238,4 +245,89 @@ static boolean isImplementorOf(ClassInfo target, DotName interfaceName, IndexVie
         return false;
     }
 
+    /**
+     * Collects all classes reachable from the given types, i.e. the classes of the types, their type arguments, array
+     * components, and the types of public instance fields and return types of public instance methods, transitively.
+     * <p>
+     * The classes from the {@code java.lang} and {@code java.util} packages and primitives are not collected because they
+     * are handled by the built-in value resolvers.
+     *
+     * @param roots
+     * @param index
+     * @param unresolved The names of reachable classes that are not found in the index
+     * @return the names of reachable classes found in the index
+     */
+    static Set<DotName> getReachableClasses(Collection<Type> roots, IndexView index, Set<DotName> unresolved) {
+        Set<DotName> reachable = new HashSet<>();
+        Set<DotName> visited = new HashSet<>();
+        Deque<Type> queue = new ArrayDeque<>(roots);
+        while (!queue.isEmpty()) {
+            Type type = queue.poll();
+            switch (type.kind()) {
+                case ARRAY:
+                    queue.add(type.asArrayType().elementType());
+                    continue;
+                case PARAMETERIZED_TYPE:
+                    queue.addAll(type.asParameterizedType().arguments());
+                    break;
+                case WILDCARD_TYPE:
+                    queue.add(type.asWildcardType().extendsBound());
+                    continue;
+                case CLASS:
+                    break;
+                default:
+                    // Primitives, type variables, etc.
+                    continue;
+            }
+            DotName name = type.name();
+            if (!visited.add(name) || isBuiltin(name)) {
+                continue;
+            }
+            ClassInfo clazz = index.getClassByName(name);
+            if (clazz == null) {
+                unresolved.add(name);
+                continue;
+            }
+            reachable.add(name);
+            // Members declared on superclasses are also accessible
+            while (clazz != null) {
+                for (FieldInfo field : clazz.fields()) {
+                    if (Modifier.isPublic(field.flags()) && !Modifier.isStatic(field.flags()) && !field.isSynthetic()) {
+                        queue.add(field.type());
+                    }
+                }
+                for (MethodInfo method : clazz.methods()) {
+                    if (Modifier.isPublic(method.flags()) && !Modifier.isStatic(method.flags()) && !method.isSynthetic()
+                            && !method.isConstructor() && method.returnType().kind() != Kind.VOID) {
+                        queue.add(method.returnType());
+                    }
+                }
+                DotName superName = clazz.superName();
+                clazz = superName == null || isBuiltin(superName) ? null : index.getClassByName(superName);
+            }
+        }
+        return reachable;
+    }
+
+    private static boolean isBuiltin(DotName name) {
+        // These types are handled by the built-in value resolvers
+        String str = name.toString();
+        if (str.startsWith(JAVA_LANG_PREFIX)) {
+            return true;
+        }
+        if (str.startsWith(JAVA_UTIL_PREFIX)) {
+            try {
+                Class<?> clazz = Class.forName(str, false, Types.class.getClassLoader());
+                return Iterable.class.isAssignableFrom(clazz)
+                        || Iterator.class.isAssignableFrom(clazz)
+                        || Map.class.isAssignableFrom(clazz)
+                        || Map.Entry.class.isAssignableFrom(clazz)
+                        || Optional.class.equals(clazz);
+            } catch (ClassNotFoundException e) {
+                return false;
+            }
+        }
+        return false;
+    }
+
 }
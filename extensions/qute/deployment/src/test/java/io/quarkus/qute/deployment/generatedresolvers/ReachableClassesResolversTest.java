@@ -0,0 +1,90 @@
+package io.quarkus.qute.deployment.generatedresolvers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.logging.Formatter;
+import java.util.logging.Level;
+import java.util.stream.Collectors;
+
+import jakarta.inject.Inject;
+
+import org.jboss.logmanager.formatters.PatternFormatter;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.qute.Engine;
+import io.quarkus.qute.Template;
+import io.quarkus.qute.generator.ValueResolverGenerator;
+import io.quarkus.test.QuarkusExtensionTest;
+
+public class ReachableClassesResolversTest {
+
+    @RegisterExtension
+    static final QuarkusExtensionTest config = new QuarkusExtensionTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClasses(Order.class, Customer.class, Address.class, Item.class)
+                    .addAsResource(new StringAsset("{@io.quarkus.qute.deployment.generatedresolvers."
+                            + "ReachableClassesResolversTest$Order order}"
+                            + "{order.id}"), "templates/order.html")
+                    // The data is not type-safe
+                    .addAsResource(new StringAsset("{customer.address.city}:{item.name}"), "templates/customer.html"))
+            .overrideConfigKey("quarkus.qute.generate-resolvers-for-reachable-classes", "true")
+            .setLogRecordPredicate(log -> log.getLoggerName().contains("QuteProcessor")
+                    && log.getLevel().intValue() >= Level.WARNING.intValue())
+            .assertLogRecords(records -> {
+                // java.util.List is handled by a built-in resolver but java.time.LocalDate is resolved via reflection
+                assertEquals(1, records.size(), () -> records.stream()
+                        .map(r -> r.getMessage()).collect(Collectors.joining("\n")));
+                Formatter fmt = new PatternFormatter("%m");
+                String message = fmt.format(records.get(0));
+                assertTrue(message.contains(LocalDate.class.getName()), message);
+                assertFalse(message.contains(List.class.getName()), message);
+            });
+
+    @Inject
+    Template order;
+
+    @Inject
+    Template customer;
+
+    @Inject
+    Engine engine;
+
+    @Test
+    public void testResolvers() {
+        Customer c = new Customer("Martin", new Address("Prague"));
+        Order o = new Order(1, c, List.of(new Item("Apple")), LocalDate.of(2024, 1, 1));
+        assertEquals("1", order.data("order", o).render());
+        assertEquals("Prague:Apple", customer.data("customer", c, "item", o.items().get(0)).render());
+
+        Set<String> resolvers = engine.getValueResolvers().stream()
+                .map(r -> r.getClass().getName())
+                .filter(n -> n.endsWith(ValueResolverGenerator.SUFFIX))
+                .collect(Collectors.toSet());
+        // Customer, Address and Item are not used in type-safe expressions but are reachable from Order
+        for (Class<?> clazz : List.of(Order.class, Customer.class, Address.class, Item.class)) {
+            assertTrue(resolvers.stream().anyMatch(n -> n.contains(clazz.getSimpleName())),
+                    () -> "No resolver found for " + clazz + ": " + resolvers);
+        }
+        assertFalse(resolvers.stream().anyMatch(n -> n.contains(LocalDate.class.getSimpleName())), resolvers::toString);
+    }
+
+    public record Order(int id, Customer customer, List<Item> items, LocalDate created) {
+    }
+
+    public record Customer(String name, Address address) {
+    }
+
+    public record Address(String city) {
+    }
+
+    public record Item(String name) {
+    }
+
+}
@@ -0,0 +1,61 @@
+package io.quarkus.qute.deployment.typesafe;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.qute.CheckedTemplate;
+import io.quarkus.qute.EngineConfiguration;
+import io.quarkus.qute.EvalContext;
+import io.quarkus.qute.TemplateInstance;
+import io.quarkus.qute.ValueResolver;
+import io.quarkus.test.QuarkusExtensionTest;
+
+public class CheckedTemplateCompiledCustomResolverTest {
+
+    @RegisterExtension
+    static final QuarkusExtensionTest config = new QuarkusExtensionTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClasses(Templates.class, Item.class, OtherItem.class, UpperCaseNameResolver.class)
+                    .addAsResource(new StringAsset("{#for item in items}{item.name}{/for}"),
+                            "templates/CheckedTemplateCompiledCustomResolverTest/items.html"));
+
+    @Test
+    public void testCustomResolverIsNotBypassed() {
+        assertEquals("FOOBAR", Templates.items(List.of(new Item("foo"), new Item("bar"))).render());
+    }
+
+    @CheckedTemplate
+    public static class Templates {
+
+        static native TemplateInstance items(List<Item> items);
+
+    }
+
+    @EngineConfiguration
+    public static class UpperCaseNameResolver implements ValueResolver {
+
+        @Override
+        public int getPriority() {
+            return 100;
+        }
+
+        @Override
+        public boolean appliesTo(EvalContext context) {
+            return context.getBase() instanceof Item && context.getName().equals("name");
+        }
+
+        @Override
+        public CompletionStage<Object> resolve(EvalContext context) {
+            return CompletableFuture.completedStage(((Item) context.getBase()).getName().toUpperCase());
+        }
+
+    }
+
+}
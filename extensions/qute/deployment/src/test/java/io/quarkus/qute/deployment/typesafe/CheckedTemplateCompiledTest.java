@@ -0,0 +1,49 @@
+package io.quarkus.qute.deployment.typesafe;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.qute.CheckedTemplate;
+import io.quarkus.qute.TemplateInstance;
+import io.quarkus.test.QuarkusExtensionTest;
+
+public class CheckedTemplateCompiledTest {
+
+    @RegisterExtension
+    static final QuarkusExtensionTest config = new QuarkusExtensionTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClasses(Templates.class, Item.class, OtherItem.class)
+                    .addAsResource(new StringAsset(
+                            "{title}:{#for item in items}[{item.name}|{item.primitiveId}{#if item.name}!{/if}]{#else}none{/for}"),
+                            "templates/CheckedTemplateCompiledTest/items.html")
+                    .addAsResource(new StringAsset("{#let name=item.name}{name}{/let}"),
+                            "templates/CheckedTemplateCompiledTest/interpreted.txt"));
+
+    @Test
+    public void testCompiledTemplate() {
+        assertEquals("&lt;b&gt;:[foo|9!][|9]", Templates.items("<b>", List.of(new Item("foo"), new Item(""))).render());
+        assertEquals("Items:none", Templates.items("Items", List.of()).render());
+        // A null title is ignored, a null list is a no-op
+        assertEquals(":", Templates.items(null, null).render());
+    }
+
+    @Test
+    public void testInterpretedTemplate() {
+        assertEquals("foo", Templates.interpreted(new Item("foo")).render());
+    }
+
+    @CheckedTemplate
+    public static class Templates {
+
+        static native TemplateInstance items(String title, List<Item> items);
+
+        static native TemplateInstance interpreted(Item item);
+
+    }
+
+}
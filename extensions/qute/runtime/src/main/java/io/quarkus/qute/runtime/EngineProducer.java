@@ -35,6 +35,7 @@
 import io.quarkus.arc.ArcContainer;
 import io.quarkus.arc.InjectableBean;
 import io.quarkus.arc.InstanceHandle;
+import io.quarkus.qute.CompiledTemplate;
 import io.quarkus.qute.Engine;
 import io.quarkus.qute.EngineBuilder;
 import io.quarkus.qute.EngineBuilder.ParserConfigurator;
@@ -244,6 +245,12 @@ public EngineProducer(QuteContext context, QuteConfig config, QuteRuntimeConfig
             builder.addNamespaceResolver(provider);
         }
 
+        // Add compiled templates
+        for (String compiledTemplateClass : context.getCompiledTemplateClasses()) {
+            builder.addCompiledTemplate(createCompiledTemplate(compiledTemplateClass));
+            LOGGER.debugf("Added compiled template: %s", compiledTemplateClass);
+        }
+
         // Add a special initializer for templates that contain an inject/cdi namespace expressions
         Map<String, Boolean> discoveredInjectTemplates = new HashMap<>();
         builder.addTemplateInstanceInitializer(new Initializer() {
@@ -384,6 +391,20 @@ private TemplateGlobalProvider createGlobalProvider(String initializerClassName)
         }
     }
 
+    private CompiledTemplate createCompiledTemplate(String compiledTemplateClassName) {
+        try {
+            Class<?> compiledTemplateClazz = Thread.currentThread()
+                    .getContextClassLoader().loadClass(compiledTemplateClassName);
+            if (CompiledTemplate.class.isAssignableFrom(compiledTemplateClazz)) {
+                return (CompiledTemplate) compiledTemplateClazz.getDeclaredConstructor().newInstance();
+            }
+            throw new IllegalStateException("Not a compiled template: " + compiledTemplateClazz);
+        } catch (InstantiationException | IllegalAccessException | ClassNotFoundException | IllegalArgumentException
+                | InvocationTargetException | NoSuchMethodException | SecurityException e) {
+            throw new IllegalStateException("Unable to create compiled template: " + compiledTemplateClassName, e);
+        }
+    }
+
     private boolean isExcluded(String path) {
         for (Pattern p : templatePathExcludes) {
             if (p.matcher(path).matches()) {
@@ -109,6 +109,49 @@ public interface QuteConfig {
     @WithDefault("false")
     boolean altExprSyntax();
 
+    /**
+     * If set to `true` then the type-safe templates are compiled into generated classes at build time, if possible.
+     *
+     * A template can be compiled if it only contains text, output expressions, and simple `{#for}` and `{#if}` sections,
+     * and if every expression is validated against a parameter of a type-safe template or a parameter declaration.
+     * A compiled template calls the getters directly and does not create a `CompletionStage` for each expression.
+     * All other templates, and the template instances that cannot be rendered synchronously, are rendered by the
+     * interpreter.
+     * No template is compiled if there is a custom `ValueResolver` bean or an observer of the `EngineBuilder` event.
+     *
+     * @asciidoclet
+     */
+    @WithDefault("true")
+    boolean compileTypeSafeTemplates();
+
+    /**
+     * If set to `true` then a value resolver is generated for every class reachable from the parameter declarations,
+     * type-safe templates and template globals, i.e. not only for the classes whose members are used in type-safe
+     * expressions. The classes of public fields and return types of public methods are considered reachable, transitively.
+     * The value resolvers also cover all members of a class, so the expressions that are not type-safe do not need to
+     * fall back to reflection.
+     *
+     * A warning is logged for reachable classes that are not part of the index; the properties of such classes are still
+     * resolved via reflection.
+     *
+     * @asciidoclet
+     */
+    @WithDefault("false")
+    boolean generateResolversForReachableClasses();
+
+    /**
+     * If set to `true` and the `quarkus-cache` extension uses a remote cache backend, such as Redis or Infinispan, then the
+     * `qute-cache` is registered and the `{#cached}` section stores the rendered parts of templates in the remote cache.
+     * The cached values are strings, so for Redis you need to set the value type:
+     * `quarkus.cache.redis."qute-cache".value-type=java.lang.String`.
+     *
+     * By default, the `{#cached}` section cannot be used together with a remote cache backend.
+     *
+     * @asciidoclet
+     */
+    @WithDefault("false")
+    boolean remoteCacheEnabled();
+
     /**
      * Development mode configuration.
      */
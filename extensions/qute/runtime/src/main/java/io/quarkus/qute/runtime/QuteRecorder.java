@@ -27,6 +27,7 @@ public Object get() {
 
                     volatile List<String> resolverClasses;
                     volatile List<String> templateGlobalProviderClasses;
+                    volatile List<String> compiledTemplateClasses;
 
                     @Override
                     public Map<String, TemplateInfo> getTemplates() {
@@ -54,6 +55,14 @@ public List<String> getTemplateGlobalProviderClasses() {
                         return templateGlobalProviderClasses;
                     }
 
+                    @Override
+                    public List<String> getCompiledTemplateClasses() {
+                        if (compiledTemplateClasses == null) {
+                            throw generatedClassesNotInitialized();
+                        }
+                        return compiledTemplateClasses;
+                    }
+
                     @Override
                     public Set<String> getTemplateRoots() {
                         return templateRoots;
@@ -70,9 +79,11 @@ public Map<ParserConfig, Set<String>> getNonDefaultParserConfigs() {
                     }
 
                     @Override
-                    public void setGeneratedClasses(List<String> resolverClasses, List<String> templateGlobalProviderClasses) {
+                    public void setGeneratedClasses(List<String> resolverClasses, List<String> templateGlobalProviderClasses,
+                            List<String> compiledTemplateClasses) {
                         this.resolverClasses = resolverClasses;
                         this.templateGlobalProviderClasses = templateGlobalProviderClasses;
+                        this.compiledTemplateClasses = compiledTemplateClasses;
                     }
 
                     private IllegalStateException generatedClassesNotInitialized() {
@@ -84,9 +95,10 @@ private IllegalStateException generatedClassesNotInitialized() {
         };
     }
 
-    public void initializeGeneratedClasses(List<String> resolverClasses, List<String> templateGlobalProviderClasses) {
+    public void initializeGeneratedClasses(List<String> resolverClasses, List<String> templateGlobalProviderClasses,
+            List<String> compiledTemplateClasses) {
         QuteContext context = Arc.container().instance(QuteContext.class).get();
-        context.setGeneratedClasses(resolverClasses, templateGlobalProviderClasses);
+        context.setGeneratedClasses(resolverClasses, templateGlobalProviderClasses, compiledTemplateClasses);
     }
 
     public interface QuteContext {
@@ -99,6 +111,8 @@ public interface QuteContext {
 
         List<String> getTemplateGlobalProviderClasses();
 
+        List<String> getCompiledTemplateClasses();
+
         Set<String> getTemplateRoots();
 
         List<String> getExcludePatterns();
@@ -114,8 +128,10 @@ public interface QuteContext {
          *
          * @param resolverClasses
          * @param templateGlobalProviderClasses
+         * @param compiledTemplateClasses
          */
-        void setGeneratedClasses(List<String> resolverClasses, List<String> templateGlobalProviderClasses);
+        void setGeneratedClasses(List<String> resolverClasses, List<String> templateGlobalProviderClasses,
+                List<String> compiledTemplateClasses);
 
         default List<String> getTags() {
             List<String> ret = new ArrayList<>();
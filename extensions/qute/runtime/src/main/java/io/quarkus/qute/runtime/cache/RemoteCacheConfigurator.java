@@ -0,0 +1,43 @@
+package io.quarkus.qute.runtime.cache;
+
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+
+import io.quarkus.cache.Cache;
+import io.quarkus.cache.CacheName;
+import io.quarkus.qute.CacheSectionHelper;
+import io.quarkus.qute.CacheSectionHelper.CachedResult;
+import io.quarkus.qute.EngineBuilder;
+import io.quarkus.qute.ResultNode;
+import io.quarkus.qute.cache.QuteCache;
+import io.quarkus.runtime.ApplicationConfig;
+import io.smallrye.mutiny.Uni;
+
+public class RemoteCacheConfigurator {
+
+    @CacheName(QuteCache.NAME)
+    Cache cache;
+
+    @Inject
+    ApplicationConfig applicationConfig;
+
+    void configureEngine(@Observes EngineBuilder builder) {
+        // The remote cache outlives the application, so the keys of a different version of the templates must not match
+        String keyPrefix = applicationConfig.name().orElse("") + ":" + applicationConfig.version().orElse("") + ":";
+        builder.addSectionHelper(new CacheSectionHelper.Factory(new CacheSectionHelper.Cache() {
+
+            @Override
+            public CompletionStage<ResultNode> getValue(String key, Function<String, CompletionStage<ResultNode>> loader) {
+                // A remote cache stores the rendered string
+                return cache.<String, String> getAsync(keyPrefix + key,
+                        k -> Uni.createFrom().completionStage(loader.apply(key)).map(r -> CachedResult.from(r).getValue()))
+                        .<ResultNode> map(CachedResult::new)
+                        .subscribeAsCompletionStage();
+            }
+        }));
+    }
+
+}
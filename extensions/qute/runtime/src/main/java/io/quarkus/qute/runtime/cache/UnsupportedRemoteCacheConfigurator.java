@@ -16,7 +16,7 @@ void configureEngine(@Observes EngineBuilder builder) {
 
             @Override
             public CompletionStage<ResultNode> getValue(String key, Function<String, CompletionStage<ResultNode>> loader) {
-                throw new IllegalStateException("#cache is not supported for remote caches");
+                throw new IllegalStateException("#cache is not supported for remote caches unless quarkus.qute.remote-cache-enabled=true");
             }
         }));
     }
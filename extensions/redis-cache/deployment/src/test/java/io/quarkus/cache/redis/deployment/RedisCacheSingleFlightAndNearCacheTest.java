@@ -0,0 +1,156 @@
+package io.quarkus.cache.redis.deployment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.cache.redis.runtime.RedisCacheImpl;
+import io.quarkus.cache.redis.runtime.RedisCacheInfo;
+import io.quarkus.test.QuarkusExtensionTest;
+import io.smallrye.mutiny.Uni;
+import io.vertx.mutiny.core.Vertx;
+import io.vertx.mutiny.redis.client.Redis;
+import io.vertx.redis.client.Command;
+import io.vertx.redis.client.Request;
+
+class RedisCacheSingleFlightAndNearCacheTest {
+
+    private static final Supplier<Boolean> BLOCKING_ALLOWED = () -> false;
+
+    @RegisterExtension
+    static final QuarkusExtensionTest TEST = new QuarkusExtensionTest();
+
+    @Inject
+    Vertx vertx;
+
+    @Inject
+    Redis redis;
+
+    @AfterEach
+    void clear() {
+        try {
+            redis.send(Request.cmd(Command.FLUSHALL).arg("SYNC")).await()
+                    .atMost(Duration.ofSeconds(10));
+        } catch (Exception ignored) {
+            // ignored.
+        }
+    }
+
+    @Test
+    public void testConcurrentMissesAreCoalesced() {
+        String k = UUID.randomUUID().toString();
+        RedisCacheInfo info = new RedisCacheInfo();
+        info.name = "foo";
+        info.valueType = String.class;
+        info.singleFlight = true;
+        RedisCacheImpl cache = new RedisCacheImpl(info, vertx, redis, BLOCKING_ALLOWED);
+
+        AtomicInteger computations = new AtomicInteger();
+        List<Uni<String>> responses = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            responses.add(cache.getAsync(k, s -> Uni.createFrom().item(() -> {
+                computations.incrementAndGet();
+                return "hello";
+            }).onItem().delayIt().by(Duration.ofMillis(200))));
+        }
+        List<String> values = Uni.join().all(responses).andFailFast().await().atMost(Duration.ofSeconds(10));
+        assertThat(values).hasSize(100).allMatch("hello"::equals);
+        assertThat(computations).hasValue(1);
+    }
+
+    @Test
+    public void testReadsAreNotCoalescedWithLoads() {
+        String k = UUID.randomUUID().toString();
+        RedisCacheInfo info = new RedisCacheInfo();
+        info.name = "foo";
+        info.valueType = String.class;
+        info.singleFlight = true;
+        RedisCacheImpl cache = new RedisCacheImpl(info, vertx, redis, BLOCKING_ALLOWED);
+
+        Uni<String> load = cache.getAsync(k, s -> Uni.createFrom().item("hello")
+                .onItem().delayIt().by(Duration.ofMillis(500)))
+                .memoize().indefinitely();
+        load.subscribe().with(ignored -> {
+        });
+
+        // The pending load must not be shared with a plain read, which never runs a value loader
+        assertThat(cache.<String, String> getOrNull(k).await().atMost(Duration.ofSeconds(10))).isNull();
+        assertThat(cache.getOrDefault(k, "default").await().atMost(Duration.ofSeconds(10))).isEqualTo("default");
+        assertThat(load.await().atMost(Duration.ofSeconds(10))).isEqualTo("hello");
+    }
+
+    @Test
+    public void testNearCacheExpirationIsCappedByCacheExpiration() {
+        String k = UUID.randomUUID().toString();
+        RedisCacheInfo info = new RedisCacheInfo();
+        info.name = "foo";
+        info.valueType = String.class;
+        info.nearCacheMaximumSize = OptionalLong.of(100);
+        info.expireAfterWrite = Optional.of(Duration.ofSeconds(1));
+        RedisCacheImpl cache = new RedisCacheImpl(info, vertx, redis, BLOCKING_ALLOWED);
+        awaitNearCache(cache);
+
+        assertThat(cache.get(k, s -> "first").await().indefinitely()).isEqualTo("first");
+        // Once expired in Redis, the entry must not be served by the near cache anymore
+        await().atMost(Duration.ofSeconds(10))
+                .untilAsserted(() -> assertThat(cache.get(k, s -> "second").await().indefinitely()).isEqualTo("second"));
+    }
+
+    @Test
+    public void testNearCacheInvalidation() {
+        String k = UUID.randomUUID().toString();
+        RedisCacheImpl cache1 = new RedisCacheImpl(nearCacheInfo(), vertx, redis, BLOCKING_ALLOWED);
+        RedisCacheImpl cache2 = new RedisCacheImpl(nearCacheInfo(), vertx, redis, BLOCKING_ALLOWED);
+
+        awaitNearCache(cache1);
+
+        assertThat(cache1.get(k, s -> "hello").await().indefinitely()).isEqualTo("hello");
+        assertThat(cache2.get(k, s -> "hello").await().indefinitely()).isEqualTo("hello");
+
+        // The entry is removed from both near caches
+        cache2.invalidate(k).await().indefinitely();
+        await().untilAsserted(() -> assertThat(cache1.get(k, s -> "bye").await().indefinitely()).isEqualTo("bye"));
+        assertThat(cache2.get(k, s -> "ignored").await().indefinitely()).isEqualTo("bye");
+
+        // The entry is replaced in Redis and removed from both near caches
+        cache1.put(k, "hi").await().indefinitely();
+        await().untilAsserted(() -> assertThat(cache2.get(k, s -> "ignored").await().indefinitely()).isEqualTo("hi"));
+
+        cache1.invalidateAll().await().indefinitely();
+        await().untilAsserted(() -> assertThat(cache2.get(k, s -> "all").await().indefinitely()).isEqualTo("all"));
+    }
+
+    private void awaitNearCache(RedisCacheImpl cache) {
+        // Wait until the invalidation messages are received and the near cache is used
+        await().untilAsserted(() -> {
+            String key = UUID.randomUUID().toString();
+            assertThat(cache.get(key, s -> "near").await().indefinitely()).isEqualTo("near");
+            redis.send(Request.cmd(Command.DEL).arg("cache:foo:" + key)).await().indefinitely();
+            assertThat(cache.get(key, s -> "redis").await().indefinitely()).isEqualTo("near");
+        });
+    }
+
+    private static RedisCacheInfo nearCacheInfo() {
+        RedisCacheInfo info = new RedisCacheInfo();
+        info.name = "foo";
+        info.valueType = String.class;
+        info.nearCacheMaximumSize = OptionalLong.of(100);
+        info.nearCacheExpireAfterWrite = Optional.of(Duration.ofMinutes(1));
+        return info;
+    }
+
+}
@@ -5,9 +5,16 @@
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -17,6 +24,9 @@
 
 import org.jboss.logging.Logger;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
 import io.quarkus.arc.Arc;
 import io.quarkus.arc.ArcContainer;
 import io.quarkus.cache.CacheException;
@@ -46,6 +56,10 @@ public class RedisCacheImpl extends AbstractCache implements RedisCache {
 
     private static final Logger log = Logger.getLogger(RedisCacheImpl.class);
 
+    private static final String INVALIDATION_CHANNEL_PREFIX = "__quarkus-cache-invalidation:";
+    private static final String INVALIDATE_ALL = "*";
+    private static final long RESUBSCRIBE_DELAY_MS = 1000;
+
     private final Vertx vertx;
     private final Redis redis;
 
@@ -57,6 +71,17 @@ public class RedisCacheImpl extends AbstractCache implements RedisCache {
 
     private final Supplier<Boolean> blockingAllowedSupplier;
 
+    // actual key and value type -> pending computation, null if single-flight is disabled
+    private final ConcurrentMap<FlightKey, CompletableFuture<Object>> inFlight;
+
+    // actual key -> value, null if the near cache is disabled
+    private final Cache<String, NearCacheEntry> nearCache;
+    private final String invalidationChannel;
+    // incremented whenever the near cache may have missed an invalidation
+    private final AtomicLong nearCacheGeneration = new AtomicLong();
+    // the connection used to receive the invalidation messages, null if not subscribed
+    private final AtomicReference<RedisConnection> invalidationSubscriber = new AtomicReference<>();
+
     public RedisCacheImpl(RedisCacheInfo cacheInfo, Optional<String> redisClientName) {
 
         this(cacheInfo, Arc.container().select(Vertx.class).get(), determineRedisClient(redisClientName),
@@ -88,6 +113,35 @@ public RedisCacheImpl(RedisCacheInfo cacheInfo, Vertx vertx, Redis redis, Suppli
         }
         this.marshaller.add(CompositeCacheKey.class);
         this.redis = redis;
+        this.inFlight = cacheInfo.singleFlight ? new ConcurrentHashMap<>() : null;
+        if (cacheInfo.nearCacheMaximumSize.isPresent()) {
+            Caffeine<Object, Object> builder = Caffeine.newBuilder()
+                    .maximumSize(cacheInfo.nearCacheMaximumSize.getAsLong());
+            Optional<Duration> expireAfterWrite = nearCacheExpireAfterWrite(cacheInfo);
+            if (expireAfterWrite.isPresent()) {
+                builder.expireAfterWrite(expireAfterWrite.get());
+            }
+            this.nearCache = builder.build();
+            this.invalidationChannel = INVALIDATION_CHANNEL_PREFIX + getKeyPrefix();
+            subscribeToInvalidations();
+        } else {
+            this.nearCache = null;
+            this.invalidationChannel = null;
+        }
+    }
+
+    /**
+     * The near cache must not serve entries that already expired in Redis, so its time to live is capped by the
+     * expiration of the cache.
+     */
+    private static Optional<Duration> nearCacheExpireAfterWrite(RedisCacheInfo cacheInfo) {
+        Optional<Duration> result = cacheInfo.nearCacheExpireAfterWrite;
+        for (Optional<Duration> cap : List.of(cacheInfo.expireAfterWrite, cacheInfo.expireAfterAccess)) {
+            if (cap.isPresent() && (result.isEmpty() || cap.get().compareTo(result.get()) < 0)) {
+                result = cap;
+            }
+        }
+        return result;
     }
 
     private static boolean isRecomputableError(Throwable error) {
@@ -158,9 +212,10 @@ private <K, V> Uni<V> get(K key, Type type, Function<K, V> valueLoader) {
         // val = deserialize(GET K)
         // if (val == null) => SET K computation.apply(K)
         // else => return val
-        byte[] encodedKey = marshaller.encode(computeActualKey(encodeKey(key)));
+        String actualKey = computeActualKey(encodeKey(key));
+        byte[] encodedKey = marshaller.encode(actualKey);
         boolean isWorkerThread = blockingAllowedSupplier.get();
-        return withConnection(new Function<RedisConnection, Uni<V>>() {
+        return load(actualKey, type, true, () -> withConnection(new Function<RedisConnection, Uni<V>>() {
             @Override
             public Uni<V> apply(RedisConnection connection) {
                 Uni<V> startingPoint;
@@ -210,7 +265,7 @@ public Uni<?> apply(V value) {
                             }
                         }));
             }
-        })
+        }))
 
                 .onFailure(RedisCacheImpl::isRecomputableError).recoverWithUni(new Function<Throwable, Uni<? extends V>>() {
                     @Override
@@ -238,8 +293,9 @@ public <K, V> Uni<V> getAsync(K key, TypeLiteral<V> type, Function<K, Uni<V>> va
     }
 
     private <K, V> Uni<V> getAsync(K key, Type type, Function<K, Uni<V>> valueLoader) {
-        byte[] encodedKey = marshaller.encode(computeActualKey(encodeKey(key)));
-        return withConnection(new Function<RedisConnection, Uni<V>>() {
+        String actualKey = computeActualKey(encodeKey(key));
+        byte[] encodedKey = marshaller.encode(actualKey);
+        return load(actualKey, type, true, () -> withConnection(new Function<RedisConnection, Uni<V>>() {
             @Override
             public Uni<V> apply(RedisConnection connection) {
                 Uni<V> startingPoint;
@@ -275,7 +331,7 @@ public Uni<V> apply(RedisConnection connection) {
                             }
                         });
             }
-        })
+        }))
                 .onFailure(RedisCacheImpl::isRecomputableError).recoverWithUni(e -> {
                     log.warn("Unable to connect to Redis, recomputing cached value", e);
                     return valueLoader.apply(key);
@@ -289,14 +345,15 @@ public <K, V> Uni<Void> put(K key, V value) {
 
     @Override
     public <K, V> Uni<Void> put(K key, Supplier<V> supplier) {
-        byte[] encodedKey = marshaller.encode(computeActualKey(encodeKey(key)));
+        String actualKey = computeActualKey(encodeKey(key));
+        byte[] encodedKey = marshaller.encode(actualKey);
         byte[] encodedValue = marshaller.encode(supplier.get());
         return withConnection(new Function<RedisConnection, Uni<Void>>() {
             @Override
             public Uni<Void> apply(RedisConnection connection) {
                 return set(connection, encodedKey, encodedValue);
             }
-        });
+        }).call(() -> invalidateNearCache(actualKey));
     }
 
     private void enforceDefaultType(String methodName) {
@@ -325,13 +382,14 @@ public <K, V> Uni<V> getOrDefault(K key, TypeLiteral<V> type, V defaultValue) {
     }
 
     private <K, V> Uni<V> getOrDefault(K key, Type type, V defaultValue) {
-        byte[] encodedKey = marshaller.encode(computeActualKey(encodeKey(key)));
-        return withConnection(new Function<RedisConnection, Uni<V>>() {
+        String actualKey = computeActualKey(encodeKey(key));
+        byte[] encodedKey = marshaller.encode(actualKey);
+        return load(actualKey, type, false, () -> withConnection(new Function<RedisConnection, Uni<V>>() {
             @Override
             public Uni<V> apply(RedisConnection redisConnection) {
                 return doGet(redisConnection, encodedKey, type, marshaller);
             }
-        }).onItem().ifNull().continueWith(new StaticSupplier<>(defaultValue));
+        })).onItem().ifNull().continueWith(new StaticSupplier<>(defaultValue));
     }
 
     @Override
@@ -351,19 +409,22 @@ public <K, V> Uni<V> getOrNull(K key, TypeLiteral<V> type) {
     }
 
     private <K, V> Uni<V> getOrNull(K key, Type type) {
-        byte[] encodedKey = marshaller.encode(computeActualKey(encodeKey(key)));
-        return withConnection(new Function<RedisConnection, Uni<V>>() {
+        String actualKey = computeActualKey(encodeKey(key));
+        byte[] encodedKey = marshaller.encode(actualKey);
+        return load(actualKey, type, false, () -> withConnection(new Function<RedisConnection, Uni<V>>() {
             @Override
             public Uni<V> apply(RedisConnection redisConnection) {
                 return doGet(redisConnection, encodedKey, type, marshaller);
             }
-        });
+        }));
     }
 
     @Override
     public Uni<Void> invalidate(Object key) {
-        byte[] encodedKey = marshaller.encode(computeActualKey(encodeKey(key)));
+        String actualKey = computeActualKey(encodeKey(key));
+        byte[] encodedKey = marshaller.encode(actualKey);
         return redis.send(Request.cmd(Command.DEL).arg(encodedKey))
+                .call(() -> invalidateNearCache(actualKey))
                 .replaceWithVoid();
     }
 
@@ -399,6 +460,23 @@ public Uni<?> apply(Set<String> setOfKeys) {
                 }
             }
         })
+                .call(new Supplier<Uni<?>>() {
+                    @Override
+                    public Uni<?> get() {
+                        if (nearCache == null) {
+                            return Uni.createFrom().voidItem();
+                        }
+                        nearCacheGeneration.incrementAndGet();
+                        nearCache.asMap().keySet().removeIf(new Predicate<String>() {
+                            @Override
+                            public boolean test(String key) {
+                                return predicate.test(computeUserKey(key));
+                            }
+                        });
+                        // The other nodes drop all the entries of their near cache
+                        return publishInvalidation(INVALIDATE_ALL);
+                    }
+                })
                 .replaceWithVoid();
     }
 
@@ -457,6 +535,196 @@ private String getKeyPrefix() {
         }
     }
 
+    /**
+     * Loads the value from the near cache if possible. Otherwise, the given loader is used. If single-flight is enabled
+     * and {@code coalesce} is {@code true}, concurrent misses for the same key and value type are coalesced. Only the
+     * operations that compute missing values should be coalesced, so that a caller never receives the result of an
+     * operation that did not run its value loader.
+     */
+    private <V> Uni<V> load(String actualKey, Type type, boolean coalesce, Supplier<Uni<V>> loader) {
+        if (nearCache == null && (inFlight == null || !coalesce)) {
+            return loader.get();
+        }
+        return Uni.createFrom().deferred(new Supplier<Uni<? extends V>>() {
+            @SuppressWarnings("unchecked")
+            @Override
+            public Uni<? extends V> get() {
+                if (nearCache != null && invalidationSubscriber.get() != null) {
+                    NearCacheEntry cached = nearCache.getIfPresent(actualKey);
+                    if (cached != null && Objects.equals(cached.type(), type)) {
+                        return Uni.createFrom().item((V) cached.value());
+                    }
+                }
+                if (inFlight == null || !coalesce) {
+                    return loadAndCacheNear(actualKey, type, loader);
+                }
+                return coalesce(new FlightKey(actualKey, type), loader);
+            }
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private <V> Uni<V> coalesce(FlightKey flightKey, Supplier<Uni<V>> loader) {
+        CompletableFuture<Object> flight = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(flightKey, flight);
+        if (existing != null) {
+            // Do not use Uni.createFrom().completionStage() - a cancelled follower must not cancel the shared future
+            return Uni.createFrom().<V> emitter(new Consumer<UniEmitter<? super V>>() {
+                @Override
+                public void accept(UniEmitter<? super V> emitter) {
+                    existing.whenComplete((item, failure) -> {
+                        if (failure != null) {
+                            emitter.fail(failure);
+                        } else {
+                            emitter.complete((V) item);
+                        }
+                    });
+                }
+            }).onFailure(CancellationException.class).recoverWithUni(new Supplier<Uni<? extends V>>() {
+                @Override
+                public Uni<? extends V> get() {
+                    // The leading request was cancelled - try again
+                    return coalesce(flightKey, loader);
+                }
+            });
+        }
+        return loadAndCacheNear(flightKey.actualKey(), flightKey.type(), loader)
+                .onItemOrFailure().invoke((item, failure) -> {
+                    inFlight.remove(flightKey, flight);
+                    if (failure != null) {
+                        flight.completeExceptionally(failure);
+                    } else {
+                        flight.complete(item);
+                    }
+                })
+                .onCancellation().invoke(() -> {
+                    inFlight.remove(flightKey, flight);
+                    flight.cancel(false);
+                });
+    }
+
+    private <V> Uni<V> loadAndCacheNear(String actualKey, Type type, Supplier<Uni<V>> loader) {
+        if (nearCache == null) {
+            return loader.get();
+        }
+        long generation = nearCacheGeneration.get();
+        return loader.get().invoke(value -> {
+            if (value != null && invalidationSubscriber.get() != null) {
+                nearCache.put(actualKey, new NearCacheEntry(type, value));
+                if (nearCacheGeneration.get() != generation) {
+                    // An invalidation was received in the meantime, the value may be stale
+                    nearCache.invalidate(actualKey);
+                }
+            }
+        });
+    }
+
+    private Uni<Void> invalidateNearCache(String actualKey) {
+        if (nearCache == null) {
+            return Uni.createFrom().voidItem();
+        }
+        nearCacheGeneration.incrementAndGet();
+        nearCache.invalidate(actualKey);
+        return publishInvalidation(actualKey);
+    }
+
+    private Uni<Void> publishInvalidation(String message) {
+        return redis.send(Request.cmd(Command.PUBLISH).arg(invalidationChannel).arg(message))
+                .replaceWithVoid();
+    }
+
+    private void subscribeToInvalidations() {
+        redis.connect().subscribe().with(new Consumer<RedisConnection>() {
+            @Override
+            public void accept(RedisConnection connection) {
+                connection.handler(new Consumer<Response>() {
+                    @Override
+                    public void accept(Response response) {
+                        onInvalidationMessage(connection, response);
+                    }
+                });
+                connection.exceptionHandler(new Consumer<Throwable>() {
+                    @Override
+                    public void accept(Throwable failure) {
+                        onInvalidationSubscriptionLost(connection, failure);
+                    }
+                });
+                connection.endHandler(new Runnable() {
+                    @Override
+                    public void run() {
+                        onInvalidationSubscriptionLost(connection, null);
+                    }
+                });
+                connection.send(Request.cmd(Command.SUBSCRIBE).arg(invalidationChannel)).subscribe().with(
+                        new Consumer<Response>() {
+                            @Override
+                            public void accept(Response ignored) {
+                                // The subscription is confirmed by a message
+                            }
+                        }, new Consumer<Throwable>() {
+                            @Override
+                            public void accept(Throwable failure) {
+                                connection.close().subscribe().with(ignored -> {
+                                }, ignored -> {
+                                });
+                                resubscribeToInvalidations(failure);
+                            }
+                        });
+            }
+        }, new Consumer<Throwable>() {
+            @Override
+            public void accept(Throwable failure) {
+                resubscribeToInvalidations(failure);
+            }
+        });
+    }
+
+    private void onInvalidationMessage(RedisConnection connection, Response response) {
+        if (response == null || response.size() == 0) {
+            return;
+        }
+        String type = response.get(0).toString();
+        if ("subscribe".equalsIgnoreCase(type)) {
+            // The near cache is only used while the invalidation messages are received
+            nearCacheGeneration.incrementAndGet();
+            nearCache.invalidateAll();
+            invalidationSubscriber.set(connection);
+        } else if ("message".equalsIgnoreCase(type)) {
+            // [message, channel, payload]
+            String key = response.get(2).toString();
+            nearCacheGeneration.incrementAndGet();
+            if (INVALIDATE_ALL.equals(key)) {
+                nearCache.invalidateAll();
+            } else {
+                nearCache.invalidate(key);
+            }
+        }
+    }
+
+    private void onInvalidationSubscriptionLost(RedisConnection connection, Throwable failure) {
+        if (invalidationSubscriber.compareAndSet(connection, null)) {
+            // Invalidation messages may be lost until the subscription is re-established
+            nearCacheGeneration.incrementAndGet();
+            nearCache.invalidateAll();
+            resubscribeToInvalidations(failure);
+        }
+    }
+
+    private void resubscribeToInvalidations(Throwable failure) {
+        log.debugf(failure, "Unable to receive invalidation messages for the near cache of %s, retrying", getName());
+        try {
+            vertx.setTimer(RESUBSCRIBE_DELAY_MS, new Consumer<Long>() {
+                @Override
+                public void accept(Long ignored) {
+                    subscribeToInvalidations();
+                }
+            });
+        } catch (RuntimeException e) {
+            // Vert.x is closed
+            log.debugf("Near cache of %s is disabled: %s", getName(), e.toString());
+        }
+    }
+
     private <X> Uni<X> withConnection(Function<RedisConnection, Uni<X>> function) {
         return redis.connect()
                 .chain(new Function<RedisConnection, Uni<? extends X>>() {
@@ -570,4 +838,10 @@ public boolean test(Object o) {
             return true;
         }
     }
+
+    private record FlightKey(String actualKey, Type type) {
+    }
+
+    private record NearCacheEntry(Type type, Object value) {
+    }
 }
@@ -4,6 +4,7 @@
 import java.time.Duration;
 import java.util.Optional;
 import java.util.OptionalInt;
+import java.util.OptionalLong;
 
 public class RedisCacheInfo {
 
@@ -51,4 +52,19 @@ public class RedisCacheInfo {
      * no {@code COUNT} argument is present.
      */
     public OptionalInt invalidationScanSize = OptionalInt.empty();
+
+    /**
+     * Whether concurrent misses for the same key are coalesced on this node.
+     */
+    public boolean singleFlight = false;
+
+    /**
+     * If set, a local near cache with the given maximum size is used in front of Redis.
+     */
+    public OptionalLong nearCacheMaximumSize = OptionalLong.empty();
+
+    /**
+     * The time to live of the entries stored in the near cache.
+     */
+    public Optional<Duration> nearCacheExpireAfterWrite = Optional.empty();
 }
@@ -67,6 +67,24 @@ public static Set<RedisCacheInfo> build(Set<String> cacheNames, RedisCachesRunti
                     cacheInfo.invalidationScanSize = defaultRuntimeConfig.invalidationScanSize();
                 }
 
+                if (namedRuntimeConfig != null && namedRuntimeConfig.singleFlight().isPresent()) {
+                    cacheInfo.singleFlight = namedRuntimeConfig.singleFlight().get();
+                } else if (defaultRuntimeConfig.singleFlight().isPresent()) {
+                    cacheInfo.singleFlight = defaultRuntimeConfig.singleFlight().get();
+                }
+
+                if (namedRuntimeConfig != null && namedRuntimeConfig.nearCacheMaximumSize().isPresent()) {
+                    cacheInfo.nearCacheMaximumSize = namedRuntimeConfig.nearCacheMaximumSize();
+                } else if (defaultRuntimeConfig.nearCacheMaximumSize().isPresent()) {
+                    cacheInfo.nearCacheMaximumSize = defaultRuntimeConfig.nearCacheMaximumSize();
+                }
+
+                if (namedRuntimeConfig != null && namedRuntimeConfig.nearCacheExpireAfterWrite().isPresent()) {
+                    cacheInfo.nearCacheExpireAfterWrite = namedRuntimeConfig.nearCacheExpireAfterWrite();
+                } else if (defaultRuntimeConfig.nearCacheExpireAfterWrite().isPresent()) {
+                    cacheInfo.nearCacheExpireAfterWrite = defaultRuntimeConfig.nearCacheExpireAfterWrite();
+                }
+
                 result.add(cacheInfo);
             }
             return result;
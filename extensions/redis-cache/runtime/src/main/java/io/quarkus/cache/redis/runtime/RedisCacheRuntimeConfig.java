@@ -3,6 +3,7 @@
 import java.time.Duration;
 import java.util.Optional;
 import java.util.OptionalInt;
+import java.util.OptionalLong;
 
 import io.quarkus.runtime.annotations.ConfigGroup;
 
@@ -49,4 +50,29 @@ public interface RedisCacheRuntimeConfig {
      * no {@code COUNT} argument is present.
      */
     OptionalInt invalidationScanSize();
+
+    /**
+     * Whether concurrent misses for the same key should be coalesced on this node.
+     * If enabled, only the first caller reads the entry from Redis and computes the missing value, and the other
+     * callers waiting for the same key receive the same result.
+     * Default is {@code false}.
+     */
+    Optional<Boolean> singleFlight();
+
+    /**
+     * If set, a local near cache holding at most the given number of entries is used in front of Redis.
+     * The entries of the near cache are invalidated on all nodes through Redis pub/sub when an entry is put or
+     * invalidated.
+     * If not set (default), no near cache is used.
+     */
+    OptionalLong nearCacheMaximumSize();
+
+    /**
+     * Specifies that each entry should be automatically removed from the near cache once a fixed duration has elapsed
+     * after the entry's creation. The duration is capped by the {@code expire-after-write} and
+     * {@code expire-after-access} durations of the cache.
+     * If neither of these durations is set, the entries are only removed when the near cache is full or when they are
+     * invalidated.
+     */
+    Optional<Duration> nearCacheExpireAfterWrite();
 }
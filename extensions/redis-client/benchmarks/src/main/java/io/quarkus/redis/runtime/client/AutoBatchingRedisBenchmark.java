@@ -0,0 +1,101 @@
+package io.quarkus.redis.runtime.client;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.redis.client.Command;
+import io.vertx.redis.client.Redis;
+import io.vertx.redis.client.RedisOptions;
+import io.vertx.redis.client.Request;
+import io.vertx.redis.client.Response;
+
+/**
+ * Sends {@value #COMMANDS} concurrent {@code SET} commands to a local {@link RedisStandIn} with and without
+ * {@link AutoBatchingRedis}. The commands are issued from a single event loop tick, which is the typical pattern of a
+ * reactive application handling many requests.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(2)
+public class AutoBatchingRedisBenchmark {
+
+    static final int COMMANDS = 256;
+
+    @Param({ "direct", "auto-batching" })
+    public String mode;
+
+    private Vertx vertx;
+    private Context context;
+    private RedisStandIn standIn;
+    private Redis redis;
+
+    @Setup
+    public void setup() {
+        vertx = Vertx.vertx();
+        context = vertx.getOrCreateContext();
+        standIn = new RedisStandIn(vertx);
+        int port = standIn.start();
+        Redis client = Redis.createClient(vertx, new RedisOptions()
+                .setConnectionString("redis://localhost:" + port)
+                .setProtocolNegotiation(false)
+                .setMaxPoolSize(6)
+                .setMaxPoolWaiting(COMMANDS * 2));
+        redis = "direct".equals(mode) ? client
+                : new AutoBatchingRedis(vertx, client, "benchmark", Optional.empty(), 128, null);
+    }
+
+    @TearDown
+    public void tearDown() {
+        redis.close().await();
+        standIn.stop();
+        vertx.close().await();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(COMMANDS)
+    public List<Response> send() throws InterruptedException, ExecutionException, TimeoutException {
+        Promise<List<Response>> promise = Promise.promise();
+        context.runOnContext(ignored -> sendAll().onComplete(promise));
+        return promise.future().toCompletionStage().toCompletableFuture().get(10, TimeUnit.SECONDS);
+    }
+
+    private Future<List<Response>> sendAll() {
+        // Executed on the event loop
+        List<Future<Response>> futures = new ArrayList<>(COMMANDS);
+        for (int i = 0; i < COMMANDS; i++) {
+            futures.add(redis.send(Request.cmd(Command.SET).arg("key" + i).arg("value")));
+        }
+        return Future.all(futures).map(f -> f.list());
+    }
+
+    public static void main(String[] args) throws IOException {
+        org.openjdk.jmh.Main.main(new String[] { "-prof", "gc" });
+    }
+
+}
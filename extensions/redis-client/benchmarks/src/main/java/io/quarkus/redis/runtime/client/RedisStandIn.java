@@ -0,0 +1,91 @@
+package io.quarkus.redis.runtime.client;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.net.NetServer;
+import io.vertx.core.net.NetSocket;
+
+/**
+ * A minimal RESP2 server standing in for Redis. It replies {@code +OK} to every command and uses a single write per
+ * received buffer, so the number of network writes reflects the pipelining of the client.
+ */
+class RedisStandIn {
+
+    private static final byte[] OK = "+OK\r\n".getBytes();
+
+    private final NetServer server;
+
+    RedisStandIn(Vertx vertx) {
+        this.server = vertx.createNetServer().connectHandler(RedisStandIn::handle);
+    }
+
+    int start() {
+        return server.listen(0, "localhost").await().actualPort();
+    }
+
+    void stop() {
+        server.close().await();
+    }
+
+    private static void handle(NetSocket socket) {
+        CommandCounter counter = new CommandCounter();
+        socket.handler(buffer -> {
+            int commands = counter.count(buffer);
+            if (commands > 0) {
+                Buffer replies = Buffer.buffer(OK.length * commands);
+                for (int i = 0; i < commands; i++) {
+                    replies.appendBytes(OK);
+                }
+                socket.write(replies);
+            }
+        });
+    }
+
+    /**
+     * Counts the complete commands, i.e. RESP arrays of bulk strings, received on a connection.
+     */
+    private static class CommandCounter {
+
+        // the number of bulk strings remaining in the current command
+        private long remainingArgs;
+        // the number of bytes remaining in the current bulk string, including the CRLF
+        private long remainingBytes;
+        // the length being parsed, -1 if no header is being parsed
+        private long header = -1;
+
+        int count(Buffer buffer) {
+            int commands = 0;
+            int length = buffer.length();
+            int i = 0;
+            while (i < length) {
+                if (remainingBytes > 0) {
+                    int skipped = (int) Math.min(remainingBytes, length - i);
+                    remainingBytes -= skipped;
+                    i += skipped;
+                    if (remainingBytes == 0 && --remainingArgs == 0) {
+                        commands++;
+                    }
+                    continue;
+                }
+                byte b = buffer.getByte(i++);
+                if (header < 0) {
+                    // '*' starts a command, '$' starts a bulk string
+                    if (b == '*') {
+                        remainingArgs = -1;
+                    }
+                    header = 0;
+                } else if (b >= '0' && b <= '9') {
+                    header = header * 10 + (b - '0');
+                } else if (b == '\n') {
+                    if (remainingArgs < 0) {
+                        remainingArgs = header;
+                    } else {
+                        remainingBytes = header + 2;
+                    }
+                    header = -1;
+                }
+            }
+            return commands;
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package io.quarkus.redis.deployment.client;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import jakarta.inject.Inject;
+
+import org.assertj.core.api.Assertions;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.redis.datasource.ReactiveRedisDataSource;
+import io.quarkus.redis.datasource.value.ReactiveValueCommands;
+import io.quarkus.test.QuarkusExtensionTest;
+import io.quarkus.test.common.QuarkusTestResource;
+import io.smallrye.mutiny.Uni;
+
+@QuarkusTestResource(RedisTestResource.class)
+public class RedisAutoBatchingTest {
+
+    @RegisterExtension
+    static final QuarkusExtensionTest unitTest = new QuarkusExtensionTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class))
+            .overrideConfigKey("quarkus.redis.hosts", "${quarkus.redis.tr}")
+            .overrideConfigKey("quarkus.redis.auto-batching.enabled", "true")
+            .overrideConfigKey("quarkus.redis.auto-batching.max-size", "16");
+
+    @Inject
+    ReactiveRedisDataSource redis;
+
+    @Test
+    void shouldPreserveTheResultOfEachCommand() {
+        ReactiveValueCommands<String, Long> values = redis.value(Long.class);
+        List<Uni<Void>> sets = new ArrayList<>();
+        for (long i = 0; i < 100; i++) {
+            sets.add(values.set("auto-batching-" + i, i));
+        }
+        Uni.join().all(sets).andFailFast().await().atMost(Duration.ofSeconds(10));
+
+        List<Uni<Long>> gets = new ArrayList<>();
+        for (long i = 0; i < 100; i++) {
+            gets.add(values.get("auto-batching-" + i));
+        }
+        // A failing command does not fail the other commands of the batch
+        gets.add(redis.execute("NOT-A-COMMAND").replaceWith(-1L).onFailure().recoverWithItem(-2L));
+        List<Long> results = Uni.join().all(gets).andFailFast().await().atMost(Duration.ofSeconds(10));
+        for (int i = 0; i < 100; i++) {
+            Assertions.assertThat(results.get(i)).isEqualTo(i);
+        }
+        Assertions.assertThat(results.get(100)).isEqualTo(-2L);
+    }
+}
@@ -0,0 +1,196 @@
+package io.quarkus.redis.runtime.client;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.internal.ContextInternal;
+import io.vertx.redis.client.Command;
+import io.vertx.redis.client.Redis;
+import io.vertx.redis.client.RedisConnection;
+import io.vertx.redis.client.Request;
+import io.vertx.redis.client.Response;
+
+/**
+ * An implementation of the {@link Redis} interface that coalesces the commands sent in the same event loop tick, or
+ * within a configured window, and pipelines them on a single connection.
+ * <p>
+ * The commands are collected per root context, i.e. per event loop, and each batch is flushed on the event loop it was
+ * collected on. The result of a command is delivered on the context of the caller.
+ * <p>
+ * The commands are not sent with {@link RedisConnection#batch(List)} because a single failure would fail the whole
+ * batch and the replies of the other commands would be lost. Instead, all the commands of a batch are written on the
+ * same connection without waiting for the replies, so that each command keeps its own result.
+ */
+public class AutoBatchingRedis implements Redis {
+
+    // Commands that block the connection, change its state or require a dedicated connection
+    private static final Set<Command> NOT_BATCHABLE = Set.of(Command.BLPOP, Command.BRPOP, Command.BRPOPLPUSH,
+            Command.BLMOVE, Command.BLMPOP, Command.BZPOPMIN, Command.BZPOPMAX, Command.BZMPOP, Command.XREAD,
+            Command.XREADGROUP, Command.WAIT, Command.SUBSCRIBE, Command.PSUBSCRIBE, Command.SSUBSCRIBE,
+            Command.UNSUBSCRIBE, Command.PUNSUBSCRIBE, Command.SUNSUBSCRIBE, Command.MULTI, Command.EXEC,
+            Command.DISCARD, Command.WATCH, Command.UNWATCH, Command.SELECT, Command.MONITOR, Command.RESET,
+            Command.QUIT, Command.AUTH, Command.HELLO, Command.CLIENT);
+
+    private final Vertx vertx;
+    private final Redis redis;
+    private final String name;
+    private final ObservableRedisMetrics reporter;
+    private final long windowInNs;
+    private final int maxSize;
+
+    // root context -> pending commands sent from this context and its duplicated contexts
+    private final ConcurrentMap<ContextInternal, PendingBatch> pending = new ConcurrentHashMap<>();
+
+    public AutoBatchingRedis(Vertx vertx, Redis redis, String name, Optional<Duration> window, int maxSize,
+            ObservableRedisMetrics reporter) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("The maximum size of a batch must be greater than zero: " + maxSize);
+        }
+        this.vertx = vertx;
+        this.redis = redis;
+        this.name = name;
+        this.reporter = reporter == null ? ObservableRedisMetrics.NOOP : reporter;
+        this.windowInNs = window.map(Duration::toNanos).orElse(0L);
+        this.maxSize = maxSize;
+    }
+
+    @Override
+    public Future<RedisConnection> connect() {
+        return redis.connect();
+    }
+
+    @Override
+    public Future<Void> close() {
+        return redis.close();
+    }
+
+    @Override
+    public Future<Response> send(Request command) {
+        if (NOT_BATCHABLE.contains(command.command())) {
+            return redis.send(command);
+        }
+        ContextInternal context = (ContextInternal) vertx.getOrCreateContext();
+        // The result is delivered on the caller context, e.g. the duplicated context of the current request
+        Promise<Response> promise = context.promise();
+        PendingCommand pendingCommand = new PendingCommand(command, promise);
+        // The commands sent from the duplicated contexts of the same event loop are batched together
+        ContextInternal root = context.unwrap();
+        PendingBatch batch;
+        do {
+            batch = pending.computeIfAbsent(root, PendingBatch::new);
+        } while (!batch.add(pendingCommand));
+        return promise.future();
+    }
+
+    @Override
+    public Future<List<Response>> batch(List<Request> commands) {
+        return redis.batch(commands);
+    }
+
+    private void flush(List<PendingCommand> batch) {
+        long begin = System.nanoTime();
+        redis.connect().onComplete(ar -> {
+            if (ar.failed()) {
+                for (PendingCommand command : batch) {
+                    command.promise.fail(ar.cause());
+                }
+                reporter.reportBatch(name, batch.size(), System.nanoTime() - begin);
+                return;
+            }
+            RedisConnection connection = ar.result();
+            AtomicInteger remaining = new AtomicInteger(batch.size());
+            for (PendingCommand command : batch) {
+                connection.send(command.request).onComplete(r -> {
+                    if (remaining.decrementAndGet() == 0) {
+                        // Return the connection to the pool before the results are propagated
+                        connection.close();
+                        reporter.reportBatch(name, batch.size(), System.nanoTime() - begin);
+                    }
+                    command.promise.handle(r);
+                });
+            }
+        });
+    }
+
+    /**
+     * The commands pending on a root context. The batch is flushed on this context, either when it is full or once the
+     * current event loop tick (or the configured window) is over.
+     */
+    private final class PendingBatch {
+
+        private final ContextInternal context;
+
+        // guarded by this
+        private final List<PendingCommand> commands;
+        private boolean scheduled;
+        private boolean flushed;
+
+        PendingBatch(ContextInternal context) {
+            this.context = context;
+            this.commands = new ArrayList<>(Math.min(maxSize, 16));
+        }
+
+        /**
+         * @return {@code false} if the batch was already flushed and the command must be added to a new batch
+         */
+        boolean add(PendingCommand command) {
+            boolean full;
+            boolean schedule;
+            synchronized (this) {
+                if (flushed) {
+                    // Do not wait for the thread that flushed the batch to remove it
+                    pending.remove(context, this);
+                    return false;
+                }
+                commands.add(command);
+                full = commands.size() >= maxSize;
+                flushed = full;
+                schedule = !full && !scheduled;
+                scheduled = true;
+            }
+            if (full) {
+                pending.remove(context, this);
+                flush(commands);
+            } else if (schedule) {
+                schedule();
+            }
+            return true;
+        }
+
+        private void schedule() {
+            if (windowInNs > 0) {
+                // Vert.x timers have a millisecond resolution, use the Netty event loop directly
+                context.nettyEventLoop().schedule(() -> context.dispatch(ignored -> flushPending()), windowInNs,
+                        TimeUnit.NANOSECONDS);
+            } else {
+                // Flushed once the tasks already queued on the event loop are executed, i.e. at the end of the current tick
+                context.runOnContext(ignored -> flushPending());
+            }
+        }
+
+        private void flushPending() {
+            synchronized (this) {
+                if (flushed) {
+                    return;
+                }
+                flushed = true;
+            }
+            pending.remove(context, this);
+            flush(commands);
+        }
+    }
+
+    private record PendingCommand(Request request, Promise<Response> promise) {
+    }
+
+}
@@ -12,6 +12,16 @@ public interface ObservableRedisMetrics {
      */
     void report(String name, long durationInNs, boolean succeeded);
 
+    /**
+     * Method called by the {@link AutoBatchingRedis} after every flushed batch.
+     *
+     * @param name the client name
+     * @param size the number of commands in the batch
+     * @param durationInNs the duration between the flush of the batch and the reception of the last reply, in ns
+     */
+    default void reportBatch(String name, int size, long durationInNs) {
+    }
+
     ObservableRedisMetrics NOOP = new ObservableRedisMetrics() {
         @Override
         public void report(String name, long durationInNs, boolean succeeded) {
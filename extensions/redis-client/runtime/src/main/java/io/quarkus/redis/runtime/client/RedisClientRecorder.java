@@ -22,6 +22,7 @@
 import io.quarkus.redis.datasource.RedisDataSource;
 import io.quarkus.redis.datasource.codecs.Codec;
 import io.quarkus.redis.datasource.codecs.Codecs;
+import io.quarkus.redis.runtime.client.config.AutoBatchingConfig;
 import io.quarkus.redis.runtime.client.config.RedisClientConfig;
 import io.quarkus.redis.runtime.client.config.RedisConfig;
 import io.quarkus.redis.runtime.datasource.BlockingRedisDataSourceImpl;
@@ -80,8 +81,14 @@ public void _initialize(io.vertx.core.Vertx vertx, Set<String> names, TlsConfigu
         for (String name : names) {
             if (checkActive(name).get().value()) {
                 RedisClientConfig redisClientConfig = runtimeConfig.getValue().clients().get(name);
-                clients.putIfAbsent(name, new RedisClientAndApi(name,
-                        VertxRedisClientFactory.create(name, vertx, redisClientConfig, tlsRegistry, proxyRegistry), metrics));
+                io.vertx.redis.client.Redis redis = VertxRedisClientFactory.create(name, vertx, redisClientConfig,
+                        tlsRegistry, proxyRegistry);
+                AutoBatchingConfig autoBatching = redisClientConfig.autoBatching();
+                if (autoBatching.enabled()) {
+                    redis = new AutoBatchingRedis(vertx, redis, name, autoBatching.window(), autoBatching.maxSize(),
+                            metrics);
+                }
+                clients.putIfAbsent(name, new RedisClientAndApi(name, redis, metrics));
             }
         }
     }
@@ -0,0 +1,34 @@
+package io.quarkus.redis.runtime.client.config;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.smallrye.config.WithDefault;
+
+@ConfigGroup
+public interface AutoBatchingConfig {
+
+    /**
+     * Whether the commands sent through the client (i.e. not on a dedicated connection) should be automatically
+     * batched. The commands issued in the same event loop tick (or within the configured {@link #window()}) are
+     * pipelined on a single connection. Each command still completes with its own result.
+     * <p>
+     * Blocking, pub/sub and transaction commands are never batched.
+     */
+    @WithDefault("false")
+    boolean enabled();
+
+    /**
+     * The maximum delay between the first command of a batch and the flush of the batch, for example {@code 0.0002s}
+     * for 200 microseconds. If not set, the batch is flushed at the end of the current event loop tick.
+     */
+    Optional<Duration> window();
+
+    /**
+     * The maximum number of commands in a batch. A batch is flushed immediately when it reaches this size.
+     */
+    @WithDefault("128")
+    int maxSize();
+
+}
@@ -225,6 +225,12 @@ public interface RedisClientConfig {
     @ConfigDocDefault("disabled")
     Optional<RedisClusterTransactions> clusterTransactions();
 
+    /**
+     * Automatic batching config.
+     */
+    @ConfigDocSection
+    AutoBatchingConfig autoBatching();
+
     /**
      * TCP config.
      */
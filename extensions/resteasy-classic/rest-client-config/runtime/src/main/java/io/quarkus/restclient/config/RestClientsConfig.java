@@ -213,6 +213,20 @@ public interface RestClientsConfig {
     @WithDefault("true")
     Optional<Boolean> keepAliveEnabled();
 
+    /**
+     * If set to true, the REST clients that use the same connection options, e.g. timeouts, TLS and proxy settings, share
+     * their connection pools. The connections to a given host are then pooled once for all these clients instead of once
+     * per client.
+     * <p>
+     * The pools are not shared if {@code shared} is set, if HTTP/3 is used or if a custom redirect handler is registered.
+     * <p>
+     * Can be overwritten by client-specific settings.
+     * <p>
+     * This property is not applicable to the RESTEasy Client.
+     */
+    @ConfigDocDefault("false")
+    Optional<Boolean> sharedConnectionPool();
+
     /**
      * The maximum number of redirection a request can follow.
      * <p>
@@ -330,6 +344,17 @@ public interface RestClientsConfig {
     @ConfigDocDefault("64K")
     Optional<MemorySize> http2UpgradeMaxContentLength();
 
+    /**
+     * The maximum number of concurrent HTTP/2 streams opened on a single connection. Once the limit is reached, the
+     * requests open a new connection, up to the size of the connection pool, and then wait for a stream to be released.
+     * If not set, the limit advertised by the server is used.
+     * <p>
+     * Can be overwritten by client-specific settings.
+     * <p>
+     * This property is not applicable to the RESTEasy Client.
+     */
+    OptionalInt http2MaxConcurrentStreams();
+
     /**
      * Configures two different things:
      * <ul>
@@ -380,6 +405,13 @@ public interface RestClientsConfig {
      */
     RestClientMultipartConfig multipart();
 
+    /**
+     * Request hedging configuration.
+     * <p>
+     * Can be overwritten by client-specific settings.
+     */
+    RestClientHedgingConfig hedging();
+
     default RestClientConfig getClient(final Class<?> restClientInterface) {
         if (RestClientKeysProvider.KEYS.contains(restClientInterface.getName())) {
             return clients().get(restClientInterface.getName());
@@ -439,6 +471,44 @@ interface RestClientMultipartConfig {
         OptionalInt maxChunkSize();
     }
 
+    interface RestClientHedgingConfig {
+        /**
+         * If set to true, the idempotent requests (`GET`, `HEAD`, `OPTIONS`, `PUT`, `DELETE` and `TRACE`) sent to a
+         * SmallRye Stork service are hedged: if no response is received after a delay derived from the observed latencies,
+         * the request is also sent to another instance of the service. The first response is used and the other request is
+         * cancelled.
+         * <p>
+         * This property is not applicable to the RESTEasy Client.
+         */
+        @ConfigDocDefault("false")
+        Optional<Boolean> enabled();
+
+        /**
+         * The percentile of the latencies observed for the service after which a request is hedged.
+         * <p>
+         * This property is not applicable to the RESTEasy Client.
+         */
+        @ConfigDocDefault("95")
+        Optional<Double> percentile();
+
+        /**
+         * The minimum delay after which a request is hedged.
+         * <p>
+         * This property is not applicable to the RESTEasy Client.
+         */
+        @ConfigDocDefault("1ms")
+        Optional<Duration> minDelay();
+
+        /**
+         * The maximum ratio of hedged requests to the requests sent, so that hedging does not amplify the load when the
+         * service slows down.
+         * <p>
+         * This property is not applicable to the RESTEasy Client.
+         */
+        @ConfigDocDefault("0.1")
+        Optional<Double> budget();
+    }
+
     interface RestClientConfig {
         /**
          * Multipart configuration.
@@ -715,6 +785,19 @@ default Optional<String> uriReload() {
          */
         Optional<String> name();
 
+        /**
+         * If set to true, the client shares its connection pools with the other REST clients that use the same connection
+         * options.
+         * <p>
+         * This property is not applicable to the RESTEasy Client.
+         */
+        Optional<Boolean> sharedConnectionPool();
+
+        /**
+         * Request hedging configuration.
+         */
+        RestClientHedgingConfig hedging();
+
         /**
          * Configure the HTTP user-agent header to use.
          * <p>
@@ -743,6 +826,13 @@ default Optional<String> uriReload() {
         @ConfigDocDefault("64K")
         Optional<MemorySize> http2UpgradeMaxContentLength();
 
+        /**
+         * The maximum number of concurrent HTTP/2 streams opened on a single connection.
+         * <p>
+         * This property is not applicable to the RESTEasy Client.
+         */
+        OptionalInt http2MaxConcurrentStreams();
+
         /**
          * Configures two different things:
          * <ul>
@@ -0,0 +1,82 @@
+package io.quarkus.rest.client.reactive.stork;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathMatching;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+
+import org.eclipse.microprofile.rest.client.inject.RestClient;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.client.WireMock;
+
+import io.quarkus.test.QuarkusExtensionTest;
+
+public class StorkHedgingTest {
+
+    private static WireMockServer server;
+
+    @RegisterExtension
+    static final QuarkusExtensionTest TEST = new QuarkusExtensionTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClasses(HelloClient.class, HelloResource.class))
+            .overrideConfigKey("quarkus.stork.hello-service.service-discovery.type", "static")
+            .overrideConfigKey("quarkus.stork.hello-service.service-discovery.address-list",
+                    "${quarkus.http.host}:${quarkus.http.test-port},localhost:8767")
+            .overrideConfigKey("quarkus.rest-client.hello2.url", "stork://hello-service/hello")
+            .overrideConfigKey("quarkus.rest-client.hello2.hedging.enabled", "true");
+
+    @BeforeAll
+    public static void setUp() {
+        server = new WireMockServer(options().port(8767));
+        server.stubFor(WireMock.get(urlPathMatching("/hello/.*")).atPriority(2)
+                .willReturn(aResponse().withBody("Hello, wiremock").withStatus(200)));
+        server.stubFor(WireMock.get(urlEqualTo("/hello/slow")).atPriority(1)
+                .willReturn(aResponse().withFixedDelay(10_000).withBody("Hello, slow").withStatus(200)));
+        server.stubFor(WireMock.post("/hello/")
+                .willReturn(aResponse().withFixedDelay(1000).withBody("hello, Bob").withStatus(200)));
+        server.start();
+    }
+
+    @AfterAll
+    public static void stop() {
+        server.stop();
+    }
+
+    @RestClient
+    HelloClient client;
+
+    @Test
+    void shouldHedgeSlowRequests() {
+        // the requests are hedged once enough latencies have been observed
+        for (int i = 0; i < 200; i++) {
+            assertThat(client.helloWithPathParam("warm-up")).isIn("Hello, warm-up", "Hello, wiremock");
+        }
+
+        for (int i = 0; i < 4; i++) {
+            long start = System.nanoTime();
+            assertThat(client.helloWithPathParam("slow")).isEqualTo("Hello, slow");
+            assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(5));
+        }
+    }
+
+    @Test
+    void shouldNotHedgeNonIdempotentRequests() {
+        for (int i = 0; i < 200; i++) {
+            client.helloWithPathParam("warm-up");
+        }
+        server.resetRequests();
+
+        assertThat(client.echo("Bob")).isEqualTo("hello, Bob");
+        assertThat(client.echo("Bob")).isEqualTo("hello, Bob");
+        // each request is sent to a single instance, the slow one included
+        assertThat(server.getAllServeEvents()).hasSize(1);
+    }
+}
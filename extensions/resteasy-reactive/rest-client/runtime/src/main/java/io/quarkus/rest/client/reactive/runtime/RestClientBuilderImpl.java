@@ -645,6 +645,35 @@ public <T> T build(Class<T> aClass) throws IllegalStateException, RestClientDefi
             clientBuilder.http2UpgradeMaxContentLength(restClients.http2UpgradeMaxContentLength().get().asIntValue());
         }
 
+        if (!getConfiguration().hasProperty(QuarkusRestClientProperties.SHARED_CONNECTION_POOL)
+                && restClients.sharedConnectionPool().isPresent()) {
+            clientBuilder.property(QuarkusRestClientProperties.SHARED_CONNECTION_POOL, restClients.sharedConnectionPool().get());
+        }
+
+        if (!getConfiguration().hasProperty(QuarkusRestClientProperties.HTTP2_MAX_CONCURRENT_STREAMS)
+                && restClients.http2MaxConcurrentStreams().isPresent()) {
+            clientBuilder.property(QuarkusRestClientProperties.HTTP2_MAX_CONCURRENT_STREAMS,
+                    restClients.http2MaxConcurrentStreams().getAsInt());
+        }
+
+        RestClientsConfig.RestClientHedgingConfig hedging = restClients.hedging();
+        if (!getConfiguration().hasProperty(QuarkusRestClientProperties.HEDGING_ENABLED)
+                && hedging.enabled().isPresent()) {
+            clientBuilder.property(QuarkusRestClientProperties.HEDGING_ENABLED, hedging.enabled().get());
+        }
+        if (!getConfiguration().hasProperty(QuarkusRestClientProperties.HEDGING_PERCENTILE)
+                && hedging.percentile().isPresent()) {
+            clientBuilder.property(QuarkusRestClientProperties.HEDGING_PERCENTILE, hedging.percentile().get());
+        }
+        if (!getConfiguration().hasProperty(QuarkusRestClientProperties.HEDGING_MIN_DELAY)
+                && hedging.minDelay().isPresent()) {
+            clientBuilder.property(QuarkusRestClientProperties.HEDGING_MIN_DELAY, hedging.minDelay().get().toMillis());
+        }
+        if (!getConfiguration().hasProperty(QuarkusRestClientProperties.HEDGING_BUDGET)
+                && hedging.budget().isPresent()) {
+            clientBuilder.property(QuarkusRestClientProperties.HEDGING_BUDGET, hedging.budget().get());
+        }
+
         if (getConfiguration().hasProperty(QuarkusRestClientProperties.ALPN)) {
             clientBuilder.alpn((Boolean) getConfiguration().getProperty(QuarkusRestClientProperties.ALPN));
         } else if (restClients.alpn().isPresent()) {
@@ -14,6 +14,7 @@
 import java.security.KeyStoreException;
 import java.security.NoSuchAlgorithmException;
 import java.security.cert.CertificateException;
+import java.time.Duration;
 import java.util.Collections;
 import java.util.Locale;
 import java.util.Map;
@@ -129,6 +130,37 @@ private void configureCustomProperties(QuarkusRestClientBuilder builder) {
             builder.property(QuarkusRestClientProperties.KEEP_ALIVE_ENABLED, keepAliveEnabled.get());
         }
 
+        Optional<Boolean> sharedConnectionPool = oneOf(restClientConfig.sharedConnectionPool(),
+                configRoot.sharedConnectionPool());
+        if (sharedConnectionPool.isPresent()) {
+            builder.property(QuarkusRestClientProperties.SHARED_CONNECTION_POOL, sharedConnectionPool.get());
+        }
+
+        OptionalInt http2MaxConcurrentStreams = oneOf(restClientConfig.http2MaxConcurrentStreams(),
+                configRoot.http2MaxConcurrentStreams());
+        if (http2MaxConcurrentStreams.isPresent()) {
+            builder.property(QuarkusRestClientProperties.HTTP2_MAX_CONCURRENT_STREAMS, http2MaxConcurrentStreams.getAsInt());
+        }
+
+        RestClientsConfig.RestClientHedgingConfig hedging = restClientConfig.hedging();
+        RestClientsConfig.RestClientHedgingConfig globalHedging = configRoot.hedging();
+        Optional<Boolean> hedgingEnabled = oneOf(hedging.enabled(), globalHedging.enabled());
+        if (hedgingEnabled.isPresent()) {
+            builder.property(QuarkusRestClientProperties.HEDGING_ENABLED, hedgingEnabled.get());
+        }
+        Optional<Double> hedgingPercentile = oneOf(hedging.percentile(), globalHedging.percentile());
+        if (hedgingPercentile.isPresent()) {
+            builder.property(QuarkusRestClientProperties.HEDGING_PERCENTILE, hedgingPercentile.get());
+        }
+        Optional<Duration> hedgingMinDelay = oneOf(hedging.minDelay(), globalHedging.minDelay());
+        if (hedgingMinDelay.isPresent()) {
+            builder.property(QuarkusRestClientProperties.HEDGING_MIN_DELAY, hedgingMinDelay.get().toMillis());
+        }
+        Optional<Double> hedgingBudget = oneOf(hedging.budget(), globalHedging.budget());
+        if (hedgingBudget.isPresent()) {
+            builder.property(QuarkusRestClientProperties.HEDGING_BUDGET, hedgingBudget.get());
+        }
+
         Map<String, String> headers = restClientConfig.headers();
         if (headers == null || headers.isEmpty()) {
             headers = configRoot.headers();
@@ -6,6 +6,10 @@
 import static org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties.CONNECTION_POOL_SIZE;
 import static org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties.CONNECTION_TTL;
 import static org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties.DISABLE_CONTEXTUAL_ERROR_MESSAGES;
+import static org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties.HEDGING_BUDGET;
+import static org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties.HEDGING_ENABLED;
+import static org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties.HEDGING_MIN_DELAY;
+import static org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties.HEDGING_PERCENTILE;
 import static org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties.KEEP_ALIVE_ENABLED;
 import static org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties.MAX_CHUNK_SIZE;
 import static org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties.MAX_REDIRECTS;
@@ -145,6 +149,10 @@ public List<RegisteredRestClient> getRestClients() {
         verify(restClientBuilderMock).property(KEEP_ALIVE_ENABLED, false);
         verify(restClientBuilderMock).property(MAX_REDIRECTS, 104);
         verify(restClientBuilderMock).property(MAX_CHUNK_SIZE, 1024);
+        verify(restClientBuilderMock).property(HEDGING_ENABLED, true);
+        verify(restClientBuilderMock).property(HEDGING_PERCENTILE, 99.0);
+        verify(restClientBuilderMock).property(HEDGING_MIN_DELAY, 5L);
+        verify(restClientBuilderMock).property(HEDGING_BUDGET, 0.2);
         verify(restClientBuilderMock).followRedirects(true);
         verify(restClientBuilderMock).register(MyResponseFilter1.class);
         verify(restClientBuilderMock).queryParamStyle(COMMA_SEPARATED);
@@ -200,6 +208,10 @@ public List<RegisteredRestClient> getRestClients() {
         verify(restClientBuilderMock).property(KEEP_ALIVE_ENABLED, true);
         verify(restClientBuilderMock).property(MAX_REDIRECTS, 204);
         verify(restClientBuilderMock).property(MAX_CHUNK_SIZE, 1024);
+        verify(restClientBuilderMock).property(HEDGING_ENABLED, true);
+        verify(restClientBuilderMock).property(HEDGING_PERCENTILE, 90.0);
+        verify(restClientBuilderMock).property(HEDGING_MIN_DELAY, 5L);
+        verify(restClientBuilderMock).property(HEDGING_BUDGET, 0.2);
         verify(restClientBuilderMock).followRedirects(true);
         verify(restClientBuilderMock).register(MyResponseFilter2.class);
         verify(restClientBuilderMock).queryParamStyle(MULTI_PAIRS);
@@ -230,6 +242,10 @@ private static Map<String, String> createSampleConfigRoot() {
         rootConfig.put("quarkus.rest-client.multipart-max-chunk-size", "1024");
         rootConfig.put("quarkus.rest-client.follow-redirects", "true");
         rootConfig.put("quarkus.rest-client.max-chunk-size", "1024");
+        rootConfig.put("quarkus.rest-client.hedging.enabled", "true");
+        rootConfig.put("quarkus.rest-client.hedging.percentile", "90");
+        rootConfig.put("quarkus.rest-client.hedging.min-delay", "5ms");
+        rootConfig.put("quarkus.rest-client.hedging.budget", "0.2");
         rootConfig.put("quarkus.rest-client.providers",
                 "io.quarkus.rest.client.reactive.runtime.RestClientCDIDelegateBuilderTest$MyResponseFilter2");
         rootConfig.put("quarkus.rest-client.query-param-style", "multi-pairs");
@@ -265,6 +281,7 @@ private static Map<String, String> createSampleClientConfig(final String restCli
         clientConfig.put("quarkus.rest-client." + restClientName + ".max-redirects", "104");
         clientConfig.put("quarkus.rest-client." + restClientName + ".follow-redirects", "true");
         clientConfig.put("quarkus.rest-client." + restClientName + ".max-chunk-size", "1024");
+        clientConfig.put("quarkus.rest-client." + restClientName + ".hedging.percentile", "99");
         clientConfig.put("quarkus.rest-client." + restClientName + ".providers",
                 "io.quarkus.rest.client.reactive.runtime.RestClientCDIDelegateBuilderTest$MyResponseFilter1");
         clientConfig.put("quarkus.rest-client." + restClientName + ".query-param-style", "comma-separated");
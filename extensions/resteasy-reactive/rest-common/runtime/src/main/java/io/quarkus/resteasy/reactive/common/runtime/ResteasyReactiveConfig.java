@@ -1,5 +1,6 @@
 package io.quarkus.resteasy.reactive.common.runtime;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
 
@@ -44,6 +45,23 @@ public interface ResteasyReactiveConfig {
     @WithDefault("8191")
     int outputBufferSize();
 
+    /**
+     * The amount of serialized elements of a {@code Multi} streamed as a JSON array that are buffered before being
+     * written to the response, up to {@code Integer.MAX_VALUE} bytes.
+     */
+    @WithDefault("8k")
+    MemorySize streamingFlushThreshold();
+
+    /**
+     * How long the serialized elements of a {@code Multi} streamed as a JSON array can be buffered while waiting for
+     * more elements. By default, they are written as soon as the {@code Multi} stops emitting elements, i.e. once the
+     * elements emitted synchronously or in the same asynchronous burst were serialized.
+     * A longer interval produces fewer, larger chunks when the elements are emitted asynchronously, at the expense of
+     * latency.
+     */
+    @WithDefault("0")
+    Duration streamingFlushInterval();
+
     /**
      * By default, we assume a default produced media type of "text/plain"
      * for String endpoint return types. If this is disabled, the default
@@ -0,0 +1,78 @@
+package io.quarkus.resteasy.reactive.jackson.deployment.processor;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonView;
+
+/**
+ * The request body shapes compared by {@link DeserializerBenchmark}.
+ */
+public final class BenchmarkDtos {
+
+    private BenchmarkDtos() {
+    }
+
+    public static class Customer {
+
+        private String name;
+        private int age;
+        private boolean active;
+        private List<String> tags;
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public int getAge() {
+            return age;
+        }
+
+        public void setAge(int age) {
+            this.age = age;
+        }
+
+        public boolean isActive() {
+            return active;
+        }
+
+        public void setActive(boolean active) {
+            this.active = active;
+        }
+
+        public List<String> getTags() {
+            return tags;
+        }
+
+        public void setTags(List<String> tags) {
+            this.tags = tags;
+        }
+    }
+
+    public static class Views {
+
+        public static class Public {
+        }
+
+        public static class Internal extends Public {
+        }
+    }
+
+    public static class Account {
+
+        @JsonView(Views.Public.class)
+        public String user;
+
+        @JsonView(Views.Public.class)
+        public String email;
+
+        @JsonView(Views.Internal.class)
+        public String passwordHash;
+
+        @JsonView(Views.Internal.class)
+        public long lastLogin;
+    }
+}
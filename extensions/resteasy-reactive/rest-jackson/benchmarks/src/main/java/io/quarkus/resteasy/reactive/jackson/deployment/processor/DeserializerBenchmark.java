@@ -0,0 +1,142 @@
+package io.quarkus.resteasy.reactive.jackson.deployment.processor;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.jandex.Index;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.quarkus.deployment.builditem.GeneratedClassBuildItem;
+import io.quarkus.resteasy.reactive.jackson.deployment.processor.BenchmarkDtos.Account;
+import io.quarkus.resteasy.reactive.jackson.deployment.processor.BenchmarkDtos.Customer;
+import io.quarkus.resteasy.reactive.jackson.deployment.processor.BenchmarkDtos.Views;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.ObjectReader;
+import tools.jackson.databind.deser.std.StdDeserializer;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.databind.module.SimpleModule;
+
+/**
+ * Compares the deserialization of a request body with the deserializers generated by
+ * {@link JacksonDeserializerFactory} and with the reflection-based Jackson databind, for each supported shape of DTO.
+ * <p>
+ * The deserializers are generated in the setup, from a Jandex index of {@link BenchmarkDtos}, and registered in a
+ * {@link SimpleModule} like the {@code GeneratedSerializersRegister} does at runtime. The setup fails if no
+ * deserializer could be generated for one of the classes, so that the reflective path is never measured twice.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(2)
+public class DeserializerBenchmark {
+
+    @Param({ "pojo", "view" })
+    public String shape;
+
+    private byte[] json;
+    private ObjectReader generated;
+    private ObjectReader reflective;
+
+    @Setup
+    public void setup() throws ReflectiveOperationException {
+        ObjectMapper generatedMapper = JsonMapper.builder().addModule(generatedDeserializers()).build();
+        ObjectMapper reflectiveMapper = JsonMapper.builder().build();
+        switch (shape) {
+            case "pojo" -> {
+                json = bytes("{\"name\":\"Jane\",\"age\":42,\"active\":true,\"tags\":[\"gold\",\"early-adopter\"]}");
+                generated = generatedMapper.readerFor(Customer.class);
+                reflective = reflectiveMapper.readerFor(Customer.class);
+            }
+            case "view" -> {
+                json = bytes("{\"user\":\"jane\",\"email\":\"jane@example.com\",\"passwordHash\":\"x1y2z3\","
+                        + "\"lastLogin\":1718000000}");
+                generated = generatedMapper.readerFor(Account.class).withView(Views.Public.class);
+                reflective = reflectiveMapper.readerFor(Account.class).withView(Views.Public.class);
+            }
+            default -> throw new IllegalArgumentException(shape);
+        }
+    }
+
+    @Benchmark
+    public Object generated() {
+        return generated.readValue(json);
+    }
+
+    @Benchmark
+    public Object reflective() {
+        return reflective.readValue(json);
+    }
+
+    private static SimpleModule generatedDeserializers() throws ReflectiveOperationException {
+        Index index;
+        try {
+            index = Index.of(BenchmarkDtos.Customer.class, BenchmarkDtos.Account.class,
+                    Iterable.class, Collection.class, List.class, Set.class, Map.class, Optional.class);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        List<GeneratedClassBuildItem> generatedClasses = new ArrayList<>();
+        JacksonDeserializerFactory factory = new JacksonDeserializerFactory(generatedClasses::add, index);
+        Collection<String> deserializers = factory.create(List.of(index.getClassByName(Customer.class),
+                index.getClassByName(Account.class)));
+        if (!factory.getFallbacks().isEmpty()) {
+            throw new IllegalStateException("Deserializers not generated: " + factory.getFallbacks());
+        }
+
+        Map<String, byte[]> classes = new HashMap<>();
+        for (GeneratedClassBuildItem generatedClass : generatedClasses) {
+            classes.put(generatedClass.binaryName(), generatedClass.getClassData());
+        }
+        ClassLoader classLoader = new ClassLoader(DeserializerBenchmark.class.getClassLoader()) {
+            @Override
+            protected Class<?> findClass(String name) throws ClassNotFoundException {
+                byte[] bytes = classes.get(name);
+                if (bytes == null) {
+                    throw new ClassNotFoundException(name);
+                }
+                return defineClass(name, bytes, 0, bytes.length);
+            }
+        };
+        SimpleModule module = new SimpleModule();
+        for (String deserializer : deserializers) {
+            StdDeserializer<?> instance = (StdDeserializer<?>) classLoader.loadClass(deserializer)
+                    .getConstructor().newInstance();
+            addDeserializer(module, instance);
+        }
+        return module;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> void addDeserializer(SimpleModule module, StdDeserializer<?> deserializer) {
+        module.addDeserializer((Class<T>) deserializer.handledType(), (StdDeserializer<T>) deserializer);
+    }
+
+    private static byte[] bytes(String json) {
+        return json.getBytes(StandardCharsets.UTF_8);
+    }
+
+    public static void main(String[] args) throws IOException {
+        org.openjdk.jmh.Main.main(new String[] { "-prof", "gc" });
+    }
+
+}
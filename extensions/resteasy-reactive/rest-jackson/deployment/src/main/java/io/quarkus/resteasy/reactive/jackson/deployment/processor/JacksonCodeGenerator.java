@@ -6,12 +6,14 @@
 import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.function.Function;
 
 import org.jboss.jandex.AnnotationInstance;
@@ -121,6 +123,8 @@ public abstract class JacksonCodeGenerator {
 
     protected final Set<String> generatedClassNames = new HashSet<>();
     protected final Deque<ClassInfo> toBeGenerated = new ArrayDeque<>();
+    // class name -> the reason why the code generation was skipped
+    protected final Map<String, String> fallbacks = new TreeMap<>();
 
     protected JacksonCodeGenerator(BuildProducer<GeneratedClassBuildItem> generatedClassBuildItemBuildProducer,
             IndexView jandexIndex) {
@@ -151,6 +155,21 @@ public Collection<String> create(Collection<ClassInfo> classInfos) {
         return createdClasses;
     }
 
+    /**
+     * @return the classes for which no code could be generated, i.e. the classes (de)serialized by the reflection-based
+     *         Jackson databind, mapped to the reason
+     */
+    public Map<String, String> getFallbacks() {
+        return Collections.unmodifiableMap(fallbacks);
+    }
+
+    /**
+     * Records the reason why the code generation for the given class is skipped. Only the first reason is kept.
+     */
+    protected void fallback(ClassInfo classInfo, String reason) {
+        fallbacks.putIfAbsent(classInfo.name().toString(), reason);
+    }
+
     private Optional<String> create(ClassInfo classInfo) {
         String beanClassName = classInfo.name().toString();
         if (vetoedClass(classInfo, beanClassName) || !generatedClassNames.add(beanClassName)) {
@@ -160,6 +179,7 @@ private Optional<String> create(ClassInfo classInfo) {
         if (unknownAnnotation.isPresent()) {
             log.debugf("Skipping generation of reflection-free Jackson serializer for class %s" +
                     " because it contains the unsupported Jackson annotation %s", beanClassName, unknownAnnotation.get());
+            fallback(classInfo, "unsupported annotation @" + unknownAnnotation.get());
             return Optional.empty();
         }
 
@@ -171,7 +191,11 @@ private Optional<String> create(ClassInfo classInfo) {
 
             createConstructor(classCreator, beanClassName);
             boolean valid = createSerializationMethod(classInfo, classCreator, beanClassName);
-            return valid ? Optional.of(generatedClassName) : Optional.empty();
+            if (!valid) {
+                fallback(classInfo, "unsupported class structure");
+                return Optional.empty();
+            }
+            return Optional.of(generatedClassName);
         }
     }
 
@@ -694,6 +718,10 @@ boolean isIgnoredField() {
                     || annotations.get(java.beans.Transient.class.getName()) != null;
         }
 
+        boolean hasPropertyTypeInfo() {
+            return annotations.get(JsonTypeInfo.class.getName()) != null;
+        }
+
         boolean isUnwrapped() {
             return annotations.get(JsonUnwrapped.class.getName()) != null;
         }
@@ -20,7 +20,9 @@
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
 
+import org.jboss.jandex.AnnotationInstance;
 import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
 import org.jboss.jandex.FieldInfo;
 import org.jboss.jandex.IndexView;
 import org.jboss.jandex.MethodInfo;
@@ -31,6 +33,7 @@
 
 import com.fasterxml.jackson.annotation.JsonAnySetter;
 import com.fasterxml.jackson.annotation.JsonSetter;
+import com.fasterxml.jackson.annotation.JsonView;
 
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.builditem.GeneratedClassBuildItem;
@@ -249,6 +252,7 @@ protected boolean createSerializationMethod(ClassInfo classInfo, ClassCreator cl
 
         Optional<MethodInfo> ctorOpt = findConstructor(classInfo);
         if (ctorOpt.isEmpty()) {
+            fallback(classInfo, "no constructor that can be used to create the instance");
             return false;
         }
 
@@ -334,6 +338,8 @@ private ResultHandle createDeserializedObject(DeserializationData deserData) {
             if (paramValue == null) {
                 // the value of this parameter cannot be deserialized in a reflection-free way (e.g. its
                 // type is polymorphic), so give up generating the deserializer for the whole class
+                fallback(deserData.classInfo, "creator parameter '" + fieldSpecs.fieldName + "' of type "
+                        + fieldSpecs.fieldType + " is not supported");
                 return null;
             }
             params[i++] = paramValue;
@@ -780,6 +786,8 @@ private boolean deserializeField(DeserializationData deserData, BytecodeCreator
         ResultHandle valueHandle = readValueFromJson(deserData.classCreator, effectiveBytecode, deserializationContext,
                 fieldSpecs, deserData.typeParametersIndex, fieldValue);
         if (valueHandle == null) {
+            fallback(deserData.classInfo, "property '" + fieldSpecs.fieldName + "' of type " + fieldSpecs.fieldType
+                    + " is not supported");
             return false;
         }
         writeValueToObject(deserData.classInfo, objHandle, fieldSpecs, effectiveBytecode,
@@ -800,7 +808,13 @@ private boolean deserializeField(DeserializationData deserData, BytecodeCreator
     private static BytecodeCreator deserializeViewClasses(DeserializationData deserData, BytecodeCreator bytecode,
             FieldSpecs fieldSpecs) {
         String[] viewClasses = fieldSpecs.viewClasses();
-        if (viewClasses != null) {
+        if (viewClasses == null) {
+            MethodDescriptor isDefaultViewIncluded = ofMethod(JacksonMapperUtil.class, "isDefaultViewIncluded",
+                    boolean.class, Class.class, DeserializationContext.class);
+            ResultHandle included = bytecode.invokeStaticMethod(isDefaultViewIncluded, deserData.activeViewHandle(),
+                    deserData.methodCreator.getMethodParam(1));
+            bytecode = bytecode.ifTrue(included).trueBranch();
+        } else {
             ResultHandle viewClassesArray = bytecode.newArray(Class.class, viewClasses.length);
             for (int i = 0; i < viewClasses.length; i++) {
                 bytecode.writeArrayValue(viewClassesArray, i, bytecode.loadClass(viewClasses[i]));
@@ -848,6 +862,10 @@ private boolean isSetterMethod(MethodInfo methodInfo) {
     private ResultHandle readValueFromJson(ClassCreator classCreator, BytecodeCreator bytecode,
             ResultHandle deserializationContext, FieldSpecs fieldSpecs, Map<String, Integer> typeParametersIndex,
             ResultHandle valueNode) {
+        if (fieldSpecs.hasPropertyTypeInfo()) {
+            // the type information declared on the property itself is only known to the reflection-based databind
+            return null;
+        }
         Type fieldType = fieldSpecs.fieldType;
         String fieldTypeName = fieldType.name().toString();
         if (JacksonSerializationUtils.isBasicJsonType(fieldType)) {
@@ -1061,10 +1079,24 @@ private Set<String> findUnsettableFields(ClassInfo classInfo) {
 
     @Override
     protected boolean shouldGenerateCodeFor(ClassInfo classInfo) {
-        return super.shouldGenerateCodeFor(classInfo) && classInfo.hasNoArgsConstructor();
+        if (!super.shouldGenerateCodeFor(classInfo) || vetoedClass(classInfo, classInfo.name().toString())) {
+            return false;
+        }
+        if (!classInfo.hasNoArgsConstructor()) {
+            fallback(classInfo, "no default constructor");
+            return false;
+        }
+        AnnotationInstance jsonView = classInfo.declaredAnnotation(JSON_VIEW);
+        if (jsonView != null && jsonView.value() != null) {
+            // the view of the class applies to the properties without a view, which is only known to the databind
+            fallback(classInfo, "@JsonView on the class");
+            return false;
+        }
+        return true;
     }
 
     private static final String TRANSLATABLE_FIELD_NAMES = "TRANSLATABLE_FIELD_NAMES";
+    private static final DotName JSON_VIEW = DotName.createSimple(JsonView.class);
 
     private record DeserializationData(ClassInfo classInfo, MethodInfo constructor, ClassCreator classCreator,
             MethodCreator methodCreator,
@@ -20,6 +20,14 @@ public interface JacksonOptimizationConfig {
     @WithDefault("true")
     boolean enableReflectionFreeSerializers();
 
+    /**
+     * Log at build time the classes of the request and response bodies for which no reflection-free Jackson
+     * serializer or deserializer could be generated, together with the reason. These classes are handled by the
+     * reflection-based Jackson databind.
+     */
+    @WithDefault("false")
+    boolean reportFallbacks();
+
     class IsReflectionFreeSerializersEnabled implements BooleanSupplier {
         JacksonOptimizationConfig config;
 
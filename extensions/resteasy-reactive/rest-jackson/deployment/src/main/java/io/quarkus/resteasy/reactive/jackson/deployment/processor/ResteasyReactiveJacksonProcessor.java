@@ -398,7 +398,7 @@ public void initializeRolesAllowedConfigExp(ResteasyReactiveServerJacksonRecorde
     public void handleEndpointParams(ResteasyReactiveResourceMethodEntriesBuildItem resourceMethodEntries,
             JaxRsResourceIndexBuildItem jaxRsIndex, CombinedIndexBuildItem index,
             List<ResponseTypeUnwrapperBuildItem> responseTypeUnwrappers,
-            ResteasyReactiveServerJacksonRecorder recorder,
+            ResteasyReactiveServerJacksonRecorder recorder, JacksonOptimizationConfig optimizationConfig,
             BuildProducer<GeneratedClassBuildItem> generatedClassBuildItemBuildProducer) {
 
         IndexView indexView = jaxRsIndex.getIndexView();
@@ -434,6 +434,7 @@ public void handleEndpointParams(ResteasyReactiveResourceMethodEntriesBuildItem
                     index.getComputingIndex());
             factory.create(serializedClasses.values())
                     .forEach(recorder::recordGeneratedSerializer);
+            reportFallbacks("serializer", factory.getFallbacks(), optimizationConfig);
         }
 
         if (!deserializedClasses.isEmpty()) {
@@ -441,6 +442,24 @@ public void handleEndpointParams(ResteasyReactiveResourceMethodEntriesBuildItem
                     index.getComputingIndex());
             factory.create(deserializedClasses.values())
                     .forEach(recorder::recordGeneratedDeserializer);
+            reportFallbacks("deserializer", factory.getFallbacks(), optimizationConfig);
+        }
+    }
+
+    private static void reportFallbacks(String kind, Map<String, String> fallbacks,
+            JacksonOptimizationConfig optimizationConfig) {
+        if (fallbacks.isEmpty() || (!optimizationConfig.reportFallbacks() && !log.isDebugEnabled())) {
+            return;
+        }
+        StringBuilder report = new StringBuilder("No reflection-free Jackson ").append(kind)
+                .append(" could be generated for the following classes, which will use the reflection-based databind:");
+        for (Map.Entry<String, String> fallback : fallbacks.entrySet()) {
+            report.append("\n\t- ").append(fallback.getKey()).append(": ").append(fallback.getValue());
+        }
+        if (optimizationConfig.reportFallbacks()) {
+            log.info(report);
+        } else {
+            log.debug(report);
         }
     }
 
@@ -0,0 +1,244 @@
+package io.quarkus.resteasy.reactive.jackson.deployment.test;
+
+import static org.hamcrest.Matchers.is;
+
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import jakarta.ws.rs.Consumes;
+import jakarta.ws.rs.POST;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.core.MediaType;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import com.fasterxml.jackson.annotation.JsonSubTypes;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.annotation.JsonView;
+
+import io.quarkus.test.QuarkusExtensionTest;
+import io.restassured.RestAssured;
+
+public class ReflectionFreeDeserializerTest {
+
+    @RegisterExtension
+    static QuarkusExtensionTest test = new QuarkusExtensionTest()
+            .setArchiveProducer(new Supplier<>() {
+                @Override
+                public JavaArchive get() {
+                    return ShrinkWrap.create(JavaArchive.class)
+                            .addClasses(Resource.class, Line.class, Page.class, Labeled.class, LabeledCount.class,
+                                    Payment.class, Card.class, Transfer.class, Order.class, Views.class, Account.class)
+                            .addAsResource(
+                                    new StringAsset(
+                                            "quarkus.jackson.fail-on-unknown-properties=true\n"),
+                                    "application.properties");
+                }
+            });
+
+    // records, inherited type arguments and polymorphic properties are handled by the reflection-based databind
+
+    @Test
+    public void testGenericRecord() {
+        RestAssured
+                .with()
+                .body("{\"items\":[{\"sku\":\"a\",\"quantity\":1},{\"sku\":\"b\",\"quantity\":2}],\"total\":2}")
+                .contentType("application/json")
+                .post("/deser/page")
+                .then()
+                .statusCode(200)
+                .body(is("a:1,b:2/2 reflective"));
+    }
+
+    @Test
+    public void testTypeArgumentOfSuperclass() {
+        RestAssured
+                .with()
+                .body("{\"label\":\"count\",\"value\":3}")
+                .contentType("application/json")
+                .post("/deser/labeled")
+                .then()
+                .statusCode(200)
+                .body(is("count=3 reflective"));
+    }
+
+    @Test
+    public void testPolymorphicProperties() {
+        RestAssured
+                .with()
+                .body("{\"id\":\"o1\",\"payments\":[{\"type\":\"card\",\"amount\":10,\"number\":\"4111\"},"
+                        + "{\"type\":\"transfer\",\"amount\":5,\"iban\":\"CZ65\"}],"
+                        + "\"preferred\":{\"type\":\"transfer\",\"amount\":1,\"iban\":\"CZ66\"}}")
+                .contentType("application/json")
+                .post("/deser/order")
+                .then()
+                .statusCode(200)
+                .body(is("o1:card 4111,transfer CZ65/transfer CZ66 reflective reflective"));
+    }
+
+    @Test
+    public void testPropertyWithoutViewIsSkippedWhenViewIsActive() {
+        RestAssured
+                .with()
+                .body("{\"user\":\"jane\",\"passwordHash\":\"x\",\"note\":\"n\"}")
+                .contentType("application/json")
+                .post("/deser/account")
+                .then()
+                .statusCode(200)
+                .body(is("jane,null,null generated"));
+    }
+
+    @Path("/deser")
+    @Consumes(MediaType.APPLICATION_JSON)
+    public static class Resource {
+
+        @POST
+        @Path("/page")
+        public String page(Page<Line> page) {
+            return page.items().stream().map(line -> line.sku() + ":" + line.quantity()).collect(Collectors.joining(","))
+                    + "/" + page.total() + generated(Page.class);
+        }
+
+        @POST
+        @Path("/labeled")
+        public String labeled(LabeledCount labeled) {
+            return labeled.getLabel() + "=" + labeled.getValue() + generated(LabeledCount.class);
+        }
+
+        @POST
+        @Path("/order")
+        public String order(Order order) {
+            return order.id() + ":" + order.payments().stream().map(Payment::describe).collect(Collectors.joining(","))
+                    + "/" + order.preferred().describe() + generated(Order.class) + generated(Card.class);
+        }
+
+        @POST
+        @Path("/account")
+        public String account(@JsonView(Views.Public.class) Account account) {
+            return account.user + "," + account.passwordHash + "," + account.note + generated(Account.class);
+        }
+
+        private static String generated(Class<?> dtoClass) {
+            try {
+                Class.forName(dtoClass.getName() + "$quarkusjacksondeserializer", false,
+                        Thread.currentThread().getContextClassLoader());
+                return " generated";
+            } catch (ClassNotFoundException e) {
+                return " reflective";
+            }
+        }
+    }
+
+    public record Line(String sku, int quantity) {
+    }
+
+    public record Page<T>(List<T> items, int total) {
+    }
+
+    public static class Labeled<T> {
+
+        private String label;
+        private T value;
+
+        public String getLabel() {
+            return label;
+        }
+
+        public void setLabel(String label) {
+            this.label = label;
+        }
+
+        public T getValue() {
+            return value;
+        }
+
+        public void setValue(T value) {
+            this.value = value;
+        }
+    }
+
+    public static class LabeledCount extends Labeled<Integer> {
+    }
+
+    @JsonTypeInfo(use = JsonTypeInfo.Id.NAME, property = "type")
+    @JsonSubTypes({ @JsonSubTypes.Type(value = Card.class, name = "card"),
+            @JsonSubTypes.Type(value = Transfer.class, name = "transfer") })
+    public static abstract class Payment {
+
+        private int amount;
+
+        public int getAmount() {
+            return amount;
+        }
+
+        public void setAmount(int amount) {
+            this.amount = amount;
+        }
+
+        abstract String describe();
+    }
+
+    public static class Card extends Payment {
+
+        private String number;
+
+        public String getNumber() {
+            return number;
+        }
+
+        public void setNumber(String number) {
+            this.number = number;
+        }
+
+        @Override
+        String describe() {
+            return "card " + number;
+        }
+    }
+
+    public static class Transfer extends Payment {
+
+        private String iban;
+
+        public String getIban() {
+            return iban;
+        }
+
+        public void setIban(String iban) {
+            this.iban = iban;
+        }
+
+        @Override
+        String describe() {
+            return "transfer " + iban;
+        }
+    }
+
+    public record Order(String id, List<Payment> payments, Payment preferred) {
+    }
+
+    public static class Views {
+
+        public static class Public {
+        }
+
+        public static class Internal extends Public {
+        }
+    }
+
+    public static class Account {
+
+        @JsonView(Views.Public.class)
+        public String user;
+
+        @JsonView(Views.Internal.class)
+        public String passwordHash;
+
+        public String note;
+    }
+}
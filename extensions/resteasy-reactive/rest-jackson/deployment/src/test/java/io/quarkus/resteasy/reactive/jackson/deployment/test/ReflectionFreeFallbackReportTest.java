@@ -0,0 +1,103 @@
+package io.quarkus.resteasy.reactive.jackson.deployment.test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import java.util.function.Supplier;
+import java.util.logging.Level;
+
+import jakarta.ws.rs.Consumes;
+import jakarta.ws.rs.POST;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.core.MediaType;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+
+import io.quarkus.test.QuarkusExtensionTest;
+import io.restassured.RestAssured;
+
+public class ReflectionFreeFallbackReportTest {
+
+    @RegisterExtension
+    static QuarkusExtensionTest test = new QuarkusExtensionTest()
+            .setArchiveProducer(new Supplier<>() {
+                @Override
+                public JavaArchive get() {
+                    return ShrinkWrap.create(JavaArchive.class)
+                            .addClasses(Resource.class, Code.class, Point.class)
+                            .addAsResource(
+                                    new StringAsset(
+                                            "quarkus.rest.jackson.optimization.report-fallbacks=true\n"),
+                                    "application.properties");
+                }
+            })
+            .setLogRecordPredicate(record -> record.getLevel().equals(Level.INFO)
+                    && record.getLoggerName().equals(
+                            "io.quarkus.resteasy.reactive.jackson.deployment.processor.ResteasyReactiveJacksonProcessor"))
+            .assertLogRecords(records -> assertThat(records)
+                    .singleElement()
+                    .satisfies(record -> assertThat(record.getMessage())
+                            .contains("deserializer")
+                            .contains(Code.class.getName() + ": no default constructor")
+                            .contains(Point.class.getName() + ": no default constructor")));
+
+    @Test
+    public void testRecordFallbackStillDeserializes() {
+        RestAssured
+                .with()
+                .body("{\"x\":1,\"y\":2}")
+                .contentType("application/json")
+                .post("/fallback/point")
+                .then()
+                .statusCode(200)
+                .body(is("1,2"));
+    }
+
+    @Test
+    public void testFallbackStillDeserializes() {
+        RestAssured
+                .with()
+                .body("\"abc\"")
+                .contentType("application/json")
+                .post("/fallback/code")
+                .then()
+                .statusCode(200)
+                .body(is("abc"));
+    }
+
+    @Path("/fallback")
+    @Consumes(MediaType.APPLICATION_JSON)
+    public static class Resource {
+
+        @POST
+        @Path("/code")
+        public String code(Code code) {
+            return code.value;
+        }
+
+        @POST
+        @Path("/point")
+        public String point(Point point) {
+            return point.x() + "," + point.y();
+        }
+    }
+
+    public static class Code {
+
+        private final String value;
+
+        @JsonCreator(mode = JsonCreator.Mode.DELEGATING)
+        public Code(String value) {
+            this.value = value;
+        }
+    }
+
+    public record Point(int x, int y) {
+    }
+}
@@ -0,0 +1,103 @@
+package io.quarkus.resteasy.reactive.jackson.deployment.test.streams;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+
+import org.jboss.resteasy.reactive.RestMulti;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusExtensionTest;
+import io.quarkus.test.common.http.TestHTTPResource;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Without a flush interval, the items emitted asynchronously must be written as soon as the publisher stops emitting,
+ * even if fewer items than requested were received.
+ */
+public class JsonArrayIdleFlushTest {
+
+    private static final CompletableFuture<Void> RELEASE = new CompletableFuture<>();
+
+    @RegisterExtension
+    static final QuarkusExtensionTest config = new QuarkusExtensionTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(Resource.class, Message.class));
+
+    @TestHTTPResource
+    URI uri;
+
+    @Test
+    public void testItemIsWrittenWhileThePublisherIsIdle() throws Exception {
+        try {
+            // the headers are only sent with the first chunk
+            HttpResponse<InputStream> response = HttpClient.newHttpClient().sendAsync(
+                    HttpRequest.newBuilder(uri.resolve("/json-array/idle")).build(),
+                    HttpResponse.BodyHandlers.ofInputStream())
+                    .get(10, TimeUnit.SECONDS);
+            assertThat(response.statusCode()).isEqualTo(200);
+            try (InputStream body = response.body()) {
+                // the second item is only emitted once the first one was received
+                String first = CompletableFuture.supplyAsync(() -> readUntil(body, "}"))
+                        .get(10, TimeUnit.SECONDS);
+                assertThat(first).isEqualTo("[{\"name\":\"first\"}");
+                RELEASE.complete(null);
+                assertThat(new String(body.readAllBytes(), StandardCharsets.UTF_8))
+                        .isEqualTo(",{\"name\":\"second\"}]");
+            }
+        } finally {
+            RELEASE.complete(null);
+        }
+    }
+
+    private static String readUntil(InputStream in, String suffix) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try {
+            int b;
+            while ((b = in.read()) != -1) {
+                out.write(b);
+                if (out.toString(StandardCharsets.UTF_8).endsWith(suffix)) {
+                    break;
+                }
+            }
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    @Path("/json-array")
+    @Produces(MediaType.APPLICATION_JSON)
+    public static class Resource {
+
+        @GET
+        @Path("/idle")
+        public Multi<Message> idle() {
+            Multi<Message> messages = Multi.createFrom().items("first", "second")
+                    .onItem().call(name -> name.equals("first")
+                            ? Uni.createFrom().voidItem().onItem().delayIt().by(Duration.ofMillis(50))
+                            : Uni.createFrom().completionStage(RELEASE))
+                    .map(Message::new);
+            return RestMulti.fromMultiData(messages).withDemand(16).build();
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package io.quarkus.resteasy.reactive.jackson.deployment.test.streams;
+
+import static io.restassured.RestAssured.when;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
+
+import java.time.Duration;
+import java.util.List;
+
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MediaType;
+
+import org.jboss.resteasy.reactive.RestMulti;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import com.fasterxml.jackson.annotation.JsonView;
+
+import io.quarkus.test.QuarkusExtensionTest;
+import io.restassured.common.mapper.TypeRef;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
+
+public class JsonArrayStreamingTest {
+
+    private static final int COUNT = 20_000;
+
+    @RegisterExtension
+    static final QuarkusExtensionTest config = new QuarkusExtensionTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(Resource.class, Message.class, Views.class, Account.class)
+                    .addAsResource(new StringAsset("quarkus.rest.streaming-flush-threshold=256\n"
+                            + "quarkus.rest.streaming-flush-interval=5ms\n"), "application.properties"));
+
+    @Test
+    public void testSynchronousItems() {
+        List<Message> messages = when().get("/json-array/sync")
+                .then().statusCode(200)
+                .header(HttpHeaders.CONTENT_TYPE, containsString(MediaType.APPLICATION_JSON))
+                .header("foo", "bar")
+                .extract().as(new TypeRef<>() {
+                });
+        assertMessages(messages);
+    }
+
+    @Test
+    public void testAsynchronousItems() {
+        List<Message> messages = when().get("/json-array/async")
+                .then().statusCode(200)
+                .extract().as(new TypeRef<>() {
+                });
+        assertMessages(messages);
+    }
+
+    @Test
+    public void testSlowItems() {
+        when().get("/json-array/slow")
+                .then().statusCode(200)
+                .body(is("[{\"name\":\"0\"},{\"name\":\"1\"},{\"name\":\"2\"}]"));
+    }
+
+    @Test
+    public void testStrings() {
+        when().get("/json-array/strings")
+                .then().statusCode(200)
+                .body(is("[\"a\",\"b\"]"));
+    }
+
+    @Test
+    public void testEmpty() {
+        when().get("/json-array/empty")
+                .then().statusCode(200)
+                .body(is("[]"));
+    }
+
+    @Test
+    public void testJsonView() {
+        when().get("/json-array/view")
+                .then().statusCode(200)
+                .body(is("[{\"user\":\"jane\"},{\"user\":\"john\"}]"));
+    }
+
+    @Test
+    public void testFailureBeforeFirstFlush() {
+        when().get("/json-array/failure")
+                .then().statusCode(500);
+    }
+
+    private static void assertMessages(List<Message> messages) {
+        assertThat(messages).hasSize(COUNT);
+        for (int i = 0; i < COUNT; i++) {
+            assertThat(messages.get(i).name).isEqualTo(Integer.toString(i));
+        }
+    }
+
+    @Path("/json-array")
+    @Produces(MediaType.APPLICATION_JSON)
+    public static class Resource {
+
+        @GET
+        @Path("/sync")
+        public Multi<Message> sync() {
+            return RestMulti.fromMultiData(messages()).header("foo", "bar").build();
+        }
+
+        @GET
+        @Path("/async")
+        public Multi<Message> async() {
+            return RestMulti.fromMultiData(messages().emitOn(Infrastructure.getDefaultWorkerPool())).withDemand(16).build();
+        }
+
+        @GET
+        @Path("/slow")
+        public Multi<Message> slow() {
+            return Multi.createFrom().ticks().every(Duration.ofMillis(20)).select().first(3)
+                    .map(tick -> new Message(Long.toString(tick)));
+        }
+
+        @GET
+        @Path("/strings")
+        public Multi<String> strings() {
+            return Multi.createFrom().items("a", "b");
+        }
+
+        @GET
+        @Path("/empty")
+        public Multi<Message> empty() {
+            return Multi.createFrom().empty();
+        }
+
+        @GET
+        @Path("/view")
+        @JsonView(Views.Public.class)
+        public Multi<Account> view() {
+            return Multi.createFrom().items(new Account("jane", "secret"), new Account("john", "secret"));
+        }
+
+        @GET
+        @Path("/failure")
+        public Multi<Message> failure() {
+            return Multi.createFrom().items("ok", "boom")
+                    .map(name -> {
+                        if (name.equals("boom")) {
+                            throw new IllegalStateException(name);
+                        }
+                        return new Message(name);
+                    });
+        }
+
+        private static Multi<Message> messages() {
+            return Multi.createFrom().range(0, COUNT).map(i -> new Message(Integer.toString(i)));
+        }
+    }
+
+    public static class Views {
+
+        public static class Public {
+        }
+
+        public static class Private extends Public {
+        }
+    }
+
+    public static class Account {
+
+        @JsonView(Views.Public.class)
+        public String user;
+
+        @JsonView(Views.Private.class)
+        public String password;
+
+        public Account(String user, String password) {
+            this.user = user;
+            this.password = password;
+        }
+    }
+}
@@ -39,6 +39,7 @@
 import tools.jackson.databind.DeserializationContext;
 import tools.jackson.databind.JavaType;
 import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.MapperFeature;
 import tools.jackson.databind.ObjectWriter;
 import tools.jackson.databind.PropertyNamingStrategy;
 import tools.jackson.databind.SerializationContext;
@@ -160,6 +161,13 @@ public static boolean isViewIncluded(Class<?> activeView, Class<?>[] viewClasses
         return false;
     }
 
+    /**
+     * Checks if a property without any {@code @JsonView} has to be deserialized while the given view is active.
+     */
+    public static boolean isDefaultViewIncluded(Class<?> activeView, DeserializationContext deserializationContext) {
+        return activeView == null || deserializationContext.isEnabled(MapperFeature.DEFAULT_VIEW_INCLUSION);
+    }
+
     public static boolean includeSecureField(SerializationContext serializationContext, String[] rolesAllowed) {
         return serializationContext.getFilterProvider() == null || includeSecureField(rolesAllowed);
     }
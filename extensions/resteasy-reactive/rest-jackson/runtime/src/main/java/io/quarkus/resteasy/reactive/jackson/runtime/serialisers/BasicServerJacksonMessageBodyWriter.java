@@ -2,6 +2,7 @@
 
 import static org.jboss.resteasy.reactive.server.jackson.JacksonMessageBodyWriterUtil.createDefaultWriter;
 import static org.jboss.resteasy.reactive.server.jackson.JacksonMessageBodyWriterUtil.doLegacyWrite;
+import static org.jboss.resteasy.reactive.server.jackson.JacksonMessageBodyWriterUtil.startLegacyArray;
 
 import java.io.IOException;
 import java.io.OutputStream;
@@ -21,6 +22,7 @@
 
 import org.jboss.resteasy.reactive.server.spi.ServerMessageBodyWriter;
 import org.jboss.resteasy.reactive.server.spi.ServerRequestContext;
+import org.jboss.resteasy.reactive.server.spi.StreamingArrayMessageBodyWriter;
 
 import io.quarkus.arc.impl.LazyValue;
 import io.quarkus.resteasy.reactive.jackson.runtime.mappers.JacksonMapperUtil;
@@ -28,7 +30,8 @@
 import tools.jackson.databind.ObjectMapper;
 import tools.jackson.databind.ObjectWriter;
 
-public class BasicServerJacksonMessageBodyWriter extends ServerMessageBodyWriter.AllWriteableMessageBodyWriter {
+public class BasicServerJacksonMessageBodyWriter extends ServerMessageBodyWriter.AllWriteableMessageBodyWriter
+        implements StreamingArrayMessageBodyWriter {
 
     private final LazyValue<ObjectWriter> defaultWriter;
     private final Map<JavaType, ObjectWriter> genericWriters = new ConcurrentHashMap<>();
@@ -93,4 +96,10 @@ public void writeTo(Object o, Class<?> type, Type genericType, Annotation[] anno
         doLegacyWrite(o, annotations, httpHeaders, entityStream, getWriter(genericType, o));
     }
 
+    @Override
+    public ArrayGenerator startArray(Type elementType, Annotation[] annotations, MediaType mediaType, OutputStream stream) {
+        ObjectWriter writer = defaultWriter.get();
+        return startLegacyArray(annotations, stream, writer, JacksonMapperUtil.getGenericRootType(elementType, writer));
+    }
+
 }
@@ -3,6 +3,7 @@
 import static org.jboss.resteasy.reactive.server.jackson.JacksonMessageBodyWriterUtil.createDefaultWriter;
 import static org.jboss.resteasy.reactive.server.jackson.JacksonMessageBodyWriterUtil.doLegacyWrite;
 import static org.jboss.resteasy.reactive.server.jackson.JacksonMessageBodyWriterUtil.setNecessaryWriteConfig;
+import static org.jboss.resteasy.reactive.server.jackson.JacksonMessageBodyWriterUtil.startLegacyArray;
 
 import java.io.IOException;
 import java.io.OutputStream;
@@ -27,6 +28,7 @@
 import org.jboss.resteasy.reactive.server.spi.ResteasyReactiveResourceInfo;
 import org.jboss.resteasy.reactive.server.spi.ServerMessageBodyWriter;
 import org.jboss.resteasy.reactive.server.spi.ServerRequestContext;
+import org.jboss.resteasy.reactive.server.spi.StreamingArrayMessageBodyWriter;
 
 import io.quarkus.arc.impl.LazyValue;
 import io.quarkus.resteasy.reactive.jackson.runtime.ResteasyReactiveServerJacksonRecorder;
@@ -35,7 +37,8 @@
 import tools.jackson.databind.ObjectMapper;
 import tools.jackson.databind.ObjectWriter;
 
-public class FullyFeaturedServerJacksonMessageBodyWriter extends ServerMessageBodyWriter.AllWriteableMessageBodyWriter {
+public class FullyFeaturedServerJacksonMessageBodyWriter extends ServerMessageBodyWriter.AllWriteableMessageBodyWriter
+        implements StreamingArrayMessageBodyWriter {
 
     private final Instance<ObjectMapper> originalMapper;
     private final Providers providers;
@@ -180,6 +183,12 @@ public void writeTo(Object o, Class<?> type, Type genericType, Annotation[] anno
         doLegacyWrite(o, annotations, httpHeaders, entityStream, defaultWriter.get());
     }
 
+    @Override
+    public ArrayGenerator startArray(Type elementType, Annotation[] annotations, MediaType mediaType, OutputStream stream) {
+        ObjectWriter writer = defaultWriter.get();
+        return startLegacyArray(annotations, stream, writer, JacksonMapperUtil.getGenericRootType(elementType, writer));
+    }
+
     private static class MethodObjectWriterFunction implements Function<String, ObjectWriter> {
         private final Class<? extends BiFunction<ObjectMapper, Type, ObjectWriter>> clazz;
         private final Type genericType;
@@ -19,4 +19,14 @@ public interface RestQuteConfig {
     @WithDefault("false")
     boolean templateInstanceNonBlockingType();
 
+    /**
+     * If set to {@code true} then a {@link io.quarkus.qute.TemplateInstance} returned from a resource method is rendered
+     * directly into the HTTP response. The output is flushed in chunks once it exceeds the
+     * {@code quarkus.rest.output-buffer-size}. Otherwise, the whole template is rendered as a {@link String} first.
+     * <p>
+     * Note that if an error occurs after a part of the output was already sent then the connection is reset.
+     */
+    @WithDefault("true")
+    boolean streamTemplateResponse();
+
 }
@@ -7,6 +7,10 @@
 import java.util.List;
 import java.util.Map;
 
+import jakarta.ws.rs.Priorities;
+import jakarta.ws.rs.RuntimeType;
+import jakarta.ws.rs.core.MediaType;
+
 import org.jboss.jandex.ClassInfo;
 import org.jboss.jandex.DotName;
 import org.jboss.jandex.MethodInfo;
@@ -23,11 +27,15 @@
 import io.quarkus.deployment.builditem.FeatureBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.ReflectiveHierarchyIgnoreWarningBuildItem;
 import io.quarkus.qute.TemplateInstance;
+import io.quarkus.resteasy.reactive.qute.runtime.TemplateResponse;
 import io.quarkus.resteasy.reactive.qute.runtime.TemplateResponseFilter;
+import io.quarkus.resteasy.reactive.qute.runtime.TemplateResponseMessageBodyWriter;
+import io.quarkus.resteasy.reactive.qute.runtime.TemplateResponseStreamHandler;
 import io.quarkus.resteasy.reactive.qute.runtime.TemplateResponseUniHandler;
 import io.quarkus.resteasy.reactive.server.spi.MethodScannerBuildItem;
 import io.quarkus.resteasy.reactive.server.spi.NonBlockingReturnTypeBuildItem;
 import io.quarkus.resteasy.reactive.spi.CustomContainerResponseFilterBuildItem;
+import io.quarkus.resteasy.reactive.spi.MessageBodyWriterBuildItem;
 
 public class ResteasyReactiveQuteProcessor {
 
@@ -57,12 +65,30 @@ void nonBlockingTemplateInstance(RestQuteConfig config, BuildProducer<NonBlockin
     }
 
     @BuildStep
-    public MethodScannerBuildItem configureHandler() {
+    void templateResponseWriter(RestQuteConfig config, BuildProducer<MessageBodyWriterBuildItem> writers) {
+        if (config.streamTemplateResponse()) {
+            writers.produce(new MessageBodyWriterBuildItem(TemplateResponseMessageBodyWriter.class.getName(),
+                    TemplateResponse.class.getName(), List.of(MediaType.WILDCARD), RuntimeType.SERVER, true,
+                    Priorities.USER));
+        }
+    }
+
+    @BuildStep
+    public MethodScannerBuildItem configureHandler(RestQuteConfig config) {
+        boolean stream = config.streamTemplateResponse();
         return new MethodScannerBuildItem(new MethodScanner() {
             @Override
             public List<HandlerChainCustomizer> scan(MethodInfo method, ClassInfo actualEndpointClass,
                     Map<String, Object> methodContext) {
                 if (method.returnType().name().equals(TEMPLATE_INSTANCE) || isAsyncTemplateInstance(method.returnType())) {
+                    if (stream) {
+                        // TemplateResponseStreamHandler wraps the template instance so that it's rendered directly into
+                        // the response by TemplateResponseMessageBodyWriter
+                        return Collections.singletonList(
+                                new FixedHandlersChainCustomizer(
+                                        List.of(new TemplateResponseStreamHandler()),
+                                        HandlerChainCustomizer.Phase.AFTER_METHOD_INVOKE_SECOND_ROUND));
+                    }
                     // TemplateResponseUniHandler creates a Uni, so we also need to introduce another Uni handler
                     // so RR actually gets the result
                     // the reason why we use AFTER_METHOD_INVOKE_SECOND_ROUND is to be able to properly support Uni<TemplateInstance>
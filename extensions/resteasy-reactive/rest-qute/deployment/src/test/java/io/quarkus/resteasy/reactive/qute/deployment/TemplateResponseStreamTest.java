@@ -0,0 +1,106 @@
+package io.quarkus.resteasy.reactive.qute.deployment;
+
+import static io.restassured.RestAssured.when;
+
+import java.io.IOException;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import jakarta.inject.Inject;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.NameBinding;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.ext.Provider;
+import jakarta.ws.rs.ext.WriterInterceptor;
+import jakarta.ws.rs.ext.WriterInterceptorContext;
+
+import org.hamcrest.Matchers;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.qute.Template;
+import io.quarkus.qute.TemplateInstance;
+import io.quarkus.test.QuarkusExtensionTest;
+
+public class TemplateResponseStreamTest {
+
+    @RegisterExtension
+    static final QuarkusExtensionTest config = new QuarkusExtensionTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClasses(TestResource.class, Intercepted.class, TestWriterInterceptor.class)
+                    .addAsResource(new StringAsset("{#for i in items}<li>{i}: čau</li>{/for}"), "templates/items.html"))
+            // Make sure the output is flushed in several chunks
+            .overrideConfigKey("quarkus.rest.output-buffer-size", "64");
+
+    @Test
+    public void testSmallOutput() {
+        when().get("/test?count=1").then()
+                .statusCode(200)
+                .header("Content-Length", "16")
+                .body(Matchers.is("<li>0: čau</li>"));
+    }
+
+    @Test
+    public void testLargeOutput() {
+        String expected = IntStream.range(0, 1000).mapToObj(i -> "<li>" + i + ": čau</li>").collect(Collectors.joining());
+        when().get("/test?count=1000").then()
+                .statusCode(200)
+                .header("Transfer-Encoding", "chunked")
+                .contentType(Matchers.startsWith(MediaType.TEXT_HTML))
+                .body(Matchers.is(expected));
+    }
+
+    @Test
+    public void testWriterInterceptor() {
+        String expected = IntStream.range(0, 100).mapToObj(i -> "<li>" + i + ": čau</li>").collect(Collectors.joining());
+        when().get("/test/intercepted?count=100").then()
+                .statusCode(200)
+                .header("X-Intercepted", "true")
+                .body(Matchers.is(expected));
+    }
+
+    @Path("test")
+    public static class TestResource {
+
+        @Inject
+        Template items;
+
+        @GET
+        @Produces(MediaType.TEXT_HTML)
+        public TemplateInstance get(@QueryParam("count") int count) {
+            List<Integer> list = IntStream.range(0, count).boxed().toList();
+            return items.data("items", list);
+        }
+
+        @Intercepted
+        @GET
+        @Path("intercepted")
+        @Produces(MediaType.TEXT_HTML)
+        public TemplateInstance intercepted(@QueryParam("count") int count) {
+            return get(count);
+        }
+    }
+
+    @NameBinding
+    @Retention(RetentionPolicy.RUNTIME)
+    public @interface Intercepted {
+    }
+
+    @Intercepted
+    @Provider
+    public static class TestWriterInterceptor implements WriterInterceptor {
+
+        @Override
+        public void aroundWriteTo(WriterInterceptorContext context) throws IOException {
+            context.getHeaders().add("X-Intercepted", "true");
+            context.proceed();
+        }
+    }
+}
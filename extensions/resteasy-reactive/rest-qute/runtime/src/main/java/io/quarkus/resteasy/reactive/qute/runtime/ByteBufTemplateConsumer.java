@@ -0,0 +1,117 @@
+package io.quarkus.resteasy.reactive.qute.runtime;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.quarkus.qute.Utf8Consumer;
+import io.quarkus.vertx.utils.NoBoundChecksBuffer;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.core.impl.buffer.VertxByteBufAllocator;
+
+/**
+ * Writes the rendered template into pooled buffers and flushes a buffer to the response once it reaches the given size.
+ * <p>
+ * If the whole output fits in a single buffer then the response is not chunked. The renderer cannot be paused, so while
+ * the write queue of the response is full the output is accumulated in the current buffer, which is flushed once the
+ * queue is drained.
+ */
+final class ByteBufTemplateConsumer implements Utf8Consumer {
+
+    private final HttpServerResponse response;
+    private final int flushThreshold;
+
+    private ByteBuf buffer;
+    private boolean flushed;
+    private boolean closed;
+    private boolean drainHandlerSet;
+
+    ByteBufTemplateConsumer(HttpServerResponse response, int flushThreshold) {
+        this.response = response;
+        this.flushThreshold = flushThreshold;
+    }
+
+    @Override
+    public synchronized void accept(String value) {
+        if (closed) {
+            return;
+        }
+        ByteBufUtil.writeUtf8(buffer(), value);
+        flushIfNeeded();
+    }
+
+    @Override
+    public synchronized void acceptUtf8(byte[] utf8) {
+        if (closed) {
+            return;
+        }
+        buffer().writeBytes(utf8);
+        flushIfNeeded();
+    }
+
+    /**
+     *
+     * @return {@code true} if a part of the output was already written to the response
+     */
+    synchronized boolean isFlushed() {
+        return flushed;
+    }
+
+    /**
+     * Writes the rest of the output and ends the response.
+     */
+    synchronized void end() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        if (buffer == null) {
+            response.end();
+        } else {
+            response.end(new NoBoundChecksBuffer(buffer));
+            buffer = null;
+        }
+    }
+
+    /**
+     * Releases the buffer that was not written; the output that follows is ignored.
+     */
+    synchronized void close() {
+        closed = true;
+        if (buffer != null) {
+            buffer.release();
+            buffer = null;
+        }
+    }
+
+    private ByteBuf buffer() {
+        if (buffer == null) {
+            buffer = VertxByteBufAllocator.POOLED_ALLOCATOR.directBuffer(flushThreshold);
+        }
+        return buffer;
+    }
+
+    private void flushIfNeeded() {
+        if (buffer.readableBytes() >= flushThreshold) {
+            if (response.writeQueueFull()) {
+                if (!drainHandlerSet) {
+                    drainHandlerSet = true;
+                    response.drainHandler(ignored -> drained());
+                }
+                return;
+            }
+            if (!flushed) {
+                flushed = true;
+                response.setChunked(true);
+            }
+            // The response releases the buffer once written
+            response.write(new NoBoundChecksBuffer(buffer));
+            buffer = null;
+        }
+    }
+
+    private synchronized void drained() {
+        if (!closed && buffer != null) {
+            flushIfNeeded();
+        }
+    }
+
+}
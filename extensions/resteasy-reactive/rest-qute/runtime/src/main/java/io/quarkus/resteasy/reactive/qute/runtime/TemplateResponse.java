@@ -0,0 +1,27 @@
+package io.quarkus.resteasy.reactive.qute.runtime;
+
+import io.quarkus.qute.Engine;
+import io.quarkus.qute.TemplateInstance;
+
+/**
+ * A template instance that is rendered by the {@link TemplateResponseMessageBodyWriter} directly into the HTTP response.
+ */
+public final class TemplateResponse {
+
+    private final TemplateInstance instance;
+    private final Engine engine;
+
+    TemplateResponse(TemplateInstance instance, Engine engine) {
+        this.instance = instance;
+        this.engine = engine;
+    }
+
+    public TemplateInstance getInstance() {
+        return instance;
+    }
+
+    Engine getEngine() {
+        return engine;
+    }
+
+}
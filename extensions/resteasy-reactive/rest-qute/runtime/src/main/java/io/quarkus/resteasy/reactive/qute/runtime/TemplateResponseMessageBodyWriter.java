@@ -0,0 +1,84 @@
+package io.quarkus.resteasy.reactive.qute.runtime;
+
+import static io.quarkus.resteasy.reactive.qute.runtime.Util.toUni;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+
+import jakarta.ws.rs.WebApplicationException;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.MultivaluedMap;
+
+import org.jboss.resteasy.reactive.server.core.ResteasyReactiveRequestContext;
+import org.jboss.resteasy.reactive.server.spi.ResteasyReactiveResourceInfo;
+import org.jboss.resteasy.reactive.server.spi.ServerMessageBodyWriter;
+import org.jboss.resteasy.reactive.server.spi.ServerRequestContext;
+
+import io.vertx.core.http.HttpServerResponse;
+
+/**
+ * Renders the template directly into the Vert.x response, i.e. without creating the intermediate {@link String}.
+ * <p>
+ * The output is collected in a pooled buffer that is flushed to the response once it reaches the configured output buffer
+ * size. If rendering fails after a part of the output was already sent then the connection is reset.
+ */
+public class TemplateResponseMessageBodyWriter implements ServerMessageBodyWriter<TemplateResponse> {
+
+    @Override
+    public boolean isWriteable(Class<?> type, Type genericType, ResteasyReactiveResourceInfo target, MediaType mediaType) {
+        return TemplateResponse.class.equals(type);
+    }
+
+    @Override
+    public void writeResponse(TemplateResponse entity, Type genericType, ServerRequestContext context)
+            throws WebApplicationException {
+        ResteasyReactiveRequestContext ctx = (ResteasyReactiveRequestContext) context;
+        HttpServerResponse response = context.serverRequest().unwrap(HttpServerResponse.class);
+        if (response == null) {
+            // Not a Vert.x response, render the template asynchronously into a String
+            ctx.suspend();
+            toUni(entity.getInstance(), entity.getEngine()).subscribe().with(rendered -> {
+                context.serverResponse().end(rendered);
+                ctx.resume();
+            }, ctx::resume);
+            return;
+        }
+        ByteBufTemplateConsumer consumer = new ByteBufTemplateConsumer(response,
+                ctx.getDeployment().getResteasyReactiveConfig().getOutputBufferSize());
+        ctx.suspend();
+        toUni(entity.getInstance(), entity.getEngine(), consumer).subscribe().with(ignored -> {
+            consumer.end();
+            ctx.resume();
+        }, t -> {
+            boolean flushed = consumer.isFlushed();
+            consumer.close();
+            if (flushed) {
+                // The status and headers were already sent
+                response.reset();
+                ctx.resume();
+            } else {
+                ctx.resume(t);
+            }
+        });
+    }
+
+    @Override
+    public boolean isWriteable(Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType) {
+        return TemplateResponse.class.equals(type);
+    }
+
+    /**
+     * Only used if the response is written through an {@link OutputStream}. The {@link TemplateResponseStreamHandler} does
+     * not wrap the template instance when writer interceptors apply, so that the template is not rendered here.
+     */
+    @Override
+    public void writeTo(TemplateResponse entity, Class<?> type, Type genericType, Annotation[] annotations,
+            MediaType mediaType, MultivaluedMap<String, Object> httpHeaders, OutputStream entityStream)
+            throws IOException, WebApplicationException {
+        entityStream.write(entity.getInstance().render().getBytes(StandardCharsets.UTF_8));
+    }
+
+}
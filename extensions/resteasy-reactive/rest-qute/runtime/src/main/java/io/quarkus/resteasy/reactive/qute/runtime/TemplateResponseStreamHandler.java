@@ -0,0 +1,73 @@
+package io.quarkus.resteasy.reactive.qute.runtime;
+
+import static io.quarkus.resteasy.reactive.qute.runtime.Util.*;
+
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.ext.WriterInterceptor;
+
+import org.jboss.resteasy.reactive.server.core.ResteasyReactiveRequestContext;
+import org.jboss.resteasy.reactive.server.spi.ServerRestHandler;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.qute.Engine;
+import io.quarkus.qute.TemplateInstance;
+import io.vertx.core.http.HttpServerResponse;
+
+/**
+ * Unlike the {@link TemplateResponseUniHandler} this handler does not render the template; instead, the template instance
+ * is wrapped in a {@link TemplateResponse} which is then rendered directly into the response by the
+ * {@link TemplateResponseMessageBodyWriter}.
+ * <p>
+ * Writer interceptors need an entity written through an {@link java.io.OutputStream}, so if any applies, or if the
+ * response is not a Vert.x response, the template is rendered asynchronously into a {@link String} instead.
+ */
+public class TemplateResponseStreamHandler implements ServerRestHandler {
+
+    private volatile Engine engine;
+
+    @Override
+    public void handle(ResteasyReactiveRequestContext requestContext) {
+        Object result = requestContext.getResult();
+        if (!(result instanceof TemplateInstance)) {
+            return;
+        }
+
+        requestContext.requireCDIRequestScope();
+
+        if (engine == null) {
+            synchronized (this) {
+                if (engine == null) {
+                    engine = Arc.container().instance(Engine.class).get();
+                }
+            }
+        }
+        TemplateInstance instance = (TemplateInstance) result;
+        MediaType mediaType = setSelectedVariant(instance, requestContext.getRequest(),
+                requestContext.getHttpHeaders().getAcceptableLanguages());
+        if (mediaType == null && requestContext.getTarget().getProduces() == null) {
+            String accept = requestContext.serverRequest().getRequestHeader(HttpHeaders.ACCEPT);
+            if (accept == null || MediaType.WILDCARD.equals(accept)) {
+                // Match the content type of a rendered String
+                mediaType = MediaType.TEXT_PLAIN_TYPE;
+            }
+        }
+        requestContext.setResponseContentType(mediaType);
+        if (hasWriterInterceptors(requestContext)
+                || requestContext.serverRequest().unwrap(HttpServerResponse.class) == null) {
+            requestContext.suspend();
+            toUni(instance, engine).subscribe().with(rendered -> {
+                requestContext.setResult(rendered);
+                requestContext.resume();
+            }, requestContext::resume);
+            return;
+        }
+        requestContext.setResult(new TemplateResponse(instance, engine));
+    }
+
+    private static boolean hasWriterInterceptors(ResteasyReactiveRequestContext requestContext) {
+        WriterInterceptor[] writerInterceptors = requestContext.getWriterInterceptors();
+        return writerInterceptors != null && writerInterceptors.length > 0;
+    }
+
+}
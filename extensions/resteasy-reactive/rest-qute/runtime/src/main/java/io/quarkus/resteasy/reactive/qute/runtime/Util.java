@@ -4,6 +4,7 @@
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
+import java.util.function.Consumer;
 
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Request;
@@ -21,7 +22,14 @@ private Util() {
     }
 
     static Uni<String> toUni(TemplateInstance instance, Engine engine) {
-        Uni<String> uni = instance.createUni();
+        return withTimeout(instance.createUni(), instance, engine);
+    }
+
+    static Uni<Void> toUni(TemplateInstance instance, Engine engine, Consumer<String> consumer) {
+        return withTimeout(Uni.createFrom().completionStage(() -> instance.consume(consumer)), instance, engine);
+    }
+
+    private static <T> Uni<T> withTimeout(Uni<T> uni, TemplateInstance instance, Engine engine) {
         if (!engine.useAsyncTimeout()) {
             // Make sure the timeout is always used
             long timeout = instance.getTimeout();
@@ -1795,7 +1795,9 @@ private org.jboss.resteasy.reactive.common.ResteasyReactiveConfig createRestReac
                 config.minChunkSize(),
                 config.outputBufferSize(),
                 config.singleDefaultProduces(),
-                config.defaultProduces());
+                config.defaultProduces(),
+                config.streamingFlushThreshold().asBigInteger().intValueExact(),
+                config.streamingFlushInterval().toMillis());
     }
 
     @BuildStep
@@ -47,6 +47,13 @@ public PathPart getPathPart() {
         return new PathPart(Paths.get(FILE), 20, 10);
     }
 
+    @WithWriterInterceptor
+    @Path("path-intercepted")
+    @GET
+    public java.nio.file.Path getInterceptedPath() {
+        return Paths.get(FILE);
+    }
+
     @Path("async-file")
     @GET
     public Uni<AsyncFile> getAsyncFile(RoutingContext vertxRequest) {
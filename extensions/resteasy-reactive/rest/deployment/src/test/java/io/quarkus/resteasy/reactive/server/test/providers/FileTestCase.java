@@ -72,7 +72,23 @@ public void testFiles() throws Exception {
                 .statusCode(200)
                 .header(HttpHeaders.CONTENT_LENGTH, contentLength)
                 .body(Matchers.equalTo(content));
-        RestAssured.given().header("Range", "bytes=0-1, 3-4").get("/providers/file/file")
+        String multipart = RestAssured.given().header("Range", "bytes=0-1, 3-4").get("/providers/file/file")
+                .then()
+                .statusCode(206)
+                .contentType(Matchers.startsWith("multipart/byteranges; boundary="))
+                .extract().asString();
+        Assertions.assertTrue(multipart.contains("Content-Range: bytes 0-1/" + contentLength + "\r\n\r\n"
+                + content.substring(0, 2) + "\r\n--"), multipart);
+        Assertions.assertTrue(multipart.contains("Content-Range: bytes 3-4/" + contentLength + "\r\n\r\n"
+                + content.substring(3, 5) + "\r\n--"), multipart);
+        Assertions.assertTrue(multipart.endsWith("--\r\n"), multipart);
+        // overlapping ranges are ignored
+        RestAssured.given().header("Range", "bytes=0-9,5-").get("/providers/file/file")
+                .then()
+                .statusCode(200)
+                .header(HttpHeaders.CONTENT_LENGTH, contentLength)
+                .body(Matchers.equalTo(content));
+        RestAssured.given().header("Range", "bytes=0-10,5-15").get("/providers/file/file")
                 .then()
                 .statusCode(200)
                 .header(HttpHeaders.CONTENT_LENGTH, contentLength)
@@ -92,6 +108,24 @@ public void testFiles() throws Exception {
                 .statusCode(200)
                 .header(HttpHeaders.CONTENT_LENGTH, "10")
                 .body(Matchers.equalTo(content.substring(20, 30)));
+        RestAssured.given().header("Range", "bytes=2-5").get("/providers/file/path-partial")
+                .then()
+                .statusCode(206)
+                .header(HttpHeaders.CONTENT_LENGTH, "4")
+                .header("Content-Range", "bytes 2-5/10")
+                .body(Matchers.equalTo(content.substring(22, 26)));
+        RestAssured.given().header("Range", "bytes=-5").get("/providers/file/file-partial")
+                .then()
+                .statusCode(206)
+                .header(HttpHeaders.CONTENT_LENGTH, "5")
+                .header("Content-Range", "bytes 5-9/10")
+                .body(Matchers.equalTo(content.substring(25, 30)));
+        RestAssured.given().header("Range", "bytes=10-19").get("/providers/file/path-intercepted")
+                .then()
+                .statusCode(206)
+                .header(HttpHeaders.CONTENT_LENGTH, "10")
+                .header("Content-Range", "bytes 10-19/" + contentLength)
+                .body(Matchers.equalTo(content.substring(10, 20)));
         RestAssured.get("/providers/file/async-file")
                 .then()
                 .header(HttpHeaders.CONTENT_LENGTH, Matchers.nullValue())
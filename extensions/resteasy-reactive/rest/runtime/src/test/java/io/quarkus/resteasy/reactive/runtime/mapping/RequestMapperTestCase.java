@@ -53,6 +53,42 @@ public void testContinueMatching() {
         Assertions.assertNull(result);
     }
 
+    @Test
+    public void testOverlappingStems() {
+        RequestMapper<String> mapper = mapper(false, "/{id}", "/fo", "/foo", "/foobar", "/foo/{id}", "/foo/bar/{id}",
+                "/foo/bar/{id}/baz/{name}", "/foobar-{id}");
+        mapper.dump();
+
+        Assertions.assertEquals("/foo", mapper.map("/foo").value);
+        Assertions.assertEquals("/foo", mapper.map("/foo/").value);
+        Assertions.assertEquals("/foobar", mapper.map("/foobar").value);
+        Assertions.assertEquals("/fo", mapper.map("/fo").value);
+
+        RequestMapper.RequestMatch<String> result = mapper.map("/foo/bar/1/baz/alpha");
+        Assertions.assertEquals("/foo/bar/{id}/baz/{name}", result.value);
+        Assertions.assertArrayEquals(new String[] { "1", "alpha" }, result.pathParamValues);
+
+        // The longer stems do not match and the parameters captured by the other candidates are cleared
+        result = mapper.map("/foo/bar");
+        Assertions.assertEquals("/foo/{id}", result.value);
+        Assertions.assertArrayEquals(new String[] { "bar", null }, result.pathParamValues);
+
+        result = mapper.map("/foobar-2");
+        Assertions.assertEquals("/foobar-{id}", result.value);
+        Assertions.assertEquals("2", result.pathParamValues[0]);
+
+        // The templates with the root stem are matched last
+        result = mapper.map("/fooba");
+        Assertions.assertEquals("/{id}", result.value);
+        Assertions.assertEquals("fooba", result.pathParamValues[0]);
+        result = mapper.map("/f");
+        Assertions.assertEquals("/{id}", result.value);
+        Assertions.assertNull(mapper.map("/foo/bar/1/baz"));
+
+        // A template without parameters still gets the full array
+        Assertions.assertEquals(2, mapper.map("/foobar").pathParamValues.length);
+    }
+
     RequestMapper<String> mapper(boolean prefixTemplates, String... vals) {
         ArrayList<RequestMapper.RequestPath<String>> list = new ArrayList<>();
         for (String i : vals) {
@@ -0,0 +1,90 @@
+package io.quarkus.scheduler.runtime;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.cronutils.model.Cron;
+import com.cronutils.model.CronType;
+import com.cronutils.model.time.ExecutionTime;
+
+import io.quarkus.scheduler.common.runtime.CompiledCron;
+import io.quarkus.scheduler.common.runtime.CronParser;
+
+/**
+ * Compares the computation of the next and the last execution time of a cron expression with cron-utils and with
+ * {@link CompiledCron}, i.e. the work done by a cron trigger of the {@link SimpleScheduler} in each check.
+ * <p>
+ * The reference time is advanced by one second in each invocation, like the check period of the scheduler.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(2)
+public class CronEvaluationBenchmark {
+
+    @Param({ "0/5 * * * * ?", "0 0/15 9-17 ? * MON-FRI", "0 30 2 1 * ?" })
+    public String expression;
+
+    @Param({ "UTC", "Europe/Prague" })
+    public String zone;
+
+    private ZoneId zoneId;
+    private ExecutionTime executionTime;
+    private CompiledCron compiledCron;
+    private long now;
+
+    @Setup
+    public void setup() {
+        Cron cron = new CronParser(CronType.QUARTZ).parse(expression);
+        zoneId = ZoneId.of(zone);
+        executionTime = ExecutionTime.forCron(cron);
+        compiledCron = CompiledCron.compile(cron, zoneId);
+        if (!compiledCron.isCompiled()) {
+            throw new IllegalStateException("Expression not compiled: " + expression);
+        }
+        now = ZonedDateTime.parse("2025-06-02T08:00:00Z").toEpochSecond();
+    }
+
+    @Benchmark
+    public Optional<ZonedDateTime> cronUtilsNextExecution() {
+        return executionTime.nextExecution(ZonedDateTime.ofInstant(Instant.ofEpochSecond(now++), zoneId));
+    }
+
+    @Benchmark
+    public long compiledNextExecution() {
+        return compiledCron.nextExecution(now++);
+    }
+
+    @Benchmark
+    public Optional<ZonedDateTime> cronUtilsLastExecution() {
+        return executionTime.lastExecution(ZonedDateTime.ofInstant(Instant.ofEpochSecond(now++), zoneId));
+    }
+
+    @Benchmark
+    public long compiledLastExecution() {
+        return compiledCron.lastExecution(now++);
+    }
+
+    public static void main(String[] args) throws IOException {
+        org.openjdk.jmh.Main.main(new String[] { "-prof", "gc" });
+    }
+
+}
@@ -0,0 +1,110 @@
+package io.quarkus.scheduler.runtime;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import io.quarkus.scheduler.ScheduledExecution;
+import io.quarkus.scheduler.common.runtime.ScheduledInvoker;
+import io.quarkus.scheduler.runtime.SimpleScheduler.IntervalTrigger;
+import io.quarkus.scheduler.runtime.SimpleScheduler.ScheduledTask;
+import io.quarkus.scheduler.runtime.SimpleScheduler.TriggerQueue;
+
+/**
+ * Compares a single trigger check of the {@code scan} and {@code queue} trigger engines of the {@link SimpleScheduler}.
+ * <p>
+ * Each benchmark invocation simulates one check period, i.e. the clock is advanced by one second. The jobs use interval
+ * triggers with periods between one second and one hour so that only a small fraction of them is due in each check.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(2)
+public class TriggerEngineBenchmark {
+
+    @Param({ "10000", "100000" })
+    public int jobs;
+
+    private ConcurrentMap<String, ScheduledTask> scanTasks;
+    private ConcurrentMap<String, ScheduledTask> queueTasks;
+    private TriggerQueue triggerQueue;
+    private ZonedDateTime scanNow;
+    private ZonedDateTime queueNow;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        ZonedDateTime start = ZonedDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+        scanTasks = new ConcurrentHashMap<>();
+        queueTasks = new ConcurrentHashMap<>();
+        triggerQueue = new TriggerQueue(queueTasks);
+        for (int i = 0; i < jobs; i++) {
+            String id = "job" + i;
+            long interval = TimeUnit.SECONDS.toMillis(1 + random.nextInt(3600));
+            scanTasks.put(id, newTask(id, start, interval));
+            ScheduledTask queueTask = newTask(id, start, interval);
+            queueTasks.put(id, queueTask);
+            triggerQueue.add(queueTask);
+        }
+        scanNow = start;
+        queueNow = start;
+    }
+
+    @Benchmark
+    public void scan() {
+        scanNow = scanNow.plusSeconds(1);
+        for (ScheduledTask task : scanTasks.values()) {
+            task.execute(scanNow, null);
+        }
+    }
+
+    @Benchmark
+    public void queue() {
+        queueNow = queueNow.plusSeconds(1);
+        triggerQueue.executeDue(queueNow, null);
+    }
+
+    private static ScheduledTask newTask(String id, ZonedDateTime start, long interval) {
+        return new ScheduledTask(new IntervalTrigger(id, start, interval, Duration.ofSeconds(1), null, null),
+                new NoopInvoker(), true);
+    }
+
+    static class NoopInvoker implements ScheduledInvoker {
+
+        static final CompletionStage<Void> DONE = CompletableFuture.completedStage(null);
+
+        @Override
+        public CompletionStage<Void> invoke(ScheduledExecution execution) {
+            Blackhole.consumeCPU(1);
+            return DONE;
+        }
+
+    }
+
+    public static void main(String[] args) throws IOException {
+        org.openjdk.jmh.Main.main(new String[] { "-prof", "gc" });
+    }
+
+}
@@ -0,0 +1,687 @@
+package io.quarkus.scheduler.common.runtime;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.util.List;
+import java.util.Optional;
+
+import com.cronutils.model.Cron;
+import com.cronutils.model.SingleCron;
+import com.cronutils.model.definition.CronDefinition;
+import com.cronutils.model.field.CronField;
+import com.cronutils.model.field.CronFieldName;
+import com.cronutils.model.field.constraint.FieldConstraints;
+import com.cronutils.model.field.definition.DayOfWeekFieldDefinition;
+import com.cronutils.model.field.expression.Always;
+import com.cronutils.model.field.expression.And;
+import com.cronutils.model.field.expression.Between;
+import com.cronutils.model.field.expression.Every;
+import com.cronutils.model.field.expression.FieldExpression;
+import com.cronutils.model.field.expression.On;
+import com.cronutils.model.field.expression.QuestionMark;
+import com.cronutils.model.field.value.IntegerFieldValue;
+import com.cronutils.model.field.value.SpecialChar;
+import com.cronutils.model.time.ExecutionTime;
+import com.cronutils.model.time.generator.FieldValueGeneratorFactory;
+
+/**
+ * A cron expression compiled for a specific time zone.
+ * <p>
+ * The values of each field are precomputed as bitsets so that the next and the last execution time can be computed
+ * without allocation, directly on epoch seconds. Expressions that cannot be represented with bitsets, i.e. expressions
+ * that use {@code L}, {@code W}, {@code #} or a restricted year field, and composite expressions are delegated to
+ * cron-utils. The same applies to the rare computations where the given time or the result is close to a daylight saving
+ * time transition.
+ * <p>
+ * The results are consistent with {@link ExecutionTime#nextExecution(ZonedDateTime)} and
+ * {@link ExecutionTime#lastExecution(ZonedDateTime)}.
+ */
+public final class CompiledCron {
+
+    /**
+     * Returned if there is no such execution.
+     */
+    public static final long NONE = Long.MIN_VALUE;
+
+    private static final long SECONDS_PER_DAY = 86400;
+    // cron-utils does not look further
+    private static final int MAX_YEARS = 100;
+    // 2024-01-01 is a Monday
+    private static final int REFERENCE_YEAR = 2024;
+
+    private final ZoneId zone;
+    private final ExecutionTime executionTime;
+    private final boolean compiled;
+
+    private final long seconds;
+    private final long minutes;
+    private final long hours;
+    // bits 1-31
+    private final long daysOfMonth;
+    // bits 1-12
+    private final long months;
+    // bits 1-7, ISO-8601 numbering, i.e. Monday is 1
+    private final long daysOfWeek;
+    // true if a day matches if either the day-of-month or the day-of-week matches
+    private final boolean daysUnion;
+    // the valid range of the year field
+    private final int firstYear;
+    private final int lastYear;
+    private final boolean neverFires;
+
+    private volatile OffsetWindow window;
+
+    /**
+     * @param cron
+     * @param zone
+     * @return the compiled cron
+     */
+    public static CompiledCron compile(Cron cron, ZoneId zone) {
+        return new CompiledCron(cron, zone);
+    }
+
+    private CompiledCron(Cron cron, ZoneId zone) {
+        this.zone = zone;
+        this.executionTime = ExecutionTime.forCron(cron);
+        ZoneRules rules = zone.getRules();
+        if (rules.isFixedOffset()) {
+            int offset = rules.getOffset(Instant.EPOCH).getTotalSeconds();
+            this.window = new OffsetWindow(Long.MIN_VALUE, offset, Long.MIN_VALUE, Long.MIN_VALUE, offset, Long.MAX_VALUE,
+                    Long.MAX_VALUE, offset, Long.MAX_VALUE);
+        }
+        Fields fields = cron instanceof SingleCron ? Fields.from(cron) : null;
+        if (fields == null) {
+            this.compiled = false;
+            this.seconds = 0;
+            this.minutes = 0;
+            this.hours = 0;
+            this.daysOfMonth = 0;
+            this.months = 0;
+            this.daysOfWeek = 0;
+            this.daysUnion = false;
+            this.firstYear = 0;
+            this.lastYear = 0;
+            this.neverFires = false;
+        } else {
+            this.compiled = true;
+            this.seconds = fields.seconds;
+            this.minutes = fields.minutes;
+            this.hours = fields.hours;
+            this.daysOfMonth = fields.daysOfMonth;
+            this.months = fields.months;
+            this.daysOfWeek = fields.daysOfWeek;
+            this.daysUnion = fields.daysUnion;
+            this.firstYear = fields.firstYear;
+            this.lastYear = fields.lastYear;
+            this.neverFires = neverFires(fields);
+        }
+    }
+
+    /**
+     * @return {@code false} if all computations are delegated to cron-utils
+     */
+    public boolean isCompiled() {
+        return compiled;
+    }
+
+    public ZoneId zone() {
+        return zone;
+    }
+
+    /**
+     * @param epochSecond
+     * @return the first execution time strictly after the given time in epoch seconds, or {@link #NONE}
+     */
+    public long nextExecution(long epochSecond) {
+        if (!compiled) {
+            return delegateNext(epochSecond);
+        }
+        if (neverFires) {
+            return NONE;
+        }
+        OffsetWindow w = window(epochSecond);
+        if (!w.isSafe(epochSecond)) {
+            return delegateNext(epochSecond);
+        }
+        long local = nextLocal(epochSecond + w.offset + 1);
+        if (local == NONE) {
+            return NONE;
+        }
+        long result = local - w.offset;
+        if (w.isSafe(result)) {
+            return result;
+        }
+        if (result >= w.end) {
+            // There is no match before the next transition
+            local = nextLocal(w.end + w.nextOffset);
+            if (local == NONE) {
+                return NONE;
+            }
+            result = local - w.nextOffset;
+            if (result > w.end + (w.end - w.safeEnd) && result < w.nextSafeEnd) {
+                return result;
+            }
+        }
+        return delegateNext(epochSecond);
+    }
+
+    /**
+     * @param epochSecond
+     * @return the last execution time strictly before the given time in epoch seconds, or {@link #NONE}
+     */
+    public long lastExecution(long epochSecond) {
+        if (!compiled) {
+            return delegateLast(epochSecond);
+        }
+        if (neverFires) {
+            return NONE;
+        }
+        OffsetWindow w = window(epochSecond);
+        if (!w.isSafe(epochSecond)) {
+            return delegateLast(epochSecond);
+        }
+        long local = previousLocal(epochSecond + w.offset - 1);
+        if (local == NONE) {
+            return NONE;
+        }
+        long result = local - w.offset;
+        if (w.isSafe(result)) {
+            return result;
+        }
+        if (result < w.start) {
+            // There is no match after the previous transition
+            local = previousLocal(w.start + w.previousOffset - 1);
+            if (local == NONE) {
+                return NONE;
+            }
+            result = local - w.previousOffset;
+            if (result < w.start - (w.safeStart - w.start) && result > w.previousSafeStart) {
+                return result;
+            }
+        }
+        return delegateLast(epochSecond);
+    }
+
+    private long delegateNext(long epochSecond) {
+        Optional<ZonedDateTime> next = executionTime
+                .nextExecution(ZonedDateTime.ofInstant(Instant.ofEpochSecond(epochSecond), zone));
+        return next.isPresent() ? next.get().toEpochSecond() : NONE;
+    }
+
+    private long delegateLast(long epochSecond) {
+        Optional<ZonedDateTime> last = executionTime
+                .lastExecution(ZonedDateTime.ofInstant(Instant.ofEpochSecond(epochSecond), zone));
+        return last.isPresent() ? last.get().toEpochSecond() : NONE;
+    }
+
+    private OffsetWindow window(long epochSecond) {
+        OffsetWindow w = window;
+        if (w != null && epochSecond >= w.start && epochSecond < w.end) {
+            return w;
+        }
+        // The offset only changes at a transition, i.e. a few times a year at most
+        ZoneRules rules = zone.getRules();
+        Instant instant = Instant.ofEpochSecond(epochSecond);
+        int offset = rules.getOffset(instant).getTotalSeconds();
+        ZoneOffsetTransition previous = rules.previousTransition(instant.plusSeconds(1));
+        ZoneOffsetTransition next = rules.nextTransition(instant);
+        long previousSafeStart = Long.MIN_VALUE;
+        long start = Long.MIN_VALUE;
+        long safeStart = Long.MIN_VALUE;
+        int previousOffset = offset;
+        if (previous != null) {
+            start = previous.toEpochSecond();
+            safeStart = start + delta(previous);
+            previousOffset = previous.getOffsetBefore().getTotalSeconds();
+            ZoneOffsetTransition beforePrevious = rules.previousTransition(previous.getInstant());
+            if (beforePrevious != null) {
+                previousSafeStart = beforePrevious.toEpochSecond() + delta(beforePrevious);
+            }
+        }
+        long safeEnd = Long.MAX_VALUE;
+        long end = Long.MAX_VALUE;
+        long nextSafeEnd = Long.MAX_VALUE;
+        int nextOffset = offset;
+        if (next != null) {
+            end = next.toEpochSecond();
+            safeEnd = end - delta(next);
+            nextOffset = next.getOffsetAfter().getTotalSeconds();
+            ZoneOffsetTransition afterNext = rules.nextTransition(next.getInstant());
+            if (afterNext != null) {
+                nextSafeEnd = afterNext.toEpochSecond() - delta(afterNext);
+            }
+        }
+        w = new OffsetWindow(previousSafeStart, previousOffset, start, safeStart, offset, safeEnd, end, nextOffset,
+                nextSafeEnd);
+        window = w;
+        return w;
+    }
+
+    private static long delta(ZoneOffsetTransition transition) {
+        return Math.abs(transition.getOffsetAfter().getTotalSeconds() - transition.getOffsetBefore().getTotalSeconds());
+    }
+
+    /**
+     * @param local the local time in seconds
+     * @return the first matching local time that is equal or after the given time, or {@link #NONE}
+     */
+    private long nextLocal(long local) {
+        long day = Math.floorDiv(local, SECONDS_PER_DAY);
+        int secondOfDay = (int) Math.floorMod(local, SECONDS_PER_DAY);
+        long date = civilDate(day);
+        int year = year(date);
+        int month = month(date);
+        int dayOfMonth = dayOfMonth(date);
+        if (year < firstYear) {
+            year = firstYear;
+            month = 1;
+            dayOfMonth = 1;
+            secondOfDay = 0;
+            day = epochDay(year, 1, 1);
+        }
+        int maxYear = (int) Math.min((long) year + MAX_YEARS, lastYear);
+        while (year <= maxYear) {
+            if ((months & (1L << month)) == 0) {
+                month = nextSetBit(months, month + 1);
+                if (month > 12) {
+                    year++;
+                    month = nextSetBit(months, 1);
+                }
+                dayOfMonth = 1;
+                secondOfDay = 0;
+                day = epochDay(year, month, 1);
+                continue;
+            }
+            if (dayOfMonth > lengthOfMonth(year, month)) {
+                if (++month > 12) {
+                    year++;
+                    month = 1;
+                }
+                dayOfMonth = 1;
+                secondOfDay = 0;
+                continue;
+            }
+            int time;
+            if (!dayMatches(dayOfMonth, day) || (time = nextTime(secondOfDay)) < 0) {
+                day++;
+                dayOfMonth++;
+                secondOfDay = 0;
+                continue;
+            }
+            return day * SECONDS_PER_DAY + time;
+        }
+        return NONE;
+    }
+
+    /**
+     * @param local the local time in seconds
+     * @return the last matching local time that is equal or before the given time, or {@link #NONE}
+     */
+    private long previousLocal(long local) {
+        long day = Math.floorDiv(local, SECONDS_PER_DAY);
+        int secondOfDay = (int) Math.floorMod(local, SECONDS_PER_DAY);
+        long date = civilDate(day);
+        int year = year(date);
+        int month = month(date);
+        int dayOfMonth = dayOfMonth(date);
+        if (year > lastYear) {
+            year = lastYear;
+            month = 12;
+            dayOfMonth = 31;
+            secondOfDay = (int) SECONDS_PER_DAY - 1;
+            day = epochDay(year, 12, 31);
+        }
+        int minYear = Math.max(year - MAX_YEARS, firstYear);
+        while (year >= minYear) {
+            if ((months & (1L << month)) == 0) {
+                month = previousSetBit(months, month - 1);
+                if (month < 1) {
+                    year--;
+                    month = previousSetBit(months, 12);
+                }
+                dayOfMonth = lengthOfMonth(year, month);
+                secondOfDay = (int) SECONDS_PER_DAY - 1;
+                day = epochDay(year, month, dayOfMonth);
+                continue;
+            }
+            int time;
+            if (!dayMatches(dayOfMonth, day) || (time = previousTime(secondOfDay)) < 0) {
+                day--;
+                secondOfDay = (int) SECONDS_PER_DAY - 1;
+                if (--dayOfMonth < 1) {
+                    if (--month < 1) {
+                        year--;
+                        month = 12;
+                    }
+                    dayOfMonth = lengthOfMonth(year, month);
+                }
+                continue;
+            }
+            return day * SECONDS_PER_DAY + time;
+        }
+        return NONE;
+    }
+
+    private boolean dayMatches(int dayOfMonth, long epochDay) {
+        boolean dayOfMonthMatches = (daysOfMonth & (1L << dayOfMonth)) != 0;
+        boolean dayOfWeekMatches = (daysOfWeek & (1L << dayOfWeek(epochDay))) != 0;
+        return daysUnion ? dayOfMonthMatches || dayOfWeekMatches : dayOfMonthMatches && dayOfWeekMatches;
+    }
+
+    /**
+     * @return the first matching second of day that is equal or after the given second of day, or -1
+     */
+    private int nextTime(int secondOfDay) {
+        int hour = secondOfDay / 3600;
+        int minute = secondOfDay / 60 % 60;
+        int second = secondOfDay % 60;
+        while (true) {
+            int h = nextSetBit(hours, hour);
+            if (h > 23) {
+                return -1;
+            }
+            if (h != hour) {
+                hour = h;
+                minute = 0;
+                second = 0;
+            }
+            int m = nextSetBit(minutes, minute);
+            if (m > 59) {
+                hour++;
+                minute = 0;
+                second = 0;
+                continue;
+            }
+            if (m != minute) {
+                minute = m;
+                second = 0;
+            }
+            int s = nextSetBit(seconds, second);
+            if (s > 59) {
+                second = 0;
+                if (++minute > 59) {
+                    hour++;
+                    minute = 0;
+                }
+                continue;
+            }
+            return hour * 3600 + minute * 60 + s;
+        }
+    }
+
+    /**
+     * @return the last matching second of day that is equal or before the given second of day, or -1
+     */
+    private int previousTime(int secondOfDay) {
+        int hour = secondOfDay / 3600;
+        int minute = secondOfDay / 60 % 60;
+        int second = secondOfDay % 60;
+        while (true) {
+            int h = previousSetBit(hours, hour);
+            if (h < 0) {
+                return -1;
+            }
+            if (h != hour) {
+                hour = h;
+                minute = 59;
+                second = 59;
+            }
+            int m = previousSetBit(minutes, minute);
+            if (m < 0) {
+                hour--;
+                minute = 59;
+                second = 59;
+                continue;
+            }
+            if (m != minute) {
+                minute = m;
+                second = 59;
+            }
+            int s = previousSetBit(seconds, second);
+            if (s < 0) {
+                second = 59;
+                if (--minute < 0) {
+                    hour--;
+                    minute = 59;
+                }
+                continue;
+            }
+            return hour * 3600 + minute * 60 + s;
+        }
+    }
+
+    /**
+     * @return the index of the first set bit that is equal or greater than {@code from}, or 64
+     */
+    static int nextSetBit(long bits, int from) {
+        if (from > 63) {
+            return 64;
+        }
+        return Long.numberOfTrailingZeros(bits & (-1L << from));
+    }
+
+    /**
+     * @return the index of the last set bit that is equal or lower than {@code from}, or -1
+     */
+    static int previousSetBit(long bits, int from) {
+        if (from < 0) {
+            return -1;
+        }
+        return 63 - Long.numberOfLeadingZeros(bits & (-1L >>> (63 - from)));
+    }
+
+    // The following date computations are based on the algorithms from http://howardhinnant.github.io/date_algorithms.html
+
+    static long epochDay(int year, int month, int dayOfMonth) {
+        long y = month <= 2 ? year - 1 : year;
+        long era = Math.floorDiv(y, 400);
+        long yearOfEra = y - era * 400;
+        long dayOfYear = (153 * (month > 2 ? month - 3 : month + 9) + 2) / 5 + dayOfMonth - 1;
+        long dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+        return era * 146097 + dayOfEra - 719468;
+    }
+
+    /**
+     * @return the year, month and day of month encoded in a single value
+     */
+    static long civilDate(long epochDay) {
+        long z = epochDay + 719468;
+        long era = Math.floorDiv(z, 146097);
+        long dayOfEra = z - era * 146097;
+        long yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / 146096) / 365;
+        long dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+        long mp = (5 * dayOfYear + 2) / 153;
+        long dayOfMonth = dayOfYear - (153 * mp + 2) / 5 + 1;
+        long month = mp < 10 ? mp + 3 : mp - 9;
+        long year = yearOfEra + era * 400 + (month <= 2 ? 1 : 0);
+        return (year << 9) | (month << 5) | dayOfMonth;
+    }
+
+    static int year(long civilDate) {
+        return (int) (civilDate >> 9);
+    }
+
+    static int month(long civilDate) {
+        return (int) ((civilDate >> 5) & 0xF);
+    }
+
+    static int dayOfMonth(long civilDate) {
+        return (int) (civilDate & 0x1F);
+    }
+
+    static int dayOfWeek(long epochDay) {
+        // 1970-01-01 is a Thursday
+        return (int) Math.floorMod(epochDay + 3, 7) + 1;
+    }
+
+    static int lengthOfMonth(int year, int month) {
+        switch (month) {
+            case 2:
+                return isLeapYear(year) ? 29 : 28;
+            case 4:
+            case 6:
+            case 9:
+            case 11:
+                return 30;
+            default:
+                return 31;
+        }
+    }
+
+    private static boolean isLeapYear(int year) {
+        return (year & 3) == 0 && (year % 100 != 0 || year % 400 == 0);
+    }
+
+    private static boolean neverFires(Fields fields) {
+        if (fields.seconds == 0 || fields.minutes == 0 || fields.hours == 0 || fields.months == 0) {
+            return true;
+        }
+        boolean dayOfMonthExists = false;
+        for (int month = 1; month <= 12; month++) {
+            if ((fields.months & (1L << month)) != 0
+                    && previousSetBit(fields.daysOfMonth, month == 2 ? 29 : lengthOfMonth(REFERENCE_YEAR, month)) > 0) {
+                dayOfMonthExists = true;
+                break;
+            }
+        }
+        // Within 28 years each existing date falls on each day of the week
+        if (fields.daysUnion) {
+            return !dayOfMonthExists && fields.daysOfWeek == 0;
+        }
+        return !dayOfMonthExists || fields.daysOfWeek == 0;
+    }
+
+    /**
+     * A period with a constant offset, i.e. between two transitions of the zone rules.
+     * <p>
+     * The local times that are skipped or repeated by a transition belong to the instants that are closer to the
+     * transition than the difference of the offsets. The results that fall in these ranges are delegated to cron-utils.
+     */
+    private record OffsetWindow(long previousSafeStart, int previousOffset, long start, long safeStart, int offset,
+            long safeEnd, long end, int nextOffset, long nextSafeEnd) {
+
+        boolean isSafe(long epochSecond) {
+            return epochSecond > safeStart && epochSecond < safeEnd;
+        }
+    }
+
+    private record Fields(long seconds, long minutes, long hours, long daysOfMonth, long months, long daysOfWeek,
+            boolean daysUnion, int firstYear, int lastYear) {
+
+        /**
+         * @return the fields, or {@code null} if the cron cannot be represented with bitsets
+         */
+        static Fields from(Cron cron) {
+            CronField second = cron.retrieve(CronFieldName.SECOND);
+            CronField minute = cron.retrieve(CronFieldName.MINUTE);
+            CronField hour = cron.retrieve(CronFieldName.HOUR);
+            CronField dayOfMonth = cron.retrieve(CronFieldName.DAY_OF_MONTH);
+            CronField month = cron.retrieve(CronFieldName.MONTH);
+            CronField dayOfWeek = cron.retrieve(CronFieldName.DAY_OF_WEEK);
+            CronField year = cron.retrieve(CronFieldName.YEAR);
+            CronField dayOfYear = cron.retrieve(CronFieldName.DAY_OF_YEAR);
+            if (minute == null || hour == null || dayOfMonth == null || month == null || dayOfWeek == null
+                    || (year != null && !isUnrestricted(year.getExpression()))
+                    || (dayOfYear != null && !(dayOfYear.getExpression() instanceof QuestionMark))) {
+                return null;
+            }
+            if ((second != null && !isSupported(second.getExpression()))
+                    || !isSupported(minute.getExpression())
+                    || !isSupported(hour.getExpression())
+                    || !isSupported(dayOfMonth.getExpression())
+                    || !isSupported(month.getExpression())
+                    || !isSupported(dayOfWeek.getExpression())) {
+                return null;
+            }
+            CronDefinition definition = cron.getCronDefinition();
+            if (!(definition.getFieldDefinition(CronFieldName.DAY_OF_WEEK) instanceof DayOfWeekFieldDefinition dowDefinition)) {
+                return null;
+            }
+            // The values are generated by cron-utils so that the semantics of the field expressions are exactly the same
+            long secondBits = second == null ? 1L : bits(second, 0, 59);
+            long daysOfMonthBits = isUnrestricted(dayOfMonth.getExpression()) ? bits(1, 31)
+                    : toBits(FieldValueGeneratorFactory
+                            .createDayOfMonthValueGeneratorInstance(dayOfMonth, REFERENCE_YEAR, 1)
+                            .generateCandidates(1, 31));
+            long daysOfWeekBits;
+            if (isUnrestricted(dayOfWeek.getExpression())) {
+                daysOfWeekBits = bits(1, 7);
+            } else {
+                // The generated days of month are mapped to the days of week of the reference month
+                List<Integer> days = FieldValueGeneratorFactory.createDayOfWeekValueGeneratorInstance(dayOfWeek,
+                        REFERENCE_YEAR, 1, dowDefinition.getMondayDoWValue()).generateCandidates(1, 31);
+                daysOfWeekBits = 0;
+                for (Integer day : days) {
+                    daysOfWeekBits |= 1L << ((day - 1) % 7 + 1);
+                }
+                for (int day = 1; day <= 31; day++) {
+                    if (days.contains(day) != ((daysOfWeekBits & (1L << ((day - 1) % 7 + 1))) != 0)) {
+                        // Not the same for each week
+                        return null;
+                    }
+                }
+            }
+            boolean daysUnion = !isUnrestricted(dayOfMonth.getExpression())
+                    && !isUnrestricted(dayOfWeek.getExpression())
+                    && !dowDefinition.getConstraints().getSpecialChars().contains(SpecialChar.QUESTION_MARK)
+                    && !definition.isMatchDayOfWeekAndDayOfMonth();
+            int firstYear = 0;
+            int lastYear = Integer.MAX_VALUE;
+            if (definition.containsFieldDefinition(CronFieldName.YEAR)) {
+                FieldConstraints constraints = definition.getFieldDefinition(CronFieldName.YEAR).getConstraints();
+                firstYear = constraints.getStartRange();
+                lastYear = constraints.getEndRange();
+            }
+            return new Fields(secondBits, bits(minute, 0, 59), bits(hour, 0, 23), daysOfMonthBits, bits(month, 1, 12),
+                    daysOfWeekBits, daysUnion, firstYear, lastYear);
+        }
+
+        private static boolean isUnrestricted(FieldExpression expression) {
+            return expression instanceof Always || expression instanceof QuestionMark;
+        }
+
+        private static boolean isSupported(FieldExpression expression) {
+            if (isUnrestricted(expression)) {
+                return true;
+            } else if (expression instanceof On on) {
+                return on.getSpecialChar().getValue() == SpecialChar.NONE;
+            } else if (expression instanceof Between between) {
+                return between.getFrom() instanceof IntegerFieldValue && between.getTo() instanceof IntegerFieldValue;
+            } else if (expression instanceof Every every) {
+                return isSupported(every.getExpression());
+            } else if (expression instanceof And and) {
+                for (FieldExpression e : and.getExpressions()) {
+                    if (!isSupported(e)) {
+                        return false;
+                    }
+                }
+                return true;
+            }
+            return false;
+        }
+
+        private static long bits(CronField field, int from, int to) {
+            return toBits(FieldValueGeneratorFactory.forCronField(field).generateCandidates(from, to));
+        }
+
+        private static long bits(int from, int to) {
+            long bits = 0;
+            for (int i = from; i <= to; i++) {
+                bits |= 1L << i;
+            }
+            return bits;
+        }
+
+        private static long toBits(List<Integer> values) {
+            long bits = 0;
+            for (Integer value : values) {
+                bits |= 1L << value;
+            }
+            return bits;
+        }
+    }
+
+}
@@ -0,0 +1,124 @@
+package io.quarkus.scheduler.common.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.zone.ZoneOffsetTransition;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import com.cronutils.model.Cron;
+import com.cronutils.model.CronType;
+import com.cronutils.model.time.ExecutionTime;
+
+public class CompiledCronTest {
+
+    private static final List<ZoneId> ZONES = List.of(ZoneId.of("UTC"), ZoneId.of("Europe/Prague"),
+            ZoneId.of("America/New_York"), ZoneId.of("Australia/Lord_Howe"), ZoneId.of("Asia/Kolkata"));
+
+    @Test
+    public void testQuartz() {
+        assertConsistent(CronType.QUARTZ, "0/5 * * * * ?", "0 0/15 * * * ?", "1 2 3 * * ?", "0 30 2 * * ?",
+                "0 0 12 ? * MON-FRI", "0 0 12 ? * SUN,SAT", "0 15 10 15 * ?", "0 0 0 1 1 ? *", "10-20 5,10 1-4 * 2/3 ?",
+                "0 0 0 29 2 ?", "0 0 0 31 * ?", "0 0/7 4-18/2 ? * 2-6", "0 30 1 ? * 1#2", "0 0 0 L * ?", "0 0 0 15W * ?",
+                "0 0 0 ? * 6L", "0 0 0 1 1 ? 2030");
+    }
+
+    @Test
+    public void testUnix() {
+        assertConsistent(CronType.UNIX, "* * * * *", "*/5 * * * *", "30 2 * * *", "0 0 13 * 5", "0 0 1,15 * 1",
+                "15 3 * * 0", "15 3 * * 7", "0 9-17 * * 1-5", "0 0 29 2 *");
+    }
+
+    @Test
+    public void testCron4j() {
+        assertConsistent(CronType.CRON4J, "* * * * *", "10 14 * * 1", "5 0 * 8 *", "0 22 * * 1-5", "10 14 L * *");
+    }
+
+    @Test
+    public void testSpring() {
+        assertConsistent(CronType.SPRING, "*/10 * * * * *", "1 10 14 * * 0", "0 0 9-17 * * MON-FRI",
+                "0 0 0 25 12 ?");
+        assertConsistent(CronType.SPRING53, "*/10 * * * * *", "1 10 14 * * 0", "0 0 0 L * *",
+                "0 0 9-17 * * MON-FRI");
+    }
+
+    @Test
+    public void testCompiled() {
+        CronParser parser = new CronParser(CronType.QUARTZ);
+        ZoneId utc = ZoneId.of("UTC");
+        assertTrue(CompiledCron.compile(parser.parse("0/5 * * * * ?"), utc).isCompiled());
+        assertTrue(CompiledCron.compile(parser.parse("0 0 12 ? * MON-FRI"), utc).isCompiled());
+        assertFalse(CompiledCron.compile(parser.parse("0 0 0 L * ?"), utc).isCompiled());
+        assertFalse(CompiledCron.compile(parser.parse("0 30 1 ? * 1#2"), utc).isCompiled());
+        assertFalse(CompiledCron.compile(parser.parse("0 0 0 1 1 ? 2030"), utc).isCompiled());
+    }
+
+    @Test
+    public void testCivilDate() {
+        for (long day = -800_000; day < 800_000; day += 13) {
+            LocalDate date = LocalDate.ofEpochDay(day);
+            long civilDate = CompiledCron.civilDate(day);
+            assertEquals(date.getYear(), CompiledCron.year(civilDate));
+            assertEquals(date.getMonthValue(), CompiledCron.month(civilDate));
+            assertEquals(date.getDayOfMonth(), CompiledCron.dayOfMonth(civilDate));
+            assertEquals(date.getDayOfWeek().getValue(), CompiledCron.dayOfWeek(day));
+            assertEquals(date.lengthOfMonth(), CompiledCron.lengthOfMonth(date.getYear(), date.getMonthValue()));
+            assertEquals(day, CompiledCron.epochDay(date.getYear(), date.getMonthValue(), date.getDayOfMonth()));
+        }
+    }
+
+    private static void assertConsistent(CronType cronType, String... expressions) {
+        CronParser parser = new CronParser(cronType);
+        Random random = new Random(42);
+        long from = ZonedDateTime.parse("2020-01-01T00:00:00Z").toEpochSecond();
+        long to = ZonedDateTime.parse("2032-01-01T00:00:00Z").toEpochSecond();
+        for (String expression : expressions) {
+            Cron cron = parser.parse(expression);
+            ExecutionTime executionTime = ExecutionTime.forCron(cron);
+            for (ZoneId zone : ZONES) {
+                CompiledCron compiled = CompiledCron.compile(cron, zone);
+                for (int i = 0; i < 500; i++) {
+                    assertSame(expression, executionTime, compiled, zone, from + (long) (random.nextDouble() * (to - from)));
+                }
+                // Around the daylight saving time transitions
+                ZoneOffsetTransition transition = zone.getRules().nextTransition(Instant.ofEpochSecond(from));
+                while (transition != null && transition.toEpochSecond() < to) {
+                    for (long delta = -7200; delta <= 7200; delta += 599) {
+                        assertSame(expression, executionTime, compiled, zone, transition.toEpochSecond() + delta);
+                    }
+                    transition = zone.getRules().nextTransition(transition.getInstant());
+                }
+                // Consecutive executions
+                long time = from;
+                for (int i = 0; i < 200 && time != CompiledCron.NONE; i++) {
+                    assertSame(expression, executionTime, compiled, zone, time);
+                    time = compiled.nextExecution(time);
+                }
+            }
+        }
+    }
+
+    private static void assertSame(String expression, ExecutionTime executionTime, CompiledCron compiled, ZoneId zone,
+            long epochSecond) {
+        ZonedDateTime time = ZonedDateTime.ofInstant(Instant.ofEpochSecond(epochSecond), zone);
+        String message = expression + " in " + zone + " at " + time;
+        assertEquals(toEpochSecond(executionTime.nextExecution(time)), compiled.nextExecution(epochSecond),
+                "next: " + message);
+        assertEquals(toEpochSecond(executionTime.lastExecution(time)), compiled.lastExecution(epochSecond),
+                "last: " + message);
+    }
+
+    private static long toEpochSecond(Optional<ZonedDateTime> time) {
+        return time.isPresent() ? time.get().toEpochSecond() : CompiledCron.NONE;
+    }
+
+}
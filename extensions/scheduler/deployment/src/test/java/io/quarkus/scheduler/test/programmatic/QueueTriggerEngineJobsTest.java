@@ -0,0 +1,67 @@
+package io.quarkus.scheduler.test.programmatic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.inject.Inject;
+
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.scheduler.Scheduler;
+import io.quarkus.test.QuarkusExtensionTest;
+
+public class QueueTriggerEngineJobsTest {
+
+    @RegisterExtension
+    static final QuarkusExtensionTest test = new QuarkusExtensionTest()
+            .withApplicationRoot(root -> root
+                    .addAsResource(new StringAsset("quarkus.scheduler.start-mode=forced\n"
+                            + "quarkus.scheduler.trigger-engine=queue"),
+                            "application.properties"));
+
+    @Inject
+    Scheduler scheduler;
+
+    static final CountDownLatch EVERY_LATCH = new CountDownLatch(2);
+    static final CountDownLatch CRON_LATCH = new CountDownLatch(1);
+    static final AtomicInteger UNSCHEDULED_EXECUTIONS = new AtomicInteger();
+
+    @Test
+    public void testJobs() throws InterruptedException {
+        for (int i = 0; i < 1000; i++) {
+            scheduler.newJob("idle" + i)
+                    .setInterval("1h")
+                    .setDelayed("1h")
+                    .setTask(ec -> {
+                    })
+                    .schedule();
+        }
+        scheduler.newJob("every")
+                .setInterval("1s")
+                .setTask(ec -> EVERY_LATCH.countDown())
+                .schedule();
+        scheduler.newJob("cron")
+                .setCron("0/1 * * * * ?")
+                .setTask(ec -> CRON_LATCH.countDown())
+                .schedule();
+        scheduler.newJob("unscheduled")
+                .setInterval("1s")
+                .setDelayed("1s")
+                .setTask(ec -> UNSCHEDULED_EXECUTIONS.incrementAndGet())
+                .schedule();
+        assertNotNull(scheduler.unscheduleJob("unscheduled"));
+
+        assertTrue(EVERY_LATCH.await(5, TimeUnit.SECONDS));
+        assertTrue(CRON_LATCH.await(5, TimeUnit.SECONDS));
+        assertEquals(0, UNSCHEDULED_EXECUTIONS.get());
+        assertEquals(1002, scheduler.getScheduledJobs().size());
+    }
+
+}
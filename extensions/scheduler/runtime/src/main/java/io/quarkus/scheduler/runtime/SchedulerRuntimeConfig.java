@@ -31,6 +31,30 @@ public interface SchedulerRuntimeConfig {
     @WithDefault("normal")
     StartMode startMode();
 
+    /**
+     * The strategy used by the simple scheduler to find the triggers that should fire.
+     * <p>
+     * This value is ignored by other scheduler implementations.
+     */
+    @WithDefault("scan")
+    TriggerEngine triggerEngine();
+
+    enum TriggerEngine {
+
+        /**
+         * All registered triggers are evaluated periodically.
+         */
+        SCAN,
+
+        /**
+         * Triggers are kept in a queue ordered by the time they should be evaluated next. Only the triggers that are due are
+         * evaluated periodically.
+         * <p>
+         * This is useful if a large number of jobs is scheduled.
+         */
+        QUEUE;
+    }
+
     enum StartMode {
 
         /**
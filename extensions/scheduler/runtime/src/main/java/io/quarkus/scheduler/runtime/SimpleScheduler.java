@@ -6,13 +6,17 @@
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.OptionalLong;
+import java.util.PriorityQueue;
+import java.util.Queue;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ThreadFactory;
@@ -33,7 +37,6 @@
 import org.jboss.threads.JBossScheduledThreadPoolExecutor;
 
 import com.cronutils.model.Cron;
-import com.cronutils.model.time.ExecutionTime;
 
 import io.quarkus.runtime.StartupEvent;
 import io.quarkus.scheduler.DelayedExecution;
@@ -51,6 +54,7 @@
 import io.quarkus.scheduler.Trigger;
 import io.quarkus.scheduler.common.runtime.AbstractJobDefinition;
 import io.quarkus.scheduler.common.runtime.BaseScheduler;
+import io.quarkus.scheduler.common.runtime.CompiledCron;
 import io.quarkus.scheduler.common.runtime.CronParser;
 import io.quarkus.scheduler.common.runtime.DefaultInvoker;
 import io.quarkus.scheduler.common.runtime.Events;
@@ -60,6 +64,7 @@
 import io.quarkus.scheduler.common.runtime.SyntheticScheduled;
 import io.quarkus.scheduler.common.runtime.util.SchedulerUtils;
 import io.quarkus.scheduler.runtime.SchedulerRuntimeConfig.StartMode;
+import io.quarkus.scheduler.runtime.SchedulerRuntimeConfig.TriggerEngine;
 import io.quarkus.scheduler.spi.JobInstrumenter;
 import io.vertx.core.Vertx;
 
@@ -76,6 +81,8 @@ public class SimpleScheduler extends BaseScheduler implements Scheduler {
     private volatile boolean running;
     private final ConcurrentMap<String, ScheduledTask> scheduledTasks;
     private final SchedulerConfig schedulerConfig;
+    // null if all triggers should be evaluated in each check
+    private final TriggerQueue triggerQueue;
 
     public SimpleScheduler(SchedulerContext context, SchedulerRuntimeConfig schedulerRuntimeConfig,
             Event<SkippedExecution> skippedExecutionEvent, Event<SuccessfulExecution> successExecutionEvent,
@@ -93,6 +100,9 @@ public SimpleScheduler(SchedulerContext context, SchedulerRuntimeConfig schedule
         this.running = true;
         this.scheduledTasks = new ConcurrentHashMap<>();
         this.schedulerConfig = schedulerConfig;
+        this.triggerQueue = schedulerRuntimeConfig.triggerEngine() == TriggerEngine.QUEUE
+                ? new TriggerQueue(scheduledTasks)
+                : null;
 
         if (!schedulerRuntimeConfig.enabled()) {
             this.scheduledExecutor = null;
@@ -160,7 +170,11 @@ public void run() {
                     ScheduledInvoker invoker = initInvoker(context.createInvoker(method.getInvokerClassName()), events,
                             scheduled.concurrentExecution(), initSkipPredicate(scheduled.skipExecutionIf()), instrumenter,
                             vertx, false, SchedulerUtils.parseExecutionMaxDelayAsMillis(scheduled), blockingExecutor);
-                    scheduledTasks.put(trigger.get().id, new ScheduledTask(trigger.get(), invoker, false));
+                    ScheduledTask scheduledTask = new ScheduledTask(trigger.get(), invoker, false);
+                    scheduledTasks.put(trigger.get().id, scheduledTask);
+                    if (triggerQueue != null) {
+                        triggerQueue.add(scheduledTask);
+                    }
                 }
             }
         }
@@ -199,6 +213,9 @@ public Trigger unscheduleJob(String identity) {
             ScheduledTask task = scheduledTasks.get(parsedIdentity);
             if (task != null && task.isProgrammatic) {
                 if (scheduledTasks.remove(task.trigger.id) != null) {
+                    if (triggerQueue != null) {
+                        triggerQueue.remove(task);
+                    }
                     return task.trigger;
                 }
             }
@@ -237,8 +254,12 @@ void checkTriggers() {
         }
         ZonedDateTime now = ZonedDateTime.now();
         LOG.tracef("Check triggers at %s", now);
-        for (ScheduledTask task : scheduledTasks.values()) {
-            task.execute(now, vertx);
+        if (triggerQueue != null) {
+            triggerQueue.executeDue(now, vertx);
+        } else {
+            for (ScheduledTask task : scheduledTasks.values()) {
+                task.execute(now, vertx);
+            }
         }
     }
 
@@ -383,6 +404,8 @@ static class ScheduledTask {
         final boolean isProgrammatic;
         final SimpleTrigger trigger;
         final ScheduledInvoker invoker;
+        // epoch millis; only used by the TriggerQueue
+        long nextCheck;
 
         ScheduledTask(SimpleTrigger trigger, ScheduledInvoker invoker, boolean isProgrammatic) {
             this.trigger = trigger;
@@ -406,6 +429,73 @@ void execute(ZonedDateTime now, Vertx vertx) {
 
     }
 
+    /**
+     * Keeps the scheduled tasks ordered by the time their triggers should be evaluated next, so that a check only touches the
+     * tasks that are due.
+     * <p>
+     * Tasks may be added and removed from any thread. The queue itself is only accessed from the trigger check thread, so
+     * unscheduled tasks are removed from it at the beginning of the next check.
+     */
+    static class TriggerQueue {
+
+        private final ConcurrentMap<String, ScheduledTask> scheduledTasks;
+        private final Queue<ScheduledTask> added;
+        private final Queue<ScheduledTask> removed;
+        private final PriorityQueue<ScheduledTask> queue;
+        private final List<ScheduledTask> due;
+
+        TriggerQueue(ConcurrentMap<String, ScheduledTask> scheduledTasks) {
+            this.scheduledTasks = scheduledTasks;
+            this.added = new ConcurrentLinkedQueue<>();
+            this.removed = new ConcurrentLinkedQueue<>();
+            this.queue = new PriorityQueue<>((t1, t2) -> Long.compare(t1.nextCheck, t2.nextCheck));
+            this.due = new ArrayList<>();
+        }
+
+        void add(ScheduledTask task) {
+            added.add(task);
+        }
+
+        void remove(ScheduledTask task) {
+            removed.add(task);
+        }
+
+        void executeDue(ZonedDateTime now, Vertx vertx) {
+            long nowMillis = now.toInstant().toEpochMilli();
+            ScheduledTask task;
+            while ((task = added.poll()) != null) {
+                // Newly added tasks are evaluated in the first check
+                task.nextCheck = nowMillis;
+                queue.add(task);
+            }
+            while ((task = removed.poll()) != null) {
+                // A task with a far-future next check would otherwise stay in the queue
+                queue.remove(task);
+            }
+            while ((task = queue.peek()) != null && task.nextCheck <= nowMillis) {
+                due.add(queue.poll());
+            }
+            try {
+                for (ScheduledTask dueTask : due) {
+                    if (scheduledTasks.get(dueTask.trigger.id) != dueTask) {
+                        // Unscheduled
+                        continue;
+                    }
+                    dueTask.execute(now, vertx);
+                    long nextCheck = dueTask.trigger.isRunning() ? dueTask.trigger.nextCheck(nowMillis) : nowMillis;
+                    if (nextCheck != Long.MAX_VALUE) {
+                        // A task that is not fired yet is evaluated again in the next check at the earliest
+                        dueTask.nextCheck = nextCheck;
+                        queue.add(dueTask);
+                    }
+                }
+            } finally {
+                due.clear();
+            }
+        }
+
+    }
+
     static abstract class SimpleTrigger implements Trigger {
 
         protected final String id;
@@ -429,6 +519,15 @@ static abstract class SimpleTrigger implements Trigger {
          */
         abstract ZonedDateTime evaluate(ZonedDateTime now);
 
+        /**
+         * The returned value must not be later than the earliest time at which {@link #evaluate(ZonedDateTime)} may fire.
+         *
+         * @param nowMillis The current time in epoch milliseconds
+         * @return the time in epoch milliseconds at which the trigger should be evaluated next, or {@link Long#MAX_VALUE} if
+         *         it will never fire again
+         */
+        abstract long nextCheck(long nowMillis);
+
         @Override
         public Instant getPreviousFireTime() {
             ZonedDateTime last = lastFireTime;
@@ -496,6 +595,15 @@ ZonedDateTime evaluate(ZonedDateTime now) {
             return null;
         }
 
+        @Override
+        long nextCheck(long nowMillis) {
+            ZonedDateTime last = lastFireTime;
+            if (last == null) {
+                return start.toInstant().toEpochMilli();
+            }
+            return last.toInstant().toEpochMilli() + interval;
+        }
+
         @Override
         public Instant getNextFireTime() {
             ZonedDateTime last = lastFireTime;
@@ -527,24 +635,27 @@ public String toString() {
     static class CronTrigger extends SimpleTrigger {
 
         private final Cron cron;
-        private final ExecutionTime executionTime;
+        private final CompiledCron compiledCron;
         private final Duration gracePeriod;
         private final ZoneId timeZone;
+        private final long startMillis;
 
         CronTrigger(String id, ZonedDateTime start, Cron cron, Duration gracePeriod, ZoneId timeZone,
                 String methodDescription, String description) {
             super(id, start, methodDescription, description);
             this.cron = cron;
-            this.executionTime = ExecutionTime.forCron(cron);
+            this.compiledCron = CompiledCron.compile(cron, timeZone == null ? start.getZone() : timeZone);
             this.gracePeriod = gracePeriod;
             this.timeZone = timeZone;
+            this.startMillis = start.toInstant().toEpochMilli();
             // The last fire time stores the zoned time
             this.lastFireTime = zoned(start);
         }
 
         @Override
         public Instant getNextFireTime() {
-            return executionTime.nextExecution(lastFireTime).map(ZonedDateTime::toInstant).orElse(null);
+            long next = compiledCron.nextExecution(lastFireTime.toEpochSecond());
+            return next == CompiledCron.NONE ? null : Instant.ofEpochSecond(next);
         }
 
         @Override
@@ -552,28 +663,34 @@ ZonedDateTime evaluate(ZonedDateTime now) {
             if (now.isBefore(start)) {
                 return null;
             }
-            now = zoned(now);
-            Optional<ZonedDateTime> lastExecution = executionTime.lastExecution(now);
-            if (lastExecution.isPresent()) {
-                ZonedDateTime lastTruncated = lastExecution.get().truncatedTo(ChronoUnit.SECONDS);
-                if (now.isAfter(lastTruncated) && lastFireTime.isBefore(lastTruncated)) {
-                    LOG.tracef("%s fired, last=%s", this, lastTruncated);
-                    lastFireTime = now;
-                    return lastTruncated;
-                }
+            // The last execution strictly before now
+            long last = compiledCron.lastExecution(now.getNano() == 0 ? now.toEpochSecond() : now.toEpochSecond() + 1);
+            if (last != CompiledCron.NONE && lastFireTime.toEpochSecond() < last) {
+                ZonedDateTime lastTruncated = Instant.ofEpochSecond(last).atZone(compiledCron.zone());
+                LOG.tracef("%s fired, last=%s", this, lastTruncated);
+                lastFireTime = zoned(now);
+                return lastTruncated;
             }
             return null;
         }
 
+        @Override
+        long nextCheck(long nowMillis) {
+            long next = compiledCron.nextExecution(lastFireTime.toEpochSecond());
+            if (next == CompiledCron.NONE) {
+                return Long.MAX_VALUE;
+            }
+            return Math.max(startMillis, next * 1000);
+        }
+
         @Override
         public boolean isOverdue() {
             ZonedDateTime now = ZonedDateTime.now();
             if (now.isBefore(start)) {
                 return false;
             }
-            now = zoned(now);
-            Optional<ZonedDateTime> nextFireTime = executionTime.nextExecution(lastFireTime);
-            return nextFireTime.isEmpty() || nextFireTime.get().plus(gracePeriod).isBefore(now);
+            long next = compiledCron.nextExecution(lastFireTime.toEpochSecond());
+            return next == CompiledCron.NONE || Instant.ofEpochSecond(next).plus(gracePeriod).isBefore(now.toInstant());
         }
 
         @Override
@@ -687,6 +804,9 @@ public boolean isBlocking() {
                 if (existing != null) {
                     throw new IllegalStateException("A job with this identity is already scheduled: " + identity);
                 }
+                if (triggerQueue != null) {
+                    triggerQueue.add(scheduledTask);
+                }
                 return simpleTrigger;
             }
             return null;
@@ -0,0 +1,95 @@
+package io.quarkus.vertx.http.benchmarks;
+
+import java.lang.reflect.Modifier;
+import java.util.HashMap;
+import java.util.Map;
+
+import io.quarkus.gizmo.ClassCreator;
+import io.quarkus.gizmo.ClassOutput;
+import io.quarkus.gizmo.FieldDescriptor;
+import io.quarkus.gizmo.MethodCreator;
+import io.quarkus.gizmo.MethodDescriptor;
+import io.quarkus.gizmo.ResultHandle;
+
+/**
+ * Loads the classes generated by the benchmarks, and generates the stubs of the Vert.x interfaces they call, so that
+ * the measurements are not dominated by the exchange.
+ */
+public final class GeneratedClassLoader extends ClassLoader implements ClassOutput {
+
+    private static final MethodDescriptor MAP_GET = MethodDescriptor.ofMethod(Map.class, "get", Object.class,
+            Object.class);
+    private static final MethodDescriptor MAP_PUT = MethodDescriptor.ofMethod(Map.class, "put", Object.class,
+            Object.class, Object.class);
+    private final Map<String, byte[]> classes = new HashMap<>();
+
+    public GeneratedClassLoader(ClassLoader parent) {
+        super(parent);
+    }
+
+    @Override
+    public void write(String name, byte[] data) {
+        classes.put(name.replace('/', '.'), data);
+    }
+
+    @Override
+    protected Class<?> findClass(String name) throws ClassNotFoundException {
+        byte[] data = classes.get(name);
+        if (data == null) {
+            throw new ClassNotFoundException(name);
+        }
+        return defineClass(name, data, 0, data.length);
+    }
+
+    /**
+     * @return an instance of the interface whose given methods without parameters return the given values, the
+     *         other methods are not implemented
+     */
+    public <T> T stub(Class<T> type, Map<String, Object> values) throws ReflectiveOperationException {
+        return stub(type, values, null);
+    }
+
+    /**
+     * @param data if not null, the map that backs the {@code get(String)} and {@code put(String, Object)} methods of
+     *        the interface, e.g. the data of a {@code RoutingContext}
+     * @return an instance of the interface whose given methods without parameters return the given values, the
+     *         other methods are not implemented
+     */
+    public <T> T stub(Class<T> type, Map<String, Object> values, Map<String, Object> data)
+            throws ReflectiveOperationException {
+        String className = GeneratedClassLoader.class.getName() + "$" + type.getSimpleName() + "Stub";
+        try (ClassCreator cc = ClassCreator.builder().classOutput(this).className(className).interfaces(type)
+                .build()) {
+            for (String name : values.keySet()) {
+                Class<?> returnType = type.getMethod(name).getReturnType();
+                FieldDescriptor field = cc.getFieldCreator(name, returnType)
+                        .setModifiers(Modifier.PUBLIC | Modifier.STATIC).getFieldDescriptor();
+                try (MethodCreator method = cc.getMethodCreator(name, returnType)) {
+                    method.returnValue(method.readStaticField(field));
+                }
+            }
+            if (data != null) {
+                FieldDescriptor field = cc.getFieldCreator("data", Map.class)
+                        .setModifiers(Modifier.PUBLIC | Modifier.STATIC).getFieldDescriptor();
+                try (MethodCreator get = cc.getMethodCreator("get", type.getMethod("get", String.class).getReturnType(),
+                        String.class)) {
+                    get.returnValue(get.invokeInterfaceMethod(MAP_GET, get.readStaticField(field), get.getMethodParam(0)));
+                }
+                try (MethodCreator put = cc.getMethodCreator("put",
+                        type.getMethod("put", String.class, Object.class).getReturnType(), String.class, Object.class)) {
+                    ResultHandle map = put.readStaticField(field);
+                    put.invokeInterfaceMethod(MAP_PUT, map, put.getMethodParam(0), put.getMethodParam(1));
+                    put.returnValue(put.getThis());
+                }
+            }
+        }
+        Class<?> stub = loadClass(className);
+        for (Map.Entry<String, Object> value : values.entrySet()) {
+            stub.getField(value.getKey()).set(null, value.getValue());
+        }
+        if (data != null) {
+            stub.getField("data").set(null, data);
+        }
+        return type.cast(stub.getDeclaredConstructor().newInstance());
+    }
+}
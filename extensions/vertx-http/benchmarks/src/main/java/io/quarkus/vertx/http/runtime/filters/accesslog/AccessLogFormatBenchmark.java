@@ -0,0 +1,131 @@
+package io.quarkus.vertx.http.runtime.filters.accesslog;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.microprofile.config.spi.ConfigProviderResolver;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.quarkus.vertx.http.benchmarks.GeneratedClassLoader;
+import io.quarkus.vertx.http.deployment.AccessLogFormatGenerator;
+import io.quarkus.vertx.http.runtime.VertxHttpConfig;
+import io.quarkus.vertx.http.runtime.attribute.ExchangeAttribute;
+import io.quarkus.vertx.http.runtime.attribute.ExchangeAttributeParser;
+import io.quarkus.vertx.http.runtime.attribute.SubstituteEmptyWrapper;
+import io.smallrye.config.SmallRyeConfigBuilder;
+import io.vertx.core.MultiMap;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.core.http.HttpVersion;
+import io.vertx.core.net.SocketAddress;
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * Compares the encoding of an access log record by the {@link CompiledAccessLogFormat} generated for a format, and by
+ * the attribute tree created by the {@link ExchangeAttributeParser} for the same format.
+ * <p>
+ * The exchange is a stub that returns constant values, so that the measurement is dominated by the formatting.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(2)
+public class AccessLogFormatBenchmark {
+
+    @Param({ "combined", "long" })
+    public String pattern;
+
+    private ExchangeAttribute parsed;
+    private ExchangeAttribute compiled;
+    private RoutingContext exchange;
+    private final AccessLogRecord record = new AccessLogRecord();
+
+    @Setup
+    public void setup() throws Exception {
+        // %{ALL_REQUEST_HEADERS} reads the masked headers from the configuration
+        ClassLoader classLoader = AccessLogFormatBenchmark.class.getClassLoader();
+        ConfigProviderResolver.instance().registerConfig(new SmallRyeConfigBuilder()
+                .addDiscoveredConverters()
+                .withMapping(VertxHttpConfig.class)
+                // the only property without a default value, it is set by the VertxConfigBuilder
+                .withDefaultValue("quarkus.http.host", "localhost")
+                .build(), classLoader);
+
+        String formatString = AccessLogHandler.handleCommonNames(pattern);
+        parsed = new ExchangeAttributeParser(classLoader,
+                List.of(new SubstituteEmptyWrapper(AccessLogHandler.EMPTY_VALUE)))
+                .parse(formatString);
+
+        GeneratedClassLoader generated = new GeneratedClassLoader(classLoader);
+        String className = AccessLogFormatGenerator.generate(generated, formatString);
+        compiled = CompiledAccessLogFormat.create(className, parsed, generated);
+        if (!(compiled instanceof CompiledAccessLogFormat)) {
+            throw new IllegalStateException("The compiled format does not match the parsed format");
+        }
+
+        MultiMap headers = MultiMap.caseInsensitiveMultiMap()
+                .add("Host", "localhost:8080")
+                .add("User-Agent", "Mozilla/5.0 (X11; Linux x86_64; rv:128.0) Gecko/20100101 Firefox/128.0")
+                .add("Accept", "text/html,application/xhtml+xml,application/xml;q=0.9,*/*;q=0.8")
+                .add("Accept-Language", "en-US,en;q=0.5")
+                .add("Accept-Encoding", "gzip, deflate, br")
+                .add("Referer", "http://localhost:8080/index.html")
+                .add("Cookie", "session=d41d8cd98f00b204e9800998ecf8427e");
+        Map<String, Object> request = new HashMap<>();
+        request.put("remoteAddress", SocketAddress.inetSocketAddress(53412, "192.168.1.20"));
+        request.put("method", HttpMethod.GET);
+        request.put("uri", "/api/orders/1234?expand=items&fields=id,total");
+        request.put("version", HttpVersion.HTTP_1_1);
+        request.put("headers", headers);
+        Map<String, Object> response = new HashMap<>();
+        response.put("getStatusCode", 200);
+        response.put("bytesWritten", 5120L);
+        Map<String, Object> routingContext = new HashMap<>();
+        routingContext.put("request", generated.stub(HttpServerRequest.class, request));
+        routingContext.put("response", generated.stub(HttpServerResponse.class, response));
+        routingContext.put("user", null);
+        exchange = generated.stub(RoutingContext.class, routingContext);
+
+        // ignores the date, that may change between both records
+        if (!format(parsed).replaceAll("\\[.*]", "").equals(format(compiled).replaceAll("\\[.*]", ""))) {
+            throw new IllegalStateException("The compiled format does not write the same record as the parsed format");
+        }
+    }
+
+    @Benchmark
+    public int parsed() {
+        return append(parsed);
+    }
+
+    @Benchmark
+    public int compiled() {
+        return append(compiled);
+    }
+
+    private int append(ExchangeAttribute format) {
+        record.reset();
+        format.appendAttribute(exchange, record);
+        return record.length();
+    }
+
+    private String format(ExchangeAttribute format) {
+        record.reset();
+        format.appendAttribute(exchange, record);
+        return record.toString();
+    }
+}
@@ -0,0 +1,237 @@
+package io.quarkus.vertx.http.runtime.security;
+
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.enterprise.inject.Instance;
+import jakarta.enterprise.util.TypeLiteral;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.quarkus.security.identity.SecurityIdentity;
+import io.quarkus.security.runtime.QuarkusSecurityIdentity;
+import io.quarkus.vertx.http.benchmarks.GeneratedClassLoader;
+import io.quarkus.vertx.http.runtime.PolicyConfig;
+import io.quarkus.vertx.http.runtime.PolicyMappingConfig;
+import io.quarkus.vertx.http.runtime.security.HttpSecurityConfiguration.AuthenticationMechanisms;
+import io.quarkus.vertx.http.runtime.security.HttpSecurityConfiguration.HttpPermissionCarrier;
+import io.quarkus.vertx.http.runtime.security.HttpSecurityConfiguration.Policy;
+import io.quarkus.vertx.http.runtime.security.HttpSecurityPolicy.CheckResult;
+import io.smallrye.mutiny.Uni;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * Measures the authorization of a request by the path matching policy configured with a large set of HTTP permissions,
+ * i.e. the path match, the selection of the policies by HTTP method, and the role checks of the selected policies.
+ * <p>
+ * Each permission has its own path, a role policy that allows a few roles out of a large set, and every other
+ * permission is restricted to the {@code GET} method. A shared permission applies to all the paths, so that two role
+ * policies are checked for each request.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(2)
+public class PathMatchingHttpSecurityPolicyBenchmark {
+
+    private static final int ROLES_PER_POLICY = 4;
+
+    @Param({ "100", "1000" })
+    public int permissions;
+
+    private AbstractPathMatchingHttpSecurityPolicy policy;
+    private RoutingContext exchange;
+    private final Map<String, Object> exchangeData = new HashMap<>();
+    private Uni<SecurityIdentity> identity;
+    private CheckResult result;
+
+    @Setup
+    public void setup() throws Exception {
+        // as many roles as permissions, and each role policy allows a few of them
+        int roles = permissions;
+        Map<String, PolicyConfig> rolePolicies = new HashMap<>();
+        List<HttpPermissionCarrier> httpPermissions = new ArrayList<>();
+        for (int i = 0; i < permissions; i++) {
+            List<String> rolesAllowed = new ArrayList<>();
+            for (int j = 0; j < ROLES_PER_POLICY; j++) {
+                rolesAllowed.add("role" + ((i * 7 + j * 13) % roles));
+            }
+            rolePolicies.put("policy" + i, policyConfig(rolesAllowed));
+            httpPermissions.add(new BenchmarkPermission(Set.of("/api/resource" + i + "/*"),
+                    i % 2 == 0 ? Set.of("GET") : Set.of(), "policy" + i, false));
+        }
+        rolePolicies.put("shared", policyConfig(List.of("user", "admin")));
+        httpPermissions.add(new BenchmarkPermission(Set.of("/api/*"), Set.of(), "shared", true));
+        policy = new AbstractPathMatchingHttpSecurityPolicy(httpPermissions, rolePolicies, "/",
+                new NoInstalledPolicies(), PolicyMappingConfig.AppliesTo.ALL);
+
+        // the identity has the last role allowed by the permission of the request
+        int requested = permissions / 2;
+        identity = Uni.createFrom().item(QuarkusSecurityIdentity.builder()
+                .setPrincipal(() -> "alice")
+                .addRole("user")
+                .addRole("role" + ((requested * 7 + (ROLES_PER_POLICY - 1) * 13) % roles))
+                .addRole("other")
+                .build());
+
+        GeneratedClassLoader generated = new GeneratedClassLoader(
+                PathMatchingHttpSecurityPolicyBenchmark.class.getClassLoader());
+        Map<String, Object> request = new HashMap<>();
+        request.put("method", HttpMethod.GET);
+        Map<String, Object> routingContext = new HashMap<>();
+        routingContext.put("request", generated.stub(HttpServerRequest.class, request));
+        routingContext.put("normalizedPath", "/api/resource" + requested + "/items/42");
+        exchange = generated.stub(RoutingContext.class, routingContext, exchangeData);
+
+        if (!authorize().isPermitted()) {
+            throw new IllegalStateException("The request is not permitted");
+        }
+    }
+
+    @Benchmark
+    public CheckResult authorize() {
+        // each request has its own routing context data
+        exchangeData.clear();
+        policy.checkPermissions(exchange, identity, null).subscribe().with(this::setResult);
+        return result;
+    }
+
+    private void setResult(CheckResult result) {
+        this.result = result;
+    }
+
+    private static PolicyConfig policyConfig(List<String> rolesAllowed) {
+        return new PolicyConfig() {
+            @Override
+            public List<String> rolesAllowed() {
+                return rolesAllowed;
+            }
+
+            @Override
+            public Map<String, List<String>> roles() {
+                return Map.of();
+            }
+
+            @Override
+            public Map<String, List<String>> permissions() {
+                return Map.of();
+            }
+
+            @Override
+            public String permissionClass() {
+                return "io.quarkus.security.StringPermission";
+            }
+        };
+    }
+
+    /**
+     * The policies are all configured, there is no {@code HttpSecurityPolicy} bean.
+     */
+    private static final class NoInstalledPolicies implements Instance<HttpSecurityPolicy> {
+
+        @Override
+        public Iterable<? extends Handle<HttpSecurityPolicy>> handles() {
+            return List.of();
+        }
+
+        @Override
+        public Iterator<HttpSecurityPolicy> iterator() {
+            return Collections.emptyIterator();
+        }
+
+        @Override
+        public boolean isUnsatisfied() {
+            return true;
+        }
+
+        @Override
+        public boolean isAmbiguous() {
+            return false;
+        }
+
+        @Override
+        public Instance<HttpSecurityPolicy> select(Annotation... qualifiers) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public <U extends HttpSecurityPolicy> Instance<U> select(Class<U> subtype, Annotation... qualifiers) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public <U extends HttpSecurityPolicy> Instance<U> select(TypeLiteral<U> subtype, Annotation... qualifiers) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void destroy(HttpSecurityPolicy instance) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Handle<HttpSecurityPolicy> getHandle() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public HttpSecurityPolicy get() {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    private record BenchmarkPermission(Set<String> paths, Set<String> methods, String policyName,
+            boolean shared) implements HttpPermissionCarrier {
+
+        @Override
+        public Set<String> getPaths() {
+            return paths;
+        }
+
+        @Override
+        public boolean isShared() {
+            return shared;
+        }
+
+        @Override
+        public boolean shouldApplyToJaxRs() {
+            return false;
+        }
+
+        @Override
+        public Set<String> getMethods() {
+            return methods;
+        }
+
+        @Override
+        public AuthenticationMechanisms getAuthMechanisms() {
+            return null;
+        }
+
+        @Override
+        public Policy getPolicy() {
+            return new Policy(policyName, null);
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package io.quarkus.vertx.http.deployment;
+
+import static java.lang.reflect.Modifier.FINAL;
+import static java.lang.reflect.Modifier.PRIVATE;
+import static java.lang.reflect.Modifier.PUBLIC;
+import static java.lang.reflect.Modifier.STATIC;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import io.quarkus.gizmo.BytecodeCreator;
+import io.quarkus.gizmo.ClassCreator;
+import io.quarkus.gizmo.ClassOutput;
+import io.quarkus.gizmo.FieldDescriptor;
+import io.quarkus.gizmo.MethodCreator;
+import io.quarkus.gizmo.MethodDescriptor;
+import io.quarkus.gizmo.ResultHandle;
+import io.quarkus.runtime.util.HashUtil;
+import io.quarkus.vertx.http.runtime.attribute.ExchangeAttribute;
+import io.quarkus.vertx.http.runtime.attribute.ExchangeAttributeParser;
+import io.quarkus.vertx.http.runtime.filters.accesslog.AccessLogHandler;
+import io.quarkus.vertx.http.runtime.filters.accesslog.AccessLogRecord;
+import io.quarkus.vertx.http.runtime.filters.accesslog.CompiledAccessLogFormat;
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * Generates the {@link CompiledAccessLogFormat} of an access log format string.
+ * <p>
+ * The adjacent literals of the format are merged and appended as bytes encoded when the class is initialized, and each
+ * attribute is stored in a field and called from its own call site, with the substitution of empty values inlined.
+ */
+public final class AccessLogFormatGenerator {
+
+    private static final MethodDescriptor APPEND_ATTRIBUTE = MethodDescriptor.ofMethod(ExchangeAttribute.class,
+            "appendAttribute", void.class, RoutingContext.class, AccessLogRecord.class);
+    private static final MethodDescriptor READ_ATTRIBUTE = MethodDescriptor.ofMethod(ExchangeAttribute.class,
+            "readAttribute", String.class, RoutingContext.class);
+    private static final MethodDescriptor RECORD_LENGTH = MethodDescriptor.ofMethod(AccessLogRecord.class, "length",
+            int.class);
+    private static final MethodDescriptor RECORD_APPEND_BYTE = MethodDescriptor.ofMethod(AccessLogRecord.class, "append",
+            AccessLogRecord.class, byte.class);
+    private static final MethodDescriptor RECORD_APPEND_BYTES = MethodDescriptor.ofMethod(AccessLogRecord.class, "append",
+            AccessLogRecord.class, byte[].class);
+    private static final MethodDescriptor STRING_GET_BYTES = MethodDescriptor.ofMethod(String.class, "getBytes",
+            byte[].class, Charset.class);
+    private static final FieldDescriptor UTF_8 = FieldDescriptor.of(StandardCharsets.class, "UTF_8", Charset.class);
+    private static final MethodDescriptor STRING_BUILDER_APPEND = MethodDescriptor.ofMethod(StringBuilder.class, "append",
+            StringBuilder.class, String.class);
+    private static final MethodDescriptor STRING_BUILDER_TO_STRING = MethodDescriptor.ofMethod(StringBuilder.class,
+            "toString", String.class);
+    private static final MethodDescriptor ATTRIBUTE = MethodDescriptor.ofMethod(CompiledAccessLogFormat.class,
+            "attribute", ExchangeAttribute.class, ExchangeAttribute[].class, int.class, String.class);
+    private static final MethodDescriptor CONSTANT = MethodDescriptor.ofMethod(CompiledAccessLogFormat.class,
+            "constant", void.class, ExchangeAttribute[].class, int.class, String.class);
+    private static final MethodDescriptor VALUE = MethodDescriptor.ofMethod(CompiledAccessLogFormat.class, "value",
+            String.class, String.class, String.class);
+
+    private AccessLogFormatGenerator() {
+    }
+
+    /**
+     * @return the name of the class generated for the given format string
+     */
+    public static String className(String formatString) {
+        return CompiledAccessLogFormat.class.getName() + "_" + HashUtil.sha1(formatString);
+    }
+
+    /**
+     * Generates the class of the given format string.
+     *
+     * @param formatString a format string, i.e. a pattern with the common names already replaced
+     * @return the name of the generated class
+     * @throws RuntimeException if the format string is invalid
+     */
+    public static String generate(ClassOutput output, String formatString) {
+        String className = className(formatString);
+        List<String> tokens = ExchangeAttributeParser.tokenize(formatString);
+        // the merged literals, and the indexes of the fields of the attributes
+        List<Object> parts = new ArrayList<>();
+        StringBuilder literals = new StringBuilder();
+        int fields = 0;
+        for (String token : tokens) {
+            String literal = ExchangeAttributeParser.literal(token);
+            if (literal != null) {
+                literals.append(literal);
+            } else {
+                if (!literals.isEmpty()) {
+                    parts.add(literals.toString());
+                    literals.setLength(0);
+                }
+                parts.add(fields++);
+            }
+        }
+        if (!literals.isEmpty()) {
+            parts.add(literals.toString());
+        }
+
+        try (ClassCreator cc = ClassCreator.builder().classOutput(output).className(className)
+                .superClass(CompiledAccessLogFormat.class).setFinal(true).build()) {
+            FieldDescriptor[] attributeFields = new FieldDescriptor[fields];
+            for (int i = 0; i < fields; i++) {
+                attributeFields[i] = cc.getFieldCreator("attribute" + i, ExchangeAttribute.class)
+                        .setModifiers(PRIVATE | FINAL).getFieldDescriptor();
+            }
+            FieldDescriptor substitute = cc.getFieldCreator("SUBSTITUTE", byte[].class)
+                    .setModifiers(PRIVATE | STATIC | FINAL).getFieldDescriptor();
+            List<FieldDescriptor> literalFields = new ArrayList<>();
+            try (MethodCreator clinit = cc.getMethodCreator("<clinit>", void.class)) {
+                clinit.setModifiers(STATIC);
+                ResultHandle utf8 = clinit.readStaticField(UTF_8);
+                clinit.writeStaticField(substitute,
+                        clinit.invokeVirtualMethod(STRING_GET_BYTES, clinit.load(AccessLogHandler.EMPTY_VALUE), utf8));
+                for (Object part : parts) {
+                    if (part instanceof String literal && !isSingleByte(literal)) {
+                        FieldDescriptor field = cc.getFieldCreator("LITERAL" + literalFields.size(), byte[].class)
+                                .setModifiers(PRIVATE | STATIC | FINAL).getFieldDescriptor();
+                        clinit.writeStaticField(field,
+                                clinit.invokeVirtualMethod(STRING_GET_BYTES, clinit.load(literal), utf8));
+                        literalFields.add(field);
+                    }
+                }
+                clinit.returnVoid();
+            }
+
+            try (MethodCreator constructor = cc.getMethodCreator("<init>", void.class, ExchangeAttribute[].class)) {
+                constructor.setModifiers(PUBLIC);
+                ResultHandle attributes = constructor.getMethodParam(0);
+                constructor.invokeSpecialMethod(MethodDescriptor.ofConstructor(CompiledAccessLogFormat.class,
+                        ExchangeAttribute[].class, int.class), constructor.getThis(), attributes,
+                        constructor.load(tokens.size()));
+                ResultHandle emptyValue = constructor.load(AccessLogHandler.EMPTY_VALUE);
+                int field = 0;
+                for (int i = 0; i < tokens.size(); i++) {
+                    String literal = ExchangeAttributeParser.literal(tokens.get(i));
+                    if (literal != null) {
+                        constructor.invokeStaticMethod(CONSTANT, attributes, constructor.load(i), constructor.load(literal));
+                    } else {
+                        constructor.writeInstanceField(attributeFields[field++], constructor.getThis(),
+                                constructor.invokeStaticMethod(ATTRIBUTE, attributes, constructor.load(i), emptyValue));
+                    }
+                }
+                constructor.returnVoid();
+            }
+
+            try (MethodCreator append = cc.getMethodCreator("appendAttribute", void.class, RoutingContext.class,
+                    AccessLogRecord.class)) {
+                append.setModifiers(PUBLIC);
+                ResultHandle exchange = append.getMethodParam(0);
+                ResultHandle record = append.getMethodParam(1);
+                int literal = 0;
+                for (Object part : parts) {
+                    if (part instanceof String value) {
+                        if (isSingleByte(value)) {
+                            append.invokeVirtualMethod(RECORD_APPEND_BYTE, record, append.load((byte) value.charAt(0)));
+                        } else {
+                            append.invokeVirtualMethod(RECORD_APPEND_BYTES, record,
+                                    append.readStaticField(literalFields.get(literal++)));
+                        }
+                    } else {
+                        ResultHandle attribute = append.readInstanceField(attributeFields[(Integer) part], append.getThis());
+                        ResultHandle length = append.invokeVirtualMethod(RECORD_LENGTH, record);
+                        append.invokeInterfaceMethod(APPEND_ATTRIBUTE, attribute, exchange, record);
+                        BytecodeCreator empty = append
+                                .ifIntegerEqual(length, append.invokeVirtualMethod(RECORD_LENGTH, record)).trueBranch();
+                        empty.invokeVirtualMethod(RECORD_APPEND_BYTES, record, empty.readStaticField(substitute));
+                    }
+                }
+                append.returnVoid();
+            }
+
+            try (MethodCreator read = cc.getMethodCreator("readAttribute", String.class, RoutingContext.class)) {
+                read.setModifiers(PUBLIC);
+                ResultHandle exchange = read.getMethodParam(0);
+                ResultHandle sb = read.newInstance(MethodDescriptor.ofConstructor(StringBuilder.class));
+                ResultHandle emptyValue = read.load(AccessLogHandler.EMPTY_VALUE);
+                for (Object part : parts) {
+                    ResultHandle value;
+                    if (part instanceof String literal) {
+                        value = read.load(literal);
+                    } else {
+                        ResultHandle attribute = read.readInstanceField(attributeFields[(Integer) part], read.getThis());
+                        value = read.invokeStaticMethod(VALUE,
+                                read.invokeInterfaceMethod(READ_ATTRIBUTE, attribute, exchange), emptyValue);
+                    }
+                    read.invokeVirtualMethod(STRING_BUILDER_APPEND, sb, value);
+                }
+                read.returnValue(read.invokeVirtualMethod(STRING_BUILDER_TO_STRING, sb));
+            }
+        }
+        return className;
+    }
+
+    private static boolean isSingleByte(String literal) {
+        return literal.length() == 1 && literal.charAt(0) < 0x80;
+    }
+}
@@ -0,0 +1,23 @@
+package io.quarkus.vertx.http.deployment;
+
+import java.util.Map;
+
+import io.quarkus.builder.item.SimpleBuildItem;
+
+/**
+ * The access log formats compiled at build time.
+ * <p>
+ * The map associates a format string with the name of the class generated for it.
+ */
+public final class CompiledAccessLogFormatsBuildItem extends SimpleBuildItem {
+
+    private final Map<String, String> formats;
+
+    public CompiledAccessLogFormatsBuildItem(Map<String, String> formats) {
+        this.formats = formats;
+    }
+
+    public Map<String, String> getFormats() {
+        return formats;
+    }
+}
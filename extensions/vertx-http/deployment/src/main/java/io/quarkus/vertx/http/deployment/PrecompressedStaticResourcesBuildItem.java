@@ -0,0 +1,30 @@
+package io.quarkus.vertx.http.deployment;
+
+import java.util.Map;
+
+import io.quarkus.builder.item.SimpleBuildItem;
+
+/**
+ * The static resources compressed at build time.
+ * <p>
+ * Each map associates the path of a resource, relative to {@code META-INF/resources}, with the {@code ETag} of its
+ * brotli or gzip variant.
+ */
+public final class PrecompressedStaticResourcesBuildItem extends SimpleBuildItem {
+
+    private final Map<String, String> brotliVariants;
+    private final Map<String, String> gzipVariants;
+
+    public PrecompressedStaticResourcesBuildItem(Map<String, String> brotliVariants, Map<String, String> gzipVariants) {
+        this.brotliVariants = brotliVariants;
+        this.gzipVariants = gzipVariants;
+    }
+
+    public Map<String, String> getBrotliVariants() {
+        return brotliVariants;
+    }
+
+    public Map<String, String> getGzipVariants() {
+        return gzipVariants;
+    }
+}
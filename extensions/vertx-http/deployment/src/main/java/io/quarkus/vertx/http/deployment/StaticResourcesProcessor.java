@@ -2,13 +2,27 @@
 
 import static io.quarkus.deployment.annotations.ExecutionTime.RUNTIME_INIT;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+import org.jboss.logging.Logger;
+
+import com.aayushatharva.brotli4j.Brotli4jLoader;
+import com.aayushatharva.brotli4j.encoder.Encoder;
 
 import io.quarkus.arc.deployment.BeanContainerBuildItem;
 import io.quarkus.bootstrap.classloading.ClassPathElement;
@@ -16,23 +30,32 @@
 import io.quarkus.deployment.Capabilities;
 import io.quarkus.deployment.Capability;
 import io.quarkus.deployment.IsDevelopment;
+import io.quarkus.deployment.IsProduction;
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.annotations.Record;
+import io.quarkus.deployment.builditem.GeneratedResourceBuildItem;
 import io.quarkus.deployment.builditem.HotDeploymentWatchedFileBuildItem;
 import io.quarkus.deployment.builditem.LaunchModeBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.NativeImageResourceBuildItem;
 import io.quarkus.paths.PathVisitor;
+import io.quarkus.runtime.util.HashUtil;
 import io.quarkus.vertx.core.deployment.CoreVertxBuildItem;
 import io.quarkus.vertx.http.deployment.spi.AdditionalStaticResourceBuildItem;
+import io.quarkus.vertx.http.deployment.spi.GeneratedStaticResourceBuildItem;
 import io.quarkus.vertx.http.deployment.spi.StaticResourcesBuildItem;
+import io.quarkus.vertx.http.runtime.PrecompressedStaticResources;
 import io.quarkus.vertx.http.runtime.StaticResourcesRecorder;
+import io.quarkus.vertx.http.runtime.VertxHttpBuildTimeConfig;
+import io.vertx.core.http.MimeMapping;
 
 /**
  * Handles all static file resources found in {@code META-INF/resources} unless the servlet container is present.
  */
 public class StaticResourcesProcessor {
 
+    private static final Logger LOG = Logger.getLogger(StaticResourcesProcessor.class);
+
     @BuildStep(onlyIf = IsDevelopment.class)
     HotDeploymentWatchedFileBuildItem indexHtmlFile() {
         String staticRoot = StaticResourcesRecorder.META_INF_RESOURCES + "/index.html";
@@ -59,13 +82,131 @@ void collectStaticResources(Capabilities capabilities,
         }
     }
 
+    // in dev and test modes, the generated resources are not accessible to the StaticHandler
+    @BuildStep(onlyIf = IsProduction.class)
+    void precompressStaticResources(VertxHttpBuildTimeConfig httpBuildTimeConfig,
+            Optional<StaticResourcesBuildItem> staticResources,
+            List<GeneratedStaticResourceBuildItem> generatedStaticResources,
+            BuildProducer<GeneratedResourceBuildItem> generatedResources,
+            BuildProducer<NativeImageResourceBuildItem> nativeImageResources,
+            BuildProducer<PrecompressedStaticResourcesBuildItem> precompressedStaticResources) {
+        if (!httpBuildTimeConfig.staticResources().precompress() || staticResources.isEmpty()
+                || httpBuildTimeConfig.compressMediaTypes().isEmpty()) {
+            return;
+        }
+        Set<String> compressMediaTypes = Set.copyOf(httpBuildTimeConfig.compressMediaTypes().get());
+        long minSize = httpBuildTimeConfig.staticResources().precompressMinSize().asLongValue();
+
+        // the content of the static resources, by path relative to META-INF/resources
+        Map<String, byte[]> contents = new LinkedHashMap<>();
+        final String prefix = StaticResourcesRecorder.META_INF_RESOURCES;
+        visitRuntimeMetaInfResources(visit -> {
+            Path visitPath = visit.getPath();
+            String rel = visit.getResourceName();
+            if (rel.startsWith(prefix) && isPrecompressible(rel, compressMediaTypes) && !Files.isDirectory(visitPath)) {
+                try {
+                    if (Files.size(visitPath) >= minSize) {
+                        contents.putIfAbsent(rel.substring(prefix.length()), Files.readAllBytes(visitPath));
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+        });
+        for (GeneratedStaticResourceBuildItem generated : generatedStaticResources) {
+            if (!isPrecompressible(generated.getEndpoint(), compressMediaTypes)) {
+                continue;
+            }
+            try {
+                byte[] content = generated.isFile() ? Files.readAllBytes(generated.getFile()) : generated.getContent();
+                if (content.length >= minSize) {
+                    contents.put(generated.getEndpoint(), content);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        if (contents.isEmpty()) {
+            return;
+        }
+
+        boolean brotli = Brotli4jLoader.isAvailable();
+        if (!brotli) {
+            LOG.debugf(Brotli4jLoader.getUnavailabilityCause(),
+                    "Brotli is not available, only the gzip variants of the static resources are generated");
+        }
+        Map<String, String> brotliVariants = new HashMap<>();
+        Map<String, String> gzipVariants = new HashMap<>();
+        for (Map.Entry<String, byte[]> entry : contents.entrySet()) {
+            String path = entry.getKey();
+            byte[] content = entry.getValue();
+            String hash = HashUtil.sha256(content).substring(0, 16);
+            if (brotli) {
+                addVariant(path, "br", hash, brotli(content), content.length, brotliVariants, generatedResources,
+                        nativeImageResources);
+            }
+            addVariant(path, "gzip", hash, gzip(content), content.length, gzipVariants, generatedResources,
+                    nativeImageResources);
+        }
+        LOG.debugf("Precompressed %s static resources", contents.size());
+        precompressedStaticResources.produce(new PrecompressedStaticResourcesBuildItem(brotliVariants, gzipVariants));
+    }
+
+    private static boolean isPrecompressible(String path, Set<String> compressMediaTypes) {
+        if (path.endsWith(".gz") || path.endsWith(".br")) {
+            return false;
+        }
+        String contentType = MimeMapping.mimeTypeForFilename(path);
+        return contentType != null && compressMediaTypes.contains(contentType);
+    }
+
+    private static void addVariant(String path, String encoding, String hash, byte[] compressed, int originalLength,
+            Map<String, String> variants, BuildProducer<GeneratedResourceBuildItem> generatedResources,
+            BuildProducer<NativeImageResourceBuildItem> nativeImageResources) {
+        if (compressed.length >= originalLength) {
+            // not worth it
+            return;
+        }
+        String location = StaticResourcesRecorder.META_INF_RESOURCES + path + PrecompressedStaticResources.extension(encoding);
+        generatedResources.produce(new GeneratedResourceBuildItem(location, compressed, false));
+        nativeImageResources.produce(new NativeImageResourceBuildItem(location));
+        variants.put(path, "\"" + hash + "-" + encoding + "\"");
+    }
+
+    private static byte[] gzip(byte[] content) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(content.length / 2);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out) {
+            {
+                def.setLevel(Deflater.BEST_COMPRESSION);
+            }
+        }) {
+            gzip.write(content);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] brotli(byte[] content) {
+        try {
+            return Encoder.compress(content, new Encoder.Parameters().setQuality(11));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
     @BuildStep
     @Record(RUNTIME_INIT)
     public void runtimeInit(Optional<StaticResourcesBuildItem> staticResources, StaticResourcesRecorder recorder,
             CoreVertxBuildItem vertx, BeanContainerBuildItem beanContainer,
+            Optional<PrecompressedStaticResourcesBuildItem> precompressedStaticResources,
             BuildProducer<DefaultRouteBuildItem> defaultRoutes) {
         if (staticResources.isPresent()) {
-            defaultRoutes.produce(new DefaultRouteBuildItem(recorder.start(staticResources.get().getPaths())));
+            defaultRoutes.produce(new DefaultRouteBuildItem(recorder.start(staticResources.get().getPaths(),
+                    precompressedStaticResources.map(PrecompressedStaticResourcesBuildItem::getBrotliVariants)
+                            .orElse(Collections.emptyMap()),
+                    precompressedStaticResources.map(PrecompressedStaticResourcesBuildItem::getGzipVariants)
+                            .orElse(Collections.emptyMap()))));
         }
     }
 
@@ -9,8 +9,11 @@
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.SubmissionPublisher;
@@ -32,6 +35,7 @@
 import io.quarkus.builder.BuildException;
 import io.quarkus.deployment.Capabilities;
 import io.quarkus.deployment.Capability;
+import io.quarkus.deployment.GeneratedClassGizmoAdaptor;
 import io.quarkus.deployment.IsDevelopment;
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
@@ -40,6 +44,7 @@
 import io.quarkus.deployment.annotations.Record;
 import io.quarkus.deployment.builditem.ApplicationStartBuildItem;
 import io.quarkus.deployment.builditem.ExecutorBuildItem;
+import io.quarkus.deployment.builditem.GeneratedClassBuildItem;
 import io.quarkus.deployment.builditem.HotDeploymentWatchedFileBuildItem;
 import io.quarkus.deployment.builditem.LaunchModeBuildItem;
 import io.quarkus.deployment.builditem.LogCategoryBuildItem;
@@ -55,6 +60,7 @@
 import io.quarkus.deployment.logging.LogCleanupFilterBuildItem;
 import io.quarkus.deployment.logging.LoggingDecorateBuildItem;
 import io.quarkus.devui.spi.buildtime.FooterLogBuildItem;
+import io.quarkus.gizmo.ClassOutput;
 import io.quarkus.kubernetes.spi.KubernetesPortBuildItem;
 import io.quarkus.netty.runtime.virtual.VirtualServerChannel;
 import io.quarkus.runtime.ErrorPageAction;
@@ -81,11 +87,13 @@
 import io.quarkus.vertx.http.runtime.VertxHttpBuildTimeConfig;
 import io.quarkus.vertx.http.runtime.VertxHttpConfig.InsecureRequests;
 import io.quarkus.vertx.http.runtime.VertxHttpRecorder;
+import io.quarkus.vertx.http.runtime.attribute.CompositeExchangeAttribute;
 import io.quarkus.vertx.http.runtime.attribute.ExchangeAttributeBuilder;
 import io.quarkus.vertx.http.runtime.cors.CORSConfig;
 import io.quarkus.vertx.http.runtime.cors.CORSRecorder;
 import io.quarkus.vertx.http.runtime.filters.Filter;
 import io.quarkus.vertx.http.runtime.filters.GracefulShutdownFilter;
+import io.quarkus.vertx.http.runtime.filters.accesslog.AccessLogHandler;
 import io.quarkus.vertx.http.runtime.graal.Brotli4jFeature;
 import io.quarkus.vertx.http.runtime.management.ManagementInterfaceBuildTimeConfig;
 import io.quarkus.vertx.http.runtime.security.SecurityHandlerPriorities;
@@ -428,6 +436,40 @@ void createDevUILog(BuildProducer<FooterLogBuildItem> footerLogProducer,
         vertxDevUILogBuildItem.produce(new VertxDevUILogBuildItem(publisher));
     }
 
+    /**
+     * Compiles the common access log formats, and the format of {@code quarkus.http.access-log.compiled-pattern}, into
+     * classes that write the attributes directly into the access log record. Any other runtime pattern is interpreted by
+     * the {@link CompositeExchangeAttribute} created by the parser.
+     */
+    @BuildStep
+    CompiledAccessLogFormatsBuildItem compileAccessLogFormats(VertxHttpBuildTimeConfig httpBuildTimeConfig,
+            BuildProducer<GeneratedClassBuildItem> generatedClasses,
+            BuildProducer<ReflectiveClassBuildItem> reflectiveClasses) {
+        Set<String> formatStrings = new LinkedHashSet<>();
+        for (String name : AccessLogHandler.COMMON_NAMES) {
+            formatStrings.add(AccessLogHandler.handleCommonNames(name));
+        }
+        httpBuildTimeConfig.accessLogCompiledPattern()
+                .map(AccessLogHandler::handleCommonNames)
+                .ifPresent(formatStrings::add);
+
+        ClassOutput output = new GeneratedClassGizmoAdaptor(generatedClasses, true);
+        Map<String, String> formats = new HashMap<>();
+        for (String formatString : formatStrings) {
+            try {
+                formats.put(formatString, AccessLogFormatGenerator.generate(output, formatString));
+            } catch (RuntimeException e) {
+                // the invalid pattern is reported when the access log handler is created
+                logger.debugf(e, "Unable to compile the access log format %s", formatString);
+            }
+        }
+        reflectiveClasses.produce(ReflectiveClassBuildItem.builder(formats.values().toArray(new String[0]))
+                .reason(getClass().getName())
+                .constructors()
+                .build());
+        return new CompiledAccessLogFormatsBuildItem(formats);
+    }
+
     @Consume(PreRouterFinalizationBuildItem.class)
     @BuildStep
     @Record(ExecutionTime.RUNTIME_INIT)
@@ -450,7 +492,9 @@ ServiceStartBuildItem finalizeRouter(Optional<LoggingDecorateBuildItem> decorate
             CoreVertxBuildItem core, // Injected to be sure that Vert.x has been produced before calling this method.
             ExecutorBuildItem executorBuildItem,
             TlsRegistryBuildItem tlsRegistryBuildItem, // Injected to be sure that the TLS registry has been produced before calling this method.
-            Optional<VertxDevUILogBuildItem> vertxDevUILogBuildItem)
+            Optional<VertxDevUILogBuildItem> vertxDevUILogBuildItem,
+            CompiledAccessLogFormatsBuildItem compiledAccessLogFormats,
+            ShutdownContextBuildItem shutdown)
             throws BuildException {
 
         Optional<DefaultRouteBuildItem> defaultRoute;
@@ -533,7 +577,9 @@ ServiceStartBuildItem finalizeRouter(Optional<LoggingDecorateBuildItem> decorate
                 srcMainJava,
                 knowClasses,
                 combinedActions,
-                publisher);
+                publisher,
+                compiledAccessLogFormats.getFormats(),
+                shutdown);
 
         return new ServiceStartBuildItem("vertx-http");
     }
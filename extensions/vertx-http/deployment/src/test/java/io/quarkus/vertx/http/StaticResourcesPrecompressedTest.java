@@ -0,0 +1,104 @@
+package io.quarkus.vertx.http;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.startsWith;
+
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import com.aayushatharva.brotli4j.Brotli4jLoader;
+
+import io.quarkus.test.QuarkusProdModeTest;
+import io.restassured.config.DecoderConfig;
+import io.restassured.config.RestAssuredConfig;
+
+public class StaticResourcesPrecompressedTest {
+
+    private static final String SCRIPT = "console.log('Hello precompressed static resources');\n".repeat(100);
+
+    @RegisterExtension
+    static final QuarkusProdModeTest test = new QuarkusProdModeTest()
+            .withApplicationRoot((jar) -> jar
+                    .add(new StringAsset("quarkus.http.enable-compression=true\n"
+                            + "quarkus.http.static-resources.precompress=true\n"), "application.properties")
+                    .add(new StringAsset(SCRIPT), "META-INF/resources/app.js")
+                    .add(new StringAsset("console.log('too small');\n"), "META-INF/resources/small.js")
+                    .addAsResource("static-file.html", "META-INF/resources/image.svg"))
+            .setRun(true);
+
+    @Test
+    public void testGzip() {
+        String etag = given().header("Accept-Encoding", "gzip")
+                .get("/app.js")
+                .then()
+                .statusCode(200)
+                .header("Content-Encoding", "gzip")
+                .header("Content-Type", "text/javascript;charset=UTF-8")
+                .header("Vary", "accept-encoding")
+                .header("ETag", not(nullValue()))
+                .body(is(SCRIPT))
+                .extract().header("ETag");
+
+        given().header("Accept-Encoding", "gzip")
+                .header("If-None-Match", etag)
+                .get("/app.js")
+                .then()
+                .statusCode(304)
+                .header("ETag", etag);
+    }
+
+    @Test
+    public void testBrotli() {
+        Assumptions.assumeTrue(Brotli4jLoader.isAvailable());
+        given().header("Accept-Encoding", "gzip, deflate, br")
+                .config(RestAssuredConfig.config().decoderConfig(DecoderConfig.decoderConfig().noContentDecoders()))
+                .get("/app.js")
+                .then()
+                .statusCode(200)
+                .header("Content-Encoding", "br")
+                .header("Vary", "accept-encoding")
+                .header("ETag", startsWith("\""));
+    }
+
+    @Test
+    public void testIdentity() {
+        given().header("Accept-Encoding", "identity")
+                .get("/app.js")
+                .then()
+                .statusCode(200)
+                .header("Content-Encoding", nullValue())
+                .header("Vary", "accept-encoding")
+                .body(is(SCRIPT));
+
+        // ranges are served from the original resource
+        given().header("Accept-Encoding", "gzip")
+                .header("Range", "bytes=0-6")
+                .get("/app.js")
+                .then()
+                .statusCode(206)
+                .body(is("console"));
+    }
+
+    @Test
+    public void testNotPrecompressed() {
+        // too small, compressed on the fly
+        given().header("Accept-Encoding", "gzip")
+                .get("/small.js")
+                .then()
+                .statusCode(200)
+                .header("Content-Encoding", "gzip")
+                .body(is("console.log('too small');\n"));
+
+        // not a compressed media type
+        given().header("Accept-Encoding", "gzip")
+                .get("/image.svg")
+                .then()
+                .statusCode(200)
+                .header("Content-Encoding", nullValue());
+    }
+}
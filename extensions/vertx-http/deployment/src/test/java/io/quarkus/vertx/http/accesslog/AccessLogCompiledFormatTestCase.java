@@ -0,0 +1,90 @@
+package io.quarkus.vertx.http.accesslog;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Properties;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.awaitility.Awaitility;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.ByteArrayAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.bootstrap.util.IoUtils;
+import io.quarkus.test.QuarkusExtensionTest;
+import io.quarkus.vertx.http.deployment.AccessLogFormatGenerator;
+import io.restassured.RestAssured;
+
+/**
+ * Tests the access log format compiled at build time for a custom pattern
+ */
+public class AccessLogCompiledFormatTestCase {
+
+    private static final String PATTERN = "%m %U%q %s 100%% $$ \"%{i,X-Test}\" \"%{i,X-Missing}\"";
+
+    @RegisterExtension
+    public static QuarkusExtensionTest unitTest = new QuarkusExtensionTest()
+            .setArchiveProducer(() -> {
+                try {
+                    Path logDirectory = Files.createTempDirectory("quarkus-tests");
+                    Properties p = new Properties();
+                    p.setProperty("quarkus.http.access-log.enabled", "true");
+                    p.setProperty("quarkus.http.access-log.log-to-file", "true");
+                    p.setProperty("quarkus.http.access-log.base-file-name", "server");
+                    p.setProperty("quarkus.http.access-log.log-directory", logDirectory.toAbsolutePath().toString());
+                    p.setProperty("quarkus.http.access-log.pattern", PATTERN);
+                    p.setProperty("quarkus.http.access-log.compiled-pattern", PATTERN);
+                    ByteArrayOutputStream out = new ByteArrayOutputStream();
+                    p.store(out, null);
+                    return ShrinkWrap.create(JavaArchive.class)
+                            .add(new ByteArrayAsset(out.toByteArray()), "application.properties");
+                } catch (IOException e) {
+                    throw new RuntimeException(e);
+                }
+            });
+
+    @ConfigProperty(name = "quarkus.http.access-log.log-directory")
+    Path logDirectory;
+
+    @BeforeEach
+    public void before() throws IOException {
+        Files.createDirectories(logDirectory);
+    }
+
+    @AfterEach
+    public void after() throws IOException {
+        IoUtils.recursiveDelete(logDirectory);
+    }
+
+    @Test
+    public void testCompiledFormat() throws ClassNotFoundException {
+        // the class is generated for the pattern configured at build time
+        assertThat(Class.forName(AccessLogFormatGenerator.className(PATTERN), false,
+                Thread.currentThread().getContextClassLoader())).isNotNull();
+
+        final String paramValue = UUID.randomUUID().toString();
+        RestAssured.given()
+                .header("X-Test", "compiled")
+                .get("/does-not-exist?foo=" + paramValue);
+
+        Awaitility.given().pollInterval(100, TimeUnit.MILLISECONDS)
+                .atMost(10, TimeUnit.SECONDS)
+                .untilAsserted(() -> {
+                    Path path = logDirectory.resolve("server.log");
+                    assertThat(path).exists();
+                    assertThat(Files.readAllLines(path))
+                            .filteredOn(line -> line.contains(paramValue))
+                            .containsExactly("GET /does-not-exist?foo=" + paramValue + " 404 100% $ \"compiled\" \"-\"");
+                });
+    }
+}
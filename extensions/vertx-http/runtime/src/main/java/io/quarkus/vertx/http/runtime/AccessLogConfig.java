@@ -3,6 +3,7 @@
 import java.util.Optional;
 import java.util.Set;
 
+import io.quarkus.runtime.configuration.MemorySize;
 import io.smallrye.config.WithDefault;
 
 public interface AccessLogConfig {
@@ -94,4 +95,35 @@ public interface AccessLogConfig {
      */
     @WithDefault("false")
     boolean consolidateReroutedRequests();
+
+    /**
+     * Configuration of the ring buffer used to write the access log to a file.
+     */
+    RingBufferConfig ringBuffer();
+
+    interface RingBufferConfig {
+
+        /**
+         * If the access log file should be written through an off-heap ring buffer.
+         * <p>
+         * The records are encoded without intermediate strings, and written to the file in batches by a background
+         * thread. If the buffer is full, the records are dropped and a warning reports how many were dropped.
+         * <p>
+         * This only applies if `log-to-file` is enabled.
+         */
+        @WithDefault("false")
+        boolean enabled();
+
+        /**
+         * The size of the ring buffer, rounded up to a power of two.
+         * A single record cannot be larger than a quarter of the buffer.
+         */
+        @WithDefault("8M")
+        MemorySize size();
+
+        /**
+         * The size above which the log file is rotated, in addition to the daily rotation enabled by `rotate`.
+         */
+        Optional<MemorySize> rotateSize();
+    }
 }
@@ -0,0 +1,190 @@
+package io.quarkus.vertx.http.runtime;
+
+import static io.quarkus.vertx.http.runtime.StaticResourcesRecorder.META_INF_RESOURCES;
+
+import java.util.Map;
+
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.vertx.core.MultiMap;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.core.http.MimeMapping;
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * Serves the gzip and brotli variants of the static resources that were compressed at build time.
+ * <p>
+ * The variant of a resource {@code /app.js} is stored as {@code META-INF/resources/app.js.br} or
+ * {@code META-INF/resources/app.js.gz}, and has an {@code ETag} computed at build time.
+ */
+public final class PrecompressedStaticResources {
+
+    static final String BROTLI = "br";
+    static final String GZIP = "gzip";
+
+    private final Map<String, String> brotliETags;
+    private final Map<String, String> gzipETags;
+    private final String cacheControl;
+    private final String charset;
+
+    PrecompressedStaticResources(Map<String, String> brotliETags, Map<String, String> gzipETags,
+            StaticResourcesConfig config) {
+        this.brotliETags = brotliETags;
+        this.gzipETags = gzipETags;
+        this.cacheControl = config.cachingEnabled() ? "public, immutable, max-age=" + config.maxAge().toSeconds() : null;
+        this.charset = ";charset=" + config.contentEncoding().name();
+    }
+
+    /**
+     * @return the file extension of the variants with the given content encoding
+     */
+    public static String extension(String encoding) {
+        return BROTLI.equals(encoding) ? ".br" : ".gz";
+    }
+
+    boolean isEmpty() {
+        return brotliETags.isEmpty() && gzipETags.isEmpty();
+    }
+
+    /**
+     * Sends the precompressed variant of the resource if the client accepts it.
+     *
+     * @param path the path of the resource, relative to {@code META-INF/resources}
+     * @return {@code true} if the variant was sent, {@code false} if the request should be handled by the
+     *         {@code StaticHandler}
+     */
+    boolean send(RoutingContext ctx, String path) {
+        String brotliETag = brotliETags.get(path);
+        String gzipETag = gzipETags.get(path);
+        if (brotliETag == null && gzipETag == null) {
+            return false;
+        }
+        HttpServerRequest request = ctx.request();
+        HttpServerResponse response = ctx.response();
+        // the representation depends on the Accept-Encoding header even when it is not compressed
+        response.headers().set(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (request.method() != HttpMethod.GET || request.headers().contains(HttpHeaderNames.RANGE)) {
+            // ranges are served from the uncompressed resource
+            return false;
+        }
+        String acceptEncoding = request.headers().get(HttpHeaders.ACCEPT_ENCODING);
+        String encoding;
+        String etag;
+        if (brotliETag != null && accepts(acceptEncoding, BROTLI)) {
+            encoding = BROTLI;
+            etag = brotliETag;
+        } else if (gzipETag != null && accepts(acceptEncoding, GZIP)) {
+            encoding = GZIP;
+            etag = gzipETag;
+        } else {
+            return false;
+        }
+
+        MultiMap headers = response.headers();
+        headers.set(HttpHeaders.ETAG, etag);
+        if (cacheControl != null) {
+            headers.set(HttpHeaders.CACHE_CONTROL, cacheControl);
+        }
+        String ifNoneMatch = request.headers().get(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch != null && matches(ifNoneMatch, etag)) {
+            response.setStatusCode(HttpResponseStatus.NOT_MODIFIED.code()).end();
+            return true;
+        }
+        String contentType = MimeMapping.mimeTypeForFilename(path);
+        if (contentType != null) {
+            if (contentType.startsWith("text")) {
+                contentType = contentType + charset;
+            }
+            headers.set(HttpHeaders.CONTENT_TYPE, contentType);
+        }
+        // overrides the "Content-Encoding: identity" header set when the compression is enabled, so that the variant
+        // is not compressed again
+        headers.set(HttpHeaders.CONTENT_ENCODING, encoding);
+        response.sendFile(META_INF_RESOURCES + path + extension(encoding)).onFailure(ctx::fail);
+        return true;
+    }
+
+    /**
+     * @return whether the given {@code Accept-Encoding} header accepts the encoding, i.e. it lists either the encoding or
+     *         {@code *} with a non-zero quality value
+     */
+    static boolean accepts(String acceptEncoding, String encoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        boolean wildcard = false;
+        int start = 0;
+        while (start < acceptEncoding.length()) {
+            int end = acceptEncoding.indexOf(',', start);
+            if (end < 0) {
+                end = acceptEncoding.length();
+            }
+            int params = acceptEncoding.indexOf(';', start);
+            int nameEnd = params >= 0 && params < end ? params : end;
+            String name = acceptEncoding.substring(start, nameEnd).trim();
+            boolean accepted = nameEnd == end || quality(acceptEncoding.substring(nameEnd + 1, end)) > 0;
+            if (name.equalsIgnoreCase(encoding)) {
+                // an explicit entry takes precedence over the wildcard
+                return accepted;
+            } else if (name.equals("*")) {
+                wildcard = accepted;
+            }
+            start = end + 1;
+        }
+        return wildcard;
+    }
+
+    /**
+     * @return whether the given {@code If-None-Match} header is {@code *} or lists an entity tag that matches the given
+     *         one, using the weak comparison, i.e. the {@code W/} prefix is ignored
+     */
+    static boolean matches(String ifNoneMatch, String etag) {
+        String opaqueTag = opaqueTag(etag);
+        int length = ifNoneMatch.length();
+        int start = 0;
+        while (start < length) {
+            char c = ifNoneMatch.charAt(start);
+            if (c == ',' || Character.isWhitespace(c)) {
+                start++;
+                continue;
+            }
+            int end;
+            int quote = ifNoneMatch.startsWith("W/", start) ? start + 2 : start;
+            if (quote < length && ifNoneMatch.charAt(quote) == '"') {
+                // an entity tag may contain a comma
+                end = ifNoneMatch.indexOf('"', quote + 1);
+                end = end < 0 ? length : end + 1;
+            } else {
+                end = ifNoneMatch.indexOf(',', start);
+                end = end < 0 ? length : end;
+            }
+            String candidate = ifNoneMatch.substring(start, end).trim();
+            if (candidate.equals("*") || opaqueTag(candidate).equals(opaqueTag)) {
+                return true;
+            }
+            start = end;
+        }
+        return false;
+    }
+
+    private static String opaqueTag(String etag) {
+        return etag.startsWith("W/") ? etag.substring(2) : etag;
+    }
+
+    private static double quality(String params) {
+        for (String param : params.split(";")) {
+            param = param.trim();
+            if (param.startsWith("q=") || param.startsWith("Q=")) {
+                try {
+                    return Double.parseDouble(param.substring(2).trim());
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+}
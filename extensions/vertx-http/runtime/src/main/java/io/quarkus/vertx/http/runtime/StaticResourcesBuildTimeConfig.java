@@ -0,0 +1,26 @@
+package io.quarkus.vertx.http.runtime;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.quarkus.runtime.configuration.MemorySize;
+import io.smallrye.config.WithDefault;
+
+@ConfigGroup
+public interface StaticResourcesBuildTimeConfig {
+
+    /**
+     * If enabled, gzip and brotli variants of the static resources are generated at build time for the media types
+     * configured via {@code quarkus.http.compress-media-types}. A client that accepts one of these encodings is then
+     * served the precompressed variant, instead of having the resource compressed on every request.
+     * <p>
+     * The brotli variants are only generated if the Brotli4J native library is available for the build platform.
+     * Precompression is only applied when building the production application.
+     */
+    @WithDefault("false")
+    boolean precompress();
+
+    /**
+     * The minimum size of a static resource for its precompressed variants to be generated.
+     */
+    @WithDefault("1K")
+    MemorySize precompressMinSize();
+}
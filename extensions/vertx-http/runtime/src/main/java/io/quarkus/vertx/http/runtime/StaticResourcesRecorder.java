@@ -5,6 +5,7 @@
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.function.Consumer;
 
@@ -39,7 +40,8 @@ public static void setHotDeploymentResources(List<Path> resources) {
         hotDeploymentResourcePaths = resources;
     }
 
-    public Consumer<Route> start(Set<String> knownPaths) {
+    public Consumer<Route> start(Set<String> knownPaths, Map<String, String> brotliVariants,
+            Map<String, String> gzipVariants) {
         List<Handler<RoutingContext>> handlers = new ArrayList<>();
         Set<String> compressMediaTypes;
         if (httpBuildTimeConfig.enableCompression() && httpBuildTimeConfig.compressMediaTypes().isPresent()) {
@@ -98,6 +100,8 @@ public void handle(RoutingContext ctx) {
             final String indexPage = (config.indexPage().charAt(0) == '/')
                     ? config.indexPage().substring(1)
                     : config.indexPage();
+            PrecompressedStaticResources precompressed = new PrecompressedStaticResources(brotliVariants, gzipVariants,
+                    config);
             handlers.add(new Handler<>() {
                 @Override
                 public void handle(RoutingContext ctx) {
@@ -108,6 +112,10 @@ public void handle(RoutingContext ctx) {
                     }
                     // check effective path, otherwise the index page when path ends with '/'
                     if (knownPaths.contains(rel) || (rel.endsWith("/") && knownPaths.contains(rel.concat(indexPage)))) {
+                        if (!precompressed.isEmpty()
+                                && precompressed.send(ctx, rel.endsWith("/") ? rel.concat(indexPage) : rel)) {
+                            return;
+                        }
                         compressIfNeeded(httpBuildTimeConfig, compressMediaTypes, ctx, rel);
                         staticHandler.handle(ctx);
                     } else {
@@ -116,10 +116,24 @@ public interface VertxHttpBuildTimeConfig {
      */
     OptionalInt compressionLevel();
 
+    /**
+     * Static resources build time configuration.
+     */
+    StaticResourcesBuildTimeConfig staticResources();
+
     /**
      * Configure Quarkus to serve static files from a local filesystem directory (outside of Java resources)
      *
      */
     @WithName("static-dir")
     Optional<HttpStaticDirConfig> httpStaticDirConfig();
+
+    /**
+     * An access log pattern compiled at build time, in addition to the `common`, `combined` and `long` named formats.
+     * <p>
+     * When `quarkus.http.access-log.pattern` matches a compiled pattern at runtime, the attributes are written by a
+     * generated class instead of being interpreted.
+     */
+    @WithName("access-log.compiled-pattern")
+    Optional<String> accessLogCompiledPattern();
 }
@@ -101,6 +101,7 @@
 import io.quarkus.vertx.http.runtime.filters.accesslog.AccessLogReceiver;
 import io.quarkus.vertx.http.runtime.filters.accesslog.DefaultAccessLogReceiver;
 import io.quarkus.vertx.http.runtime.filters.accesslog.JBossLoggingAccessLogReceiver;
+import io.quarkus.vertx.http.runtime.filters.accesslog.RingBufferAccessLogReceiver;
 import io.quarkus.vertx.http.runtime.management.ManagementConfig;
 import io.quarkus.vertx.http.runtime.management.ManagementInterfaceBuildTimeConfig;
 import io.quarkus.vertx.http.runtime.options.HttpServerCommonHandlers;
@@ -438,7 +439,9 @@ public void finalizeRouter(
             String srcMainJava,
             List<String> knowClasses,
             List<ErrorPageAction> actions,
-            Optional<RuntimeValue<SubmissionPublisher<String>>> publisher) {
+            Optional<RuntimeValue<SubmissionPublisher<String>>> publisher,
+            Map<String, String> compiledAccessLogFormats,
+            ShutdownContext shutdown) {
         VertxHttpConfig httpConfig = this.httpConfig.getValue();
         // install the default route at the end
         Router httpRouteRouter = httpRouterRuntimeValue.getValue();
@@ -532,13 +535,29 @@ public void handle(RoutingContext routingContext) {
             AccessLogReceiver receiver;
             if (accessLog.logToFile()) {
                 File outputDir = accessLog.logDirectory().isPresent() ? new File(accessLog.logDirectory().get()) : new File("");
-                receiver = new DefaultAccessLogReceiver(executor, outputDir, accessLog.baseFileName(), accessLog.logSuffix(),
-                        accessLog.rotate());
+                if (accessLog.ringBuffer().enabled()) {
+                    RingBufferAccessLogReceiver ringBufferReceiver = new RingBufferAccessLogReceiver(
+                            accessLog.ringBuffer().size().asLongValue(), outputDir.toPath(), accessLog.baseFileName(),
+                            accessLog.logSuffix(), accessLog.rotate(),
+                            accessLog.ringBuffer().rotateSize().map(MemorySize::asLongValue).orElse(0L));
+                    // write the pending records
+                    shutdown.addLastShutdownTask(new Runnable() {
+                        @Override
+                        public void run() {
+                            ringBufferReceiver.close();
+                        }
+                    });
+                    receiver = ringBufferReceiver;
+                } else {
+                    receiver = new DefaultAccessLogReceiver(executor, outputDir, accessLog.baseFileName(),
+                            accessLog.logSuffix(), accessLog.rotate());
+                }
             } else {
                 receiver = new JBossLoggingAccessLogReceiver(accessLog.category());
             }
             setupAccessLogHandler(mainRouterRuntimeValue, httpRouterRuntimeValue, frameworkRouter, receiver, rootPath,
-                    nonRootPath, accessLog.pattern(), accessLog.consolidateReroutedRequests(), accessLog.excludePattern());
+                    nonRootPath, accessLog.pattern(), accessLog.consolidateReroutedRequests(), accessLog.excludePattern(),
+                    compiledAccessLogFormats);
             quarkusWrapperNeeded = true;
         }
 
@@ -555,7 +574,8 @@ public void logMessage(String message) {
 
             setupAccessLogHandler(mainRouterRuntimeValue, httpRouterRuntimeValue, frameworkRouter, receiver, rootPath,
                     nonRootPath, accessLog.pattern(), accessLog.consolidateReroutedRequests(),
-                    accessLog.excludePattern().or(() -> Optional.of("^" + nonRootPath + ".*")));
+                    accessLog.excludePattern().or(() -> Optional.of("^" + nonRootPath + ".*")),
+                    compiledAccessLogFormats);
             quarkusWrapperNeeded = true;
         }
 
@@ -666,12 +686,14 @@ private void setupAccessLogHandler(Optional<RuntimeValue<Router>> mainRouterRunt
             String nonRootPath,
             String pattern,
             boolean consolidateReroutedRequests,
-            Optional<String> excludePattern) {
+            Optional<String> excludePattern,
+            Map<String, String> compiledAccessLogFormats) {
 
         Router httpRouteRouter = httpRouterRuntimeValue.getValue();
+        // the compiled formats are generated application classes
         AccessLogHandler handler = new AccessLogHandler(receiver, pattern, consolidateReroutedRequests,
-                getClass().getClassLoader(),
-                excludePattern);
+                Thread.currentThread().getContextClassLoader(),
+                excludePattern, compiledAccessLogFormats);
         if (rootPath.equals("/") || nonRootPath.equals("/")) {
             mainRouterRuntimeValue.orElse(httpRouterRuntimeValue).getValue().route()
                     .order(RouteConstants.ROUTE_ORDER_ACCESS_LOG_HANDLER)
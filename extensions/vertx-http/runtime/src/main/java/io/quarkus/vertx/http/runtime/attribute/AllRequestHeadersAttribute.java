@@ -1,5 +1,6 @@
 package io.quarkus.vertx.http.runtime.attribute;
 
+import java.nio.charset.StandardCharsets;
 import java.util.Map;
 import java.util.Set;
 import java.util.StringJoiner;
@@ -9,6 +10,7 @@
 
 import io.quarkus.vertx.http.runtime.AccessLogConfig;
 import io.quarkus.vertx.http.runtime.VertxHttpConfig;
+import io.quarkus.vertx.http.runtime.filters.accesslog.AccessLogRecord;
 import io.smallrye.config.SmallRyeConfig;
 import io.vertx.core.MultiMap;
 import io.vertx.core.http.HttpHeaders;
@@ -19,6 +21,7 @@ public class AllRequestHeadersAttribute implements ExchangeAttribute {
     private static final String AUTHORIZATION_HEADER = String.valueOf(HttpHeaders.AUTHORIZATION).toLowerCase();
     private static final String COOKIE_HEADER = String.valueOf(HttpHeaders.COOKIE).toLowerCase();
     private static final String MASKED_VALUE = "<hidden>";
+    private static final byte[] LINE_SEPARATOR = System.lineSeparator().getBytes(StandardCharsets.UTF_8);
 
     private final Set<String> maskedHeaders;
     private final Set<String> maskedCookies;
@@ -45,6 +48,21 @@ public String readAttribute(RoutingContext exchange) {
         return readAttribute(exchange.request().headers());
     }
 
+    @Override
+    public void appendAttribute(RoutingContext exchange, AccessLogRecord record) {
+        boolean first = true;
+        for (Map.Entry<String, String> header : exchange.request().headers()) {
+            if (!first) {
+                record.append(LINE_SEPARATOR);
+            }
+            first = false;
+            record.append(header.getKey())
+                    .append((byte) ':')
+                    .append((byte) ' ')
+                    .append(String.valueOf(maskHeaderValue(header.getKey(), header.getValue())));
+        }
+    }
+
     String readAttribute(MultiMap headers) {
         if (headers.isEmpty()) {
             return null;
@@ -1,5 +1,6 @@
 package io.quarkus.vertx.http.runtime.attribute;
 
+import io.quarkus.vertx.http.runtime.filters.accesslog.AccessLogRecord;
 import io.vertx.ext.web.RoutingContext;
 
 /**
@@ -28,6 +29,16 @@ public String readAttribute(final RoutingContext exchange) {
         }
     }
 
+    @Override
+    public void appendAttribute(final RoutingContext exchange, final AccessLogRecord record) {
+        long bytesSent = exchange.response().bytesWritten();
+        if (dashIfZero && bytesSent == 0) {
+            record.append((byte) '-');
+        } else {
+            record.append(bytesSent);
+        }
+    }
+
     @Override
     public void writeAttribute(final RoutingContext exchange, final String newValue) throws ReadOnlyAttributeException {
         throw new ReadOnlyAttributeException("Bytes sent", newValue);
@@ -1,5 +1,6 @@
 package io.quarkus.vertx.http.runtime.attribute;
 
+import io.quarkus.vertx.http.runtime.filters.accesslog.AccessLogRecord;
 import io.vertx.ext.web.RoutingContext;
 
 /**
@@ -16,6 +17,13 @@ public CompositeExchangeAttribute(ExchangeAttribute[] attributes) {
         this.attributes = copy;
     }
 
+    /**
+     * @return a copy of the attributes that are merged
+     */
+    public ExchangeAttribute[] getAttributes() {
+        return attributes.clone();
+    }
+
     @Override
     public String readAttribute(RoutingContext exchange) {
         final StringBuilder sb = new StringBuilder();
@@ -28,6 +36,13 @@ public String readAttribute(RoutingContext exchange) {
         return sb.toString();
     }
 
+    @Override
+    public void appendAttribute(RoutingContext exchange, AccessLogRecord record) {
+        for (ExchangeAttribute attribute : attributes) {
+            attribute.appendAttribute(exchange, record);
+        }
+    }
+
     @Override
     public void writeAttribute(RoutingContext exchange, String newValue) throws ReadOnlyAttributeException {
         throw new ReadOnlyAttributeException("combined", newValue);
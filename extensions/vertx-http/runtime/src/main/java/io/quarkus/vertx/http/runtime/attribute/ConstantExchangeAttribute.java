@@ -1,5 +1,8 @@
 package io.quarkus.vertx.http.runtime.attribute;
 
+import java.nio.charset.StandardCharsets;
+
+import io.quarkus.vertx.http.runtime.filters.accesslog.AccessLogRecord;
 import io.vertx.ext.web.RoutingContext;
 
 /**
@@ -9,9 +12,15 @@
 public class ConstantExchangeAttribute implements ExchangeAttribute {
 
     private final String value;
+    private final byte[] bytes;
 
     public ConstantExchangeAttribute(final String value) {
         this.value = value;
+        this.bytes = value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    public String getValue() {
+        return value;
     }
 
     @Override
@@ -19,6 +28,11 @@ public String readAttribute(final RoutingContext exchange) {
         return value;
     }
 
+    @Override
+    public void appendAttribute(final RoutingContext exchange, final AccessLogRecord record) {
+        record.append(bytes);
+    }
+
     @Override
     public void writeAttribute(final RoutingContext exchange, final String newValue) throws ReadOnlyAttributeException {
         throw new ReadOnlyAttributeException("constant", newValue);
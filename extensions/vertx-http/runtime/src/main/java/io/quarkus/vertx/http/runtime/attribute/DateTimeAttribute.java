@@ -1,10 +1,13 @@
 package io.quarkus.vertx.http.runtime.attribute;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.Locale;
 
+import io.quarkus.vertx.http.runtime.filters.accesslog.AccessLogRecord;
 import io.vertx.ext.web.RoutingContext;
 
 /**
@@ -22,9 +25,13 @@ public class DateTimeAttribute implements ExchangeAttribute {
     public static final ExchangeAttribute INSTANCE = new DateTimeAttribute();
 
     private final DateTimeFormatter formatter;
+    // the common log format has a precision of one second, so its encoded value is reused during that second
+    private final boolean cacheable;
+    private volatile EncodedDateTime encoded;
 
     private DateTimeAttribute() {
-        this(COMMON_LOG_PATTERN, null);
+        this.formatter = DateTimeFormatter.ofPattern(COMMON_LOG_PATTERN, Locale.US);
+        this.cacheable = true;
     }
 
     public DateTimeAttribute(final String dateFormat) {
@@ -37,6 +44,7 @@ public DateTimeAttribute(final String dateFormat, final String timezone) {
             fmt = fmt.withZone(ZoneId.of(timezone));
         }
         this.formatter = fmt;
+        this.cacheable = false;
     }
 
     @Override
@@ -44,11 +52,30 @@ public String readAttribute(final RoutingContext exchange) {
         return formatter.format(ZonedDateTime.now());
     }
 
+    @Override
+    public void appendAttribute(final RoutingContext exchange, final AccessLogRecord record) {
+        if (!cacheable) {
+            record.append(readAttribute(exchange));
+            return;
+        }
+        long epochSecond = System.currentTimeMillis() / 1000;
+        EncodedDateTime encoded = this.encoded;
+        if (encoded == null || encoded.epochSecond != epochSecond) {
+            String value = formatter.format(Instant.ofEpochSecond(epochSecond).atZone(ZoneId.systemDefault()));
+            encoded = new EncodedDateTime(epochSecond, value.getBytes(StandardCharsets.UTF_8));
+            this.encoded = encoded;
+        }
+        record.append(encoded.bytes);
+    }
+
     @Override
     public void writeAttribute(final RoutingContext exchange, final String newValue) throws ReadOnlyAttributeException {
         throw new ReadOnlyAttributeException("Date time", newValue);
     }
 
+    private record EncodedDateTime(long epochSecond, byte[] bytes) {
+    }
+
     public static final class Builder implements ExchangeAttributeBuilder {
 
         @Override
@@ -1,5 +1,6 @@
 package io.quarkus.vertx.http.runtime.attribute;
 
+import io.quarkus.vertx.http.runtime.filters.accesslog.AccessLogRecord;
 import io.vertx.ext.web.RoutingContext;
 
 /**
@@ -16,6 +17,21 @@ public interface ExchangeAttribute {
      */
     String readAttribute(final RoutingContext exchange);
 
+    /**
+     * Appends the attribute to an access log record. Nothing is appended if the attribute is not present.
+     * <p>
+     * Attributes override this method to encode their value without building a {@code String}.
+     *
+     * @param exchange The exchange
+     * @param record The record
+     */
+    default void appendAttribute(final RoutingContext exchange, final AccessLogRecord record) {
+        String value = readAttribute(exchange);
+        if (value != null) {
+            record.append(value);
+        }
+    }
+
     /**
      * Sets a new value for the attribute. Not all attributes are writable.
      *
@@ -59,6 +59,30 @@ public int compare(ExchangeAttributeBuilder o1, ExchangeAttributeBuilder o2) {
      */
     public ExchangeAttribute parse(final String valueString) {
         final List<ExchangeAttribute> attributes = new ArrayList<>();
+        for (String token : tokenize(valueString)) {
+            if (token.equals("%%") || token.equals("$$")) {
+                //literal percent or dollars
+                attributes.add(wrap(new ConstantExchangeAttribute(token.substring(1))));
+            } else {
+                attributes.add(wrap(parseSingleToken(token)));
+            }
+        }
+        if (attributes.size() == 1) {
+            return attributes.get(0);
+        }
+        return new CompositeExchangeAttribute(attributes.toArray(new ExchangeAttribute[attributes.size()]));
+    }
+
+    /**
+     * Splits the provided value string into the tokens that {@link #parse(String)} turns into exchange attributes.
+     * <p>
+     * The escapes {@code %%} and {@code $$} are returned as tokens of their own.
+     *
+     * @param valueString
+     * @return the tokens, in order
+     */
+    public static List<String> tokenize(final String valueString) {
+        final List<String> tokens = new ArrayList<>();
         int pos = 0;
         int state = 0; //0 = literal, 1 = %, 2 = %{, 3 = $, 4 = ${, 5 = %<
         for (int i = 0; i < valueString.length(); ++i) {
@@ -67,7 +91,7 @@ public ExchangeAttribute parse(final String valueString) {
                 case 0: {
                     if (c == '%' || c == '$') {
                         if (pos != i) {
-                            attributes.add(wrap(parseSingleToken(valueString.substring(pos, i))));
+                            tokens.add(valueString.substring(pos, i));
                             pos = i;
                         }
                         if (c == '%') {
@@ -83,13 +107,9 @@ public ExchangeAttribute parse(final String valueString) {
                         state = 2;
                     } else if (c == '<') {
                         state = 5;
-                    } else if (c == '%') {
-                        //literal percent
-                        attributes.add(wrap(new ConstantExchangeAttribute("%")));
-                        pos = i + 1;
-                        state = 0;
                     } else {
-                        attributes.add(wrap(parseSingleToken(valueString.substring(pos, i + 1))));
+                        // also covers the literal percent
+                        tokens.add(valueString.substring(pos, i + 1));
                         pos = i + 1;
                         state = 0;
                     }
@@ -97,7 +117,7 @@ public ExchangeAttribute parse(final String valueString) {
                 }
                 case 2, 4: {
                     if (c == '}') {
-                        attributes.add(wrap(parseSingleToken(valueString.substring(pos, i + 1))));
+                        tokens.add(valueString.substring(pos, i + 1));
                         pos = i + 1;
                         state = 0;
                     }
@@ -106,20 +126,16 @@ public ExchangeAttribute parse(final String valueString) {
                 case 3: {
                     if (c == '{') {
                         state = 4;
-                    } else if (c == '$') {
-                        //literal dollars
-                        attributes.add(wrap(new ConstantExchangeAttribute("$")));
-                        pos = i + 1;
-                        state = 0;
                     } else {
-                        attributes.add(wrap(parseSingleToken(valueString.substring(pos, i + 1))));
+                        // also covers the literal dollars
+                        tokens.add(valueString.substring(pos, i + 1));
                         pos = i + 1;
                         state = 0;
                     }
                     break;
                 }
                 case 5: {
-                    attributes.add(wrap(parseSingleToken(valueString.substring(pos, i + 1))));
+                    tokens.add(valueString.substring(pos, i + 1));
                     pos = i + 1;
                     state = 0;
                     break;
@@ -133,7 +149,7 @@ public ExchangeAttribute parse(final String valueString) {
             case 3:
             case 5: {
                 if (pos != valueString.length()) {
-                    attributes.add(wrap(parseSingleToken(valueString.substring(pos))));
+                    tokens.add(valueString.substring(pos));
                 }
                 break;
             }
@@ -142,10 +158,22 @@ public ExchangeAttribute parse(final String valueString) {
                 throw new RuntimeException("Mismatched braces: " + valueString);
             }
         }
-        if (attributes.size() == 1) {
-            return attributes.get(0);
+        return tokens;
+    }
+
+    /**
+     * @param token a token returned by {@link #tokenize(String)}
+     * @return the text of the token if it is a literal, or {@code null} if it references an attribute
+     */
+    public static String literal(final String token) {
+        if (token.equals("%%")) {
+            return "%";
+        } else if (token.equals("$$")) {
+            return "$";
+        } else if (token.startsWith("%") || token.startsWith("$")) {
+            return null;
         }
-        return new CompositeExchangeAttribute(attributes.toArray(new ExchangeAttribute[attributes.size()]));
+        return token;
     }
 
     public ExchangeAttribute parseSingleToken(final String token) {
@@ -2,6 +2,7 @@
 
 import java.util.List;
 
+import io.quarkus.vertx.http.runtime.filters.accesslog.AccessLogRecord;
 import io.vertx.ext.web.RoutingContext;
 
 /**
@@ -36,6 +37,25 @@ public String readAttribute(final RoutingContext exchange) {
         return sb.toString();
     }
 
+    @Override
+    public void appendAttribute(final RoutingContext exchange, final AccessLogRecord record) {
+        List<String> header = exchange.request().headers().getAll(requestHeader);
+        if (header.isEmpty()) {
+            return;
+        } else if (header.size() == 1) {
+            record.append(header.get(0));
+            return;
+        }
+        record.append((byte) '[');
+        for (int i = 0; i < header.size(); ++i) {
+            if (i != 0) {
+                record.append((byte) ',').append((byte) ' ');
+            }
+            record.append(header.get(i));
+        }
+        record.append((byte) ']');
+    }
+
     @Override
     public void writeAttribute(final RoutingContext exchange, final String newValue) throws ReadOnlyAttributeException {
         if (newValue == null) {
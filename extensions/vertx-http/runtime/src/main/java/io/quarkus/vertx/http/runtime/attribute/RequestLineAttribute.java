@@ -1,6 +1,7 @@
 package io.quarkus.vertx.http.runtime.attribute;
 
 import io.quarkus.vertx.http.runtime.filters.OriginalRequestContext;
+import io.quarkus.vertx.http.runtime.filters.accesslog.AccessLogRecord;
 import io.vertx.core.http.HttpMethod;
 import io.vertx.ext.web.RoutingContext;
 
@@ -42,6 +43,27 @@ public String readAttribute(final RoutingContext exchange) {
         return httpMethod + " " + uri + " " + RequestProtocolAttribute.getHttpVersionStr(exchange.request().version());
     }
 
+    @Override
+    public void appendAttribute(final RoutingContext exchange, final AccessLogRecord record) {
+        HttpMethod httpMethod;
+        String uri;
+        if (useOriginalRequest) {
+            if (!OriginalRequestContext.isPresent(exchange)) {
+                return;
+            }
+            httpMethod = OriginalRequestContext.getMethod(exchange);
+            uri = OriginalRequestContext.getUri(exchange);
+        } else {
+            httpMethod = exchange.request().method();
+            uri = exchange.request().uri();
+        }
+        record.append(httpMethod.name())
+                .append((byte) ' ')
+                .append(uri)
+                .append((byte) ' ')
+                .append(RequestProtocolAttribute.getHttpVersionStr(exchange.request().version()));
+    }
+
     @Override
     public void writeAttribute(final RoutingContext exchange, final String newValue) throws ReadOnlyAttributeException {
         throw new ReadOnlyAttributeException("Request line", newValue);
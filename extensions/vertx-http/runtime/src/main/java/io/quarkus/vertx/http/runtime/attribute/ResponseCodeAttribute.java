@@ -1,5 +1,6 @@
 package io.quarkus.vertx.http.runtime.attribute;
 
+import io.quarkus.vertx.http.runtime.filters.accesslog.AccessLogRecord;
 import io.vertx.ext.web.RoutingContext;
 
 /**
@@ -22,6 +23,11 @@ public String readAttribute(final RoutingContext exchange) {
         return Integer.toString(exchange.response().getStatusCode());
     }
 
+    @Override
+    public void appendAttribute(final RoutingContext exchange, final AccessLogRecord record) {
+        record.append(exchange.response().getStatusCode());
+    }
+
     @Override
     public void writeAttribute(final RoutingContext exchange, final String newValue) throws ReadOnlyAttributeException {
         exchange.response().setStatusCode(Integer.parseInt(newValue));
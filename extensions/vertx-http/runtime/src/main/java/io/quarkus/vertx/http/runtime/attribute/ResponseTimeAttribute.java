@@ -4,6 +4,7 @@
 
 import io.quarkus.vertx.http.runtime.VertxHttpConfig;
 import io.quarkus.vertx.http.runtime.VertxHttpRecorder;
+import io.quarkus.vertx.http.runtime.filters.accesslog.AccessLogRecord;
 import io.vertx.ext.web.RoutingContext;
 
 /**
@@ -29,21 +30,10 @@ public ResponseTimeAttribute(TimeUnit timeUnit) {
 
     @Override
     public String readAttribute(RoutingContext exchange) {
-        Long requestStartTime = exchange.get(VertxHttpRecorder.REQUEST_START_TIME);
-        if (requestStartTime == null) {
+        long nanos = responseTimeNanos(exchange);
+        if (nanos < 0) {
             return null;
         }
-        final long nanos;
-        Long first = exchange.get(FIRST_RESPONSE_TIME_NANOS);
-        if (first != null) {
-            nanos = first;
-        } else {
-            nanos = System.nanoTime() - requestStartTime;
-            if (exchange.response().ended()) {
-                //save the response time so it is consistent
-                exchange.put(FIRST_RESPONSE_TIME_NANOS, nanos);
-            }
-        }
         if (timeUnit == TimeUnit.SECONDS) {
             StringBuilder buf = new StringBuilder();
             long millis = TimeUnit.MILLISECONDS.convert(nanos, TimeUnit.NANOSECONDS);
@@ -60,6 +50,45 @@ public String readAttribute(RoutingContext exchange) {
         }
     }
 
+    @Override
+    public void appendAttribute(RoutingContext exchange, AccessLogRecord record) {
+        long nanos = responseTimeNanos(exchange);
+        if (nanos < 0) {
+            return;
+        }
+        if (timeUnit == TimeUnit.SECONDS) {
+            long millis = TimeUnit.MILLISECONDS.convert(nanos, TimeUnit.NANOSECONDS);
+            int remains = (int) (millis % 1000);
+            record.append(millis / 1000)
+                    .append((byte) '.')
+                    .append((byte) ('0' + remains / 100))
+                    .append((byte) ('0' + remains / 10 % 10))
+                    .append((byte) ('0' + remains % 10));
+        } else {
+            record.append(timeUnit.convert(nanos, TimeUnit.NANOSECONDS));
+        }
+    }
+
+    /**
+     * @return the response time in nanoseconds, or {@code -1} if the request start time is unknown
+     */
+    private static long responseTimeNanos(RoutingContext exchange) {
+        Long requestStartTime = exchange.get(VertxHttpRecorder.REQUEST_START_TIME);
+        if (requestStartTime == null) {
+            return -1;
+        }
+        Long first = exchange.get(FIRST_RESPONSE_TIME_NANOS);
+        if (first != null) {
+            return first;
+        }
+        long nanos = System.nanoTime() - requestStartTime;
+        if (exchange.response().ended()) {
+            //save the response time so it is consistent
+            exchange.put(FIRST_RESPONSE_TIME_NANOS, nanos);
+        }
+        return nanos;
+    }
+
     @Override
     public void writeAttribute(RoutingContext exchange, String newValue) throws ReadOnlyAttributeException {
         throw new ReadOnlyAttributeException("Response Time", newValue);
@@ -1,5 +1,8 @@
 package io.quarkus.vertx.http.runtime.attribute;
 
+import java.nio.charset.StandardCharsets;
+
+import io.quarkus.vertx.http.runtime.filters.accesslog.AccessLogRecord;
 import io.vertx.ext.web.RoutingContext;
 
 public class SubstituteEmptyWrapper implements ExchangeAttributeWrapper {
@@ -18,10 +21,20 @@ public ExchangeAttribute wrap(final ExchangeAttribute attribute) {
     public static class SubstituteEmptyAttribute implements ExchangeAttribute {
         private final ExchangeAttribute attribute;
         private final String substitute;
+        private final byte[] substituteBytes;
 
         public SubstituteEmptyAttribute(ExchangeAttribute attribute, String substitute) {
             this.attribute = attribute;
             this.substitute = substitute;
+            this.substituteBytes = substitute.getBytes(StandardCharsets.UTF_8);
+        }
+
+        public ExchangeAttribute getAttribute() {
+            return attribute;
+        }
+
+        public String getSubstitute() {
+            return substitute;
         }
 
         @Override
@@ -33,6 +46,15 @@ public String readAttribute(RoutingContext exchange) {
             return val;
         }
 
+        @Override
+        public void appendAttribute(RoutingContext exchange, AccessLogRecord record) {
+            int length = record.length();
+            attribute.appendAttribute(exchange, record);
+            if (record.length() == length) {
+                record.append(substituteBytes);
+            }
+        }
+
         @Override
         public void writeAttribute(RoutingContext exchange, String newValue) throws ReadOnlyAttributeException {
             attribute.writeAttribute(exchange, newValue);
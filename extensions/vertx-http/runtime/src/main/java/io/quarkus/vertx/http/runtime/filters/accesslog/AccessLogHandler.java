@@ -19,6 +19,8 @@
 package io.quarkus.vertx.http.runtime.filters.accesslog;
 
 import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.StringJoiner;
 import java.util.regex.Matcher;
@@ -93,6 +95,16 @@
  */
 public class AccessLogHandler implements Handler<RoutingContext> {
 
+    /**
+     * The value logged for the attributes that are empty.
+     */
+    public static final String EMPTY_VALUE = "-";
+
+    /**
+     * The names of the common formats, see {@link #handleCommonNames(String)}.
+     */
+    public static final List<String> COMMON_NAMES = List.of("common", "combined", "long");
+
     private final AccessLogReceiver accessLogReceiver;
     private final String formatString;
     private final boolean consolidateReroutedRequests;
@@ -102,11 +114,28 @@ public class AccessLogHandler implements Handler<RoutingContext> {
     public AccessLogHandler(final AccessLogReceiver accessLogReceiver, final String formatString,
             boolean consolidateReroutedRequests, ClassLoader classLoader,
             Optional<String> excludePattern) {
+        this(accessLogReceiver, formatString, consolidateReroutedRequests, classLoader, excludePattern,
+                Collections.emptyMap());
+    }
+
+    /**
+     * @param compiledFormats the names of the classes generated for the formats compiled at build time, keyed by format
+     *        string
+     */
+    public AccessLogHandler(final AccessLogReceiver accessLogReceiver, final String formatString,
+            boolean consolidateReroutedRequests, ClassLoader classLoader,
+            Optional<String> excludePattern, Map<String, String> compiledFormats) {
         this.accessLogReceiver = accessLogReceiver;
         this.formatString = handleCommonNames(formatString);
         this.consolidateReroutedRequests = consolidateReroutedRequests;
-        this.tokens = new ExchangeAttributeParser(classLoader, Collections.singletonList(new SubstituteEmptyWrapper("-")))
+        ExchangeAttribute tokens = new ExchangeAttributeParser(classLoader,
+                Collections.singletonList(new SubstituteEmptyWrapper(EMPTY_VALUE)))
                 .parse(this.formatString);
+        String compiledFormat = compiledFormats.get(this.formatString);
+        if (compiledFormat != null) {
+            tokens = CompiledAccessLogFormat.create(compiledFormat, tokens, classLoader);
+        }
+        this.tokens = tokens;
         if (excludePattern.isPresent()) {
             this.excludePattern = Pattern.compile(excludePattern.get());
         } else {
@@ -123,7 +152,10 @@ public AccessLogHandler(final AccessLogReceiver accessLogReceiver, String format
         this.excludePattern = null;
     }
 
-    private static String handleCommonNames(String formatString) {
+    /**
+     * @return the format string of the given pattern, which is either a format string or the name of a common format
+     */
+    public static String handleCommonNames(String formatString) {
         switch (formatString) {
             case "common":
                 return "%h %l %u %t \"%r\" %s %b";
@@ -155,7 +187,7 @@ public void handle(RoutingContext rc) {
         QuarkusRequestWrapper.get(rc.request()).addRequestDoneHandler(new Handler<Void>() {
             @Override
             public void handle(Void event) {
-                accessLogReceiver.logMessage(tokens.readAttribute(rc));
+                accessLogReceiver.logMessage(rc, tokens);
             }
         });
         if (consolidateReroutedRequests) {
@@ -18,6 +18,9 @@
 
 package io.quarkus.vertx.http.runtime.filters.accesslog;
 
+import io.quarkus.vertx.http.runtime.attribute.ExchangeAttribute;
+import io.vertx.ext.web.RoutingContext;
+
 /**
  * Interface that is used by the access log handler to send data to the log file manager.
  *
@@ -29,4 +32,14 @@ public interface AccessLogReceiver {
 
     void logMessage(final String message);
 
+    /**
+     * Logs the message of the given attribute for the exchange.
+     * <p>
+     * Receivers that do not need a {@code String} override this method to encode the message with
+     * {@link ExchangeAttribute#appendAttribute}.
+     */
+    default void logMessage(final RoutingContext exchange, final ExchangeAttribute message) {
+        logMessage(message.readAttribute(exchange));
+    }
+
 }
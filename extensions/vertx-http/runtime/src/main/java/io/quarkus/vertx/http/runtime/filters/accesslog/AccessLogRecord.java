@@ -0,0 +1,127 @@
+package io.quarkus.vertx.http.runtime.filters.accesslog;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * An access log record being encoded as UTF-8.
+ * <p>
+ * Attributes append their value with {@link io.quarkus.vertx.http.runtime.attribute.ExchangeAttribute#appendAttribute},
+ * so that the record is encoded without building intermediate {@code String}s. A record is reused by the thread that
+ * encodes it, and is not thread safe.
+ */
+public final class AccessLogRecord {
+
+    private static final int INITIAL_CAPACITY = 512;
+    // the buffer of a reused record is not retained when it grows above this size
+    private static final int MAX_RETAINED_CAPACITY = 64 * 1024;
+
+    private byte[] bytes;
+    private int length;
+
+    public AccessLogRecord() {
+        this(INITIAL_CAPACITY);
+    }
+
+    AccessLogRecord(int initialCapacity) {
+        this.bytes = new byte[initialCapacity];
+    }
+
+    /**
+     * @return the number of bytes of the record
+     */
+    public int length() {
+        return length;
+    }
+
+    public AccessLogRecord append(byte b) {
+        ensureCapacity(1);
+        bytes[length++] = b;
+        return this;
+    }
+
+    public AccessLogRecord append(byte[] b) {
+        ensureCapacity(b.length);
+        System.arraycopy(b, 0, bytes, length, b.length);
+        length += b.length;
+        return this;
+    }
+
+    public AccessLogRecord append(long value) {
+        if (value == Long.MIN_VALUE) {
+            return append("-9223372036854775808");
+        }
+        if (value < 0) {
+            append((byte) '-');
+            value = -value;
+        }
+        int digits = 1;
+        for (long v = value; v >= 10; v /= 10) {
+            digits++;
+        }
+        ensureCapacity(digits);
+        for (int i = length + digits - 1; i >= length; i--) {
+            bytes[i] = (byte) ('0' + value % 10);
+            value /= 10;
+        }
+        length += digits;
+        return this;
+    }
+
+    public AccessLogRecord append(CharSequence value) {
+        int size = value.length();
+        // at most 3 bytes per char, a surrogate pair is 4 bytes
+        ensureCapacity(size * 3);
+        byte[] bytes = this.bytes;
+        int pos = length;
+        for (int i = 0; i < size; i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                bytes[pos++] = (byte) c;
+            } else if (c < 0x800) {
+                bytes[pos++] = (byte) (0xC0 | (c >> 6));
+                bytes[pos++] = (byte) (0x80 | (c & 0x3F));
+            } else if (Character.isSurrogate(c)) {
+                if (Character.isHighSurrogate(c) && i + 1 < size && Character.isLowSurrogate(value.charAt(i + 1))) {
+                    int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                    bytes[pos++] = (byte) (0xF0 | (codePoint >> 18));
+                    bytes[pos++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                    bytes[pos++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                    bytes[pos++] = (byte) (0x80 | (codePoint & 0x3F));
+                } else {
+                    // unpaired surrogate, same replacement as String.getBytes(UTF_8)
+                    bytes[pos++] = '?';
+                }
+            } else {
+                bytes[pos++] = (byte) (0xE0 | (c >> 12));
+                bytes[pos++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                bytes[pos++] = (byte) (0x80 | (c & 0x3F));
+            }
+        }
+        length = pos;
+        return this;
+    }
+
+    byte[] bytes() {
+        return bytes;
+    }
+
+    void reset() {
+        length = 0;
+        if (bytes.length > MAX_RETAINED_CAPACITY) {
+            bytes = new byte[INITIAL_CAPACITY];
+        }
+    }
+
+    private void ensureCapacity(int additional) {
+        int required = length + additional;
+        if (required > bytes.length) {
+            bytes = Arrays.copyOf(bytes, Math.max(required, bytes.length * 2));
+        }
+    }
+
+    @Override
+    public String toString() {
+        return new String(bytes, 0, length, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,115 @@
+package io.quarkus.vertx.http.runtime.filters.accesslog;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.Objects;
+
+import org.jboss.logging.Logger;
+
+import io.quarkus.vertx.http.runtime.attribute.CompositeExchangeAttribute;
+import io.quarkus.vertx.http.runtime.attribute.ConstantExchangeAttribute;
+import io.quarkus.vertx.http.runtime.attribute.ExchangeAttribute;
+import io.quarkus.vertx.http.runtime.attribute.ExchangeAttributeParser;
+import io.quarkus.vertx.http.runtime.attribute.ReadOnlyAttributeException;
+import io.quarkus.vertx.http.runtime.attribute.SubstituteEmptyWrapper.SubstituteEmptyAttribute;
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * Base class of the access log formats compiled at build time.
+ * <p>
+ * A generated subclass appends the constant parts of the format as bytes encoded at build time, and calls each attribute
+ * of the format from its own call site, instead of walking the {@link CompositeExchangeAttribute} created by the
+ * {@link ExchangeAttributeParser}. The attributes themselves are still created at runtime by the parser, and are passed
+ * to the constructor of the subclass, which checks that they match the tokens seen at build time.
+ */
+public abstract class CompiledAccessLogFormat implements ExchangeAttribute {
+
+    private static final Logger log = Logger.getLogger(CompiledAccessLogFormat.class);
+
+    protected CompiledAccessLogFormat(ExchangeAttribute[] attributes, int count) {
+        if (attributes.length != count) {
+            throw new IllegalArgumentException("Expected " + count + " attributes, got " + attributes.length);
+        }
+    }
+
+    /**
+     * Creates an instance of the given compiled format.
+     *
+     * @param className the name of the class generated for the format
+     * @param format the attribute created by the {@link ExchangeAttributeParser} for the same format
+     * @param classLoader the class loader of the generated class
+     * @return the compiled format, or the given attribute if the compiled format does not match it
+     */
+    public static ExchangeAttribute create(String className, ExchangeAttribute format, ClassLoader classLoader) {
+        ExchangeAttribute[] attributes = format instanceof CompositeExchangeAttribute composite
+                ? composite.getAttributes()
+                : new ExchangeAttribute[] { format };
+        try {
+            return (ExchangeAttribute) Class.forName(className, true, classLoader)
+                    .getConstructor(ExchangeAttribute[].class)
+                    .newInstance((Object) attributes);
+        } catch (InvocationTargetException e) {
+            if (e.getCause() instanceof IllegalArgumentException) {
+                // an attribute builder registered at runtime changed the meaning of a token
+                log.debugf("The compiled access log format %s does not match the parsed format: %s", className,
+                        e.getCause().getMessage());
+                return format;
+            }
+            throw new IllegalStateException("Unable to create the compiled access log format " + className, e);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Unable to create the compiled access log format " + className, e);
+        }
+    }
+
+    /**
+     * @return the attribute at the given index, unwrapped from the {@link SubstituteEmptyAttribute} that substitutes
+     *         empty values with the given substitute, if any
+     * @throws IllegalArgumentException if the attribute is not wrapped as expected
+     */
+    protected static ExchangeAttribute attribute(ExchangeAttribute[] attributes, int index, String substitute) {
+        ExchangeAttribute attribute = attributes[index];
+        if (attribute instanceof SubstituteEmptyAttribute substituteEmpty) {
+            if (!substituteEmpty.getSubstitute().equals(substitute)) {
+                throw new IllegalArgumentException("Unexpected substitute for attribute " + index);
+            }
+            return substituteEmpty.getAttribute();
+        } else if (substitute != null) {
+            throw new IllegalArgumentException("Expected a substitute for attribute " + index);
+        }
+        return attribute;
+    }
+
+    /**
+     * @throws IllegalArgumentException if the attribute at the given index is not a constant with the given value
+     */
+    protected static void constant(ExchangeAttribute[] attributes, int index, String value) {
+        ExchangeAttribute attribute = attributes[index];
+        if (attribute instanceof SubstituteEmptyAttribute substituteEmpty) {
+            attribute = substituteEmpty.getAttribute();
+        }
+        if (!(attribute instanceof ConstantExchangeAttribute constant) || !Objects.equals(constant.getValue(), value)) {
+            throw new IllegalArgumentException("Expected the constant '" + value + "' for attribute " + index);
+        }
+    }
+
+    /**
+     * @return the value of an attribute as merged by {@link CompositeExchangeAttribute#readAttribute}, i.e. the
+     *         substitute if it is empty, and an empty string if it is {@code null} and there is no substitute
+     */
+    protected static String value(String value, String substitute) {
+        if (substitute != null && (value == null || value.isEmpty())) {
+            return substitute;
+        }
+        return value != null ? value : "";
+    }
+
+    @Override
+    public abstract void appendAttribute(RoutingContext exchange, AccessLogRecord record);
+
+    @Override
+    public abstract String readAttribute(RoutingContext exchange);
+
+    @Override
+    public void writeAttribute(RoutingContext exchange, String newValue) throws ReadOnlyAttributeException {
+        throw new ReadOnlyAttributeException("combined", newValue);
+    }
+}
@@ -0,0 +1,396 @@
+package io.quarkus.vertx.http.runtime.filters.accesslog;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.text.SimpleDateFormat;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+import org.jboss.logging.Logger;
+
+import io.quarkus.vertx.http.runtime.attribute.ExchangeAttribute;
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * Log receiver that encodes the access log records into a preallocated off-heap ring buffer, which is drained to the
+ * log file by a dedicated writer thread.
+ * <p>
+ * The records are encoded as UTF-8 by the request threads, without building a {@code String}, and copied to the ring
+ * buffer after a lock-free claim of their slot. A record that does not fit in the buffer, because the writer does not
+ * keep up, is dropped and counted. The writer copies the published records to a write buffer, and writes it with a
+ * single {@link FileChannel#write(ByteBuffer)} call per batch.
+ * <p>
+ * The log file is rotated after midnight, like {@link DefaultAccessLogReceiver}, and when it exceeds the optional
+ * maximum size.
+ */
+public class RingBufferAccessLogReceiver implements AccessLogReceiver, Closeable {
+
+    private static final Logger log = Logger.getLogger(RingBufferAccessLogReceiver.class);
+
+    private static final String DEFAULT_LOG_SUFFIX = "log";
+    private static final String DOT = ".";
+
+    /**
+     * Each record starts with an {@code int} header: the length of the record once it is published, a negative value
+     * for the padding at the end of the buffer, and {@code 0} while it is not published. The records are aligned so that
+     * the header can be accessed atomically.
+     */
+    private static final int HEADER_LENGTH = 4;
+    private static final int ALIGNMENT = 8;
+    private static final VarHandle HEADER = MethodHandles.byteBufferViewVarHandle(int[].class, ByteOrder.nativeOrder());
+
+    private static final int MIN_CAPACITY = 64 * 1024;
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+    private static final byte[] ZEROS = new byte[4096];
+    private static final byte[] LINE_SEPARATOR = System.lineSeparator().getBytes(StandardCharsets.UTF_8);
+
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+    private static final long DROPPED_REPORT_INTERVAL_MILLIS = TimeUnit.MINUTES.toMillis(1);
+    private static final long CLOSE_TIMEOUT_MILLIS = TimeUnit.SECONDS.toMillis(10);
+
+    private final ByteBuffer buffer;
+    private final int capacity;
+    private final int maxRecordLength;
+    private final AtomicLong tail = new AtomicLong();
+    private volatile long head;
+    private final LongAdder droppedRecords = new LongAdder();
+    private final ThreadLocal<AccessLogRecord> records = ThreadLocal.withInitial(AccessLogRecord::new);
+
+    private final Thread writerThread;
+    private volatile boolean writerParked;
+    private volatile boolean closed;
+
+    private final Path outputDirectory;
+    private final Path defaultLogFile;
+    private final String logBaseName;
+    private final String logNameSuffix; // always starts with a '.' character
+    private final boolean rotate;
+    private final long rotateSize;
+
+    // only accessed by the writer thread
+    private final ByteBuffer writeBuffer = ByteBuffer.allocateDirect(WRITE_BUFFER_SIZE);
+    private FileChannel channel;
+    private long fileSize;
+    private long changeOverPoint;
+    private String currentDateString;
+    private long reportedDroppedRecords;
+    private long lastDroppedReport;
+
+    /**
+     * @param bufferSize the size of the ring buffer, rounded up to a power of two
+     * @param outputDirectory the directory of the log file
+     * @param logBaseName the base name of the log file
+     * @param logNameSuffix the suffix of the log file, {@code .log} if {@code null}
+     * @param rotate if the log file should be rotated after midnight
+     * @param rotateSize the size above which the log file is rotated, or {@code 0} if it should not be rotated by size
+     */
+    public RingBufferAccessLogReceiver(long bufferSize, Path outputDirectory, String logBaseName, String logNameSuffix,
+            boolean rotate, long rotateSize) {
+        this(bufferSize, outputDirectory, logBaseName, logNameSuffix, rotate, rotateSize, true);
+    }
+
+    RingBufferAccessLogReceiver(long bufferSize, Path outputDirectory, String logBaseName, String logNameSuffix,
+            boolean rotate, long rotateSize, boolean startWriter) {
+        if (bufferSize > 1 << 30) {
+            throw new IllegalArgumentException("The access log buffer size must not exceed 1G: " + bufferSize);
+        }
+        this.capacity = Math.max(MIN_CAPACITY, Integer.highestOneBit((int) bufferSize - 1) << 1);
+        this.maxRecordLength = capacity / 4 - HEADER_LENGTH;
+        this.buffer = ByteBuffer.allocateDirect(capacity).order(ByteOrder.nativeOrder());
+        this.outputDirectory = outputDirectory;
+        this.logBaseName = effectiveLogBaseName(logBaseName);
+        this.logNameSuffix = effectiveLogNameSuffix(logNameSuffix);
+        this.rotate = rotate;
+        this.rotateSize = rotateSize;
+        this.defaultLogFile = outputDirectory.resolve(this.logBaseName + this.logNameSuffix);
+        if (rotate) {
+            calculateChangeOverPoint();
+        } else {
+            this.changeOverPoint = Long.MAX_VALUE;
+        }
+        this.writerThread = new Thread(this::runWriter, "access-log-writer");
+        this.writerThread.setDaemon(true);
+        if (startWriter) {
+            this.writerThread.start();
+        }
+    }
+
+    private static String effectiveLogBaseName(String logBaseName) {
+        if (logBaseName == null) {
+            return "";
+        }
+        if (!logBaseName.endsWith(DOT)) {
+            return logBaseName;
+        }
+        return logBaseName.substring(0, logBaseName.length() - 1);
+    }
+
+    private static String effectiveLogNameSuffix(String logNameSuffix) {
+        var result = (logNameSuffix != null) ? logNameSuffix : DEFAULT_LOG_SUFFIX;
+        if (result.charAt(0) != '.') {
+            return '.' + result;
+        }
+        return result;
+    }
+
+    /**
+     * @return the number of records dropped because the ring buffer was full
+     */
+    public long getDroppedRecords() {
+        return droppedRecords.sum();
+    }
+
+    @Override
+    public void logMessage(String message) {
+        AccessLogRecord record = records.get();
+        record.reset();
+        record.append(message);
+        publish(record);
+    }
+
+    @Override
+    public void logMessage(RoutingContext exchange, ExchangeAttribute message) {
+        AccessLogRecord record = records.get();
+        record.reset();
+        message.appendAttribute(exchange, record);
+        publish(record);
+    }
+
+    private void publish(AccessLogRecord record) {
+        record.append(LINE_SEPARATOR);
+        int length = record.length();
+        if (closed || length > maxRecordLength) {
+            droppedRecords.increment();
+            return;
+        }
+        int required = align(HEADER_LENGTH + length);
+        long tail;
+        int index;
+        int padding;
+        do {
+            tail = this.tail.get();
+            index = (int) (tail & (capacity - 1));
+            // a record is never split, the end of the buffer is skipped instead
+            padding = required > capacity - index ? capacity - index : 0;
+            if (tail + padding + required - head > capacity) {
+                droppedRecords.increment();
+                return;
+            }
+        } while (!this.tail.compareAndSet(tail, tail + padding + required));
+        if (padding > 0) {
+            HEADER.setVolatile(buffer, index, -padding);
+            index = 0;
+        }
+        buffer.put(index + HEADER_LENGTH, record.bytes(), 0, length);
+        HEADER.setVolatile(buffer, index, length);
+        if (writerParked) {
+            LockSupport.unpark(writerThread);
+        }
+    }
+
+    private static int align(int length) {
+        return (length + ALIGNMENT - 1) & -ALIGNMENT;
+    }
+
+    private void runWriter() {
+        rotateIfOutdated();
+        while (true) {
+            // read before draining, so that the records published before close() are written
+            boolean closing = closed;
+            int drained = drain();
+            reportDroppedRecords(closing);
+            if (closing && drained == 0) {
+                break;
+            }
+            if (drained == 0) {
+                writerParked = true;
+                if (!hasPublishedRecord()) {
+                    LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+                }
+                writerParked = false;
+            }
+        }
+        closeChannel();
+    }
+
+    private boolean hasPublishedRecord() {
+        return (int) HEADER.getVolatile(buffer, (int) (head & (capacity - 1))) != 0;
+    }
+
+    /**
+     * Writes the published records to the log file.
+     *
+     * @return the number of records written
+     */
+    int drain() {
+        long head = this.head;
+        int drained = 0;
+        writeBuffer.clear();
+        while (true) {
+            int index = (int) (head & (capacity - 1));
+            int header = (int) HEADER.getVolatile(buffer, index);
+            if (header == 0) {
+                break;
+            }
+            int consumed;
+            if (header < 0) {
+                consumed = -header;
+            } else {
+                consumed = align(HEADER_LENGTH + header);
+                if (writeBuffer.remaining() < header) {
+                    write(writeBuffer.flip());
+                    writeBuffer.clear();
+                }
+                if (header > writeBuffer.capacity()) {
+                    write(buffer.slice(index + HEADER_LENGTH, header));
+                } else {
+                    writeBuffer.put(buffer.slice(index + HEADER_LENGTH, header));
+                }
+                drained++;
+            }
+            // the headers of the next records are expected to be 0
+            for (int i = 0; i < consumed; i += ZEROS.length) {
+                buffer.put(index + i, ZEROS, 0, Math.min(ZEROS.length, consumed - i));
+            }
+            head += consumed;
+            this.head = head;
+        }
+        if (writeBuffer.position() > 0) {
+            write(writeBuffer.flip());
+        }
+        return drained;
+    }
+
+    private void write(ByteBuffer data) {
+        int length = data.remaining();
+        try {
+            if (System.currentTimeMillis() > changeOverPoint) {
+                doRotate(currentDateString);
+                calculateChangeOverPoint();
+            } else if (rotateSize > 0 && fileSize > 0 && fileSize + length > rotateSize) {
+                doRotate(new SimpleDateFormat("yyyy-MM-dd", Locale.US).format(new Date()));
+            }
+            if (channel == null) {
+                channel = FileChannel.open(defaultLogFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                        StandardOpenOption.APPEND);
+                fileSize = channel.size();
+            }
+            while (data.hasRemaining()) {
+                channel.write(data);
+            }
+            fileSize += length;
+        } catch (IOException e) {
+            log.error("Error writing access log", e);
+            closeChannel();
+        }
+    }
+
+    private void closeChannel() {
+        if (channel != null) {
+            try {
+                channel.close();
+            } catch (IOException e) {
+                log.error("Error closing access log", e);
+            }
+            channel = null;
+        }
+    }
+
+    private void reportDroppedRecords(boolean force) {
+        long dropped = droppedRecords.sum();
+        if (dropped == reportedDroppedRecords) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        if (force || now - lastDroppedReport >= DROPPED_REPORT_INTERVAL_MILLIS) {
+            log.warnf("%d access log records were dropped because the buffer was full (%d in total), consider"
+                    + " increasing quarkus.http.access-log.ring-buffer.size", dropped - reportedDroppedRecords, dropped);
+            reportedDroppedRecords = dropped;
+            lastDroppedReport = now;
+        }
+    }
+
+    private void calculateChangeOverPoint() {
+        Calendar calendar = Calendar.getInstance();
+        calendar.set(Calendar.SECOND, 0);
+        calendar.set(Calendar.MINUTE, 0);
+        calendar.set(Calendar.HOUR_OF_DAY, 0);
+        calendar.add(Calendar.DATE, 1);
+        SimpleDateFormat df = new SimpleDateFormat("yyyy-MM-dd", Locale.US);
+        currentDateString = df.format(new Date());
+        // if there is an existing default log file, use the date last modified instead of the current date
+        if (Files.exists(defaultLogFile)) {
+            try {
+                currentDateString = df.format(new Date(Files.getLastModifiedTime(defaultLogFile).toMillis()));
+            } catch (IOException e) {
+                // ignore. use the current date if exception happens.
+            }
+        }
+        changeOverPoint = calendar.getTimeInMillis();
+    }
+
+    private void rotateIfOutdated() {
+        if (!rotate || !Files.exists(defaultLogFile)) {
+            return;
+        }
+        // if there is an existing log file check if it should be rotated
+        try {
+            Calendar c = Calendar.getInstance();
+            c.setTimeInMillis(changeOverPoint);
+            c.add(Calendar.DATE, -1);
+            if (Files.getLastModifiedTime(defaultLogFile).toMillis() <= c.getTimeInMillis()) {
+                doRotate(currentDateString);
+                calculateChangeOverPoint();
+            }
+        } catch (IOException e) {
+            log.error("Error rotating access log", e);
+        }
+    }
+
+    private void doRotate(String dateString) {
+        fileSize = 0;
+        try {
+            closeChannel();
+            if (!Files.exists(defaultLogFile)) {
+                return;
+            }
+            Path newFile = outputDirectory.resolve(logBaseName + DOT + dateString + logNameSuffix);
+            int count = 0;
+            while (Files.exists(newFile)) {
+                ++count;
+                newFile = outputDirectory.resolve(logBaseName + DOT + dateString + "-" + count + logNameSuffix);
+            }
+            Files.move(defaultLogFile, newFile);
+        } catch (IOException e) {
+            log.error("Error rotating access log", e);
+        }
+    }
+
+    /**
+     * Writes the pending records and stops the writer thread.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        LockSupport.unpark(writerThread);
+        try {
+            writerThread.join(CLOSE_TIMEOUT_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -32,13 +32,19 @@
  * A security policy that allows for matching of other security policies based on paths.
  * <p>
  * This is used for the default path/method based RBAC.
+ * <p>
+ * The permissions are compiled into a decision table when the policy is created: each path of the path matcher maps
+ * the HTTP methods to precomputed policy chains, and the roles allowed by the role policies are mapped to bitsets by a
+ * shared {@link RoleIndex}. Checking a request is then a path match, a method lookup, and a few bit operations per role
+ * policy.
  */
 public class AbstractPathMatchingHttpSecurityPolicy {
 
     private static final String PATH_MATCHING_POLICY_FOUND = AbstractPathMatchingHttpSecurityPolicy.class.getName()
             + ".POLICY_FOUND";
-    private final ImmutablePathMatcher<List<HttpMatcher>> pathMatcher;
-    private final List<ImmutablePathMatcher<List<HttpMatcher>>> sharedPermissionsPathMatchers;
+    private static final HttpSecurityPolicy[] NO_POLICIES = new HttpSecurityPolicy[0];
+    private final ImmutablePathMatcher<PathPermissions> pathMatcher;
+    private final List<ImmutablePathMatcher<PathPermissions>> sharedPermissionsPathMatchers;
     private final boolean hasNoPermissions;
 
     AbstractPathMatchingHttpSecurityPolicy(List<HttpSecurityConfiguration.HttpPermissionCarrier> httpPermissions,
@@ -46,8 +52,9 @@ public class AbstractPathMatchingHttpSecurityPolicy {
             PolicyMappingConfig.AppliesTo appliesTo) {
         boolean hasNoPermissions = true;
         var namedHttpSecurityPolicies = toNamedHttpSecPolicies(rolePolicy, installedPolicies);
-        List<ImmutablePathMatcher<List<HttpMatcher>>> sharedPermsMatchers = new ArrayList<>();
-        final var builder = ImmutablePathMatcher.<List<HttpMatcher>> builder().handlerAccumulator(List::addAll)
+        List<ImmutablePathMatcher<PathPermissions>> sharedPermsMatchers = new ArrayList<>();
+        List<PathPermissions> allPathPermissions = new ArrayList<>();
+        final var builder = ImmutablePathMatcher.<PathPermissions> builder().handlerAccumulator(PathPermissions::addAll)
                 .rootPath(rootPath);
         for (var httpPermission : httpPermissions) {
             if (appliesTo != httpPermission.getAppliesTo()) {
@@ -57,29 +64,35 @@ public class AbstractPathMatchingHttpSecurityPolicy {
                 hasNoPermissions = false;
             }
             if (httpPermission.isShared()) {
-                final var builder1 = ImmutablePathMatcher.<List<HttpMatcher>> builder().handlerAccumulator(List::addAll)
-                        .rootPath(rootPath);
-                addPermissionToPathMatcher(namedHttpSecurityPolicies, httpPermission, builder1);
+                final var builder1 = ImmutablePathMatcher.<PathPermissions> builder()
+                        .handlerAccumulator(PathPermissions::addAll).rootPath(rootPath);
+                addPermissionToPathMatcher(namedHttpSecurityPolicies, httpPermission, builder1, allPathPermissions);
                 sharedPermsMatchers.add(builder1.build());
             } else {
-                addPermissionToPathMatcher(namedHttpSecurityPolicies, httpPermission, builder);
+                addPermissionToPathMatcher(namedHttpSecurityPolicies, httpPermission, builder, allPathPermissions);
             }
         }
         this.hasNoPermissions = hasNoPermissions;
         this.sharedPermissionsPathMatchers = sharedPermsMatchers.isEmpty() ? null : List.copyOf(sharedPermsMatchers);
         this.pathMatcher = builder.build();
+        // the permissions of a path are final once the path matcher is built
+        for (PathPermissions pathPermissions : allPathPermissions) {
+            pathPermissions.compile();
+        }
     }
 
     AuthenticationMechanisms getAuthMechanisms(RoutingContext routingContext) {
+        String path = HttpSecurityUtils.normalizePath(routingContext.normalizedPath());
+        String method = routingContext.request().method().toString();
         if (sharedPermissionsPathMatchers != null) {
-            for (ImmutablePathMatcher<List<HttpMatcher>> matcher : sharedPermissionsPathMatchers) {
-                AuthenticationMechanisms authMechanisms = getAuthMechanisms(routingContext, matcher);
+            for (ImmutablePathMatcher<PathPermissions> matcher : sharedPermissionsPathMatchers) {
+                AuthenticationMechanisms authMechanisms = findPolicyChain(path, method, matcher).authMechanisms();
                 if (authMechanisms != null) {
                     return authMechanisms;
                 }
             }
         }
-        return getAuthMechanisms(routingContext, pathMatcher);
+        return findPolicyChain(path, method, pathMatcher).authMechanisms();
     }
 
     public boolean hasNoPermissions() {
@@ -93,43 +106,51 @@ public Uni<CheckResult> checkPermission(RoutingContext routingContext, Uni<Secur
 
     Uni<CheckResult> checkPermissions(RoutingContext routingContext, Uni<SecurityIdentity> identity,
             AuthorizationRequestContext requestContext, HttpSecurityPolicy... additionalPolicies) {
-        final List<HttpSecurityPolicy> permissionCheckers = hasNoPermissions ? new ArrayList<>()
+        HttpSecurityPolicy[] permissionCheckers = hasNoPermissions ? NO_POLICIES
                 : getHttpSecurityPolicies(routingContext);
         if (additionalPolicies.length > 0) {
-            if (additionalPolicies.length == 1) {
-                permissionCheckers.add(additionalPolicies[0]);
-            } else {
-                permissionCheckers.addAll(Arrays.asList(additionalPolicies));
-            }
+            permissionCheckers = concat(permissionCheckers, additionalPolicies);
         }
         return doPermissionCheck(routingContext, identity, 0, null, permissionCheckers, requestContext);
     }
 
-    private List<HttpSecurityPolicy> getHttpSecurityPolicies(RoutingContext routingContext) {
-        final List<HttpSecurityPolicy> permissionCheckers;
-        if (sharedPermissionsPathMatchers == null) {
-            permissionCheckers = findPermissionCheckers(routingContext, pathMatcher);
-        } else {
-            permissionCheckers = new ArrayList<>();
-            for (ImmutablePathMatcher<List<HttpMatcher>> matcher : sharedPermissionsPathMatchers) {
-                permissionCheckers.addAll(findPermissionCheckers(routingContext, matcher));
+    /**
+     * @return the policy chain of the request, shared and must not be modified
+     */
+    HttpSecurityPolicy[] getHttpSecurityPolicies(RoutingContext routingContext) {
+        String path = HttpSecurityUtils.normalizePath(routingContext.normalizedPath());
+        String method = routingContext.request().method().toString();
+        HttpSecurityPolicy[] permissionCheckers = NO_POLICIES;
+        if (sharedPermissionsPathMatchers != null) {
+            for (ImmutablePathMatcher<PathPermissions> matcher : sharedPermissionsPathMatchers) {
+                permissionCheckers = concat(permissionCheckers, findPolicyChain(path, method, matcher).policies());
             }
-            permissionCheckers.addAll(findPermissionCheckers(routingContext, pathMatcher));
         }
-        return permissionCheckers;
+        return concat(permissionCheckers, findPolicyChain(path, method, pathMatcher).policies());
+    }
+
+    private static HttpSecurityPolicy[] concat(HttpSecurityPolicy[] first, HttpSecurityPolicy[] second) {
+        if (first.length == 0) {
+            return second;
+        } else if (second.length == 0) {
+            return first;
+        }
+        HttpSecurityPolicy[] result = Arrays.copyOf(first, first.length + second.length);
+        System.arraycopy(second, 0, result, first.length, second.length);
+        return result;
     }
 
     private Uni<CheckResult> doPermissionCheck(RoutingContext routingContext,
             Uni<SecurityIdentity> identity, int index, SecurityIdentity augmentedIdentity,
-            List<HttpSecurityPolicy> permissionCheckers, AuthorizationRequestContext requestContext) {
-        if (index == permissionCheckers.size()) {
+            HttpSecurityPolicy[] permissionCheckers, AuthorizationRequestContext requestContext) {
+        if (index == permissionCheckers.length) {
             if (index > 0) {
                 routingContext.put(PATH_MATCHING_POLICY_FOUND, true);
             }
             return Uni.createFrom().item(new CheckResult(true, augmentedIdentity));
         }
         //get the current checker
-        HttpSecurityPolicy res = permissionCheckers.get(index);
+        HttpSecurityPolicy res = permissionCheckers[index];
         return res.checkPermission(routingContext, identity, requestContext)
                 .flatMap(new Function<CheckResult, Uni<? extends CheckResult>>() {
                     @Override
@@ -160,19 +181,10 @@ public Uni<? extends CheckResult> apply(CheckResult checkResult) {
                 });
     }
 
-    private static AuthenticationMechanisms getAuthMechanisms(RoutingContext routingContext,
-            ImmutablePathMatcher<List<HttpMatcher>> pathMatcher) {
-        for (HttpMatcher i : findHttpMatchers(routingContext, pathMatcher)) {
-            if (i.authMechanisms != null) {
-                return i.authMechanisms;
-            }
-        }
-        return null;
-    }
-
     private static void addPermissionToPathMatcher(Map<String, HttpSecurityPolicy> permissionCheckers,
             HttpSecurityConfiguration.HttpPermissionCarrier httpPermission,
-            ImmutablePathMatcher.ImmutablePathMatcherBuilder<List<HttpMatcher>> builder) {
+            ImmutablePathMatcher.ImmutablePathMatcherBuilder<PathPermissions> builder,
+            List<PathPermissions> allPathPermissions) {
         final HttpSecurityPolicy policy;
         if (httpPermission.getPolicy().instance() != null) {
             policy = httpPermission.getPolicy().instance();
@@ -192,45 +204,19 @@ private static void addPermissionToPathMatcher(Map<String, HttpSecurityPolicy> p
                         """.formatted(path));
             }
             HttpMatcher m = new HttpMatcher(httpPermission.getAuthMechanisms(), httpPermission.getMethods(), policy);
-            List<HttpMatcher> perms = new ArrayList<>();
-            perms.add(m);
+            PathPermissions perms = new PathPermissions(m);
+            allPathPermissions.add(perms);
             builder.addPath(HttpSecurityUtils.normalizePath(path), perms);
         }
     }
 
-    private static List<HttpSecurityPolicy> findPermissionCheckers(RoutingContext context,
-            ImmutablePathMatcher<List<HttpMatcher>> pathMatcher) {
-        List<HttpSecurityPolicy> list = new ArrayList<>();
-        for (HttpMatcher httpMatcher : findHttpMatchers(context, pathMatcher)) {
-            list.add(httpMatcher.checker);
-        }
-        return list;
-    }
-
-    private static List<HttpMatcher> findHttpMatchers(RoutingContext context,
-            ImmutablePathMatcher<List<HttpMatcher>> pathMatcher) {
-        String normalizedPath = context.normalizedPath();
-        PathMatch<List<HttpMatcher>> toCheck = pathMatcher.match(HttpSecurityUtils.normalizePath(normalizedPath));
-        if (toCheck.getValue() == null || toCheck.getValue().isEmpty()) {
-            return List.of();
-        }
-        List<HttpMatcher> methodMatch = new ArrayList<>();
-        List<HttpMatcher> noMethod = new ArrayList<>();
-        for (HttpMatcher i : toCheck.getValue()) {
-            if (i.methods == null || i.methods.isEmpty()) {
-                noMethod.add(i);
-            } else if (i.methods.contains(context.request().method().toString())) {
-                methodMatch.add(i);
-            }
-        }
-        if (!methodMatch.isEmpty()) {
-            return methodMatch;
-        } else if (!noMethod.isEmpty()) {
-            return noMethod;
-        } else {
-            //we deny if we did not match due to method filtering
-            return List.of(HttpMatcher.DENY);
+    private static PolicyChain findPolicyChain(String normalizedPath, String method,
+            ImmutablePathMatcher<PathPermissions> pathMatcher) {
+        PathMatch<PathPermissions> toCheck = pathMatcher.match(normalizedPath);
+        if (toCheck.getValue() == null) {
+            return PolicyChain.EMPTY;
         }
+        return toCheck.getValue().getPolicyChain(method);
     }
 
     static boolean policyApplied(RoutingContext routingContext) {
@@ -256,6 +242,12 @@ private static Map<String, HttpSecurityPolicy> toNamedHttpSecPolicies(Map<String
             }
         }
 
+        // all the role policies share one role index, so that the identity roles are mapped to bits once per request
+        final List<String> allRolesAllowed = new ArrayList<>();
+        for (PolicyConfig policyConfig : rolePolicies.values()) {
+            allRolesAllowed.addAll(policyConfig.rolesAllowed());
+        }
+        final RoleIndex roleIndex = new RoleIndex(allRolesAllowed);
         for (Map.Entry<String, PolicyConfig> e : rolePolicies.entrySet()) {
             final PolicyConfig policyConfig = e.getValue();
             final Map<String, Set<Permission>> roleToPermissions;
@@ -288,7 +280,7 @@ private static Map<String, HttpSecurityPolicy> toNamedHttpSecPolicies(Map<String
                 }
             }
             var rolesAllowedPolicy = new RolesAllowedHttpSecurityPolicy(policyConfig.rolesAllowed(), roleToPermissions,
-                    policyConfig.roles());
+                    policyConfig.roles(), roleIndex);
             var previousPolicy = namedPolicies.put(e.getKey(), rolesAllowedPolicy);
             if (previousPolicy != null) {
                 throw duplicateNamedPoliciesNotAllowedEx(previousPolicy, rolesAllowedPolicy);
@@ -424,6 +416,87 @@ static ConfigurationException duplicateNamedPoliciesNotAllowedEx(HttpSecurityPol
     }
 
     record HttpMatcher(AuthenticationMechanisms authMechanisms, Set<String> methods, HttpSecurityPolicy checker) {
-        private static final HttpMatcher DENY = new HttpMatcher(null, Set.of(), DenySecurityPolicy.INSTANCE);
+    }
+
+    /**
+     * Policies checked for a request, with the authentication mechanisms of the first permission that selects them.
+     */
+    record PolicyChain(HttpSecurityPolicy[] policies, AuthenticationMechanisms authMechanisms) {
+
+        private static final PolicyChain EMPTY = new PolicyChain(NO_POLICIES, null);
+        //we deny if we did not match due to method filtering
+        private static final PolicyChain DENY = new PolicyChain(new HttpSecurityPolicy[] { DenySecurityPolicy.INSTANCE },
+                null);
+
+        private static PolicyChain of(List<HttpMatcher> matchers) {
+            HttpSecurityPolicy[] policies = new HttpSecurityPolicy[matchers.size()];
+            AuthenticationMechanisms authMechanisms = null;
+            for (int i = 0; i < policies.length; i++) {
+                HttpMatcher matcher = matchers.get(i);
+                policies[i] = matcher.checker;
+                if (authMechanisms == null) {
+                    authMechanisms = matcher.authMechanisms;
+                }
+            }
+            return new PolicyChain(policies, authMechanisms);
+        }
+    }
+
+    /**
+     * Permissions of one path of the path matcher. Permissions declared with the same path are accumulated while the
+     * path matcher is built, then {@link #compile()} resolves the policy chain of each HTTP method: the permissions
+     * that list the method if any, otherwise the permissions without methods, otherwise a denial.
+     */
+    static final class PathPermissions {
+
+        private final List<HttpMatcher> matchers = new ArrayList<>(1);
+        private Map<String, PolicyChain> methodToPolicyChain;
+        private PolicyChain otherMethodsPolicyChain;
+
+        private PathPermissions(HttpMatcher matcher) {
+            matchers.add(matcher);
+        }
+
+        private void addAll(PathPermissions other) {
+            matchers.addAll(other.matchers);
+        }
+
+        private void compile() {
+            List<HttpMatcher> noMethod = new ArrayList<>();
+            Set<String> methods = new HashSet<>();
+            for (HttpMatcher i : matchers) {
+                if (i.methods == null || i.methods.isEmpty()) {
+                    noMethod.add(i);
+                } else {
+                    methods.addAll(i.methods);
+                }
+            }
+            otherMethodsPolicyChain = noMethod.isEmpty() ? PolicyChain.DENY : PolicyChain.of(noMethod);
+            if (methods.isEmpty()) {
+                methodToPolicyChain = Map.of();
+            } else {
+                Map<String, PolicyChain> methodToPolicyChain = new HashMap<>();
+                for (String method : methods) {
+                    List<HttpMatcher> methodMatch = new ArrayList<>();
+                    for (HttpMatcher i : matchers) {
+                        if (i.methods != null && i.methods.contains(method)) {
+                            methodMatch.add(i);
+                        }
+                    }
+                    methodToPolicyChain.put(method, PolicyChain.of(methodMatch));
+                }
+                this.methodToPolicyChain = Map.copyOf(methodToPolicyChain);
+            }
+        }
+
+        private PolicyChain getPolicyChain(String method) {
+            if (!methodToPolicyChain.isEmpty()) {
+                PolicyChain policyChain = methodToPolicyChain.get(method);
+                if (policyChain != null) {
+                    return policyChain;
+                }
+            }
+            return otherMethodsPolicyChain;
+        }
     }
 }
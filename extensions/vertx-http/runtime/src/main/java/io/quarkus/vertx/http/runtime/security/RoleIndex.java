@@ -0,0 +1,86 @@
+package io.quarkus.vertx.http.runtime.security;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+import io.quarkus.security.identity.SecurityIdentity;
+import io.quarkus.security.runtime.QuarkusSecurityIdentity;
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * Maps the roles allowed by the role policies of the HTTP permissions to bit indexes, so that a role policy checks the
+ * roles of an identity with a few bit operations instead of a set lookup per allowed role.
+ * <p>
+ * The roles of an identity are mapped to a bitset once per request, and shared by all the role policies checked for
+ * the request.
+ */
+final class RoleIndex {
+
+    private static final String IDENTITY_ROLES_KEY = RoleIndex.class.getName() + ".IDENTITY_ROLES";
+    private final Map<String, Integer> roleToIndex;
+    private final int words;
+
+    RoleIndex(Collection<String> roles) {
+        Map<String, Integer> roleToIndex = new HashMap<>();
+        for (String role : roles) {
+            roleToIndex.putIfAbsent(role, roleToIndex.size());
+        }
+        // not an immutable map, role names often differ by a suffix and their sequential hashes would cluster when probed
+        this.roleToIndex = roleToIndex;
+        this.words = Math.max(1, (roleToIndex.size() + 63) >>> 6);
+    }
+
+    /**
+     * @return the bitset of the given roles, the roles that are not indexed are ignored
+     */
+    long[] toBits(Collection<String> roles) {
+        long[] bits = new long[words];
+        for (String role : roles) {
+            Integer index = roleToIndex.get(role);
+            if (index != null) {
+                bits[index >>> 6] |= 1L << index;
+            }
+        }
+        return bits;
+    }
+
+    /**
+     * @param routingContext the routing context where the bitset is kept for the duration of the request, may be null
+     * @return the bitset of the identity roles, or null if {@link SecurityIdentity#hasRole(String)} of the identity
+     *         may not be backed by {@link SecurityIdentity#getRoles()}
+     */
+    long[] identityBits(RoutingContext routingContext, SecurityIdentity identity) {
+        if (routingContext != null && routingContext.get(IDENTITY_ROLES_KEY) instanceof IdentityRoles identityRoles
+                && identityRoles.identity == identity && identityRoles.roleIndex == this) {
+            return identityRoles.bits;
+        }
+        if (!hasRolesBackedBySet(identity)) {
+            return null;
+        }
+        long[] bits = toBits(identity.getRoles());
+        if (routingContext != null) {
+            routingContext.put(IDENTITY_ROLES_KEY, new IdentityRoles(this, identity, bits));
+        }
+        return bits;
+    }
+
+    static boolean intersects(long[] bits1, long[] bits2) {
+        for (int i = 0; i < bits1.length; i++) {
+            if ((bits1[i] & bits2[i]) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean hasRolesBackedBySet(SecurityIdentity identity) {
+        if (identity instanceof RoutingContextAwareSecurityIdentity routingContextAware) {
+            identity = routingContextAware.getDelegate();
+        }
+        return identity instanceof QuarkusSecurityIdentity;
+    }
+
+    private record IdentityRoles(RoleIndex roleIndex, SecurityIdentity identity, long[] bits) {
+    }
+}
@@ -16,11 +16,25 @@
 public class RolesAllowedHttpSecurityPolicy extends RolesMapping implements HttpSecurityPolicy {
     private static final String AUTHENTICATED = "**";
     private final String[] rolesAllowed;
+    private final boolean authenticatedAllowed;
+    private final RoleIndex roleIndex;
+    private final long[] rolesAllowedBits;
 
     public RolesAllowedHttpSecurityPolicy(List<String> rolesAllowed, Map<String, Set<Permission>> roleToPermissions,
             Map<String, List<String>> roleToRoles) {
+        this(rolesAllowed, roleToPermissions, roleToRoles, null);
+    }
+
+    /**
+     * @param roleIndex index of the roles of all the role policies, used to check the roles as bitsets, may be null
+     */
+    RolesAllowedHttpSecurityPolicy(List<String> rolesAllowed, Map<String, Set<Permission>> roleToPermissions,
+            Map<String, List<String>> roleToRoles, RoleIndex roleIndex) {
         super(roleToPermissions, roleToRoles);
         this.rolesAllowed = rolesAllowed.toArray(String[]::new);
+        this.authenticatedAllowed = rolesAllowed.contains(AUTHENTICATED);
+        this.roleIndex = roleIndex;
+        this.rolesAllowedBits = roleIndex == null ? null : roleIndex.toBits(rolesAllowed);
     }
 
     @Override
@@ -32,21 +46,29 @@ public CheckResult apply(SecurityIdentity securityIdentity) {
                 if (grantPermissions || grantRoles) {
                     SecurityIdentity augmented = augmentIdentity(securityIdentity);
                     if (augmented != null) {
-                        for (String i : rolesAllowed) {
-                            if (augmented.hasRole(i) || (AUTHENTICATED.equals(i) && !augmented.isAnonymous())) {
-                                return new CheckResult(true, augmented);
-                            }
-                        }
-                        return new CheckResult(false, augmented);
-                    }
-                }
-                for (String i : rolesAllowed) {
-                    if (securityIdentity.hasRole(i) || (AUTHENTICATED.equals(i) && !securityIdentity.isAnonymous())) {
-                        return CheckResult.PERMIT;
+                        return new CheckResult(hasRoleAllowed(request, augmented), augmented);
                     }
                 }
-                return CheckResult.DENY;
+                return hasRoleAllowed(request, securityIdentity) ? CheckResult.PERMIT : CheckResult.DENY;
             }
         });
     }
+
+    boolean hasRoleAllowed(RoutingContext request, SecurityIdentity securityIdentity) {
+        if (authenticatedAllowed && !securityIdentity.isAnonymous()) {
+            return true;
+        }
+        if (roleIndex != null) {
+            long[] identityBits = roleIndex.identityBits(request, securityIdentity);
+            if (identityBits != null) {
+                return RoleIndex.intersects(identityBits, rolesAllowedBits);
+            }
+        }
+        for (String i : rolesAllowed) {
+            if (securityIdentity.hasRole(i)) {
+                return true;
+            }
+        }
+        return false;
+    }
 }
@@ -29,6 +29,10 @@ static SecurityIdentity addRoutingCtxToIdentityIfMissing(SecurityIdentity delega
         return delegate;
     }
 
+    SecurityIdentity getDelegate() {
+        return delegate;
+    }
+
     @Override
     public Principal getPrincipal() {
         return delegate.getPrincipal();
@@ -0,0 +1,39 @@
+package io.quarkus.vertx.http.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class PrecompressedStaticResourcesTest {
+
+    private static final String ETAG = "\"abc123\"";
+
+    @Test
+    void matchesWildcard() {
+        assertTrue(PrecompressedStaticResources.matches("*", ETAG));
+        assertTrue(PrecompressedStaticResources.matches(" * ", ETAG));
+    }
+
+    @Test
+    void matchesListedEntityTag() {
+        assertTrue(PrecompressedStaticResources.matches(ETAG, ETAG));
+        assertTrue(PrecompressedStaticResources.matches("\"other\", " + ETAG, ETAG));
+        assertTrue(PrecompressedStaticResources.matches("\"a,b\"," + ETAG + ",\"c\"", ETAG));
+    }
+
+    @Test
+    void matchesWeakEntityTag() {
+        assertTrue(PrecompressedStaticResources.matches("W/" + ETAG, ETAG));
+        assertTrue(PrecompressedStaticResources.matches(ETAG, "W/" + ETAG));
+    }
+
+    @Test
+    void doesNotMatchSubstring() {
+        assertFalse(PrecompressedStaticResources.matches("\"abc1234\"", ETAG));
+        assertFalse(PrecompressedStaticResources.matches("\"xabc123\"", ETAG));
+        assertFalse(PrecompressedStaticResources.matches("\"" + ETAG + "\"", ETAG));
+        assertFalse(PrecompressedStaticResources.matches("\"other\", W/\"abc\"", ETAG));
+        assertFalse(PrecompressedStaticResources.matches("", ETAG));
+    }
+}
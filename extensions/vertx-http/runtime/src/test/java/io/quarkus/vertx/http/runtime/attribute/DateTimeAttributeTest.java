@@ -8,6 +8,8 @@
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import io.quarkus.vertx.http.runtime.filters.accesslog.AccessLogRecord;
+
 class DateTimeAttributeTest {
 
     @Test
@@ -25,4 +27,14 @@ void testDefaultDateFormat() {
         Assertions.assertFalse(value.trim().isEmpty(), DateTimeAttribute.DATE_TIME_SHORT + " attribute returned empty value");
     }
 
+    @Test
+    void testAppendDefaultDateFormat() {
+        final ExchangeAttribute attribute = new DateTimeAttribute.Builder().build(DateTimeAttribute.DATE_TIME_SHORT);
+        final AccessLogRecord record = new AccessLogRecord();
+        attribute.appendAttribute(null, record);
+        attribute.appendAttribute(null, record);
+        assertThat(record.toString())
+                .matches("(\\[[0-9]{2}/[A-Za-z]{3}/[0-9]{4}:[0-9]{2}:[0-9]{2}:[0-9]{2} [+-][0-9]{4}]){2}");
+    }
+
 }
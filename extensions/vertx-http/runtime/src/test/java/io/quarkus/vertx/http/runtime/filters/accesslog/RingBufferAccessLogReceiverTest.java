@@ -0,0 +1,142 @@
+package io.quarkus.vertx.http.runtime.filters.accesslog;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class RingBufferAccessLogReceiverTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testRecordEncoding() {
+        AccessLogRecord record = new AccessLogRecord();
+        String value = "GET /café?q=€ 😀 \ud800";
+        record.append(value).append((byte) ' ').append(0).append((byte) ' ').append(-42).append((byte) ' ')
+                .append(Long.MAX_VALUE).append((byte) ' ').append(Long.MIN_VALUE);
+        assertThat(record.toString())
+                .isEqualTo(new String((value + " 0 -42 " + Long.MAX_VALUE + " " + Long.MIN_VALUE)
+                        .getBytes(StandardCharsets.UTF_8), StandardCharsets.UTF_8));
+        assertThat(record.length()).isEqualTo(record.toString().getBytes(StandardCharsets.UTF_8).length);
+    }
+
+    @Test
+    void testRecordsWrittenInOrder() throws IOException {
+        try (RingBufferAccessLogReceiver receiver = new RingBufferAccessLogReceiver(64 * 1024, tempDir, "access", null,
+                false, 0, false)) {
+            List<String> expected = new ArrayList<>();
+            // wraps around the buffer several times
+            for (int batch = 0; batch < 20; batch++) {
+                for (int i = 0; i < 100; i++) {
+                    String message = "request " + batch + "-" + i + " " + "x".repeat(i * 3) + " é";
+                    receiver.logMessage(message);
+                    expected.add(message);
+                }
+                assertThat(receiver.drain()).isEqualTo(100);
+            }
+            assertThat(receiver.drain()).isZero();
+            assertThat(receiver.getDroppedRecords()).isZero();
+            assertThat(Files.readAllLines(tempDir.resolve("access.log"))).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void testRecordsDroppedWhenFull() throws IOException {
+        try (RingBufferAccessLogReceiver receiver = new RingBufferAccessLogReceiver(64 * 1024, tempDir, "access", null,
+                false, 0, false)) {
+            String message = "x".repeat(1000);
+            for (int i = 0; i < 100; i++) {
+                receiver.logMessage(message);
+            }
+            // 65 records of 1008 bytes fit in the buffer
+            assertThat(receiver.getDroppedRecords()).isEqualTo(35);
+            assertThat(receiver.drain()).isEqualTo(65);
+            // the space is available again once the records are written
+            receiver.logMessage("after");
+            assertThat(receiver.drain()).isEqualTo(1);
+            assertThat(receiver.getDroppedRecords()).isEqualTo(35);
+
+            // larger than a quarter of the buffer
+            receiver.logMessage("x".repeat(16 * 1024));
+            assertThat(receiver.getDroppedRecords()).isEqualTo(36);
+            assertThat(receiver.drain()).isZero();
+        }
+    }
+
+    @Test
+    void testRotateSize() throws IOException {
+        try (RingBufferAccessLogReceiver receiver = new RingBufferAccessLogReceiver(64 * 1024, tempDir, "access", ".txt",
+                false, 1000, false)) {
+            String message = "x".repeat(99);
+            for (int i = 0; i < 25; i++) {
+                receiver.logMessage(message);
+                receiver.drain();
+            }
+        }
+        try (Stream<Path> files = Files.list(tempDir)) {
+            List<Path> logFiles = files.toList();
+            assertThat(logFiles).hasSize(3);
+            for (Path file : logFiles) {
+                assertThat(file.getFileName().toString()).matches("access(\\.[0-9]{4}-[0-9]{2}-[0-9]{2}(-[0-9])?)?\\.txt");
+                assertThat(Files.size(file)).isLessThanOrEqualTo(1000);
+            }
+        }
+    }
+
+    @Test
+    void testConcurrentProducers() throws Exception {
+        int threads = 4;
+        int messages = 10_000;
+        RingBufferAccessLogReceiver receiver = new RingBufferAccessLogReceiver(1024 * 1024, tempDir, "access", null, false,
+                0);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> producers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            int thread = t;
+            Thread producer = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    throw new RuntimeException(e);
+                }
+                for (int i = 0; i < messages; i++) {
+                    receiver.logMessage(thread + " " + i);
+                }
+            });
+            producer.start();
+            producers.add(producer);
+        }
+        start.countDown();
+        for (Thread producer : producers) {
+            producer.join();
+        }
+        receiver.close();
+
+        List<String> lines = Files.readAllLines(tempDir.resolve("access.log"));
+        assertThat(lines).hasSize(threads * messages - (int) receiver.getDroppedRecords());
+        Set<String> unique = new HashSet<>(lines);
+        assertThat(unique).hasSameSizeAs(lines);
+        // the records of each producer are written in order
+        int[] next = new int[threads];
+        for (String line : lines) {
+            String[] parts = line.split(" ");
+            int thread = Integer.parseInt(parts[0]);
+            int i = Integer.parseInt(parts[1]);
+            assertThat(i).isGreaterThanOrEqualTo(next[thread]);
+            next[thread] = i + 1;
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package io.quarkus.vertx.http.runtime.security;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import jakarta.enterprise.inject.Instance;
+
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.security.runtime.QuarkusSecurityIdentity;
+import io.quarkus.vertx.http.runtime.PolicyConfig;
+import io.quarkus.vertx.http.runtime.PolicyMappingConfig;
+import io.quarkus.vertx.http.runtime.security.HttpSecurityConfiguration.AuthenticationMechanisms;
+import io.quarkus.vertx.http.runtime.security.HttpSecurityConfiguration.HttpPermissionCarrier;
+import io.quarkus.vertx.http.runtime.security.HttpSecurityConfiguration.Policy;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.ext.web.RoutingContext;
+
+public class PathMatchingPolicyChainTest {
+
+    private static final HttpSecurityPolicy GET_POLICY = new PermitSecurityPolicy();
+    private static final HttpSecurityPolicy POST_POLICY = new PermitSecurityPolicy();
+    private static final HttpSecurityPolicy ANY_METHOD_POLICY = new PermitSecurityPolicy();
+    private static final HttpSecurityPolicy SHARED_POLICY = new PermitSecurityPolicy();
+
+    @Test
+    public void testMethodPolicyChains() {
+        var policy = createPolicy(List.of(
+                permission("/api/*", Set.of("GET"), GET_POLICY, false),
+                permission("/api/*", Set.of("GET", "POST"), POST_POLICY, false),
+                permission("/api/*", Set.of(), ANY_METHOD_POLICY, false),
+                permission("/get-only", Set.of("GET"), GET_POLICY, false)), Map.of());
+
+        assertArrayEquals(new HttpSecurityPolicy[] { GET_POLICY, POST_POLICY },
+                policy.getHttpSecurityPolicies(routingContext("/api/hello", HttpMethod.GET)));
+        assertArrayEquals(new HttpSecurityPolicy[] { POST_POLICY },
+                policy.getHttpSecurityPolicies(routingContext("/api/hello", HttpMethod.POST)));
+        // permissions without methods apply to the methods that are not listed
+        assertArrayEquals(new HttpSecurityPolicy[] { ANY_METHOD_POLICY },
+                policy.getHttpSecurityPolicies(routingContext("/api/hello", HttpMethod.DELETE)));
+        // requests are denied when the path matches but none of the methods
+        assertArrayEquals(new HttpSecurityPolicy[] { DenySecurityPolicy.INSTANCE },
+                policy.getHttpSecurityPolicies(routingContext("/get-only", HttpMethod.PUT)));
+        assertEquals(0, policy.getHttpSecurityPolicies(routingContext("/other", HttpMethod.GET)).length);
+    }
+
+    @Test
+    public void testSharedPolicyChains() {
+        var policy = createPolicy(List.of(
+                permission("/api/*", Set.of(), ANY_METHOD_POLICY, false),
+                permission("/api/*", Set.of("GET"), SHARED_POLICY, true)), Map.of());
+
+        assertArrayEquals(new HttpSecurityPolicy[] { SHARED_POLICY, ANY_METHOD_POLICY },
+                policy.getHttpSecurityPolicies(routingContext("/api/hello", HttpMethod.GET)));
+        assertArrayEquals(new HttpSecurityPolicy[] { DenySecurityPolicy.INSTANCE, ANY_METHOD_POLICY },
+                policy.getHttpSecurityPolicies(routingContext("/api/hello", HttpMethod.POST)));
+    }
+
+    @Test
+    public void testAuthMechanisms() {
+        var basic = new AuthenticationMechanisms("basic");
+        var policy = createPolicy(List.of(
+                new TestPermission(Set.of("/api/*"), Set.of("GET"), basic, new Policy(null, GET_POLICY), false),
+                permission("/api/*", Set.of(), ANY_METHOD_POLICY, false)), Map.of());
+
+        assertSame(basic, policy.getAuthMechanisms(routingContext("/api/hello", HttpMethod.GET)));
+        assertNull(policy.getAuthMechanisms(routingContext("/api/hello", HttpMethod.POST)));
+    }
+
+    @Test
+    public void testRolePolicies() {
+        // more roles than fit in one word of the bitsets
+        Map<String, PolicyConfig> rolePolicies = new HashMap<>();
+        List<HttpPermissionCarrier> permissions = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            rolePolicies.put("policy" + i, policyConfig(List.of("role" + i, "role" + (i + 1))));
+            permissions.add(new TestPermission(Set.of("/api/" + i), Set.of(), null, new Policy("policy" + i, null),
+                    false));
+        }
+        rolePolicies.put("any-authenticated", policyConfig(List.of("**")));
+        permissions.add(new TestPermission(Set.of("/authenticated"), Set.of(), null, new Policy("any-authenticated", null),
+                false));
+        var policy = createPolicy(permissions, rolePolicies);
+
+        var identity = QuarkusSecurityIdentity.builder().setPrincipal(() -> "alice").addRole("role70").build();
+        var anonymous = QuarkusSecurityIdentity.builder().setAnonymous(true).build();
+        var context = routingContext("/api/69", HttpMethod.GET);
+        var rolesAllowed = assertInstanceOf(RolesAllowedHttpSecurityPolicy.class,
+                policy.getHttpSecurityPolicies(context)[0]);
+        assertTrue(rolesAllowed.hasRoleAllowed(context, identity));
+        assertTrue(rolesAllowed.hasRoleAllowed(null, identity));
+        assertFalse(rolesAllowed.hasRoleAllowed(context, anonymous));
+
+        context = routingContext("/api/10", HttpMethod.GET);
+        rolesAllowed = assertInstanceOf(RolesAllowedHttpSecurityPolicy.class, policy.getHttpSecurityPolicies(context)[0]);
+        assertFalse(rolesAllowed.hasRoleAllowed(context, identity));
+
+        context = routingContext("/authenticated", HttpMethod.GET);
+        rolesAllowed = assertInstanceOf(RolesAllowedHttpSecurityPolicy.class, policy.getHttpSecurityPolicies(context)[0]);
+        assertTrue(rolesAllowed.hasRoleAllowed(context, identity));
+        assertFalse(rolesAllowed.hasRoleAllowed(context, anonymous));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static AbstractPathMatchingHttpSecurityPolicy createPolicy(List<HttpPermissionCarrier> permissions,
+            Map<String, PolicyConfig> rolePolicies) {
+        Instance<HttpSecurityPolicy> installedPolicies = mock(Instance.class);
+        when(installedPolicies.handles()).thenReturn(List.of());
+        return new AbstractPathMatchingHttpSecurityPolicy(permissions, rolePolicies, "/", installedPolicies,
+                PolicyMappingConfig.AppliesTo.ALL);
+    }
+
+    private static RoutingContext routingContext(String path, HttpMethod method) {
+        HttpServerRequest request = mock(HttpServerRequest.class);
+        when(request.method()).thenReturn(method);
+        RoutingContext routingContext = mock(RoutingContext.class);
+        when(routingContext.normalizedPath()).thenReturn(path);
+        when(routingContext.request()).thenReturn(request);
+        return routingContext;
+    }
+
+    private static HttpPermissionCarrier permission(String path, Set<String> methods, HttpSecurityPolicy policy,
+            boolean shared) {
+        return new TestPermission(Set.of(path), methods, null, new Policy(null, policy), shared);
+    }
+
+    private static PolicyConfig policyConfig(List<String> rolesAllowed) {
+        return new PolicyConfig() {
+            @Override
+            public List<String> rolesAllowed() {
+                return rolesAllowed;
+            }
+
+            @Override
+            public Map<String, List<String>> roles() {
+                return Map.of();
+            }
+
+            @Override
+            public Map<String, List<String>> permissions() {
+                return Map.of();
+            }
+
+            @Override
+            public String permissionClass() {
+                return "io.quarkus.security.StringPermission";
+            }
+        };
+    }
+
+    private record TestPermission(Set<String> paths, Set<String> methods, AuthenticationMechanisms authMechanisms,
+            Policy policy, boolean shared) implements HttpPermissionCarrier {
+
+        @Override
+        public Set<String> getPaths() {
+            return paths;
+        }
+
+        @Override
+        public boolean isShared() {
+            return shared;
+        }
+
+        @Override
+        public boolean shouldApplyToJaxRs() {
+            return false;
+        }
+
+        @Override
+        public Set<String> getMethods() {
+            return methods;
+        }
+
+        @Override
+        public AuthenticationMechanisms getAuthMechanisms() {
+            return authMechanisms;
+        }
+
+        @Override
+        public Policy getPolicy() {
+            return policy;
+        }
+    }
+}
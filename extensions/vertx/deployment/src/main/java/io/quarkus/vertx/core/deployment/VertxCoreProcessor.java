@@ -191,6 +191,13 @@ CoreVertxBuildItem build(
         return new CoreVertxBuildItem(vertx);
     }
 
+    @BuildStep
+    @Record(ExecutionTime.RUNTIME_INIT)
+    void initAsyncObserverEventLoopExecutor(VertxCoreRecorder recorder, CoreVertxBuildItem vertx) {
+        // Async observers annotated with @AsyncObserverExecutor(EVENT_LOOP) are notified on a Vert.x event loop
+        recorder.initAsyncObserverEventLoopExecutor();
+    }
+
     @BuildStep
     @Record(ExecutionTime.RUNTIME_INIT)
     void detectNativeTransports(VertxBuildTimeConfig buildTimeConfig, VertxCoreRecorder recorder) {
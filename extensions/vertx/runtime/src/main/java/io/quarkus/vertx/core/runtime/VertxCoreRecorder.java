@@ -12,6 +12,7 @@
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ThreadFactory;
@@ -27,6 +28,7 @@
 import io.netty.channel.EventLoopGroup;
 import io.netty.util.concurrent.FastThreadLocal;
 import io.quarkus.arc.Arc;
+import io.quarkus.arc.AsyncObserverExecutor;
 import io.quarkus.arc.InstanceHandle;
 import io.quarkus.runtime.ExecutorRecorder;
 import io.quarkus.runtime.IOThreadDetector;
@@ -60,6 +62,7 @@
 import io.vertx.core.impl.VertxThread;
 import io.vertx.core.internal.ContextInternal;
 import io.vertx.core.internal.VertxBootstrap;
+import io.vertx.core.internal.VertxInternal;
 import io.vertx.core.spi.VerticleFactory;
 import io.vertx.core.spi.VertxServiceProvider;
 import io.vertx.core.spi.VertxThreadFactory;
@@ -970,4 +973,20 @@ public void wrapMainExecutorForMutiny(ScheduledExecutorService service) {
         VertxTimerAwareScheduledExecutorService wrapper = new VertxTimerAwareScheduledExecutorService(service);
         Infrastructure.setDefaultExecutor(wrapper, false);
     }
+
+    public void initAsyncObserverEventLoopExecutor() {
+        Arc.setObserverExecutor(AsyncObserverExecutor.Kind.EVENT_LOOP, new Executor() {
+            @Override
+            public void execute(Runnable command) {
+                // Use a new context so that the tasks are not bound to a single event loop
+                ContextInternal context = ((VertxInternal) vertx.get()).createEventLoopContext();
+                context.runOnContext(new Handler<Void>() {
+                    @Override
+                    public void handle(Void ignored) {
+                        command.run();
+                    }
+                });
+            }
+        });
+    }
 }
@@ -0,0 +1,113 @@
+package io.quarkus.websockets.next.test.broadcast;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.inject.Inject;
+
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusExtensionTest;
+import io.quarkus.test.common.http.TestHTTPResource;
+import io.quarkus.websockets.next.OnTextMessage;
+import io.quarkus.websockets.next.OpenConnections;
+import io.quarkus.websockets.next.WebSocket;
+import io.quarkus.websockets.next.WebSocketConnection;
+import io.smallrye.mutiny.Uni;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.WebSocketClient;
+
+public class BroadcastSharedPayloadTest {
+
+    static final int CLIENTS = 10;
+
+    @RegisterExtension
+    public static final QuarkusExtensionTest test = new QuarkusExtensionTest()
+            .withApplicationRoot(root -> {
+                root.addClasses(Shared.class, Item.class);
+            });
+
+    @TestHTTPResource("shared")
+    URI sharedUri;
+
+    @Inject
+    Vertx vertx;
+
+    @Inject
+    OpenConnections openConnections;
+
+    @Test
+    public void testBroadcast() throws Exception {
+        List<WebSocketClient> clients = new ArrayList<>();
+        List<io.vertx.core.http.WebSocket> sockets = new ArrayList<>();
+        List<String> messages = new CopyOnWriteArrayList<>();
+        try {
+            for (int i = 0; i < CLIENTS; i++) {
+                WebSocketClient client = vertx.createWebSocketClient();
+                clients.add(client);
+                io.vertx.core.http.WebSocket socket = client
+                        .connect(sharedUri.getPort(), sharedUri.getHost(), sharedUri.getPath())
+                        .toCompletionStage().toCompletableFuture().get(5, TimeUnit.SECONDS);
+                socket.handler(buffer -> messages.add(buffer.toString()));
+                sockets.add(socket);
+            }
+            Awaitility.await().atMost(Duration.ofSeconds(5)).until(() -> openConnections.stream().count() == CLIENTS);
+
+            assertBroadcast(sockets.get(0), messages, "text", "TEXT");
+            assertBroadcast(sockets.get(1), messages, "pojo", "{\"name\":\"pojo\"}");
+            assertBroadcast(sockets.get(2), messages, "binary", "BINARY");
+            // Exceeds the default max frame size and must be fragmented
+            String large = "l".repeat(100_000);
+            assertBroadcast(sockets.get(3), messages, large, large.toUpperCase());
+        } finally {
+            for (WebSocketClient client : clients) {
+                client.close().toCompletionStage().toCompletableFuture().get();
+            }
+        }
+    }
+
+    private void assertBroadcast(io.vertx.core.http.WebSocket sender, List<String> messages, String message,
+            String expected) {
+        messages.clear();
+        sender.writeTextMessage(message);
+        Awaitility.await().atMost(Duration.ofSeconds(5)).until(() -> messages.size() >= CLIENTS);
+        assertEquals(CLIENTS, messages.size());
+        for (String received : messages) {
+            assertEquals(expected, received);
+        }
+    }
+
+    @WebSocket(path = "/shared")
+    public static class Shared {
+
+        @Inject
+        WebSocketConnection connection;
+
+        @OnTextMessage
+        Uni<Void> onMessage(String message) {
+            if (connection.getOpenConnections().size() != CLIENTS
+                    || !connection.getOpenConnections().contains(connection)) {
+                throw new IllegalStateException("Unexpected open connections");
+            }
+            return switch (message) {
+                case "pojo" -> connection.broadcast().sendText(new Item(message));
+                case "binary" -> connection.broadcast().sendBinary(Buffer.buffer(message.toUpperCase()));
+                default -> connection.broadcast().sendText(message.toUpperCase());
+            };
+        }
+
+    }
+
+    public record Item(String name) {
+    }
+
+}
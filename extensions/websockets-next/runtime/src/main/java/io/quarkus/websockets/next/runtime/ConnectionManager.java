@@ -20,6 +20,7 @@
 import io.quarkus.websockets.next.Open;
 import io.quarkus.websockets.next.OpenConnections;
 import io.quarkus.websockets.next.WebSocketConnection;
+import io.quarkus.websockets.next.runtime.config.WebSocketsServerRuntimeConfig;
 
 @Singleton
 public class ConnectionManager implements OpenConnections {
@@ -34,13 +35,18 @@ public class ConnectionManager implements OpenConnections {
     private final Event<WebSocketConnection> openEvent;
     private final Event<WebSocketConnection> closedEvent;
 
-    ConnectionManager(@Open Event<WebSocketConnection> openEvent, @Closed Event<WebSocketConnection> closedEvent) {
+    private final int maxFrameSize;
+
+    ConnectionManager(@Open Event<WebSocketConnection> openEvent, @Closed Event<WebSocketConnection> closedEvent,
+            WebSocketsServerRuntimeConfig config) {
         ArcContainer container = Arc.container();
         this.openEvent = container.resolveObserverMethods(WebSocketConnection.class, Open.Literal.INSTANCE).isEmpty()
                 ? null
                 : openEvent;
         this.closedEvent = container.resolveObserverMethods(WebSocketConnection.class, Closed.Literal.INSTANCE)
                 .isEmpty() ? null : closedEvent;
+        // The default value used by Vert.x
+        this.maxFrameSize = config.maxFrameSize().orElse(65536);
     }
 
     @Override
@@ -107,6 +113,14 @@ public Set<WebSocketConnection> getConnections(String endpoint) {
         return ret;
     }
 
+    /**
+     *
+     * @return the maximum size of a websocket frame sent by the server
+     */
+    int maxFrameSize() {
+        return maxFrameSize;
+    }
+
     public void addListener(ConnectionListener listener) {
         this.listeners.add(listener);
     }
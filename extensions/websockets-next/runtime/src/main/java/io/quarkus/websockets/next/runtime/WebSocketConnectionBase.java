@@ -8,6 +8,7 @@
 
 import org.jboss.logging.Logger;
 
+import io.netty.buffer.ByteBuf;
 import io.netty.handler.codec.http.websocketx.WebSocketCloseStatus;
 import io.quarkus.vertx.utils.NoBoundChecksBuffer;
 import io.quarkus.websockets.next.CloseReason;
@@ -17,9 +18,12 @@
 import io.quarkus.websockets.next.WebSocketConnection.BroadcastSender;
 import io.quarkus.websockets.next.runtime.telemetry.SendingInterceptor;
 import io.smallrye.mutiny.Uni;
+import io.vertx.core.Future;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.buffer.impl.BufferImpl;
 import io.vertx.core.http.WebSocketBase;
+import io.vertx.core.http.WebSocketFrameType;
+import io.vertx.core.http.impl.websocket.WebSocketFrameImpl;
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 import io.vertx.core.net.SocketAddress;
@@ -90,17 +94,66 @@ public Uni<Void> sendBinary(Buffer message) {
 
     @Override
     public <M> Uni<Void> sendText(M message) {
-        String text;
+        return sendText(encodeText(message));
+    }
+
+    String encodeText(Object message) {
         // Use the same conversion rules as defined for the OnTextMessage
         if (message instanceof JsonObject || message instanceof JsonArray || message instanceof BufferImpl
                 || message instanceof NoBoundChecksBuffer) {
-            text = message.toString();
+            return message.toString();
         } else if (message.getClass().isArray() && message.getClass().arrayType().equals(byte.class)) {
-            text = Buffer.buffer((byte[]) message).toString();
+            return Buffer.buffer((byte[]) message).toString();
         } else {
-            text = codecs.textEncode(message, null);
+            return codecs.textEncode(message, null);
+        }
+    }
+
+    /**
+     * Writes a final text frame with an already encoded payload. The payload may be shared by multiple connections and is
+     * never modified.
+     *
+     * @param payload the UTF-8 encoded message
+     * @param message the original message
+     * @return the future completed when the frame is written
+     */
+    Future<Void> writeSharedText(ByteBuf payload, String message) {
+        Future<Void> future = webSocket()
+                .writeFrame(new WebSocketFrameImpl(WebSocketFrameType.TEXT, payload.duplicate(), true));
+        if (sendingInterceptor == null && trafficLogger == null) {
+            return future;
+        }
+        return future.onSuccess(ignored -> {
+            if (sendingInterceptor != null) {
+                sendingInterceptor.onSend(message);
+            }
+            if (trafficLogger != null) {
+                trafficLogger.textMessageSent(this, message);
+            }
+        });
+    }
+
+    /**
+     * Writes a final binary frame with a payload shared by multiple connections. The payload is never modified.
+     *
+     * @param payload the message content
+     * @param message the original message
+     * @return the future completed when the frame is written
+     */
+    Future<Void> writeSharedBinary(ByteBuf payload, Buffer message) {
+        Future<Void> future = webSocket()
+                .writeFrame(new WebSocketFrameImpl(WebSocketFrameType.BINARY, payload.duplicate(), true));
+        if (sendingInterceptor == null && trafficLogger == null) {
+            return future;
         }
-        return sendText(text);
+        return future.onSuccess(ignored -> {
+            if (sendingInterceptor != null) {
+                sendingInterceptor.onSend(message);
+            }
+            if (trafficLogger != null) {
+                trafficLogger.binaryMessageSent(this, message);
+            }
+        });
     }
 
     @Override
@@ -1,5 +1,6 @@
 package io.quarkus.websockets.next.runtime;
 
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -7,19 +8,30 @@
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.EventLoop;
 import io.quarkus.websockets.next.HandshakeRequest;
 import io.quarkus.websockets.next.UserData;
 import io.quarkus.websockets.next.WebSocketConnection;
 import io.quarkus.websockets.next.runtime.telemetry.SendingInterceptor;
+import io.smallrye.mutiny.CompositeException;
 import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.subscription.UniEmitter;
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.ServerWebSocket;
 import io.vertx.core.http.WebSocketBase;
+import io.vertx.core.internal.ContextInternal;
+import io.vertx.core.internal.buffer.BufferInternal;
 import io.vertx.ext.web.RoutingContext;
 
 class WebSocketConnectionImpl extends WebSocketConnectionBase implements WebSocketConnection {
@@ -36,6 +48,9 @@ class WebSocketConnectionImpl extends WebSocketConnectionBase implements WebSock
 
     private final SecuritySupport securitySupport;
 
+    // the event loop the underlying channel is bound to, or null if not known
+    private final EventLoop eventLoop;
+
     WebSocketConnectionImpl(String generatedEndpointClass, String endpointClass, ServerWebSocket webSocket,
             ConnectionManager connectionManager, Codecs codecs, RoutingContext ctx,
             TrafficLogger trafficLogger, UserData userData, SendingInterceptor sendingInterceptor,
@@ -48,6 +63,10 @@ class WebSocketConnectionImpl extends WebSocketConnectionBase implements WebSock
         this.connectionManager = Objects.requireNonNull(connectionManager);
         this.defaultBroadcast = new BroadcastImpl(null);
         this.securitySupport = securitySupportCreator.apply(this);
+        // Connections are created on the event loop of the upgraded HTTP connection
+        Context context = Vertx.currentContext();
+        this.eventLoop = context != null && context.isEventLoopContext() ? ((ContextInternal) context).nettyEventLoop()
+                : null;
     }
 
     SecuritySupport securitySupport() {
@@ -187,12 +206,6 @@ public Uni<Void> apply(WebSocketConnection c, String s) {
                 return c.sendText(s);
             }
         };
-        private static final BiFunction<WebSocketConnection, Object, Uni<Void>> SEND_TEXT_POJO = new BiFunction<>() {
-            @Override
-            public Uni<Void> apply(WebSocketConnection c, Object o) {
-                return c.sendText(o);
-            }
-        };
         private static final BiFunction<WebSocketConnection, Buffer, Uni<Void>> SEND_BINARY = new BiFunction<>() {
             @Override
             public Uni<Void> apply(WebSocketConnection c, Buffer b) {
@@ -213,17 +226,34 @@ public BroadcastSender filter(Predicate<WebSocketConnection> predicate) {
 
         @Override
         public Uni<Void> sendText(String message) {
-            return doSend(SEND_TEXT_STR, message);
+            return Uni.createFrom().deferred(() -> {
+                byte[] bytes = message.getBytes(StandardCharsets.UTF_8);
+                if (bytes.length > connectionManager.maxFrameSize()) {
+                    // The message must be fragmented
+                    return doSend(SEND_TEXT_STR, message);
+                }
+                // Encode the message once and share the payload among all connections
+                ByteBuf payload = Unpooled.wrappedBuffer(bytes);
+                return doBroadcast(c -> c.writeSharedText(payload, message));
+            });
         }
 
         @Override
         public <M> Uni<Void> sendText(M message) {
-            return doSend(SEND_TEXT_POJO, message);
+            return Uni.createFrom().deferred(() -> sendText(encodeText(message)));
         }
 
         @Override
         public Uni<Void> sendBinary(Buffer message) {
-            return doSend(SEND_BINARY, message);
+            return Uni.createFrom().deferred(() -> {
+                if (message.length() > connectionManager.maxFrameSize()) {
+                    // The message must be fragmented
+                    return doSend(SEND_BINARY, message);
+                }
+                ByteBuf payload = message instanceof BufferInternal internal ? internal.getByteBuf()
+                        : Unpooled.wrappedBuffer(message.getBytes());
+                return doBroadcast(c -> c.writeSharedBinary(payload, message));
+            });
         }
 
         @Override
@@ -258,6 +288,83 @@ private <M> Uni<Void> doSend(BiFunction<WebSocketConnection, M, Uni<Void>> sendF
             return Uni.join().all(unis).andCollectFailures().replaceWithVoid();
         }
 
+        private Uni<Void> doBroadcast(Function<WebSocketConnectionImpl, Future<Void>> write) {
+            // Group the connections by event loop so that the writes are not dispatched to the channels one by one
+            Map<EventLoop, List<WebSocketConnectionImpl>> eventLoopToConnections = new HashMap<>();
+            int count = 0;
+            for (WebSocketConnection connection : connectionManager.getConnections(generatedEndpointClass)) {
+                if (connection.isOpen()
+                        && (filter == null || filter.test(connection))) {
+                    WebSocketConnectionImpl impl = (WebSocketConnectionImpl) connection;
+                    eventLoopToConnections.computeIfAbsent(impl.eventLoop, k -> new ArrayList<>()).add(impl);
+                    count++;
+                }
+            }
+            if (count == 0) {
+                return Uni.createFrom().voidItem();
+            }
+            int total = count;
+            return Uni.createFrom().emitter(emitter -> {
+                BroadcastCompletion completion = new BroadcastCompletion(total, emitter);
+                for (Entry<EventLoop, List<WebSocketConnectionImpl>> e : eventLoopToConnections.entrySet()) {
+                    EventLoop eventLoop = e.getKey();
+                    List<WebSocketConnectionImpl> connections = e.getValue();
+                    if (eventLoop == null || eventLoop.inEventLoop()) {
+                        write(connections, write, completion);
+                    } else {
+                        eventLoop.execute(() -> write(connections, write, completion));
+                    }
+                }
+            });
+        }
+
+        private void write(List<WebSocketConnectionImpl> connections, Function<WebSocketConnectionImpl, Future<Void>> write,
+                BroadcastCompletion completion) {
+            for (WebSocketConnectionImpl connection : connections) {
+                Future<Void> future;
+                try {
+                    future = write.apply(connection);
+                } catch (Throwable t) {
+                    completion.done(connection, t);
+                    continue;
+                }
+                future.onComplete(r -> completion.done(connection, r.cause()));
+            }
+        }
+
+    }
+
+    private static class BroadcastCompletion {
+
+        private final AtomicInteger remaining;
+
+        private final UniEmitter<? super Void> emitter;
+
+        private final List<Throwable> failures = new ArrayList<>(0);
+
+        BroadcastCompletion(int count, UniEmitter<? super Void> emitter) {
+            this.remaining = new AtomicInteger(count);
+            this.emitter = emitter;
+        }
+
+        void done(WebSocketConnectionBase connection, Throwable failure) {
+            // Intentionally ignore 'WebSocket is closed' failures
+            // It might happen that the connection is closed in the mean time
+            if (failure != null && !Endpoints.isWebSocketIsClosedFailure(failure, connection)) {
+                synchronized (failures) {
+                    failures.add(failure);
+                }
+            }
+            if (remaining.decrementAndGet() == 0) {
+                // All writes completed - no need to synchronize
+                if (failures.isEmpty()) {
+                    emitter.complete(null);
+                } else {
+                    emitter.fail(new CompositeException(failures));
+                }
+            }
+        }
+
     }
 
 }
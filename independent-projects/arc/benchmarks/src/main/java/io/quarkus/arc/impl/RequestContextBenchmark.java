@@ -0,0 +1,209 @@
+package io.quarkus.arc.impl;
+
+import java.io.IOException;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import jakarta.enterprise.context.RequestScoped;
+import jakarta.enterprise.context.spi.CreationalContext;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.quarkus.arc.InjectableBean;
+import io.quarkus.arc.InjectableContext.ContextState;
+
+/**
+ * Compares the {@link RequestContext} backed by {@link ComputingCacheContextInstances} (the default) and by
+ * {@link SlottedContextInstances} (used when contexts are optimized).
+ * <ul>
+ * <li>{@code activateTerminate} - activate and terminate a context without any bean instance</li>
+ * <li>{@code request} - activate a context, look up every bean twice (create and hit) and terminate the context</li>
+ * <li>{@code lookup} - look up an existing bean instance in an active context</li>
+ * </ul>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(2)
+public class RequestContextBenchmark {
+
+    @Param({ "4", "32", "256" })
+    public int beans;
+
+    @Param({ "computing-cache", "slotted" })
+    public String instances;
+
+    private RequestContext context;
+    private RequestBean[] requestBeans;
+    private int next;
+
+    @Setup
+    public void setup() {
+        requestBeans = new RequestBean[beans];
+        for (int i = 0; i < beans; i++) {
+            requestBeans[i] = new RequestBean(i);
+        }
+        Supplier<ContextInstances> contextInstances;
+        if ("slotted".equals(instances)) {
+            Slots slots = new Slots(Arrays.stream(requestBeans).map(RequestBean::getIdentifier).toArray(String[]::new));
+            contextInstances = () -> new BenchmarkContextInstances(slots);
+        } else {
+            contextInstances = ComputingCacheContextInstances::new;
+        }
+        context = new RequestContext(new ThreadLocalCurrentContext<>(), null, null, null, contextInstances);
+    }
+
+    @Setup(Level.Iteration)
+    public void activate() {
+        context.activate();
+        for (RequestBean bean : requestBeans) {
+            context.get(bean, new CreationalContextImpl<>(bean));
+        }
+    }
+
+    @TearDown(Level.Iteration)
+    public void terminate() {
+        context.terminate();
+    }
+
+    @Benchmark
+    public Object lookup() {
+        RequestBean bean = requestBeans[next++ % beans];
+        return context.get(bean, new CreationalContextImpl<>(bean));
+    }
+
+    @Benchmark
+    public void activateTerminate() {
+        // A nested context is activated and the iteration context is restored afterwards
+        ContextState state = context.getStateIfActive();
+        context.activate();
+        context.terminate();
+        context.activate(state);
+    }
+
+    @Benchmark
+    public Object request() {
+        ContextState state = context.getStateIfActive();
+        context.activate();
+        Object last = null;
+        for (RequestBean bean : requestBeans) {
+            context.get(bean, new CreationalContextImpl<>(bean));
+        }
+        for (RequestBean bean : requestBeans) {
+            last = context.get(bean, new CreationalContextImpl<>(bean));
+        }
+        context.terminate();
+        context.activate(state);
+        return last;
+    }
+
+    public static void main(String[] args) throws IOException {
+        org.openjdk.jmh.Main.main(new String[] { "-prof", "gc" });
+    }
+
+    /**
+     * Maps a bean identifier to its slot the same way the generated subclass does: the generated string switch
+     * compiles to a binary search over the hash codes followed by an equality check.
+     */
+    static final class BenchmarkContextInstances extends SlottedContextInstances {
+
+        private final Slots slots;
+
+        BenchmarkContextInstances(Slots slots) {
+            super(slots.ids.length);
+            this.slots = slots;
+        }
+
+        @Override
+        protected int slot(String id) {
+            int idx = Arrays.binarySearch(slots.hashes, id.hashCode());
+            if (idx >= 0 && slots.ids[slots.slots[idx]].equals(id)) {
+                return slots.slots[idx];
+            }
+            return -1;
+        }
+
+    }
+
+    static final class Slots {
+
+        final String[] ids;
+        final int[] hashes;
+        final int[] slots;
+
+        Slots(String[] ids) {
+            this.ids = ids;
+            Integer[] order = new Integer[ids.length];
+            for (int i = 0; i < order.length; i++) {
+                order[i] = i;
+            }
+            Arrays.sort(order, (a, b) -> Integer.compare(ids[a].hashCode(), ids[b].hashCode()));
+            this.hashes = new int[ids.length];
+            this.slots = new int[ids.length];
+            for (int i = 0; i < order.length; i++) {
+                hashes[i] = ids[order[i]].hashCode();
+                slots[i] = order[i];
+            }
+        }
+
+    }
+
+    static final class RequestBean implements InjectableBean<Object> {
+
+        private final String identifier;
+
+        RequestBean(int index) {
+            this.identifier = "RequestBean_" + index;
+        }
+
+        @Override
+        public String getIdentifier() {
+            return identifier;
+        }
+
+        @Override
+        public Class<? extends Annotation> getScope() {
+            return RequestScoped.class;
+        }
+
+        @Override
+        public Set<Type> getTypes() {
+            return Set.of(Object.class);
+        }
+
+        @Override
+        public Class<?> getBeanClass() {
+            return RequestBean.class;
+        }
+
+        @Override
+        public Object create(CreationalContext<Object> creationalContext) {
+            return new Object();
+        }
+
+        @Override
+        public Object get(CreationalContext<Object> creationalContext) {
+            return create(creationalContext);
+        }
+
+    }
+
+}
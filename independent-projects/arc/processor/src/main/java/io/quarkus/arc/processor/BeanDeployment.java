@@ -1637,7 +1637,7 @@ private void addSyntheticObserver(ObserverConfigurator configurator) {
         observers.add(ObserverInfo.create(configurator.id, this, configurator.beanClass, null, null, null, null,
                 configurator.observedType,
                 configurator.observedQualifiers,
-                Reception.ALWAYS, configurator.transactionPhase, configurator.isAsync, configurator.priority,
+                Reception.ALWAYS, configurator.transactionPhase, configurator.isAsync, configurator.priority, 0, null,
                 observerTransformers, buildContext,
                 jtaCapabilities, configurator.notifyConsumer, configurator.params, configurator.forceApplicationClass));
     }
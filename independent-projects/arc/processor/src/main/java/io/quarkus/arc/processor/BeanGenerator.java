@@ -1706,10 +1706,16 @@ protected void generateInjectableReferenceProviderGet(BeanInfo bean, ClassCreato
                     b0.throw_(UnproxyableResolutionException.class, "Bean not proxyable: " + bean);
                 } else if (BuiltinScope.DEPENDENT.is(bean.getScope())) {
                     // @Dependent pseudo-scope
-                    // Foo instance = create(ctx)
-                    LocalVar instance = b0.localVar("instance", b0.invokeVirtual(ClassMethodDesc.of(cc.type(), "create",
-                            MethodTypeDesc.of(providerType, Reflection2Gizmo.classDescOf(CreationalContext.class))),
-                            cc.this_(), creationalContextParam));
+                    // Foo instance = JfrEvents.isEnabled() ? (Foo) JfrEvents.create(this, ctx) : create(ctx)
+                    MethodDesc createDesc = ClassMethodDesc.of(cc.type(), "create",
+                            MethodTypeDesc.of(providerType, Reflection2Gizmo.classDescOf(CreationalContext.class)));
+                    LocalVar instance = b0.localVar("instance", Const.ofNull(providerType));
+                    b0.ifElse(b0.invokeStatic(MethodDescs.JFR_EVENTS_IS_ENABLED), b1 -> {
+                        b1.set(instance, b1.cast(b1.invokeStatic(MethodDescs.JFR_EVENTS_CREATE, cc.this_(),
+                                creationalContextParam), providerType));
+                    }, b1 -> {
+                        b1.set(instance, b1.invokeVirtual(createDesc, cc.this_(), creationalContextParam));
+                    });
 
                     // We can optimize if:
                     // 1) class bean - has no @PreDestroy interceptor and there is no @PreDestroy callback
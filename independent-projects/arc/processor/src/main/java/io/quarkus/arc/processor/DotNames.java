@@ -61,6 +61,8 @@
 
 import io.quarkus.arc.All;
 import io.quarkus.arc.ArcInvocationContext;
+import io.quarkus.arc.AsyncObserverExecutor;
+import io.quarkus.arc.Batched;
 import io.quarkus.arc.BindingsSource;
 import io.quarkus.arc.DefaultBean;
 import io.quarkus.arc.InjectableBean;
@@ -155,6 +157,8 @@ public final class DotNames {
     public static final DotName INTERCEPTION_PROXY = create(InterceptionProxy.class);
     public static final DotName BINDINGS_SOURCE = create(BindingsSource.class);
     public static final DotName WITH_CACHING = create(WithCaching.class);
+    public static final DotName BATCHED = create(Batched.class);
+    public static final DotName ASYNC_OBSERVER_EXECUTOR = create(AsyncObserverExecutor.class);
 
     public static final DotName BOOLEAN = create(Boolean.class);
     public static final DotName BYTE = create(Byte.class);
@@ -35,12 +35,14 @@
 import io.quarkus.arc.impl.ClientProxies;
 import io.quarkus.arc.impl.CreationalContextImpl;
 import io.quarkus.arc.impl.DecoratorDelegateProvider;
+import io.quarkus.arc.impl.EventBatch;
 import io.quarkus.arc.impl.FixedValueSupplier;
 import io.quarkus.arc.impl.InjectableReferenceProviders;
 import io.quarkus.arc.impl.InjectionPointImpl;
 import io.quarkus.arc.impl.InterceptedMethodMetadata;
 import io.quarkus.arc.impl.InterceptorInvocation;
 import io.quarkus.arc.impl.InvocationContexts;
+import io.quarkus.arc.impl.JfrEvents;
 import io.quarkus.arc.impl.MapValueSupplier;
 import io.quarkus.arc.impl.Reflections;
 import io.quarkus.arc.impl.RemovedBeanImpl;
@@ -122,6 +124,8 @@ private MethodDescs() {
 
     static final MethodDesc EVENT_CONTEXT_GET_EVENT = MethodDesc.of(EventContext.class, "getEvent", Object.class);
 
+    static final MethodDesc EVENT_BATCH_OF = MethodDesc.of(EventBatch.class, "of", List.class, Object.class);
+
     static final MethodDesc EVENT_CONTEXT_GET_METADATA = MethodDesc.of(EventContext.class, "getMetadata", EventMetadata.class);
 
     static final MethodDesc INVOCATION_CONTEXTS_PERFORM_AROUND_INVOKE = MethodDesc.of(InvocationContexts.class,
@@ -154,6 +158,11 @@ private MethodDescs() {
     static final MethodDesc CREATIONAL_CTX_ADD_DEP_TO_PARENT = MethodDesc.of(CreationalContextImpl.class,
             "addDependencyToParent", void.class, InjectableBean.class, Object.class, CreationalContext.class);
 
+    static final MethodDesc JFR_EVENTS_IS_ENABLED = MethodDesc.of(JfrEvents.class, "isEnabled", boolean.class);
+
+    static final MethodDesc JFR_EVENTS_CREATE = MethodDesc.of(JfrEvents.class, "create", Object.class,
+            Contextual.class, CreationalContext.class);
+
     static final MethodDesc COLLECTIONS_SINGLETON = MethodDesc.of(Collections.class,
             "singleton", Set.class, Object.class);
 
@@ -28,6 +28,7 @@
 import org.jboss.jandex.ClassInfo;
 import org.jboss.jandex.DotName;
 
+import io.quarkus.arc.AsyncObserverExecutor;
 import io.quarkus.arc.InjectableObserverMethod;
 import io.quarkus.arc.impl.CreationalContextImpl;
 import io.quarkus.arc.impl.Mockable;
@@ -228,6 +229,12 @@ private void createObserver(Gizmo gizmo, ObserverInfo observer, String generated
             if (observer.isAsync()) {
                 generateIsAsync(cc);
             }
+            if (observer.getBatchSize() > 0) {
+                generateGetBatchSize(cc, observer);
+            }
+            if (observer.getExecutorKind() != null) {
+                generateGetExecutorKind(cc, observer);
+            }
             generateGetDeclaringBeanIdentifier(cc, observer.getDeclaringBean());
             if (mock != null) {
                 generateMockMethods(cc, mock);
@@ -387,6 +394,24 @@ private void generateIsAsync(ClassCreator cc) {
         });
     }
 
+    private void generateGetBatchSize(ClassCreator cc, ObserverInfo observer) {
+        cc.method("getBatchSize", mc -> {
+            mc.returning(int.class);
+            mc.body(bc -> {
+                bc.return_(Const.of(observer.getBatchSize()));
+            });
+        });
+    }
+
+    private void generateGetExecutorKind(ClassCreator cc, ObserverInfo observer) {
+        cc.method("getExecutorKind", mc -> {
+            mc.returning(AsyncObserverExecutor.Kind.class);
+            mc.body(bc -> {
+                bc.return_(Const.of(observer.getExecutorKind()));
+            });
+        });
+    }
+
     private void generateGetDeclaringBeanIdentifier(ClassCreator cc, BeanInfo declaringBean) {
         cc.method("getDeclaringBeanIdentifier", mc -> {
             mc.returning(String.class);
@@ -554,6 +579,10 @@ public BlockCreator notifyMethod() {
                 for (int i = 0; i < observer.getObserverMethod().parametersCount(); i++) {
                     if (i == observer.getEventParameter().position()) {
                         Expr eventObject = b0.invokeInterface(MethodDescs.EVENT_CONTEXT_GET_EVENT, eventContext);
+                        if (observer.getBatchSize() > 0) {
+                            // The event is an EventBatch unless the observer is notified with a single event
+                            eventObject = b0.invokeStatic(MethodDescs.EVENT_BATCH_OF, eventObject);
+                        }
                         args[i] = b0.localVar("arg" + i, eventObject);
                     } else if (i == observer.getEventMetadataParameterPosition()) {
                         args[i] = b0.localVar("arg" + i,
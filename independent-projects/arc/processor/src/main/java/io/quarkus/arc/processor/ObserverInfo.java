@@ -27,6 +27,8 @@
 import org.jboss.jandex.Type;
 import org.jboss.logging.Logger;
 
+import io.quarkus.arc.AsyncObserverExecutor;
+import io.quarkus.arc.Batched;
 import io.quarkus.arc.processor.BuildExtension.BuildContext;
 import io.quarkus.arc.processor.ObserverTransformer.ObserverTransformation;
 import io.quarkus.arc.processor.ObserverTransformer.TransformationContext;
@@ -56,6 +58,29 @@ static ObserverInfo create(BeanInfo declaringBean, MethodInfo observerMethod, In
         }
 
         Type observedType = observerMethod.parameterType(eventParameter.position());
+        AnnotationInstance batchedAnnotation = find(
+                getParameterAnnotations(beanDeployment, observerMethod, eventParameter.position()),
+                DotNames.BATCHED);
+        int batchSize = 0;
+        if (batchedAnnotation != null) {
+            if (observedType.kind() != Type.Kind.PARAMETERIZED_TYPE || !observedType.name().equals(DotNames.LIST)) {
+                throw new DefinitionException(
+                        "The event parameter annotated with @Batched must be of type java.util.List<T>: " + observerMethod);
+            }
+            // The observed type is the type of the list elements
+            observedType = observedType.asParameterizedType().arguments().get(0);
+            AnnotationValue maxSizeValue = batchedAnnotation.value("maxSize");
+            batchSize = maxSizeValue != null ? maxSizeValue.asInt() : Batched.DEFAULT_MAX_SIZE;
+            if (batchSize <= 0) {
+                throw new DefinitionException("@Batched#maxSize() must be a positive integer: " + observerMethod);
+            }
+        }
+        AnnotationInstance executorAnnotation = beanDeployment.getAnnotation(observerMethod,
+                DotNames.ASYNC_OBSERVER_EXECUTOR);
+        AsyncObserverExecutor.Kind executorKind = executorAnnotation != null
+                ? AsyncObserverExecutor.Kind.valueOf(executorAnnotation.value().asEnum())
+                : null;
+
         if (Types.containsTypeVariable(observedType)) {
             Map<String, Type> resolvedTypeVariables = Types
                     .resolvedTypeVariables(declaringBean.getImplClazz(), beanDeployment)
@@ -86,15 +111,16 @@ static ObserverInfo create(BeanInfo declaringBean, MethodInfo observerMethod, In
                 observedType,
                 initQualifiers(beanDeployment, observerMethod, eventParameter),
                 reception,
-                initTransactionPhase(isAsync, beanDeployment, observerMethod), isAsync, priority, transformers,
-                buildContext, jtaCapabilities, null, Collections.emptyMap(), false);
+                initTransactionPhase(isAsync, beanDeployment, observerMethod), isAsync, priority, batchSize, executorKind,
+                transformers, buildContext, jtaCapabilities, null, Collections.emptyMap(), false);
     }
 
     static ObserverInfo create(String userId, BeanDeployment beanDeployment, DotName beanClass, BeanInfo declaringBean,
             MethodInfo observerMethod, Injection injection,
             MethodParameterInfo eventParameter, Type observedType, Set<AnnotationInstance> qualifiers, Reception reception,
-            TransactionPhase transactionPhase, boolean isAsync, int priority,
-            List<ObserverTransformer> transformers, BuildContext buildContext, boolean jtaCapabilities,
+            TransactionPhase transactionPhase, boolean isAsync, int priority, int batchSize,
+            AsyncObserverExecutor.Kind executorKind, List<ObserverTransformer> transformers, BuildContext buildContext,
+            boolean jtaCapabilities,
             Consumer<ObserverConfigurator.NotifyGeneration> notify, Map<String, Object> params,
             boolean forceApplicationClass) {
 
@@ -129,6 +155,12 @@ static ObserverInfo create(String userId, BeanDeployment beanDeployment, DotName
             isAsync = context.isAsync();
         }
 
+        if (!isAsync && (batchSize > 0 || executorKind != null)) {
+            throw new DefinitionException(
+                    "@Batched and @AsyncObserverExecutor may only be used for asynchronous observer methods: "
+                            + observerMethod);
+        }
+
         if (!transactionPhase.equals(TransactionPhase.IN_PROGRESS) && !jtaCapabilities) {
             String info;
             if (observerMethod != null) {
@@ -142,8 +174,8 @@ static ObserverInfo create(String userId, BeanDeployment beanDeployment, DotName
                     info, transactionPhase);
         }
         return new ObserverInfo(userId, beanDeployment, beanClass, declaringBean, observerMethod, injection, eventParameter,
-                isAsync, priority, reception, transactionPhase, observedType, qualifiers, notify, params,
-                forceApplicationClass);
+                isAsync, priority, batchSize, executorKind, reception, transactionPhase, observedType, qualifiers, notify,
+                params, forceApplicationClass);
     }
 
     private final String identifier;
@@ -168,6 +200,10 @@ static ObserverInfo create(String userId, BeanDeployment beanDeployment, DotName
 
     private final boolean isAsync;
 
+    private final int batchSize;
+
+    private final AsyncObserverExecutor.Kind executorKind;
+
     private final Reception reception;
 
     private final TransactionPhase transactionPhase;
@@ -188,8 +224,9 @@ private ObserverInfo(String userId, BeanDeployment beanDeployment, DotName beanC
             MethodInfo observerMethod,
             Injection injection,
             MethodParameterInfo eventParameter,
-            boolean isAsync, int priority, Reception reception, TransactionPhase transactionPhase,
-            Type observedType, Set<AnnotationInstance> qualifiers, Consumer<ObserverConfigurator.NotifyGeneration> notify,
+            boolean isAsync, int priority, int batchSize, AsyncObserverExecutor.Kind executorKind, Reception reception,
+            TransactionPhase transactionPhase, Type observedType, Set<AnnotationInstance> qualifiers,
+            Consumer<ObserverConfigurator.NotifyGeneration> notify,
             Map<String, Object> params, boolean forceApplicationClass) {
         this.identifier = generateIdentifier(userId, declaringBean, observerMethod, isAsync, priority, transactionPhase,
                 observedType, qualifiers);
@@ -203,6 +240,8 @@ private ObserverInfo(String userId, BeanDeployment beanDeployment, DotName beanC
         this.eventMetadataParameterPosition = initEventMetadataParam(observerMethod);
         this.isAsync = isAsync;
         this.priority = priority;
+        this.batchSize = batchSize;
+        this.executorKind = executorKind;
         this.reception = reception;
         this.transactionPhase = transactionPhase;
         this.observedType = observedType;
@@ -317,6 +356,24 @@ public Type getObservedType() {
         return observedType;
     }
 
+    /**
+     *
+     * @return the maximum number of events delivered at once, or {@code 0} if the observer does not receive batches
+     * @see Batched
+     */
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     *
+     * @return the kind of executor, or {@code null} if the executor of the fire is used
+     * @see AsyncObserverExecutor
+     */
+    public AsyncObserverExecutor.Kind getExecutorKind() {
+        return executorKind;
+    }
+
     public Set<AnnotationInstance> getQualifiers() {
         return qualifiers;
     }
@@ -1,6 +1,7 @@
 package io.quarkus.arc;
 
 import java.lang.StackWalker.StackFrame;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -67,6 +68,22 @@ public static void setExecutor(ExecutorService executor) {
         container.setExecutor(executor);
     }
 
+    /**
+     * Registers the executor used to notify the asynchronous observers annotated with
+     * {@code @AsyncObserverExecutor(kind)}.
+     *
+     * @param kind
+     * @param executor the executor, or {@code null} to use the default one
+     * @see AsyncObserverExecutor
+     */
+    public static void setObserverExecutor(AsyncObserverExecutor.Kind kind, Executor executor) {
+        ArcContainerImpl container = INSTANCE;
+        if (container == null) {
+            throw containerNotInitialized();
+        }
+        container.setObserverExecutor(kind, executor);
+    }
+
     /**
      *
      * @return the container instance or {@code null} if the container is not initialized
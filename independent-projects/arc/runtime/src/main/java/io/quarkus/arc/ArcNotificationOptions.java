@@ -0,0 +1,98 @@
+package io.quarkus.arc;
+
+import java.util.Map;
+import java.util.concurrent.Executor;
+
+import jakarta.enterprise.event.Event;
+import jakarta.enterprise.event.NotificationOptions;
+import jakarta.enterprise.inject.spi.ObserverMethod;
+
+import io.quarkus.arc.impl.AsyncEventQueue;
+
+/**
+ * Custom {@link NotificationOptions} supported by ArC.
+ *
+ * @see NotificationOptions.Builder#set(String, Object)
+ */
+public final class ArcNotificationOptions {
+
+    /**
+     * If set then the events fired asynchronously via the same {@link Event} object and delivered by the same executor are
+     * queued and coalesced, i.e. a single task submitted to the executor notifies the asynchronous observers of several
+     * events in a row. The value must be a positive {@link Integer} that represents the maximum number of events delivered
+     * by a single task.
+     * <p>
+     * Note that the events from the same queue are delivered serially, in the order in which they were fired. As a result,
+     * a slow observer delays the notification of subsequent events.
+     * <p>
+     * The observers annotated with {@link AsyncObserverExecutor} or with a {@link Batched} event parameter are always
+     * notified separately and are not affected by this option.
+     * <p>
+     *
+     * <pre>
+     * event.fireAsync(payload, ArcNotificationOptions.ofBatchSize(64));
+     * </pre>
+     *
+     * @see #ofBatchSize(int)
+     * @see #getAsyncQueueDepth(Event)
+     */
+    public static final String ASYNC_BATCH_SIZE = "io.quarkus.arc.async-batch-size";
+
+    /**
+     *
+     * @param batchSize
+     * @return the options with the given {@link #ASYNC_BATCH_SIZE}
+     * @throws IllegalArgumentException if the batch size is not positive
+     */
+    public static NotificationOptions ofBatchSize(int batchSize) {
+        return ofBatchSize(batchSize, null);
+    }
+
+    /**
+     *
+     * @param batchSize
+     * @param executor the executor, or {@code null} to use the default one
+     * @return the options with the given {@link #ASYNC_BATCH_SIZE} and executor
+     * @throws IllegalArgumentException if the batch size is not positive
+     */
+    public static NotificationOptions ofBatchSize(int batchSize, Executor executor) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException(ASYNC_BATCH_SIZE + " must be a positive integer; found: " + batchSize);
+        }
+        return NotificationOptions.builder().set(ASYNC_BATCH_SIZE, batchSize).setExecutor(executor).build();
+    }
+
+    /**
+     *
+     * @param event
+     * @return the number of events fired asynchronously via the given {@link Event} object with {@link #ASYNC_BATCH_SIZE}
+     *         that are queued and not delivered yet
+     */
+    public static int getAsyncQueueDepth(Event<?> event) {
+        return AsyncEventQueue.getDepth(event);
+    }
+
+    /**
+     *
+     * @param observer
+     * @return the number of events that were not delivered to the given observer yet, or {@code 0} if the observer is neither
+     *         annotated with {@link AsyncObserverExecutor} nor declares a {@link Batched} event parameter
+     */
+    public static int getAsyncQueueDepth(ObserverMethod<?> observer) {
+        return AsyncEventQueue.getDepth(observer);
+    }
+
+    /**
+     * The result can be used to register a queue depth metric per observer.
+     *
+     * @return the number of events that were not delivered yet for every observer annotated with
+     *         {@link AsyncObserverExecutor} or with a {@link Batched} event parameter
+     */
+    public static Map<ObserverMethod<?>, Integer> getAsyncQueueDepths() {
+        return AsyncEventQueue.getDepths();
+    }
+
+    private ArcNotificationOptions() {
+    }
+
+}
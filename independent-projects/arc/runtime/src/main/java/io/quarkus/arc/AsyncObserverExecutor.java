@@ -0,0 +1,62 @@
+package io.quarkus.arc;
+
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+import java.util.concurrent.Executor;
+
+import jakarta.enterprise.event.NotificationOptions;
+import jakarta.enterprise.event.ObservesAsync;
+
+/**
+ * An asynchronous observer method annotated with this annotation is notified by the specified kind of executor instead of
+ * the executor of the {@link jakarta.enterprise.event.Event#fireAsync(Object, NotificationOptions)} call.
+ *
+ * <pre>
+ * <code>
+ *  class OrderListener {
+ *
+ *     {@literal @AsyncObserverExecutor(Kind.VIRTUAL_THREAD)}
+ *     void onOrder({@literal @ObservesAsync} Order order) {
+ *        // blocking code
+ *     }
+ *  }
+ *  </code>
+ * </pre>
+ *
+ * @see ObservesAsync
+ * @see Batched
+ * @see Arc#setObserverExecutor(Kind, Executor)
+ */
+@Target(METHOD)
+@Retention(RUNTIME)
+public @interface AsyncObserverExecutor {
+
+    /**
+     *
+     * @return the kind of executor
+     */
+    Kind value();
+
+    enum Kind {
+
+        /**
+         * The executor of the container, i.e. {@link ArcContainer#getExecutorService()}.
+         */
+        WORKER,
+
+        /**
+         * A new virtual thread is started for each task.
+         */
+        VIRTUAL_THREAD,
+
+        /**
+         * An event loop thread. The executor must be registered by the integrator, e.g. a Vert.x event loop in Quarkus.
+         */
+        EVENT_LOOP,
+
+    }
+
+}
@@ -0,0 +1,51 @@
+package io.quarkus.arc;
+
+import static java.lang.annotation.ElementType.PARAMETER;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import jakarta.enterprise.event.ObservesAsync;
+import jakarta.enterprise.inject.spi.EventMetadata;
+
+/**
+ * If the event parameter of an asynchronous observer method is annotated with this annotation, then the events are
+ * delivered in batches. The event parameter must be of type {@code java.util.List<T>} and the observed event type is
+ * {@code T}.
+ *
+ * <pre>
+ * <code>
+ *  class OrderListener {
+ *
+ *     void onOrders({@literal @ObservesAsync @Batched(maxSize = 64)} List&lt;Order&gt; orders) {
+ *        // orders contains at most 64 events
+ *     }
+ *  }
+ *  </code>
+ * </pre>
+ *
+ * The events fired asynchronously are queued for the observer and a single task delivers the events that were queued in
+ * the meantime, up to {@link #maxSize()} events at once. Batches are delivered serially, in the order in which the events
+ * were fired. If the observer method throws an exception then the {@link java.util.concurrent.CompletionStage} of every
+ * event from the batch completes exceptionally.
+ * <p>
+ * An {@link EventMetadata} parameter of a batched observer method represents the first event of the batch.
+ *
+ * @see ObservesAsync
+ * @see AsyncObserverExecutor
+ * @see ArcNotificationOptions#getAsyncQueueDepth(jakarta.enterprise.inject.spi.ObserverMethod)
+ */
+@Target(PARAMETER)
+@Retention(RUNTIME)
+public @interface Batched {
+
+    int DEFAULT_MAX_SIZE = 128;
+
+    /**
+     *
+     * @return the maximum number of events delivered at once
+     */
+    int maxSize() default DEFAULT_MAX_SIZE;
+
+}
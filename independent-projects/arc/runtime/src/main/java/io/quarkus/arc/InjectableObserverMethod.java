@@ -57,6 +57,25 @@ default void notify(T event) {
      */
     String getDeclaringBeanIdentifier();
 
+    /**
+     *
+     * @return the maximum number of events delivered at once, or {@code 0} if the observer does not receive batches
+     * @see Batched
+     */
+    default int getBatchSize() {
+        return 0;
+    }
+
+    /**
+     *
+     * @return the kind of executor used to notify the asynchronous observer, or {@code null} if the executor of the fire is
+     *         used
+     * @see AsyncObserverExecutor
+     */
+    default AsyncObserverExecutor.Kind getExecutorKind() {
+        return null;
+    }
+
     @Override
     default int compareTo(InjectableObserverMethod<?> other) {
         return Integer.compare(this.getPriority(), other.getPriority());
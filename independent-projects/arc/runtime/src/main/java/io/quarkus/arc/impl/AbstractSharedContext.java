@@ -137,7 +137,7 @@ public void destroy(ContextState state) {
     @SuppressWarnings({ "unchecked", "rawtypes" })
     private static <T> ContextInstanceHandle createInstanceHandle(InjectableBean<T> bean,
             CreationalContext<T> creationalContext) {
-        return new ContextInstanceHandleImpl(bean, bean.create(creationalContext), creationalContext);
+        return new ContextInstanceHandleImpl(bean, JfrEvents.create(bean, creationalContext), creationalContext);
     }
 
 }
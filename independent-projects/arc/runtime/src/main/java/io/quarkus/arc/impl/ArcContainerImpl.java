@@ -22,8 +22,10 @@
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
@@ -52,6 +54,7 @@
 import jakarta.enterprise.inject.spi.InjectionPoint;
 import jakarta.enterprise.inject.spi.InterceptionType;
 import jakarta.enterprise.inject.spi.Interceptor;
+import jakarta.enterprise.inject.spi.ObserverMethod;
 import jakarta.enterprise.util.TypeLiteral;
 import jakarta.inject.Scope;
 import jakarta.inject.Singleton;
@@ -60,6 +63,7 @@
 
 import io.quarkus.arc.Arc;
 import io.quarkus.arc.ArcContainer;
+import io.quarkus.arc.AsyncObserverExecutor;
 import io.quarkus.arc.Components;
 import io.quarkus.arc.ComponentsProvider;
 import io.quarkus.arc.CurrentContextFactory;
@@ -80,6 +84,15 @@ public class ArcContainerImpl implements ArcContainer {
 
     private static final Logger LOGGER = Logger.getLogger(ArcContainerImpl.class.getPackage().getName());
     private static final AtomicInteger ID_GENERATOR = new AtomicInteger();
+    private static final Executor VIRTUAL_THREAD_EXECUTOR = new Executor() {
+
+        private final ThreadFactory threadFactory = Thread.ofVirtual().name("arc-async-observer-", 0).factory();
+
+        @Override
+        public void execute(Runnable command) {
+            threadFactory.newThread(command).start();
+        }
+    };
 
     private final String id;
 
@@ -111,6 +124,10 @@ public class ArcContainerImpl implements ArcContainer {
     // An event mock reference is shared by identical injection points
     private final ConcurrentMap<TypeAndQualifiers, AtomicReference<Event<?>>> eventMocks;
 
+    private final ConcurrentMap<AsyncObserverExecutor.Kind, Executor> observerExecutors;
+    // The dispatchers of batched observers and observers with a custom executor; created lazily
+    private final ConcurrentMap<InjectableObserverMethod<?>, AsyncObserverDispatcher> observerDispatchers;
+
     public ArcContainerImpl(CurrentContextFactory currentContextFactory, boolean strictMode, boolean testMode) {
         this.strictMode = strictMode;
         id = String.valueOf(ID_GENERATOR.incrementAndGet());
@@ -131,6 +148,8 @@ public ArcContainerImpl(CurrentContextFactory currentContextFactory, boolean str
         this.currentContextFactory = currentContextFactory == null ? new ThreadLocalCurrentContextFactory()
                 : currentContextFactory;
         this.eventMocks = testMode ? new ConcurrentHashMap<>() : null;
+        this.observerExecutors = new ConcurrentHashMap<>();
+        this.observerDispatchers = new ConcurrentHashMap<>();
 
         List<Components> components = new ArrayList<>();
         for (ComponentsProvider componentsProvider : ServiceLoader.load(ComponentsProvider.class)) {
@@ -428,6 +447,47 @@ public void setExecutor(ExecutorService executor) {
         this.executorService = executor;
     }
 
+    public void setObserverExecutor(AsyncObserverExecutor.Kind kind, Executor executor) {
+        Objects.requireNonNull(kind);
+        if (executor != null) {
+            observerExecutors.put(kind, executor);
+        } else {
+            observerExecutors.remove(kind);
+        }
+    }
+
+    Executor getObserverExecutor(AsyncObserverExecutor.Kind kind) {
+        Executor executor = observerExecutors.get(kind);
+        if (executor != null) {
+            return executor;
+        }
+        return switch (kind) {
+            case WORKER -> getExecutorService();
+            case VIRTUAL_THREAD -> VIRTUAL_THREAD_EXECUTOR;
+            case EVENT_LOOP -> throw new IllegalStateException(
+                    "No executor is registered for asynchronous observers annotated with @AsyncObserverExecutor(EVENT_LOOP)");
+        };
+    }
+
+    AsyncObserverDispatcher getObserverDispatcher(InjectableObserverMethod<?> observer) {
+        return observerDispatchers.computeIfAbsent(observer, AsyncObserverDispatcher::new);
+    }
+
+    public int getObserverQueueDepth(ObserverMethod<?> observer) {
+        AsyncObserverDispatcher dispatcher = observerDispatchers.get(observer);
+        return dispatcher != null ? dispatcher.depth() : 0;
+    }
+
+    public Map<ObserverMethod<?>, Integer> getObserverQueueDepths() {
+        Map<ObserverMethod<?>, Integer> depths = new HashMap<>();
+        for (InjectableObserverMethod<?> observer : observers) {
+            if (AsyncObserverDispatcher.isDispatched(observer)) {
+                depths.put(observer, getObserverQueueDepth(observer));
+            }
+        }
+        return depths;
+    }
+
     @Override
     public CurrentContextFactory getCurrentContextFactory() {
         return currentContextFactory;
@@ -489,6 +549,8 @@ public synchronized void shutdown() {
             if (eventMocks != null) {
                 eventMocks.clear();
             }
+            observerDispatchers.clear();
+            observerExecutors.clear();
 
             LOGGER.debugf("ArC DI container shut down");
         }
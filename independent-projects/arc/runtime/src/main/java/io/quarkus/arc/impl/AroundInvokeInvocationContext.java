@@ -24,6 +24,13 @@
 class AroundInvokeInvocationContext extends AbstractInvocationContext {
 
     static Object perform(Object target, Object[] args, InterceptedMethodMetadata metadata) throws Exception {
+        if (JfrEvents.isEnabled()) {
+            return JfrEvents.perform(target, args, metadata);
+        }
+        return performChain(target, args, metadata);
+    }
+
+    static Object performChain(Object target, Object[] args, InterceptedMethodMetadata metadata) throws Exception {
         if (metadata.chain.isEmpty()) {
             return metadata.aroundInvokeForward.apply(target, new AroundInvokeInvocationContext(target, args, metadata));
         }
@@ -0,0 +1,214 @@
+package io.quarkus.arc.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import jakarta.enterprise.event.Event;
+import jakarta.enterprise.inject.spi.ObserverMethod;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ArcNotificationOptions;
+import io.quarkus.arc.AsyncObserverExceptionHandler;
+import io.quarkus.arc.Batched;
+import io.quarkus.arc.impl.EventImpl.Notifier;
+
+/**
+ * Coalesces asynchronous notifications. At most one task that drains the queue is submitted to the executor at a time and
+ * each task delivers at most the batch size of events.
+ * <p>
+ * A queue is retired once it is drained so that the queues created for short-lived executors are not retained. A retired
+ * queue does not accept new events; {@link #offer(Object, Notifier)} returns {@code null} and the caller obtains a new queue.
+ *
+ * @param <T>
+ * @see ArcNotificationOptions#ASYNC_BATCH_SIZE
+ * @see Batched
+ */
+public final class AsyncEventQueue<T> {
+
+    // The value of pending once the queue is retired
+    private static final int RETIRED = Integer.MIN_VALUE;
+
+    private static final int MAX_INITIAL_CAPACITY = 16;
+
+    private final Delivery<T> delivery;
+    private final Executor executor;
+    private final int batchSize;
+    private final Consumer<AsyncEventQueue<T>> onRetired;
+
+    private final Queue<PendingEvent<T>> queue;
+    // The number of events offered but not delivered yet; the drain task is only submitted if the value was zero
+    private final AtomicInteger pending;
+
+    AsyncEventQueue(Delivery<T> delivery, Executor executor, int batchSize, Consumer<AsyncEventQueue<T>> onRetired) {
+        this.delivery = delivery;
+        this.executor = executor;
+        this.batchSize = batchSize;
+        this.onRetired = onRetired;
+        this.queue = new ConcurrentLinkedQueue<>();
+        this.pending = new AtomicInteger();
+    }
+
+    /**
+     *
+     * @param event
+     * @return the number of events fired via the given {@link Event} with {@link ArcNotificationOptions#ASYNC_BATCH_SIZE}
+     *         that were not delivered yet
+     */
+    public static int getDepth(Event<?> event) {
+        return event instanceof EventImpl<?> eventImpl ? eventImpl.getAsyncQueueDepth() : 0;
+    }
+
+    /**
+     *
+     * @param observer
+     * @return the number of events that were not delivered to the given batched observer or observer with a custom executor
+     *         yet
+     */
+    public static int getDepth(ObserverMethod<?> observer) {
+        return ArcContainerImpl.instance().getObserverQueueDepth(observer);
+    }
+
+    /**
+     *
+     * @return the depth of every batched observer and observer with a custom executor
+     * @see #getDepth(ObserverMethod)
+     */
+    public static Map<ObserverMethod<?>, Integer> getDepths() {
+        return ArcContainerImpl.instance().getObserverQueueDepths();
+    }
+
+    /**
+     *
+     * @param event
+     * @param notifier the notifier the event was fired with
+     * @return the stage completed once the event is delivered, or {@code null} if the queue is retired
+     */
+    <U extends T> CompletableFuture<U> offer(U event, Notifier<?> notifier) {
+        CompletableFuture<U> future = new CompletableFuture<>();
+        PendingEvent<T> pendingEvent = new PendingEvent<T>(event, notifier, future);
+        // The event must be added before the counter is incremented
+        queue.add(pendingEvent);
+        while (true) {
+            int current = pending.get();
+            if (current == RETIRED) {
+                // No task drains this queue anymore
+                queue.remove(pendingEvent);
+                return null;
+            }
+            if (pending.compareAndSet(current, current + 1)) {
+                if (current == 0) {
+                    submit();
+                }
+                return future;
+            }
+        }
+    }
+
+    int depth() {
+        return Math.max(0, pending.get());
+    }
+
+    private void submit() {
+        while (true) {
+            try {
+                executor.execute(this::drain);
+                return;
+            } catch (RejectedExecutionException e) {
+                int failed = 0;
+                PendingEvent<T> next;
+                while ((next = queue.poll()) != null) {
+                    next.future.completeExceptionally(e);
+                    failed++;
+                }
+                // Events offered in the meantime are either failed or counted in the result, in which case no other
+                // thread submits a task for them
+                if (!completed(failed)) {
+                    return;
+                }
+            }
+        }
+    }
+
+    private void drain() {
+        List<PendingEvent<T>> batch = new ArrayList<>(Math.min(batchSize, MAX_INITIAL_CAPACITY));
+        PendingEvent<T> next;
+        while (batch.size() < batchSize && (next = queue.poll()) != null) {
+            batch.add(next);
+        }
+        try {
+            AsyncObserverExceptionHandler handler;
+            try {
+                // The handler is only looked up once per batch
+                handler = Arc.requireContainer().instance(AsyncObserverExceptionHandler.class).get();
+            } catch (Throwable e) {
+                for (PendingEvent<T> pendingEvent : batch) {
+                    pendingEvent.future.completeExceptionally(e);
+                }
+                return;
+            }
+            try {
+                delivery.deliver(batch, handler);
+            } catch (Throwable e) {
+                // Only affects the events that were not completed by the delivery
+                for (PendingEvent<T> pendingEvent : batch) {
+                    pendingEvent.future.completeExceptionally(e);
+                }
+            }
+        } finally {
+            if (completed(batch.size())) {
+                // Resubmit instead of looping so that the other tasks of the executor are not starved
+                submit();
+            }
+        }
+    }
+
+    /**
+     * Decrements the number of pending events and retires the queue if there is none left.
+     *
+     * @return {@code true} if events offered in the meantime need another task
+     */
+    private boolean completed(int count) {
+        int remaining = pending.addAndGet(-count);
+        if (remaining > 0) {
+            return true;
+        }
+        if (remaining == 0 && pending.compareAndSet(0, RETIRED)) {
+            onRetired.accept(this);
+        }
+        return false;
+    }
+
+    /**
+     * Delivers a batch of events drained from a queue.
+     */
+    @FunctionalInterface
+    interface Delivery<T> {
+
+        /**
+         * The implementation is expected to complete the stage of each event.
+         *
+         * @param events
+         * @param exceptionHandler
+         */
+        void deliver(List<PendingEvent<T>> events, AsyncObserverExceptionHandler exceptionHandler);
+
+    }
+
+    record PendingEvent<T>(T event, Notifier<?> notifier, CompletableFuture<? extends T> future) {
+
+        @SuppressWarnings("unchecked")
+        void complete() {
+            ((CompletableFuture<T>) future).complete(event);
+        }
+
+    }
+
+}
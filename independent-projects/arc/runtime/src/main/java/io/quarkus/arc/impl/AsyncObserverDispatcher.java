@@ -0,0 +1,145 @@
+package io.quarkus.arc.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.enterprise.inject.spi.ObserverMethod;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.AsyncObserverExceptionHandler;
+import io.quarkus.arc.AsyncObserverExecutor;
+import io.quarkus.arc.Batched;
+import io.quarkus.arc.InjectableObserverMethod;
+import io.quarkus.arc.impl.AsyncEventQueue.PendingEvent;
+import io.quarkus.arc.impl.EventImpl.CollectingExceptionHandler;
+import io.quarkus.arc.impl.EventImpl.Notifier;
+
+/**
+ * Notifies a single asynchronous observer that receives batches of events or declares its own executor.
+ * <p>
+ * The events for a batched observer are queued per executor, i.e. the batches are delivered serially. Other observers are
+ * notified with a separate task for each event.
+ *
+ * @see Batched
+ * @see AsyncObserverExecutor
+ */
+final class AsyncObserverDispatcher {
+
+    private final InjectableObserverMethod<?> observer;
+    private final int batchSize;
+    private final AsyncObserverExecutor.Kind executorKind;
+    // Batched observers only
+    private final ConcurrentMap<Executor, AsyncEventQueue<Object>> queues;
+    // The number of events not delivered yet; observers that are not batched only
+    private final AtomicInteger pending;
+
+    AsyncObserverDispatcher(InjectableObserverMethod<?> observer) {
+        this.observer = observer;
+        this.batchSize = observer.getBatchSize();
+        this.executorKind = observer.getExecutorKind();
+        this.queues = batchSize > 0 ? new ConcurrentHashMap<>() : null;
+        this.pending = new AtomicInteger();
+    }
+
+    static boolean isDispatched(ObserverMethod<?> observer) {
+        return observer.isAsync() && observer instanceof InjectableObserverMethod<?> injectable
+                && (injectable.getBatchSize() > 0 || injectable.getExecutorKind() != null);
+    }
+
+    /**
+     *
+     * @param event
+     * @param notifier
+     * @param fireExecutor the executor of the fire
+     * @return the stage completed once the event is delivered to the observer
+     */
+    CompletableFuture<Object> dispatch(Object event, Notifier<?> notifier, Executor fireExecutor) {
+        Executor executor = executorKind != null ? ArcContainerImpl.instance().getObserverExecutor(executorKind)
+                : fireExecutor;
+        if (queues != null) {
+            while (true) {
+                AsyncEventQueue<Object> queue = queues.computeIfAbsent(executor, this::createQueue);
+                CompletableFuture<Object> future = queue.offer(event, notifier);
+                if (future != null) {
+                    return future;
+                }
+                // The queue was drained and retired in the meantime
+                queues.remove(executor, queue);
+            }
+        }
+        CompletableFuture<Object> future = new CompletableFuture<>();
+        pending.incrementAndGet();
+        try {
+            executor.execute(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        notifyObserver(event, notifier, future);
+                    } finally {
+                        pending.decrementAndGet();
+                    }
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            pending.decrementAndGet();
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
+    int depth() {
+        if (queues == null) {
+            return pending.get();
+        }
+        int depth = 0;
+        for (AsyncEventQueue<Object> queue : queues.values()) {
+            depth += queue.depth();
+        }
+        return depth;
+    }
+
+    private void notifyObserver(Object event, Notifier<?> notifier, CompletableFuture<Object> future) {
+        try {
+            CollectingExceptionHandler exceptionHandler = new CollectingExceptionHandler(new ArrayList<>(1),
+                    Arc.requireContainer().instance(AsyncObserverExceptionHandler.class).get());
+            notifier.notifyObserver(observer, event, exceptionHandler);
+            EventImpl.handleExceptions(exceptionHandler);
+            future.complete(event);
+        } catch (Throwable e) {
+            future.completeExceptionally(e);
+        }
+    }
+
+    private AsyncEventQueue<Object> createQueue(Executor executor) {
+        // Drained queues are removed so that the queues of short-lived executors are not retained
+        return new AsyncEventQueue<>(this::deliverBatch, executor, batchSize, queue -> queues.remove(executor, queue));
+    }
+
+    private void deliverBatch(List<PendingEvent<Object>> events, AsyncObserverExceptionHandler handler) {
+        List<Object> batch = new ArrayList<>(events.size());
+        for (PendingEvent<Object> pendingEvent : events) {
+            batch.add(pendingEvent.event());
+        }
+        try {
+            CollectingExceptionHandler exceptionHandler = new CollectingExceptionHandler(new ArrayList<>(1), handler);
+            // The metadata of the first event represents the whole batch
+            events.get(0).notifier().notifyObserver(observer, new EventBatch(batch), exceptionHandler);
+            EventImpl.handleExceptions(exceptionHandler);
+        } catch (Throwable e) {
+            for (PendingEvent<Object> pendingEvent : events) {
+                pendingEvent.future().completeExceptionally(e);
+            }
+            return;
+        }
+        for (PendingEvent<Object> pendingEvent : events) {
+            pendingEvent.complete();
+        }
+    }
+
+}
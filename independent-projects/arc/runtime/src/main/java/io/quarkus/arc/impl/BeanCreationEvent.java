@@ -0,0 +1,26 @@
+package io.quarkus.arc.impl;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Label("Bean Creation")
+@Category({ "Quarkus", "Arc", "Beans" })
+@Name("quarkus.arc.BeanCreation")
+@Description("The creation of a bean instance, including the injection of its dependencies and the lifecycle callbacks")
+@StackTrace(false)
+class BeanCreationEvent extends Event {
+
+    @Label("Bean Class")
+    public Class<?> beanClass;
+
+    @Label("Scope")
+    public Class<?> scope;
+
+    @Label("Bean Identifier")
+    public String identifier;
+
+}
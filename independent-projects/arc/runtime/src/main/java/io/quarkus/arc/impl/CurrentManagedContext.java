@@ -108,7 +108,8 @@ public <T> T getIfActive(Contextual<T> contextual, Function<Contextual<T>, Creat
 
                 @Override
                 public ContextInstanceHandle<?> get() {
-                    return new ContextInstanceHandleImpl<>(bean, contextual.create(creationalContext), creationalContext);
+                    return new ContextInstanceHandleImpl<>(bean, JfrEvents.create(contextual, creationalContext),
+                            creationalContext);
                 }
             }).get();
         }
@@ -28,7 +28,7 @@ public <T> T get(Contextual<T> contextual, CreationalContext<T> creationalContex
             return null;
         }
 
-        T instance = contextual.create(creationalContext);
+        T instance = JfrEvents.create(contextual, creationalContext);
         if (creationalContext instanceof CreationalContextImpl) {
             // we can remove this `if` and cast unconditionally after https://github.com/jakartaee/cdi-tck/pull/452
             CreationalContextImpl<T> ccimpl = (CreationalContextImpl<T>) creationalContext;
@@ -0,0 +1,43 @@
+package io.quarkus.arc.impl;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+
+import io.quarkus.arc.Batched;
+
+/**
+ * The events delivered at once to a batched observer method.
+ *
+ * @see Batched
+ */
+public final class EventBatch extends AbstractList<Object> implements RandomAccess {
+
+    private final List<Object> events;
+
+    EventBatch(List<Object> events) {
+        this.events = events;
+    }
+
+    /**
+     * Used by the generated batched observers that can be also notified with a single event, e.g. via
+     * {@link io.quarkus.arc.InjectableObserverMethod#notify(Object)}.
+     *
+     * @param event
+     * @return the batch of events
+     */
+    public static List<Object> of(Object event) {
+        return event instanceof EventBatch batch ? batch : List.of(event);
+    }
+
+    @Override
+    public Object get(int index) {
+        return events.get(index);
+    }
+
+    @Override
+    public int size() {
+        return events.size();
+    }
+
+}
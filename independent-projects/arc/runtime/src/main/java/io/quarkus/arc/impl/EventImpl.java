@@ -19,6 +19,7 @@
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.Executor;
+import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
@@ -42,10 +43,13 @@
 import org.jboss.logging.Logger;
 
 import io.quarkus.arc.Arc;
+import io.quarkus.arc.ArcNotificationOptions;
 import io.quarkus.arc.AsyncObserverExceptionHandler;
 import io.quarkus.arc.InjectableBean;
+import io.quarkus.arc.InjectableObserverMethod;
 import io.quarkus.arc.InstanceHandle;
 import io.quarkus.arc.ManagedContext;
+import io.quarkus.arc.impl.AsyncEventQueue.PendingEvent;
 
 /**
  *
@@ -103,22 +107,49 @@ public <U extends T> CompletionStage<U> fireAsync(U event, NotificationOptions o
             return AsyncEventDeliveryStage.completed(event, executor);
         }
 
-        Supplier<U> notifyLogic = new Supplier<U>() {
-            @Override
-            public U get() {
-                // Note that async observers are notified serially - no need to synchronize the collection
-                ObserverExceptionHandler exceptionHandler = new CollectingExceptionHandler(new ArrayList<>(),
-                        Arc.requireContainer().instance(AsyncObserverExceptionHandler.class).get());
-                notifier.notify(event, exceptionHandler, true);
-                handleExceptions(exceptionHandler);
-                return event;
-            }
-        };
-
-        CompletableFuture<U> completableFuture = CompletableFuture.supplyAsync(notifyLogic, executor);
+        CompletableFuture<U> completableFuture;
+        Object batchSize = options.get(ArcNotificationOptions.ASYNC_BATCH_SIZE);
+        if (!notifier.hasAsyncObservers()) {
+            // All async observers are dispatched individually
+            completableFuture = CompletableFuture.completedFuture(event);
+        } else if (batchSize != null) {
+            completableFuture = notifier.offer(event, executor, toBatchSize(batchSize));
+        } else {
+            Supplier<U> notifyLogic = new Supplier<U>() {
+                @Override
+                public U get() {
+                    // Note that async observers are notified serially - no need to synchronize the collection
+                    ObserverExceptionHandler exceptionHandler = new CollectingExceptionHandler(new ArrayList<>(),
+                            Arc.requireContainer().instance(AsyncObserverExceptionHandler.class).get());
+                    notifier.notify(event, exceptionHandler, true);
+                    handleExceptions(exceptionHandler);
+                    return event;
+                }
+            };
+            completableFuture = CompletableFuture.supplyAsync(notifyLogic, executor);
+        }
+        if (notifier.hasDispatchedObservers()) {
+            completableFuture = notifier.dispatch(event, executor, completableFuture);
+        }
         return new AsyncEventDeliveryStage<>(completableFuture, executor);
     }
 
+    private static int toBatchSize(Object value) {
+        if (value instanceof Integer batchSize && batchSize > 0) {
+            return batchSize;
+        }
+        throw new IllegalArgumentException(
+                ArcNotificationOptions.ASYNC_BATCH_SIZE + " must be a positive integer; found: " + value);
+    }
+
+    int getAsyncQueueDepth() {
+        int depth = 0;
+        for (Notifier<? super T> notifier : notifiers.values()) {
+            depth += notifier.getAsyncQueueDepth();
+        }
+        return depth;
+    }
+
     private Notifier<? super T> getNotifier(Class<?> runtimeType) {
         Notifier<? super T> notifier = this.lastNotifier;
         if (notifier != null && notifier.runtimeType.equals(runtimeType)) {
@@ -251,7 +282,7 @@ private Type getEventType(Class<?> runtimeType) {
         return resolvedType;
     }
 
-    private void handleExceptions(ObserverExceptionHandler handler) {
+    static void handleExceptions(ObserverExceptionHandler handler) {
         List<Throwable> handledExceptions = handler.getHandledExceptions();
         if (!handledExceptions.isEmpty()) {
             CompletionException exception = null;
@@ -274,7 +305,12 @@ private void handleExceptions(ObserverExceptionHandler handler) {
         private final List<ObserverMethod<? super T>> observerMethods;
         final EventMetadata eventMetadata;
         private final boolean hasTxObservers;
+        private final boolean hasAsyncObservers;
+        // Batched async observers and async observers with a custom executor, see AsyncObserverDispatcher
+        private final List<InjectableObserverMethod<?>> dispatchedObservers;
         private final boolean activateRequestContext;
+        // Lazily initialized, see ArcNotificationOptions#ASYNC_BATCH_SIZE
+        private volatile ConcurrentMap<AsyncQueueKey, AsyncEventQueue<T>> asyncQueues;
 
         Notifier(Class<?> runtimeType, List<ObserverMethod<? super T>> observerMethods, EventMetadata eventMetadata,
                 boolean activateRequestContext) {
@@ -289,6 +325,17 @@ private void handleExceptions(ObserverExceptionHandler handler) {
                 }
             }
             this.hasTxObservers = hasTxObservers;
+            boolean hasAsyncObservers = false;
+            List<InjectableObserverMethod<?>> dispatchedObservers = new ArrayList<>();
+            for (var method : observerMethods) {
+                if (AsyncObserverDispatcher.isDispatched(method)) {
+                    dispatchedObservers.add((InjectableObserverMethod<?>) method);
+                } else if (method.isAsync()) {
+                    hasAsyncObservers = true;
+                }
+            }
+            this.hasAsyncObservers = hasAsyncObservers;
+            this.dispatchedObservers = dispatchedObservers.isEmpty() ? List.of() : List.copyOf(dispatchedObservers);
             this.activateRequestContext = activateRequestContext;
         }
 
@@ -388,10 +435,154 @@ protected void callObserverMethod(ObserverMethod<?> observerMethod, EventContext
             observerMethod.notify(eventContext);
         }
 
+        /**
+         * Notifies a single observer, the request context is activated if needed.
+         *
+         * @param observerMethod
+         * @param event the event or the {@link EventBatch}
+         * @param exceptionHandler
+         */
+        void notifyObserver(ObserverMethod<?> observerMethod, Object event, ObserverExceptionHandler exceptionHandler) {
+            EventContext<Object> eventContext = new EventContextImpl<>(event, eventMetadata);
+            if (activateRequestContext) {
+                ManagedContext requestContext = Arc.requireContainer().requestContext();
+                if (!requestContext.isActive()) {
+                    try {
+                        requestContext.activate();
+                        callObserver(observerMethod, eventContext, exceptionHandler);
+                    } finally {
+                        requestContext.terminate();
+                    }
+                    return;
+                }
+            }
+            callObserver(observerMethod, eventContext, exceptionHandler);
+        }
+
+        private void callObserver(ObserverMethod<?> observerMethod, EventContext<Object> eventContext,
+                ObserverExceptionHandler exceptionHandler) {
+            try {
+                callObserverMethod(observerMethod, eventContext);
+            } catch (Throwable t) {
+                exceptionHandler.handle(t, observerMethod, eventContext);
+            }
+        }
+
         boolean isEmpty() {
             return observerMethods.isEmpty();
         }
 
+        /**
+         *
+         * @return {@code true} if there is an async observer that is not dispatched individually
+         */
+        boolean hasAsyncObservers() {
+            return hasAsyncObservers;
+        }
+
+        boolean hasDispatchedObservers() {
+            return !dispatchedObservers.isEmpty();
+        }
+
+        /**
+         * Dispatches the event to the batched observers and observers with a custom executor.
+         *
+         * @param event
+         * @param executor the executor of the fire
+         * @param delivery the delivery to the other async observers
+         * @return the stage completed once the event is delivered to all async observers
+         */
+        <U extends T> CompletableFuture<U> dispatch(U event, Executor executor, CompletableFuture<U> delivery) {
+            ArcContainerImpl container = ArcContainerImpl.instance();
+            CompletableFuture<?>[] deliveries = new CompletableFuture<?>[dispatchedObservers.size() + 1];
+            deliveries[0] = delivery;
+            for (int i = 0; i < dispatchedObservers.size(); i++) {
+                deliveries[i + 1] = container.getObserverDispatcher(dispatchedObservers.get(i)).dispatch(event, this,
+                        executor);
+            }
+            return CompletableFuture.allOf(deliveries).handle(new BiFunction<Void, Throwable, U>() {
+                @Override
+                public U apply(Void ignored, Throwable failure) {
+                    if (failure == null) {
+                        return event;
+                    }
+                    // Collect the exceptions of all observers
+                    List<Throwable> failures = new ArrayList<>();
+                    for (CompletableFuture<?> d : deliveries) {
+                        if (d.isCompletedExceptionally()) {
+                            Throwable exception = d.exceptionNow();
+                            if (exception instanceof CompletionException && exception.getSuppressed().length > 0) {
+                                Collections.addAll(failures, exception.getSuppressed());
+                            } else {
+                                failures.add(exception);
+                            }
+                        }
+                    }
+                    CompletionException exception = new CompletionException(failures.size() == 1 ? failures.get(0) : null);
+                    for (Throwable t : failures) {
+                        exception.addSuppressed(t);
+                    }
+                    throw exception;
+                }
+            });
+        }
+
+        <U extends T> CompletableFuture<U> offer(U event, Executor executor, int batchSize) {
+            ConcurrentMap<AsyncQueueKey, AsyncEventQueue<T>> queues = asyncQueues;
+            if (queues == null) {
+                synchronized (this) {
+                    queues = asyncQueues;
+                    if (queues == null) {
+                        queues = new ConcurrentHashMap<>(DEFAULT_CACHE_CAPACITY);
+                        asyncQueues = queues;
+                    }
+                }
+            }
+            AsyncQueueKey key = new AsyncQueueKey(executor, batchSize);
+            while (true) {
+                AsyncEventQueue<T> queue = queues.computeIfAbsent(key, this::createAsyncQueue);
+                CompletableFuture<U> future = queue.offer(event, this);
+                if (future != null) {
+                    return future;
+                }
+                // The queue was drained and retired in the meantime
+                queues.remove(key, queue);
+            }
+        }
+
+        int getAsyncQueueDepth() {
+            ConcurrentMap<AsyncQueueKey, AsyncEventQueue<T>> queues = asyncQueues;
+            if (queues == null) {
+                return 0;
+            }
+            int depth = 0;
+            for (AsyncEventQueue<T> queue : queues.values()) {
+                depth += queue.depth();
+            }
+            return depth;
+        }
+
+        private AsyncEventQueue<T> createAsyncQueue(AsyncQueueKey key) {
+            // Drained queues are removed so that the queues of short-lived executors are not retained
+            return new AsyncEventQueue<>(this::deliver, key.executor(), key.batchSize(),
+                    queue -> asyncQueues.remove(key, queue));
+        }
+
+        private void deliver(List<PendingEvent<T>> events, AsyncObserverExceptionHandler handler) {
+            for (PendingEvent<T> next : events) {
+                try {
+                    // Note that async observers are notified serially - no need to synchronize the collection
+                    CollectingExceptionHandler exceptionHandler = new CollectingExceptionHandler(new ArrayList<>(),
+                            handler);
+                    notify(next.event(), exceptionHandler, true);
+                    handleExceptions(exceptionHandler);
+                    next.complete();
+                } catch (Throwable e) {
+                    next.future().completeExceptionally(e);
+                }
+            }
+        }
+
         private static boolean isTxObserver(ObserverMethod<?> observer) {
             return !observer.getTransactionPhase().equals(TransactionPhase.IN_PROGRESS);
         }
@@ -455,7 +646,8 @@ private static class ObserverMethodIsAsync implements Predicate<ObserverMethod<?
 
         @Override
         public boolean test(ObserverMethod<?> observerMethod) {
-            return observerMethod.isAsync();
+            // Batched observers and observers with a custom executor are notified via AsyncObserverDispatcher
+            return observerMethod.isAsync() && !AsyncObserverDispatcher.isDispatched(observerMethod);
         }
     }
 
@@ -628,6 +820,9 @@ default List<Throwable> getHandledExceptions() {
         }
     }
 
+    record AsyncQueueKey(Executor executor, int batchSize) {
+    }
+
     static class CollectingExceptionHandler implements ObserverExceptionHandler {
 
         private final List<Throwable> throwables;
@@ -18,6 +18,9 @@ public class InterceptedMethodMetadata {
     public final Set<Annotation> bindings;
     public final BiFunction<Object, InvocationContext, Object> aroundInvokeForward;
 
+    // The interceptor classes recorded by the JFR event; computed lazily
+    String interceptors;
+
     public InterceptedMethodMetadata(List<InterceptorInvocation> chain, Method method, Set<Annotation> bindings,
             BiFunction<Object, InvocationContext, Object> aroundInvokeForward) {
         this.chain = chain;
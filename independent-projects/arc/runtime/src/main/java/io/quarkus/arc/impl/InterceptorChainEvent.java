@@ -0,0 +1,27 @@
+package io.quarkus.arc.impl;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Label("Interceptor Chain")
+@Category({ "Quarkus", "Arc", "Interceptors" })
+@Name("quarkus.arc.InterceptorChain")
+@Description("The execution of the around invoke interceptor chain of an intercepted method, including the target method")
+@StackTrace(false)
+class InterceptorChainEvent extends Event {
+
+    @Label("Declaring Class")
+    public Class<?> declaringClass;
+
+    @Label("Method")
+    public String method;
+
+    @Label("Interceptors")
+    @Description("The interceptor classes in the order of execution")
+    public String interceptors;
+
+}
@@ -37,6 +37,10 @@ public static InterceptorInvocation aroundConstruct(InjectableInterceptor<?> int
         this.interceptorInstance = interceptorInstance;
     }
 
+    Class<?> getInterceptorClass() {
+        return interceptor.getBeanClass();
+    }
+
     @SuppressWarnings("unchecked")
     Object invoke(InvocationContext ctx) throws Exception {
         return interceptor.intercept(interceptionType, interceptorInstance, ctx);
@@ -0,0 +1,107 @@
+package io.quarkus.arc.impl;
+
+import java.util.StringJoiner;
+
+import jakarta.enterprise.context.Dependent;
+import jakarta.enterprise.context.spi.Contextual;
+import jakarta.enterprise.context.spi.CreationalContext;
+
+import io.quarkus.arc.InjectableBean;
+
+/**
+ * Controls the JFR events emitted for interceptor chains and bean instantiation.
+ * <p>
+ * The events are disabled by default. In that case, the instrumented code paths only read a static field and no event is
+ * ever instantiated. An integration, e.g. the Quarkus JFR extension, may enable the events at runtime.
+ *
+ * @see InterceptorChainEvent
+ * @see BeanCreationEvent
+ */
+public final class JfrEvents {
+
+    private static volatile boolean enabled;
+
+    private JfrEvents() {
+    }
+
+    /**
+     *
+     * @param value
+     */
+    public static void setEnabled(boolean value) {
+        enabled = value;
+    }
+
+    /**
+     *
+     * @return {@code true} if the events are enabled
+     */
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    static Object perform(Object target, Object[] args, InterceptedMethodMetadata metadata) throws Exception {
+        InterceptorChainEvent event = new InterceptorChainEvent();
+        if (!event.isEnabled()) {
+            return AroundInvokeInvocationContext.performChain(target, args, metadata);
+        }
+        event.begin();
+        try {
+            return AroundInvokeInvocationContext.performChain(target, args, metadata);
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.declaringClass = metadata.method.getDeclaringClass();
+                event.method = metadata.method.getName();
+                event.interceptors = interceptors(metadata);
+                event.commit();
+            }
+        }
+    }
+
+    /**
+     * Creates a new instance and records the creation. This method is also used by the generated
+     * {@link InjectableBean#get(CreationalContext)} of {@link Dependent} beans if the events are enabled, so that the
+     * instances created for injection points are recorded as well.
+     */
+    public static <T> T create(Contextual<T> contextual, CreationalContext<T> creationalContext) {
+        if (!enabled) {
+            return contextual.create(creationalContext);
+        }
+        BeanCreationEvent event = new BeanCreationEvent();
+        if (!event.isEnabled()) {
+            return contextual.create(creationalContext);
+        }
+        event.begin();
+        try {
+            return contextual.create(creationalContext);
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                if (contextual instanceof InjectableBean<?> bean) {
+                    event.beanClass = bean.getBeanClass();
+                    event.scope = bean.getScope();
+                    event.identifier = bean.getIdentifier();
+                } else {
+                    event.beanClass = contextual.getClass();
+                }
+                event.commit();
+            }
+        }
+    }
+
+    private static String interceptors(InterceptedMethodMetadata metadata) {
+        String interceptors = metadata.interceptors;
+        if (interceptors == null) {
+            StringJoiner joiner = new StringJoiner(",");
+            for (InterceptorInvocation invocation : metadata.chain) {
+                joiner.add(invocation.getInterceptorClass().getName());
+            }
+            interceptors = joiner.toString();
+            // Benign race - the value is always the same
+            metadata.interceptors = interceptors;
+        }
+        return interceptors;
+    }
+
+}
@@ -0,0 +1,153 @@
+package io.quarkus.arc.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import io.quarkus.arc.ContextInstanceHandle;
+
+/**
+ * {@link ContextInstances} backed by a single array.
+ * <p>
+ * The set of beans is known at build time and every bean is assigned a fixed slot. Subclasses are generated for the
+ * built-in contexts and only map a bean identifier to its slot. Therefore, a new instance costs a single array
+ * allocation and a lookup does not need any map.
+ * <p>
+ * A slot is either empty, holds a {@link ContextInstanceHandle} or a {@link ReentrantLock} held by the thread that
+ * is currently creating the instance. Other threads wait for the lock to be released and read the slot again. The
+ * lock is only allocated when an instance is created; it is replaced with the handle once the creation completes.
+ */
+public abstract class SlottedContextInstances implements ContextInstances {
+
+    private static final VarHandle SLOTS = MethodHandles.arrayElementVarHandle(Object[].class);
+
+    private final Object[] slots;
+
+    protected SlottedContextInstances(int size) {
+        this.slots = new Object[size];
+    }
+
+    /**
+     *
+     * @param id
+     * @return the slot of the bean with the given identifier, or {@code -1} if no such bean exists
+     */
+    protected abstract int slot(String id);
+
+    @Override
+    public ContextInstanceHandle<?> computeIfAbsent(String id, Supplier<ContextInstanceHandle<?>> supplier) {
+        int slot = slotOf(id);
+        while (true) {
+            Object value = SLOTS.getAcquire(slots, slot);
+            if (value == null) {
+                ReentrantLock lock = new ReentrantLock();
+                lock.lock();
+                try {
+                    if (SLOTS.compareAndSet(slots, slot, null, lock)) {
+                        ContextInstanceHandle<?> handle = null;
+                        try {
+                            handle = supplier.get();
+                        } finally {
+                            // If the creation failed then the slot is emptied and a waiting thread may try again
+                            SLOTS.setRelease(slots, slot, handle);
+                        }
+                        return handle;
+                    }
+                } finally {
+                    lock.unlock();
+                }
+            } else if (value instanceof ReentrantLock lock) {
+                if (lock.isHeldByCurrentThread()) {
+                    // Reentrant invocation during the creation of the instance
+                    return supplier.get();
+                }
+                awaitCreation(lock);
+            } else {
+                return (ContextInstanceHandle<?>) value;
+            }
+        }
+    }
+
+    @Override
+    public ContextInstanceHandle<?> getIfPresent(String id) {
+        return handleOrNull(SLOTS.getAcquire(slots, slotOf(id)));
+    }
+
+    @Override
+    public ContextInstanceHandle<?> remove(String id) {
+        return remove(slotOf(id));
+    }
+
+    @Override
+    public Set<ContextInstanceHandle<?>> getAllPresent() {
+        Set<ContextInstanceHandle<?>> result = new HashSet<>();
+        for (int i = 0; i < slots.length; i++) {
+            ContextInstanceHandle<?> handle = handleOrNull(SLOTS.getAcquire(slots, i));
+            if (handle != null) {
+                result.add(handle);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public void removeEach(Consumer<? super ContextInstanceHandle<?>> action) {
+        // Remove all handles first and then perform the action
+        ContextInstanceHandle<?>[] removed = null;
+        for (int i = 0; i < slots.length; i++) {
+            ContextInstanceHandle<?> handle = remove(i);
+            if (handle != null && action != null) {
+                if (removed == null) {
+                    removed = new ContextInstanceHandle<?>[slots.length];
+                }
+                removed[i] = handle;
+            }
+        }
+        if (removed != null) {
+            for (ContextInstanceHandle<?> handle : removed) {
+                if (handle != null) {
+                    action.accept(handle);
+                }
+            }
+        }
+    }
+
+    private ContextInstanceHandle<?> remove(int slot) {
+        while (true) {
+            Object value = SLOTS.getAcquire(slots, slot);
+            if (value == null) {
+                return null;
+            } else if (value instanceof ReentrantLock lock) {
+                if (lock.isHeldByCurrentThread()) {
+                    // The instance is being created by the current thread
+                    return null;
+                }
+                awaitCreation(lock);
+            } else if (SLOTS.compareAndSet(slots, slot, value, null)) {
+                return (ContextInstanceHandle<?>) value;
+            }
+        }
+    }
+
+    private int slotOf(String id) {
+        int slot = slot(id);
+        if (slot < 0) {
+            throw new IllegalArgumentException("Unknown bean identifier");
+        }
+        return slot;
+    }
+
+    private static void awaitCreation(ReentrantLock lock) {
+        lock.lock();
+        lock.unlock();
+    }
+
+    private static ContextInstanceHandle<?> handleOrNull(Object value) {
+        return value instanceof ContextInstanceHandle<?> handle ? handle : null;
+    }
+
+}
@@ -0,0 +1,152 @@
+package io.quarkus.arc.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.arc.ContextInstanceHandle;
+
+public class SlottedContextInstancesTest {
+
+    @Test
+    public void testComputeGetRemove() {
+        TestContextInstances instances = new TestContextInstances();
+        assertNull(instances.getIfPresent("alpha"));
+
+        TestHandle alpha = new TestHandle("alpha");
+        assertSame(alpha, instances.computeIfAbsent("alpha", () -> alpha));
+        assertSame(alpha, instances.computeIfAbsent("alpha", () -> new TestHandle("alpha")));
+        assertSame(alpha, instances.getIfPresent("alpha"));
+        assertNull(instances.getIfPresent("bravo"));
+        assertEquals(Set.of(alpha), instances.getAllPresent());
+
+        assertSame(alpha, instances.remove("alpha"));
+        assertNull(instances.remove("alpha"));
+        assertNull(instances.getIfPresent("alpha"));
+        assertTrue(instances.getAllPresent().isEmpty());
+
+        assertThrows(IllegalArgumentException.class, () -> instances.getIfPresent("unknown"));
+        assertThrows(IllegalArgumentException.class, () -> instances.computeIfAbsent("unknown", () -> alpha));
+        assertThrows(IllegalArgumentException.class, () -> instances.remove("unknown"));
+    }
+
+    @Test
+    public void testFailedCreation() {
+        TestContextInstances instances = new TestContextInstances();
+        assertThrows(IllegalStateException.class, () -> instances.computeIfAbsent("alpha", () -> {
+            throw new IllegalStateException();
+        }));
+        assertNull(instances.getIfPresent("alpha"));
+        TestHandle alpha = new TestHandle("alpha");
+        assertSame(alpha, instances.computeIfAbsent("alpha", () -> alpha));
+    }
+
+    @Test
+    public void testRemoveEach() {
+        TestContextInstances instances = new TestContextInstances();
+        TestHandle alpha = new TestHandle("alpha");
+        TestHandle charlie = new TestHandle("charlie");
+        instances.computeIfAbsent("alpha", () -> alpha);
+        instances.computeIfAbsent("charlie", () -> charlie);
+
+        List<ContextInstanceHandle<?>> removed = new ArrayList<>();
+        instances.removeEach(handle -> {
+            // All handles are removed before the action is performed
+            assertTrue(instances.getAllPresent().isEmpty());
+            removed.add(handle);
+        });
+        assertEquals(List.of(alpha, charlie), removed);
+
+        instances.computeIfAbsent("bravo", () -> new TestHandle("bravo"));
+        instances.removeEach(null);
+        assertTrue(instances.getAllPresent().isEmpty());
+    }
+
+    @Test
+    public void testConcurrentCreation() throws Exception {
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            for (int run = 0; run < 100; run++) {
+                TestContextInstances instances = new TestContextInstances();
+                AtomicInteger created = new AtomicInteger();
+                CountDownLatch start = new CountDownLatch(1);
+                List<Future<ContextInstanceHandle<?>>> results = new ArrayList<>();
+                for (int i = 0; i < threads; i++) {
+                    results.add(executor.submit(() -> {
+                        start.await();
+                        return instances.computeIfAbsent("bravo", () -> {
+                            created.incrementAndGet();
+                            Thread.yield();
+                            return new TestHandle("bravo");
+                        });
+                    }));
+                }
+                start.countDown();
+                ContextInstanceHandle<?> first = results.get(0).get(5, TimeUnit.SECONDS);
+                for (Future<ContextInstanceHandle<?>> result : results) {
+                    assertSame(first, result.get(5, TimeUnit.SECONDS));
+                }
+                assertEquals(1, created.get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    static class TestContextInstances extends SlottedContextInstances {
+
+        TestContextInstances() {
+            super(3);
+        }
+
+        @Override
+        protected int slot(String id) {
+            switch (id) {
+                case "alpha":
+                    return 0;
+                case "bravo":
+                    return 1;
+                case "charlie":
+                    return 2;
+                default:
+                    return -1;
+            }
+        }
+
+    }
+
+    static class TestHandle implements ContextInstanceHandle<String> {
+
+        private final String value;
+
+        TestHandle(String value) {
+            this.value = value;
+        }
+
+        @Override
+        public String get() {
+            return value;
+        }
+
+        @Override
+        public void destroy() {
+        }
+
+    }
+
+}
@@ -0,0 +1,164 @@
+package io.quarkus.arc.test.observers.async;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.enterprise.event.Event;
+import jakarta.enterprise.event.NotificationOptions;
+import jakarta.enterprise.event.ObservesAsync;
+import jakarta.inject.Singleton;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ArcNotificationOptions;
+import io.quarkus.arc.test.ArcTestContainer;
+
+public class AsyncObserverBatchTest {
+
+    @RegisterExtension
+    public ArcTestContainer container = new ArcTestContainer(IntegerObserver.class);
+
+    @Test
+    public void testBatchedDelivery() throws Exception {
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        try {
+            AtomicInteger tasks = new AtomicInteger();
+            Executor executor = new Executor() {
+                @Override
+                public void execute(Runnable command) {
+                    tasks.incrementAndGet();
+                    executorService.execute(command);
+                }
+            };
+            NotificationOptions options = NotificationOptions.builder()
+                    .setExecutor(executor)
+                    .set(ArcNotificationOptions.ASYNC_BATCH_SIZE, 16)
+                    .build();
+            Event<Integer> event = Arc.container().beanManager().getEvent().select(Integer.class);
+            // Block the executor so that the events are queued
+            CompletableFuture<Void> blocker = new CompletableFuture<>();
+            executorService.execute(blocker::join);
+
+            int count = 1000;
+            List<CompletionStage<Integer>> stages = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                stages.add(event.fireAsync(i, options));
+            }
+            blocker.complete(null);
+            for (int i = 0; i < count; i++) {
+                assertEquals(i, stages.get(i).toCompletableFuture().get(10, TimeUnit.SECONDS));
+            }
+
+            List<Integer> events = Arc.container().instance(IntegerObserver.class).get().events;
+            assertEquals(count, events.size());
+            for (int i = 0; i < count; i++) {
+                // Events are delivered in order
+                assertEquals(i, events.get(i));
+            }
+            // 1000 events / 16 per task
+            assertEquals(63, tasks.get());
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testBatchedDeliveryFailure() throws Exception {
+        NotificationOptions options = NotificationOptions.builder()
+                .set(ArcNotificationOptions.ASYNC_BATCH_SIZE, 4)
+                .build();
+        Event<Integer> event = Arc.container().beanManager().getEvent().select(Integer.class);
+        CompletableFuture<Integer> failed = event.fireAsync(-1, options).toCompletableFuture();
+        CompletableFuture<Integer> ok = event.fireAsync(1, options).toCompletableFuture();
+        ExecutionException e = assertThrows(ExecutionException.class, () -> failed.get(10, TimeUnit.SECONDS));
+        assertInstanceOf(IllegalArgumentException.class, e.getCause());
+        // The failure does not affect other events
+        assertEquals(1, ok.get(10, TimeUnit.SECONDS));
+        assertTrue(Arc.container().instance(IntegerObserver.class).get().events.contains(1));
+    }
+
+    @Test
+    public void testQueueDepth() throws Exception {
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        try {
+            NotificationOptions options = ArcNotificationOptions.ofBatchSize(8, executorService);
+            Event<Integer> event = Arc.container().beanManager().getEvent().select(Integer.class);
+            CompletableFuture<Void> blocker = new CompletableFuture<>();
+            executorService.execute(blocker::join);
+
+            List<CompletionStage<Integer>> stages = new ArrayList<>();
+            for (int i = 0; i < 10; i++) {
+                stages.add(event.fireAsync(i, options));
+            }
+            assertEquals(10, ArcNotificationOptions.getAsyncQueueDepth(event));
+            blocker.complete(null);
+            for (CompletionStage<Integer> stage : stages) {
+                stage.toCompletableFuture().get(10, TimeUnit.SECONDS);
+            }
+            assertEquals(0, ArcNotificationOptions.getAsyncQueueDepth(event));
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testRejectedExecution() throws Exception {
+        Event<Integer> event = Arc.container().beanManager().getEvent().select(Integer.class);
+        Executor rejecting = new Executor() {
+            @Override
+            public void execute(Runnable command) {
+                throw new RejectedExecutionException();
+            }
+        };
+        CompletableFuture<Integer> rejected = event.fireAsync(1, ArcNotificationOptions.ofBatchSize(4, rejecting))
+                .toCompletableFuture();
+        ExecutionException e = assertThrows(ExecutionException.class, () -> rejected.get(10, TimeUnit.SECONDS));
+        assertInstanceOf(RejectedExecutionException.class, e.getCause());
+        assertEquals(0, ArcNotificationOptions.getAsyncQueueDepth(event));
+        // The queue is retired and a new one is used for the next event
+        assertEquals(2, event.fireAsync(2, ArcNotificationOptions.ofBatchSize(4)).toCompletableFuture()
+                .get(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testInvalidBatchSize() {
+        assertThrows(IllegalArgumentException.class, () -> ArcNotificationOptions.ofBatchSize(0));
+        NotificationOptions options = NotificationOptions.builder()
+                .set(ArcNotificationOptions.ASYNC_BATCH_SIZE, "many")
+                .build();
+        Event<Integer> event = Arc.container().beanManager().getEvent().select(Integer.class);
+        assertThrows(IllegalArgumentException.class, () -> event.fireAsync(1, options));
+    }
+
+    @Singleton
+    static class IntegerObserver {
+
+        final List<Integer> events = new CopyOnWriteArrayList<>();
+
+        void observe(@ObservesAsync Integer value) {
+            if (value < 0) {
+                throw new IllegalArgumentException();
+            }
+            events.add(value);
+        }
+
+    }
+
+}
@@ -0,0 +1,158 @@
+package io.quarkus.arc.test.observers.async;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.enterprise.event.Event;
+import jakarta.enterprise.event.ObservesAsync;
+import jakarta.enterprise.inject.spi.EventMetadata;
+import jakarta.enterprise.inject.spi.ObserverMethod;
+import jakarta.inject.Singleton;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ArcNotificationOptions;
+import io.quarkus.arc.AsyncObserverExecutor;
+import io.quarkus.arc.AsyncObserverExecutor.Kind;
+import io.quarkus.arc.Batched;
+import io.quarkus.arc.test.ArcTestContainer;
+
+public class BatchedAsyncObserverTest {
+
+    @RegisterExtension
+    public ArcTestContainer container = new ArcTestContainer(StringObserver.class, LongObserver.class,
+            IntegerObserver.class);
+
+    @Test
+    public void testBatches() throws Exception {
+        StringObserver observer = Arc.container().instance(StringObserver.class).get();
+        Event<String> event = Arc.container().beanManager().getEvent().select(String.class);
+
+        List<CompletableFuture<String>> stages = new ArrayList<>();
+        stages.add(event.fireAsync("0").toCompletableFuture());
+        // The first batch blocks the observer so that the other events are queued
+        assertTrue(observer.started.await(10, TimeUnit.SECONDS));
+        for (int i = 1; i < 26; i++) {
+            stages.add(event.fireAsync(String.valueOf(i)).toCompletableFuture());
+        }
+
+        Map<ObserverMethod<?>, Integer> depths = ArcNotificationOptions.getAsyncQueueDepths();
+        // StringObserver, LongObserver and IntegerObserver#onInteger()
+        assertEquals(3, depths.size());
+        ObserverMethod<?> stringObserver = depths.keySet().stream()
+                .filter(o -> o.getObservedType().equals(String.class)).findFirst().orElseThrow();
+        assertEquals(26, depths.get(stringObserver));
+
+        observer.gate.complete(null);
+        for (int i = 0; i < stages.size(); i++) {
+            assertEquals(String.valueOf(i), stages.get(i).get(10, TimeUnit.SECONDS));
+        }
+        assertEquals(0, ArcNotificationOptions.getAsyncQueueDepth(stringObserver));
+
+        // 1 + 10 + 10 + 5
+        assertEquals(List.of(1, 10, 10, 5), observer.batches.stream().map(List::size).toList());
+        List<String> events = observer.batches.stream().flatMap(List::stream).toList();
+        for (int i = 0; i < events.size(); i++) {
+            // Events are delivered in order
+            assertEquals(String.valueOf(i), events.get(i));
+        }
+        assertTrue(observer.virtualThread);
+        assertEquals(String.class, observer.metadata.getType());
+    }
+
+    @Test
+    public void testBatchFailure() throws Exception {
+        Event<Long> event = Arc.container().beanManager().getEvent().select(Long.class);
+        ExecutionException e = assertThrows(ExecutionException.class,
+                () -> event.fireAsync(-1L).toCompletableFuture().get(10, TimeUnit.SECONDS));
+        assertInstanceOf(IllegalArgumentException.class, e.getCause());
+        assertEquals(1L, event.fireAsync(1L).toCompletableFuture().get(10, TimeUnit.SECONDS));
+        assertEquals(List.of(1L), Arc.container().instance(LongObserver.class).get().events);
+    }
+
+    @Test
+    public void testExecutor() throws Exception {
+        IntegerObserver observer = Arc.container().instance(IntegerObserver.class).get();
+        Event<Integer> event = Arc.container().beanManager().getEvent().select(Integer.class);
+        assertEquals(1, event.fireAsync(1).toCompletableFuture().get(10, TimeUnit.SECONDS));
+        assertTrue(observer.virtualThread);
+        assertEquals(List.of(1), observer.events);
+        assertEquals(List.of(1), observer.defaultEvents);
+
+        ExecutionException e = assertThrows(ExecutionException.class,
+                () -> event.fireAsync(-1).toCompletableFuture().get(10, TimeUnit.SECONDS));
+        assertInstanceOf(IllegalArgumentException.class, e.getCause());
+        // Observers with a custom executor do not affect the other observers
+        assertEquals(List.of(1, -1), observer.defaultEvents);
+    }
+
+    @Singleton
+    static class StringObserver {
+
+        final List<List<String>> batches = new CopyOnWriteArrayList<>();
+        final CountDownLatch started = new CountDownLatch(1);
+        final CompletableFuture<Void> gate = new CompletableFuture<>();
+        volatile boolean virtualThread;
+        volatile EventMetadata metadata;
+
+        @AsyncObserverExecutor(Kind.VIRTUAL_THREAD)
+        void onStrings(@ObservesAsync @Batched(maxSize = 10) List<String> events, EventMetadata metadata) {
+            started.countDown();
+            gate.join();
+            virtualThread = Thread.currentThread().isVirtual();
+            this.metadata = metadata;
+            batches.add(List.copyOf(events));
+        }
+
+    }
+
+    @Singleton
+    static class LongObserver {
+
+        final List<Long> events = new CopyOnWriteArrayList<>();
+
+        void onLongs(@ObservesAsync @Batched List<Long> events) {
+            if (events.contains(-1L)) {
+                throw new IllegalArgumentException();
+            }
+            this.events.addAll(events);
+        }
+
+    }
+
+    @Singleton
+    static class IntegerObserver {
+
+        final List<Integer> events = new CopyOnWriteArrayList<>();
+        final List<Integer> defaultEvents = new CopyOnWriteArrayList<>();
+        volatile boolean virtualThread;
+
+        @AsyncObserverExecutor(Kind.VIRTUAL_THREAD)
+        void onInteger(@ObservesAsync Integer event) {
+            virtualThread = Thread.currentThread().isVirtual();
+            if (event < 0) {
+                throw new IllegalArgumentException();
+            }
+            events.add(event);
+        }
+
+        void onIntegerDefault(@ObservesAsync Integer event) {
+            defaultEvents.add(event);
+        }
+
+    }
+
+}
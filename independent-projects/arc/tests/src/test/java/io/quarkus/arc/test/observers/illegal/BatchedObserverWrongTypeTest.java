@@ -0,0 +1,39 @@
+package io.quarkus.arc.test.observers.illegal;
+
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Set;
+
+import jakarta.enterprise.context.Dependent;
+import jakarta.enterprise.event.ObservesAsync;
+import jakarta.enterprise.inject.spi.DefinitionException;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.arc.Batched;
+import io.quarkus.arc.test.ArcTestContainer;
+
+public class BatchedObserverWrongTypeTest {
+    @RegisterExtension
+    public ArcTestContainer container = ArcTestContainer.builder()
+            .beanClasses(Observer.class)
+            .shouldFail()
+            .build();
+
+    @Test
+    public void trigger() {
+        Throwable error = container.getFailure();
+        assertNotNull(error);
+        assertInstanceOf(DefinitionException.class, error);
+        assertTrue(error.getMessage().contains("must be of type java.util.List<T>"), error.getMessage());
+    }
+
+    @Dependent
+    static class Observer {
+        void observe(@ObservesAsync @Batched Set<String> ignored) {
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package io.quarkus.qute.benchmarks;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.jandex.Index;
+import org.jboss.jandex.Indexer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.quarkus.gizmo2.ClassOutput;
+import io.quarkus.qute.CompiledTemplate;
+import io.quarkus.qute.Engine;
+import io.quarkus.qute.EngineBuilder;
+import io.quarkus.qute.ReflectionValueResolver;
+import io.quarkus.qute.Template;
+import io.quarkus.qute.ValueResolver;
+import io.quarkus.qute.generator.CompiledTemplateGenerator;
+import io.quarkus.qute.generator.ValueResolverGenerator;
+
+/**
+ * Compares the interpreter with a template compiled by the {@link CompiledTemplateGenerator}.
+ * <ul>
+ * <li>{@code reflection} - the interpreter with the {@link ReflectionValueResolver}</li>
+ * <li>{@code generated-resolvers} - the interpreter with the value resolvers generated by the
+ * {@link ValueResolverGenerator}, i.e. the default in Quarkus</li>
+ * <li>{@code compiled} - the compiled template</li>
+ * </ul>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(2)
+public class CompiledTemplateBenchmark {
+
+    static final String TEMPLATE_ID = "items";
+
+    static final String TEMPLATE = """
+            {@java.util.List<io.quarkus.qute.benchmarks.Item> items}
+            <html>
+            <body>
+            <h1>Items</h1>
+            <ul>
+            {#for item in items}
+              <li>{item.name}: {item.price}{#if item.active} (active){/if}</li>
+            {#else}
+              <li>No items</li>
+            {/for}
+            </ul>
+            </body>
+            </html>
+            """;
+
+    @Param({ "reflection", "generated-resolvers", "compiled" })
+    public String renderer;
+
+    @Param({ "1", "20", "200" })
+    public int items;
+
+    private Template template;
+    private List<Item> data;
+
+    @Setup
+    public void setup() throws Exception {
+        data = new ArrayList<>(items);
+        for (int i = 0; i < items; i++) {
+            data.add(new Item("Item " + i, BigDecimal.valueOf(i * 10L), i % 2 == 0));
+        }
+        EngineBuilder builder = Engine.builder().addDefaults();
+        if ("reflection".equals(renderer)) {
+            builder.addValueResolver(new ReflectionValueResolver());
+        } else {
+            Path output = Files.createTempDirectory("qute-benchmarks");
+            ClassOutput classOutput = ClassOutput.fileWriter(output);
+            Index index = index(Item.class, List.class, BigDecimal.class);
+            ValueResolverGenerator resolverGenerator = ValueResolverGenerator.builder().setIndex(index)
+                    .setClassOutput(classOutput).addClass(index.getClassByName(Item.class)).build();
+            resolverGenerator.generate();
+            String compiledTemplate = null;
+            if ("compiled".equals(renderer)) {
+                compiledTemplate = new CompiledTemplateGenerator(index, classOutput, (clazz, name) -> true)
+                        .generate(TEMPLATE_ID, Engine.builder().addDefaults().build().parse(TEMPLATE, null, TEMPLATE_ID)
+                                .getNodes(), Map.of());
+                if (compiledTemplate == null) {
+                    throw new IllegalStateException("Template not compiled");
+                }
+            }
+            ClassLoader classLoader = new URLClassLoader(new URL[] { output.toUri().toURL() },
+                    CompiledTemplateBenchmark.class.getClassLoader());
+            for (String resolver : resolverGenerator.getGeneratedTypes()) {
+                builder.addValueResolver(
+                        (ValueResolver) classLoader.loadClass(resolver).getDeclaredConstructor().newInstance());
+            }
+            if (compiledTemplate != null) {
+                builder.addCompiledTemplate(
+                        (CompiledTemplate) classLoader.loadClass(compiledTemplate).getDeclaredConstructor().newInstance());
+            }
+        }
+        template = builder.build().parse(TEMPLATE, null, TEMPLATE_ID);
+    }
+
+    @Benchmark
+    public String render() {
+        return template.data("items", data).render();
+    }
+
+    private static Index index(Class<?>... classes) {
+        Indexer indexer = new Indexer();
+        for (Class<?> clazz : classes) {
+            try (InputStream stream = CompiledTemplateBenchmark.class.getClassLoader()
+                    .getResourceAsStream(clazz.getName().replace('.', '/') + ".class")) {
+                indexer.index(stream);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        return indexer.complete();
+    }
+
+}
@@ -0,0 +1,29 @@
+package io.quarkus.qute.benchmarks;
+
+import java.math.BigDecimal;
+
+public class Item {
+
+    private final String name;
+    private final BigDecimal price;
+    private final boolean active;
+
+    public Item(String name, BigDecimal price, boolean active) {
+        this.name = name;
+        this.price = price;
+        this.active = active;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public BigDecimal getPrice() {
+        return price;
+    }
+
+    public boolean isActive() {
+        return active;
+    }
+
+}
@@ -1,6 +1,7 @@
 package io.quarkus.qute;
 
 import java.util.List;
+import java.util.Objects;
 import java.util.concurrent.CompletionStage;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -35,19 +36,8 @@ private CompletionStage<ResultNode> resolveInternal(String key, SectionResolutio
         return cache.getValue(key, new Function<String, CompletionStage<ResultNode>>() {
             @Override
             public CompletionStage<ResultNode> apply(String key) {
-                return context.execute().thenCompose(rn -> {
-                    // Note that we cannot cache the ResultNode but the string representation instead
-                    StringBuilder sb = new StringBuilder();
-                    rn.process(sb::append);
-                    String result = sb.toString();
-                    return CompletedStage.of(new ResultNode() {
-
-                        @Override
-                        public void process(Consumer<String> resultConsumer) {
-                            resultConsumer.accept(result);
-                        }
-                    });
-                });
+                // Note that we cannot cache the ResultNode but the string representation instead
+                return context.execute().thenCompose(rn -> CompletedStage.of(CachedResult.from(rn)));
             }
         });
     }
@@ -103,6 +93,44 @@ public Scope initializeBlock(Scope previousScope, BlockInfo block) {
 
     }
 
+    /**
+     * The rendered part of the template.
+     * <p>
+     * The value is a {@link String} and so it can be also stored in a remote cache.
+     */
+    public static final class CachedResult extends ResultNode {
+
+        /**
+         *
+         * @param node
+         * @return the result node with the rendered value
+         */
+        public static CachedResult from(ResultNode node) {
+            if (node instanceof CachedResult cached) {
+                return cached;
+            }
+            StringBuilder sb = new StringBuilder();
+            node.process(sb::append);
+            return new CachedResult(sb.toString());
+        }
+
+        private final String value;
+
+        public CachedResult(String value) {
+            this.value = Objects.requireNonNull(value);
+        }
+
+        public String getValue() {
+            return value;
+        }
+
+        @Override
+        public void process(Consumer<String> consumer) {
+            consumer.accept(value);
+        }
+
+    }
+
     /**
      * A cache abstraction. An implementation must be thread-safe.
      */
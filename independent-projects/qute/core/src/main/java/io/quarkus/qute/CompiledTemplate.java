@@ -0,0 +1,205 @@
+package io.quarkus.qute;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * A renderer generated at build time for a template that can be rendered without the interpreter, i.e. a template that only
+ * contains text, output expressions, and simple {@code #for} and {@code #if} sections, and where all expressions are validated
+ * against the declared parameter types.
+ * <p>
+ * A compiled template is registered with {@link EngineBuilder#addCompiledTemplate(CompiledTemplate)} and bound to the template
+ * with the same id, if the template was parsed to the same tree of nodes, as defined by {@link #fingerprint(List)}. Otherwise,
+ * the template is rendered by the interpreter.
+ * <p>
+ * The compiled template does not resolve data asynchronously. If it cannot render the data of a template instance, e.g. a
+ * parameter is missing or an intermediate value is {@code null}, then the output is discarded and the template instance is
+ * rendered by the interpreter, so that the result and the errors are the same.
+ */
+public interface CompiledTemplate {
+
+    /**
+     *
+     * @return the id of the template
+     */
+    String getTemplateId();
+
+    /**
+     *
+     * @return the fingerprint of the nodes of the template
+     * @see #fingerprint(List)
+     */
+    long getFingerprint();
+
+    /**
+     *
+     * @param output
+     * @return {@code true} if the template was rendered, {@code false} if the template instance must be rendered by the
+     *         interpreter
+     */
+    boolean render(Output output);
+
+    /**
+     * The fingerprint covers the structure of the template, the text, the expressions and the section helpers, so that a
+     * compiled template is not used for a template that was modified, or parsed by an engine with a different configuration.
+     *
+     * @param nodes the child nodes of the root node
+     * @return the fingerprint
+     * @see Template#getNodes()
+     */
+    static long fingerprint(List<TemplateNode> nodes) {
+        long hash = 17;
+        for (TemplateNode node : nodes) {
+            hash = fingerprint(hash, node);
+        }
+        return hash;
+    }
+
+    /**
+     * The output expressions are indexed in the order of the nodes, including the nodes of all section blocks.
+     *
+     * @param nodes the child nodes of the root node
+     * @return the list of output expression nodes
+     * @see Output#write(int, Object)
+     */
+    static List<ExpressionNode> expressionNodes(List<TemplateNode> nodes) {
+        List<ExpressionNode> expressions = new ArrayList<>();
+        collectExpressionNodes(nodes, expressions);
+        return expressions;
+    }
+
+    private static void collectExpressionNodes(List<TemplateNode> nodes, List<ExpressionNode> expressions) {
+        for (TemplateNode node : nodes) {
+            if (node.isExpression()) {
+                expressions.add(node.asExpression());
+            } else if (node.isSection()) {
+                for (SectionBlock block : node.asSection().getBlocks()) {
+                    collectExpressionNodes(block.nodes, expressions);
+                }
+            }
+        }
+    }
+
+    private static long fingerprint(long hash, TemplateNode node) {
+        hash = hash(hash, node.kind().ordinal());
+        switch (node.kind()) {
+            case TEXT:
+                return hash(hash, node.asText().getValue());
+            case EXPRESSION:
+                return hash(hash, node.asExpression().expression.toOriginalString());
+            case PARAM_DECLARATION:
+                ParameterDeclarationNode declaration = node.asParamDeclaration();
+                hash = hash(hash(hash, declaration.getKey()), declaration.getTypeInfo());
+                return declaration.getDefaultValue() != null
+                        ? hash(hash, declaration.getDefaultValue().toOriginalString())
+                        : hash;
+            case SECTION:
+                SectionNode section = node.asSection();
+                hash = hash(hash(hash, section.getName()), section.getHelper().getClass().getName());
+                if (section.getHelper() instanceof LoopSectionHelper loop) {
+                    hash = hash(hash, String.valueOf(loop.getMetadataPrefix()));
+                }
+                for (SectionBlock block : section.getBlocks()) {
+                    hash = hash(hash, block.label);
+                    for (Entry<String, String> param : block.parameters.entrySet()) {
+                        hash = hash(hash(hash, param.getKey()), param.getValue());
+                    }
+                    for (TemplateNode child : block.nodes) {
+                        hash = fingerprint(hash, child);
+                    }
+                    // The end of the block
+                    hash = hash(hash, -1);
+                }
+                return hash;
+            default:
+                return hash;
+        }
+    }
+
+    private static long hash(long hash, String value) {
+        return hash(hash, value.hashCode());
+    }
+
+    private static long hash(long hash, int value) {
+        return 31 * hash + value;
+    }
+
+    /**
+     * The output of a compiled template that renders a template instance.
+     */
+    final class Output {
+
+        private final Object data;
+        private final ExpressionNode[] expressions;
+        private final StringBuilder builder;
+
+        Output(Object data, ExpressionNode[] expressions, StringBuilder builder) {
+            this.data = data;
+            this.expressions = expressions;
+            this.builder = builder;
+        }
+
+        /**
+         *
+         * @param key
+         * @return the value of the template instance data, or {@code null}
+         * @see #contains(String)
+         */
+        public Object get(String key) {
+            if (data instanceof TemplateInstanceBase.DataMap dataMap) {
+                return dataMap.get(key);
+            } else if (data instanceof Map<?, ?> map) {
+                return map.get(key);
+            }
+            return null;
+        }
+
+        /**
+         *
+         * @param key
+         * @return {@code true} if the template instance data contains the given key
+         */
+        public boolean contains(String key) {
+            if (data instanceof TemplateInstanceBase.DataMap dataMap) {
+                return dataMap.appliesTo(key);
+            } else if (data instanceof Map<?, ?> map) {
+                return map.containsKey(key);
+            }
+            return false;
+        }
+
+        /**
+         *
+         * @param text
+         */
+        public void append(String text) {
+            builder.append(text);
+        }
+
+        /**
+         * Writes the value of an output expression in the same way as the interpreter, i.e. {@code null} is ignored and the
+         * result mappers of the engine are applied.
+         *
+         * @param expression the index of the expression node
+         * @param value
+         * @return {@code true} if the value was written, {@code false} if the value must be resolved by the interpreter
+         * @see CompiledTemplate#expressionNodes(List)
+         */
+        public boolean write(int expression, Object value) {
+            if (value instanceof CompletionStage || value instanceof ResultNode) {
+                return false;
+            }
+            value = SingleResultNode.extractValue(value);
+            if (value != null) {
+                ExpressionNode node = expressions[expression];
+                builder.append(node.hasEngineResultMappers() ? node.mapResult(value) : value.toString());
+            }
+            return true;
+        }
+
+    }
+
+}
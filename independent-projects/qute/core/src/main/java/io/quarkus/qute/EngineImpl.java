@@ -5,6 +5,7 @@
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -40,6 +41,7 @@ class EngineImpl implements Engine {
     private final boolean useAsyncTimeout;
     final TraceManagerImpl traceManager;
     final ParserConfigurator parserConfigurator;
+    private final Map<String, CompiledTemplate> compiledTemplates;
 
     EngineImpl(EngineBuilder builder) {
         this.sectionHelperFactories = Map.copyOf(builder.sectionHelperFactories);
@@ -58,6 +60,11 @@ class EngineImpl implements Engine {
         this.useAsyncTimeout = builder.useAsyncTimeout;
         this.traceManager = builder.enableTracing ? new TraceManagerImpl() : null;
         this.parserConfigurator = builder.parserConfigurator;
+        Map<String, CompiledTemplate> compiledTemplates = new HashMap<>();
+        for (CompiledTemplate compiledTemplate : builder.compiledTemplates) {
+            compiledTemplates.put(compiledTemplate.getTemplateId(), compiledTemplate);
+        }
+        this.compiledTemplates = Map.copyOf(compiledTemplates);
     }
 
     @Override
@@ -120,6 +127,10 @@ public String mapResult(Object result, Expression expression) {
         return val;
     }
 
+    CompiledTemplate getCompiledTemplate(String id) {
+        return compiledTemplates.isEmpty() ? null : compiledTemplates.get(id);
+    }
+
     public Template putTemplate(String id, Template template) {
         if (!Identifiers.isValid(id)) {
             throw new IllegalArgumentException("Invalid identifier found: [" + id + "]");
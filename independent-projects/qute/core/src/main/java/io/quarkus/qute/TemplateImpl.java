@@ -43,6 +43,10 @@ class TemplateImpl implements Template {
     // The initial capacity of the StringBuilder used to render the template
     final Capacity capacity;
 
+    // The compiled template and its output expressions, or null if the template is rendered by the interpreter
+    private final CompiledTemplate compiled;
+    private final ExpressionNode[] compiledExpressions;
+
     TemplateImpl(EngineImpl engine, SectionNode root, String templateId, String generatedId, Optional<Variant> variant,
             Optional<URI> source) {
         this.engine = engine;
@@ -56,6 +60,10 @@ class TemplateImpl implements Template {
         // Use a lazily initialized map to avoid unnecessary performance costs during parsing
         this.fragments = initFragments(root);
         this.capacity = new Capacity();
+        this.compiled = initCompiled(root);
+        this.compiledExpressions = compiled != null
+                ? CompiledTemplate.expressionNodes(getNodes()).toArray(new ExpressionNode[0])
+                : null;
     }
 
     @Override
@@ -134,6 +142,19 @@ public Optional<URI> getSource() {
         return source;
     }
 
+    private CompiledTemplate initCompiled(SectionNode section) {
+        if (!section.name.equals(Parser.ROOT_HELPER_NAME)) {
+            // Fragments are always rendered by the interpreter
+            return null;
+        }
+        CompiledTemplate compiled = engine.getCompiledTemplate(templateId);
+        if (compiled != null && compiled.getFingerprint() != CompiledTemplate.fingerprint(getNodes())) {
+            LOG.debugf("Compiled template ignored - %s was modified or parsed with a different configuration", this);
+            return null;
+        }
+        return compiled;
+    }
+
     private LazyValue<Map<String, Fragment>> initFragments(SectionNode section) {
         if (section.name.equals(Parser.ROOT_HELPER_NAME)) {
             // Initialize the lazy map for root sections only
@@ -251,7 +272,19 @@ protected Engine engine() {
 
         private CompletionStage<String> renderAsyncNoTimeout() {
             StringBuilder builder = new StringBuilder(getCapacity());
-            return renderData(data(), builder::append).thenApply(v -> {
+            Object data = data();
+            if (compiled != null && engine.traceManager == null) {
+                try {
+                    if (renderCompiled(data, builder)) {
+                        String str = builder.toString();
+                        capacity.update(str.length());
+                        return CompletedStage.of(str);
+                    }
+                } catch (Throwable e) {
+                    return CompletedStage.failure(e);
+                }
+            }
+            return renderInterpreted(data, builder::append).thenApply(v -> {
                 String str = builder.toString();
                 capacity.update(str.length());
                 return str;
@@ -278,7 +311,42 @@ private int getCapacityAttributeValue() {
             return capacity.get();
         }
 
+        /**
+         * The output of the compiled template is discarded if the template instance must be rendered by the interpreter.
+         *
+         * @return {@code true} if the template instance was rendered by the compiled template
+         */
+        private boolean renderCompiled(Object data, StringBuilder builder) {
+            int start = builder.length();
+            boolean rendered = false;
+            try {
+                rendered = compiled.render(new CompiledTemplate.Output(data, compiledExpressions, builder));
+            } finally {
+                if (rendered) {
+                    runRenderedActions();
+                } else {
+                    builder.setLength(start);
+                }
+            }
+            return rendered;
+        }
+
         private CompletionStage<Void> renderData(Object data, Consumer<String> consumer) {
+            if (compiled != null && engine.traceManager == null) {
+                StringBuilder builder = new StringBuilder(getCapacity());
+                try {
+                    if (renderCompiled(data, builder)) {
+                        consumer.accept(builder.toString());
+                        return CompletedStage.ofVoid();
+                    }
+                } catch (Throwable e) {
+                    return CompletedStage.failure(e);
+                }
+            }
+            return renderInterpreted(data, consumer);
+        }
+
+        private CompletionStage<Void> renderInterpreted(Object data, Consumer<String> consumer) {
             CompletableFuture<Void> result = new CompletableFuture<>();
             ResolutionContext rootContext = new ResolutionContextImpl(data,
                     engine.getEvaluator(), null, this);
@@ -300,16 +368,7 @@ private CompletionStage<Void> renderData(Object data, Consumer<String> consumer)
                     } catch (Throwable e) {
                         result.completeExceptionally(e);
                     } finally {
-                        if (renderedActions != null) {
-                            for (Runnable action : renderedActions) {
-                                try {
-                                    action.run();
-                                } catch (Throwable e) {
-                                    LOG.error("Unable to perform an action when rendering finished", e);
-                                }
-                            }
-                        }
-
+                        runRenderedActions();
                     }
                 }
                 if (event != null) {
@@ -321,6 +380,18 @@ private CompletionStage<Void> renderData(Object data, Consumer<String> consumer)
             return result;
         }
 
+        private void runRenderedActions() {
+            if (renderedActions != null) {
+                for (Runnable action : renderedActions) {
+                    try {
+                        action.run();
+                    } catch (Throwable e) {
+                        LOG.error("Unable to perform an action when rendering finished", e);
+                    }
+                }
+            }
+        }
+
         @Override
         public Template getTemplate() {
             return TemplateImpl.this;
@@ -142,6 +142,8 @@ default Uni<String> createUni() {
 
     /**
      * Triggers rendering.
+     * <p>
+     * If the consumer implements {@link Utf8Consumer} then the static text of the template is passed as UTF-8 encoded bytes.
      *
      * @param consumer To consume chunks of the rendered template
      * @return a completion stage that is completed once the rendering finished
@@ -0,0 +1,21 @@
+package io.quarkus.qute;
+
+import java.util.function.Consumer;
+
+/**
+ * A consumer of the rendered template that also accepts the static text of the template encoded in UTF-8.
+ * <p>
+ * The static text is encoded once per template, so a consumer that writes bytes, e.g. into a network buffer, does not need
+ * to encode it for every rendering. The dynamic parts of the template are still passed to {@link #accept(Object)}.
+ *
+ * @see TemplateInstance#consume(Consumer)
+ */
+public interface Utf8Consumer extends Consumer<String> {
+
+    /**
+     *
+     * @param utf8 the UTF-8 encoded text; must not be modified
+     */
+    void acceptUtf8(byte[] utf8);
+
+}
@@ -12,6 +12,7 @@
 import org.junit.jupiter.api.Test;
 
 import io.quarkus.qute.CacheSectionHelper.Cache;
+import io.quarkus.qute.CacheSectionHelper.CachedResult;
 
 public class CacheSectionTest {
 
@@ -71,6 +72,35 @@ public void testCachedWithFailure() {
         assertEquals(1, map.size());
     }
 
+    @Test
+    public void testCachedString() {
+        // Simulate a remote cache that can only store strings
+        ConcurrentMap<String, String> map = new ConcurrentHashMap<>();
+        Engine engine = Engine.builder().addDefaults().addValueResolver(new ReflectionValueResolver())
+                .addSectionHelper(new CacheSectionHelper.Factory(new Cache() {
+                    @Override
+                    public CompletionStage<ResultNode> getValue(String key,
+                            Function<String, CompletionStage<ResultNode>> loader) {
+                        String value = map.get(key);
+                        if (value != null) {
+                            return CompletedStage.of(new CachedResult(value));
+                        }
+                        return loader.apply(key).thenApply(r -> {
+                            CachedResult cached = CachedResult.from(r);
+                            map.put(key, cached.getValue());
+                            return cached;
+                        });
+                    }
+                })).build();
+
+        Template template = engine.parse("{#cached}<b>{counter.val}</b>{/cached}", null, "foo.html");
+        Counter counter = new Counter();
+
+        assertEquals("<b>1</b>", template.data("counter", counter).render());
+        assertEquals("<b>1</b>", template.data("counter", counter).render());
+        assertEquals("<b>1</b>", map.get("foo.html:1:1_"));
+    }
+
     private Engine engineWithCache(ConcurrentMap<String, CompletionStage<ResultNode>> map) {
         return Engine.builder().addDefaults().addValueResolver(new ReflectionValueResolver())
                 .addSectionHelper(new CacheSectionHelper.Factory(new Cache() {
@@ -2,8 +2,11 @@
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -112,6 +115,31 @@ public void testCapacity() {
         assertCapacity(engine, "{foo}", 10, Capacity.LIMIT, Map.of("foo", "b".repeat(70_000)));
     }
 
+    @Test
+    public void testUtf8Consumer() throws Exception {
+        Engine engine = Engine.builder().addDefaults().build();
+        Template hello = engine.parse("Ahoj {name}, čau!");
+        TextNode text = (TextNode) hello.getNodes().get(0);
+        List<Object> chunks = new ArrayList<>();
+        hello.data("name", "Šárka").consume(new Utf8Consumer() {
+
+            @Override
+            public void accept(String value) {
+                chunks.add(value);
+            }
+
+            @Override
+            public void acceptUtf8(byte[] utf8) {
+                chunks.add(utf8);
+            }
+        }).toCompletableFuture().get();
+        assertEquals(3, chunks.size());
+        // The static text is encoded once
+        assertSame(text.getUtf8Value(), chunks.get(0));
+        assertEquals("Šárka", chunks.get(1));
+        assertEquals(", čau!", new String((byte[]) chunks.get(2), StandardCharsets.UTF_8));
+    }
+
     private void assertCapacity(Engine engine, String val, int expectedComputed, int expectedMax, Map<String, Object> data) {
         TemplateImpl template = (TemplateImpl) engine.parse(val);
         assertEquals(expectedComputed, template.capacity.computed);
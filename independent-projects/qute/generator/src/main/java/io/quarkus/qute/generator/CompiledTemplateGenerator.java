@@ -0,0 +1,670 @@
+package io.quarkus.qute.generator;
+
+import static io.quarkus.qute.generator.ValueResolverGenerator.GET_PREFIX;
+import static io.quarkus.qute.generator.ValueResolverGenerator.HAS_PREFIX;
+import static io.quarkus.qute.generator.ValueResolverGenerator.IS_PREFIX;
+import static io.quarkus.qute.generator.ValueResolverGenerator.decapitalize;
+import static org.jboss.jandex.gizmo2.Jandex2Gizmo.classDescOf;
+
+import java.lang.constant.ClassDesc;
+import java.lang.constant.MethodTypeDesc;
+import java.lang.reflect.Modifier;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.function.BiPredicate;
+
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.FieldInfo;
+import org.jboss.jandex.IndexView;
+import org.jboss.jandex.MethodInfo;
+import org.jboss.jandex.PrimitiveType;
+import org.jboss.jandex.Type;
+import org.jboss.logging.Logger;
+
+import io.quarkus.gizmo2.ClassOutput;
+import io.quarkus.gizmo2.Const;
+import io.quarkus.gizmo2.Expr;
+import io.quarkus.gizmo2.LocalVar;
+import io.quarkus.gizmo2.ParamVar;
+import io.quarkus.gizmo2.creator.BlockCreator;
+import io.quarkus.gizmo2.desc.ClassMethodDesc;
+import io.quarkus.gizmo2.desc.FieldDesc;
+import io.quarkus.gizmo2.desc.InterfaceMethodDesc;
+import io.quarkus.qute.CompiledTemplate;
+import io.quarkus.qute.Expression;
+import io.quarkus.qute.Expression.Part;
+import io.quarkus.qute.IfSectionHelper;
+import io.quarkus.qute.LoopSectionHelper;
+import io.quarkus.qute.ParameterDeclarationNode;
+import io.quarkus.qute.SectionBlock;
+import io.quarkus.qute.SectionHelperFactory;
+import io.quarkus.qute.SectionNode;
+import io.quarkus.qute.TemplateNode;
+
+/**
+ * Generates {@link CompiledTemplate}s for the templates that can be rendered without the interpreter.
+ * <p>
+ * A template can be compiled if it only contains text, parameter declarations without a default value, output expressions,
+ * {@code #for} sections with an alias and an iterable, and {@code #if} sections with a single operand. Both sections may
+ * declare an {@code #else} block. Every expression must start with a parameter or a loop alias, and may only access the
+ * properties of public classes, i.e. fields and methods without parameters, whose types can be determined from the index.
+ * <p>
+ * The text of the template is appended as constants, and the properties are accessed directly.
+ */
+public class CompiledTemplateGenerator extends AbstractGenerator {
+
+    public static final String SUFFIX = "_CompiledTemplate";
+
+    private static final Logger LOGGER = Logger.getLogger(CompiledTemplateGenerator.class);
+
+    private static final Set<DotName> ASYNC_TYPES = Set.of(DotNames.COMPLETION_STAGE,
+            DotName.createSimple("io.smallrye.mutiny.Uni"), DotName.createSimple("io.smallrye.mutiny.Multi"));
+
+    private static final String ELSE = "else";
+    private static final String LOOP_ALIAS = "alias";
+    private static final String LOOP_ITERABLE = "iterable";
+    private static final Set<String> LOOP_METADATA = Set.of("count", "index", "indexParity", "hasNext", "isLast", "isFirst",
+            "odd", "isOdd", "even", "isEven");
+
+    private final BiPredicate<ClassInfo, String> propertyFilter;
+
+    /**
+     *
+     * @param index
+     * @param classOutput
+     * @param propertyFilter a property of a class is only accessed directly if the filter returns {@code true}, e.g. if the
+     *        property is not matched by a template extension method
+     */
+    public CompiledTemplateGenerator(IndexView index, ClassOutput classOutput, BiPredicate<ClassInfo, String> propertyFilter) {
+        super(index, classOutput);
+        this.propertyFilter = propertyFilter;
+    }
+
+    /**
+     *
+     * @param templateId
+     * @param nodes the child nodes of the root node of the template
+     * @param parameters the types of the parameters that are not declared in the template, e.g. the parameters of a type-safe
+     *        template
+     * @return the name of the generated class, or {@code null} if the template cannot be compiled
+     * @see io.quarkus.qute.Template#getNodes()
+     */
+    public String generate(String templateId, List<TemplateNode> nodes, Map<String, String> parameters) {
+        Scope root = new Scope(null, null, null);
+        List<Op> ops;
+        try {
+            for (Entry<String, String> e : parameters.entrySet()) {
+                root.variables.put(e.getKey(), new Variable(e.getKey(), parseParamType(e.getValue()), true));
+            }
+            for (TemplateNode node : nodes) {
+                if (node.kind() == TemplateNode.Kind.PARAM_DECLARATION) {
+                    ParameterDeclarationNode declaration = node.asParamDeclaration();
+                    if (declaration.getDefaultValue() != null) {
+                        throw new NotCompilableException("parameter declaration with a default value");
+                    }
+                    String typeInfo = declaration.getTypeInfo();
+                    // {@org.acme.Foo foo} -> |org.acme.Foo|
+                    root.variables.put(declaration.getKey(), new Variable(declaration.getKey(),
+                            parseParamType(typeInfo.substring(1, typeInfo.length() - 1)), true));
+                }
+            }
+            Map<TemplateNode, Integer> expressionIndexes = new IdentityHashMap<>();
+            for (TemplateNode expressionNode : CompiledTemplate.expressionNodes(nodes)) {
+                expressionIndexes.put(expressionNode, expressionIndexes.size());
+            }
+            ops = compile(nodes, root, expressionIndexes);
+        } catch (NotCompilableException e) {
+            LOGGER.debugf("Template %s is rendered by the interpreter: %s", templateId, e.getMessage());
+            return null;
+        }
+
+        Set<Variable> params = new LinkedHashSet<>();
+        collectParams(ops, params);
+        long fingerprint = CompiledTemplate.fingerprint(nodes);
+        String generatedClassName = generatedClassName(templateId);
+        generatedTypes.add(generatedClassName);
+
+        gizmo.class_(generatedClassName, cc -> {
+            cc.final_();
+            cc.implements_(CompiledTemplate.class);
+            cc.defaultConstructor();
+
+            cc.method("getTemplateId", mc -> {
+                mc.returning(String.class);
+                mc.body(bc -> bc.return_(templateId));
+            });
+
+            cc.method("getFingerprint", mc -> {
+                mc.returning(long.class);
+                mc.body(bc -> bc.return_(Const.of(fingerprint)));
+            });
+
+            cc.method("render", mc -> {
+                mc.returning(boolean.class);
+                ParamVar output = mc.parameter("output", CompiledTemplate.Output.class);
+                mc.body(bc -> {
+                    Map<Variable, Expr> locals = new HashMap<>();
+                    for (Variable param : params) {
+                        Const key = Const.of(param.name);
+                        LocalVar value = bc.localVar("param" + locals.size(),
+                                bc.invokeVirtual(Descriptors.COMPILED_TEMPLATE_OUTPUT_GET, output, key));
+                        // A missing parameter is reported by the interpreter
+                        bc.ifNull(value, isNull -> isNull.ifNot(
+                                isNull.invokeVirtual(Descriptors.COMPILED_TEMPLATE_OUTPUT_CONTAINS, output, key),
+                                missing -> missing.return_(false)));
+                        locals.put(param, value);
+                    }
+                    emit(bc, ops, output, locals);
+                    bc.return_(true);
+                });
+            });
+        });
+        return generatedClassName;
+    }
+
+    static String generatedClassName(String templateId) {
+        StringBuilder name = new StringBuilder();
+        for (int i = 0; i < templateId.length(); i++) {
+            char c = templateId.charAt(i);
+            name.append(Character.isJavaIdentifierPart(c) ? c : '_');
+        }
+        // Different ids may result in the same name, e.g. "foo/bar" and "foo_bar"
+        return "io.quarkus.qute.generated." + name + "_" + Integer.toHexString(templateId.hashCode()) + SUFFIX;
+    }
+
+    // Analysis
+
+    private List<Op> compile(List<TemplateNode> nodes, Scope scope, Map<TemplateNode, Integer> expressionIndexes) {
+        List<Op> ops = new ArrayList<>();
+        StringBuilder text = new StringBuilder();
+        for (TemplateNode node : nodes) {
+            if (node.isText()) {
+                // Merge adjacent text nodes, including the nodes separated by a parameter declaration
+                text.append(node.asText().getValue());
+                continue;
+            }
+            if (node.kind() == TemplateNode.Kind.PARAM_DECLARATION) {
+                if (scope.parent != null) {
+                    throw new NotCompilableException("parameter declaration in a section");
+                }
+                continue;
+            }
+            if (!text.isEmpty()) {
+                ops.add(new Text(text.toString()));
+                text.setLength(0);
+            }
+            if (node.isExpression()) {
+                ops.add(new Write(expressionIndexes.get(node), output(node.getExpressions().get(0), scope)));
+            } else if (node.isSection()) {
+                SectionNode section = node.asSection();
+                if (section.getHelper() instanceof LoopSectionHelper loop) {
+                    ops.add(loop(section, loop, scope, expressionIndexes));
+                } else if (section.getHelper() instanceof IfSectionHelper) {
+                    ops.add(if_(section, scope, expressionIndexes));
+                } else {
+                    throw new NotCompilableException("unsupported section {#" + section.getName() + "}");
+                }
+            } else {
+                throw new NotCompilableException("unsupported node " + node);
+            }
+        }
+        if (!text.isEmpty()) {
+            ops.add(new Text(text.toString()));
+        }
+        return ops;
+    }
+
+    private Loop loop(SectionNode section, LoopSectionHelper helper, Scope scope,
+            Map<TemplateNode, Integer> expressionIndexes) {
+        SectionBlock main = section.getBlocks().get(0);
+        String alias = main.parameters.get(LOOP_ALIAS);
+        Expression iterable = main.expressions.get(LOOP_ITERABLE);
+        if (alias == null || alias.isEmpty() || !main.parameters.containsKey(LOOP_ITERABLE) || iterable == null) {
+            throw new NotCompilableException("loop without an alias or an iterable");
+        }
+        Access access = access(iterable, scope);
+        if (!access.properties.isEmpty()) {
+            // The iterable is accessed directly, so it must be iterable but not a map
+            ClassInfo clazz = index.getClassByName(access.type.name());
+            if (clazz == null || !isSubtypeOf(clazz, DotNames.ITERABLE)) {
+                throw new NotCompilableException("not an iterable: " + iterable.toOriginalString());
+            }
+        }
+        Type elementType = elementType(access.type);
+        if (elementType == null) {
+            throw new NotCompilableException("unknown element type: " + iterable.toOriginalString());
+        }
+        Variable element = new Variable(alias, elementType, false);
+        Scope loopScope = new Scope(scope, element, helper.getMetadataPrefix());
+        List<Op> body = compile(main.nodes, loopScope, expressionIndexes);
+        return new Loop(access, element, body, elseBlock(section, scope, expressionIndexes));
+    }
+
+    private If if_(SectionNode section, Scope scope, Map<TemplateNode, Integer> expressionIndexes) {
+        SectionBlock main = section.getBlocks().get(0);
+        if (main.parameters.size() != 1 || main.expressions.size() != 1) {
+            throw new NotCompilableException("condition with an operator");
+        }
+        Expression condition = main.expressions.values().iterator().next();
+        // {#if !item.active} is parsed to the expression "item.active"
+        if (!condition.toOriginalString().equals(main.parameters.values().iterator().next())) {
+            throw new NotCompilableException("condition with an operator");
+        }
+        Access access = access(condition, scope);
+        if (access.type.kind() != Type.Kind.PRIMITIVE && (access.type.name().equals(DotNames.OBJECT)
+                || index.getClassByName(access.type.name()) == null)) {
+            // The interpreter would wait for an asynchronous result
+            throw new NotCompilableException("unknown type of condition: " + condition.toOriginalString());
+        }
+        List<Op> body = compile(main.nodes, scope, expressionIndexes);
+        return new If(access, body, elseBlock(section, scope, expressionIndexes));
+    }
+
+    private List<Op> elseBlock(SectionNode section, Scope scope, Map<TemplateNode, Integer> expressionIndexes) {
+        List<SectionBlock> blocks = section.getBlocks();
+        if (blocks.size() == 1) {
+            return List.of();
+        }
+        SectionBlock block = blocks.get(1);
+        if (blocks.size() > 2 || !ELSE.equals(block.label) || !block.parameters.isEmpty()) {
+            throw new NotCompilableException("unsupported block {#" + block.label + "} of {#" + section.getName() + "}");
+        }
+        return compile(block.nodes, scope, expressionIndexes);
+    }
+
+    private Access output(Expression expression, Scope scope) {
+        Access access = access(expression, scope);
+        if (access.type.kind() == Type.Kind.CLASS || access.type.kind() == Type.Kind.PARAMETERIZED_TYPE) {
+            ClassInfo clazz = index.getClassByName(access.type.name());
+            if (clazz != null && isAsync(clazz)) {
+                throw new NotCompilableException("asynchronous result: " + expression.toOriginalString());
+            }
+        }
+        return access;
+    }
+
+    private Access access(Expression expression, Scope scope) {
+        if (expression.isLiteral() || expression.hasNamespace()) {
+            throw new NotCompilableException("literal or namespace expression: " + expression.toOriginalString());
+        }
+        List<Part> parts = expression.getParts();
+        Part first = parts.get(0);
+        if (first.isVirtualMethod()) {
+            throw new NotCompilableException("virtual method: " + expression.toOriginalString());
+        }
+        Variable variable = scope.find(first.getName());
+        Type type = variable.type;
+        ClassInfo rootClass = null;
+        List<Property> properties = new ArrayList<>();
+        for (Part part : parts.subList(1, parts.size())) {
+            if (part.isVirtualMethod()) {
+                throw new NotCompilableException("virtual method: " + expression.toOriginalString());
+            }
+            ClassInfo clazz = accessibleClass(type, expression);
+            if (rootClass == null) {
+                rootClass = clazz;
+            }
+            Property property = findProperty(clazz, part.getName());
+            if (property == null || !propertyFilter.test(clazz, part.getName())) {
+                throw new NotCompilableException("property not accessible: " + expression.toOriginalString());
+            }
+            properties.add(property);
+            type = property.type();
+        }
+        if (type.kind() != Type.Kind.PRIMITIVE && type.kind() != Type.Kind.CLASS
+                && type.kind() != Type.Kind.PARAMETERIZED_TYPE) {
+            throw new NotCompilableException("unsupported type " + type + ": " + expression.toOriginalString());
+        }
+        return new Access(variable, rootClass, properties, type);
+    }
+
+    private ClassInfo accessibleClass(Type type, Expression expression) {
+        if (type.kind() != Type.Kind.CLASS && type.kind() != Type.Kind.PARAMETERIZED_TYPE) {
+            throw new NotCompilableException("unsupported type " + type + ": " + expression.toOriginalString());
+        }
+        ClassInfo clazz = index.getClassByName(type.name());
+        if (clazz == null) {
+            throw new NotCompilableException("class not found in the index " + type.name());
+        }
+        for (ClassInfo c = clazz; c != null; c = c.enclosingClass() != null ? index.getClassByName(c.enclosingClass())
+                : null) {
+            if (!Modifier.isPublic(c.flags())) {
+                throw new NotCompilableException("class not public " + c.name());
+            }
+        }
+        if (isSubtypeOf(clazz, DotNames.MAP) || isAsync(clazz)) {
+            // Maps and asynchronous results are handled by specific resolvers
+            throw new NotCompilableException("unsupported type " + type + ": " + expression.toOriginalString());
+        }
+        return clazz;
+    }
+
+    /**
+     * The lookup follows the rules of the default resolvers: a method with the same name, then a getter, then a boolean
+     * getter, and finally a field.
+     */
+    private Property findProperty(ClassInfo clazz, String name) {
+        MethodInfo match = null;
+        MethodInfo getterMatch = null;
+        MethodInfo booleanMatch = null;
+        for (ClassInfo c : hierarchy(clazz)) {
+            for (MethodInfo method : c.methods()) {
+                if (!ValueResolverGenerator.defaultFilter(method) || Modifier.isStatic(method.flags())
+                        || method.parametersCount() != 0 || c.name().equals(DotNames.OBJECT)) {
+                    continue;
+                }
+                String methodName = method.name();
+                if (name.equals(methodName)) {
+                    match = match != null ? match : method;
+                } else if (matchesPrefix(name, methodName, GET_PREFIX)) {
+                    getterMatch = getterMatch != null ? getterMatch : method;
+                } else if (isBoolean(method.returnType())
+                        && (matchesPrefix(name, methodName, IS_PREFIX) || matchesPrefix(name, methodName, HAS_PREFIX))) {
+                    booleanMatch = booleanMatch != null ? booleanMatch : method;
+                }
+            }
+        }
+        MethodInfo method = match != null ? match : (getterMatch != null ? getterMatch : booleanMatch);
+        if (method != null) {
+            return new Property(clazz, method.name(), true, method.returnType());
+        }
+        for (ClassInfo c : hierarchy(clazz)) {
+            for (FieldInfo field : c.fields()) {
+                if (field.name().equals(name) && ValueResolverGenerator.defaultFilter(field)
+                        && !Modifier.isStatic(field.flags())) {
+                    return new Property(clazz, field.name(), false, field.type());
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     *
+     * @return the class, its superclasses, and then all the implemented interfaces
+     */
+    private List<ClassInfo> hierarchy(ClassInfo clazz) {
+        List<ClassInfo> classes = new ArrayList<>();
+        Deque<DotName> interfaces = new ArrayDeque<>();
+        for (ClassInfo c = clazz; c != null; c = c.superName() != null ? index.getClassByName(c.superName()) : null) {
+            classes.add(c);
+            interfaces.addAll(c.interfaceNames());
+        }
+        Set<DotName> visited = new LinkedHashSet<>();
+        while (!interfaces.isEmpty()) {
+            DotName name = interfaces.poll();
+            if (visited.add(name)) {
+                ClassInfo iface = index.getClassByName(name);
+                if (iface != null) {
+                    classes.add(iface);
+                    interfaces.addAll(iface.interfaceNames());
+                }
+            }
+        }
+        return classes;
+    }
+
+    private boolean isSubtypeOf(ClassInfo clazz, DotName name) {
+        for (ClassInfo c : hierarchy(clazz)) {
+            if (c.name().equals(name)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean isAsync(ClassInfo clazz) {
+        for (ClassInfo c : hierarchy(clazz)) {
+            if (ASYNC_TYPES.contains(c.name())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     *
+     * @return the element type of an iterable, e.g. {@code Item} for {@code List<Item>}, or {@code null}
+     */
+    private Type elementType(Type type) {
+        if (type.kind() != Type.Kind.PARAMETERIZED_TYPE) {
+            return null;
+        }
+        List<Type> arguments = type.asParameterizedType().arguments();
+        if (arguments.size() != 1) {
+            return null;
+        }
+        Type argument = arguments.get(0);
+        if (argument.kind() == Type.Kind.WILDCARD_TYPE) {
+            argument = argument.asWildcardType().extendsBound();
+        }
+        if (argument.kind() != Type.Kind.CLASS && argument.kind() != Type.Kind.PARAMETERIZED_TYPE) {
+            return null;
+        }
+        return argument;
+    }
+
+    private static Type parseType(String value) {
+        try {
+            return Type.parse(value);
+        } catch (IllegalArgumentException e) {
+            throw new NotCompilableException("invalid type " + value);
+        }
+    }
+
+    /**
+     * The values of the template instance data are always objects, e.g. an {@code int} parameter is stored as an
+     * {@link Integer}.
+     */
+    private static Type parseParamType(String value) {
+        Type type = parseType(value);
+        return type.kind() == Type.Kind.PRIMITIVE ? PrimitiveType.box(type.asPrimitiveType()) : type;
+    }
+
+    private static boolean matchesPrefix(String name, String methodName, String prefix) {
+        return methodName.startsWith(prefix) && methodName.length() > prefix.length()
+                && decapitalize(methodName.substring(prefix.length())).equals(name);
+    }
+
+    private static boolean isBoolean(Type type) {
+        return type.equals(PrimitiveType.BOOLEAN) || type.name().equals(DotNames.BOOLEAN);
+    }
+
+    private static void collectParams(List<Op> ops, Set<Variable> params) {
+        for (Op op : ops) {
+            switch (op) {
+                case Text text -> {
+                }
+                case Write write -> collectParam(write.value(), params);
+                case If if_ -> {
+                    collectParam(if_.condition(), params);
+                    collectParams(if_.body(), params);
+                    collectParams(if_.elseBody(), params);
+                }
+                case Loop loop -> {
+                    collectParam(loop.iterable(), params);
+                    collectParams(loop.body(), params);
+                    collectParams(loop.elseBody(), params);
+                }
+            }
+        }
+    }
+
+    private static void collectParam(Access access, Set<Variable> params) {
+        if (access.variable.param) {
+            params.add(access.variable);
+        }
+    }
+
+    // Code generation
+
+    private void emit(BlockCreator bc, List<Op> ops, ParamVar output, Map<Variable, Expr> locals) {
+        for (Op op : ops) {
+            switch (op) {
+                case Text text -> bc.invokeVirtual(Descriptors.COMPILED_TEMPLATE_OUTPUT_APPEND, output, Const.of(text.value()));
+                case Write write -> {
+                    Expr value = evaluate(bc, write.value(), locals);
+                    bc.ifNot(bc.invokeVirtual(Descriptors.COMPILED_TEMPLATE_OUTPUT_WRITE, output, Const.of(write.index()),
+                            toObject(bc, value, write.value().type)), unsupported -> unsupported.return_(false));
+                }
+                case If if_ -> {
+                    Expr value = evaluate(bc, if_.condition(), locals);
+                    if (if_.condition().type.equals(PrimitiveType.BOOLEAN)) {
+                        bc.ifElse(value, whenTrue -> emit(whenTrue, if_.body(), output, locals),
+                                whenFalse -> emit(whenFalse, if_.elseBody(), output, locals));
+                    } else {
+                        Expr falsy = bc.invokeStatic(Descriptors.BOOLEANS_IS_FALSY, toObject(bc, value, if_.condition().type));
+                        bc.ifElse(falsy, whenFalse -> emit(whenFalse, if_.elseBody(), output, locals),
+                                whenTrue -> emit(whenTrue, if_.body(), output, locals));
+                    }
+                }
+                case Loop loop -> {
+                    LocalVar iterable = bc.localVar("iterable", evaluate(bc, loop.iterable(), locals));
+                    // A null iterable is ignored by the interpreter
+                    bc.ifNotNull(iterable, notNull -> {
+                        if (loop.iterable().properties.isEmpty()) {
+                            // Arrays, maps, integers and streams are iterated by the interpreter
+                            notNull.ifNotInstanceOf(iterable, Iterable.class, unsupported -> unsupported.return_(false));
+                        }
+                        LocalVar empty = loop.elseBody().isEmpty() ? null : notNull.localVar("empty", Const.of(true));
+                        notNull.forEach(notNull.cast(iterable, Iterable.class), (body, element) -> {
+                            if (empty != null) {
+                                body.set(empty, Const.of(false));
+                            }
+                            locals.put(loop.element(), element);
+                            emit(body, loop.body(), output, locals);
+                        });
+                        if (empty != null) {
+                            notNull.if_(empty, isEmpty -> emit(isEmpty, loop.elseBody(), output, locals));
+                        }
+                    });
+                }
+            }
+        }
+    }
+
+    private Expr evaluate(BlockCreator bc, Access access, Map<Variable, Expr> locals) {
+        Expr value = locals.get(access.variable);
+        if (access.properties.isEmpty()) {
+            return value;
+        }
+        ClassDesc rootClass = classDescOf(access.rootClass);
+        // The interpreter reports a null value or a value of an unexpected type
+        bc.ifNotInstanceOf(value, rootClass, unsupported -> unsupported.return_(false));
+        LocalVar target = bc.localVar("target", bc.cast(value, rootClass));
+        for (int i = 0; i < access.properties.size(); i++) {
+            Property property = access.properties.get(i);
+            ClassDesc owner = classDescOf(property.clazz());
+            ClassDesc type = classDescOf(property.type());
+            Expr propertyValue;
+            if (property.method()) {
+                propertyValue = property.clazz().isInterface()
+                        ? bc.invokeInterface(InterfaceMethodDesc.of(owner, property.name(), MethodTypeDesc.of(type)), target)
+                        : bc.invokeVirtual(ClassMethodDesc.of(owner, property.name(), MethodTypeDesc.of(type)), target);
+            } else {
+                propertyValue = target.field(FieldDesc.of(owner, property.name(), type));
+            }
+            if (i == access.properties.size() - 1) {
+                return bc.localVar("value", propertyValue);
+            }
+            target = bc.localVar("target", propertyValue);
+            bc.ifNull(target, isNull -> isNull.return_(false));
+        }
+        throw new IllegalStateException();
+    }
+
+    private static Expr toObject(BlockCreator bc, Expr value, Type type) {
+        return type.kind() == Type.Kind.PRIMITIVE ? bc.box(value) : value;
+    }
+
+    private static final class NotCompilableException extends RuntimeException {
+
+        private static final long serialVersionUID = 1L;
+
+        NotCompilableException(String message) {
+            super(message, null, false, false);
+        }
+    }
+
+    /**
+     * A template parameter or a loop element. Variables are compared by identity.
+     */
+    private static final class Variable {
+
+        final String name;
+        final Type type;
+        final boolean param;
+
+        Variable(String name, Type type, boolean param) {
+            this.name = name;
+            this.type = type;
+            this.param = param;
+        }
+    }
+
+    private static final class Scope {
+
+        final Scope parent;
+        final Map<String, Variable> variables = new LinkedHashMap<>();
+        // The loop element and the prefix of the iteration metadata
+        final Variable element;
+        final String metadataPrefix;
+
+        Scope(Scope parent, Variable element, String metadataPrefix) {
+            this.parent = parent;
+            this.element = element;
+            this.metadataPrefix = metadataPrefix;
+        }
+
+        Variable find(String name) {
+            if (element != null) {
+                if (element.name.equals(name)) {
+                    return element;
+                }
+                if (metadataPrefix == null ? LOOP_METADATA.contains(name) : name.startsWith(metadataPrefix)) {
+                    throw new NotCompilableException("iteration metadata: " + name);
+                }
+            }
+            Variable variable = variables.get(name);
+            if (variable != null) {
+                return variable;
+            }
+            if (parent != null) {
+                return parent.find(name);
+            }
+            throw new NotCompilableException("undeclared parameter: " + name);
+        }
+    }
+
+    private sealed interface Op permits Text, Write, If, Loop {
+    }
+
+    private record Text(String value) implements Op {
+    }
+
+    private record Write(int index, Access value) implements Op {
+    }
+
+    private record If(Access condition, List<Op> body, List<Op> elseBody) implements Op {
+    }
+
+    private record Loop(Access iterable, Variable element, List<Op> body, List<Op> elseBody) implements Op {
+    }
+
+    private record Access(Variable variable, ClassInfo rootClass, List<Property> properties, Type type) {
+    }
+
+    private record Property(ClassInfo clazz, String name, boolean method, Type type) {
+    }
+
+}
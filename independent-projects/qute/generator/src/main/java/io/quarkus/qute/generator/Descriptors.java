@@ -12,6 +12,8 @@
 import io.quarkus.gizmo2.desc.ConstructorDesc;
 import io.quarkus.gizmo2.desc.FieldDesc;
 import io.quarkus.gizmo2.desc.MethodDesc;
+import io.quarkus.qute.Booleans;
+import io.quarkus.qute.CompiledTemplate;
 import io.quarkus.qute.CompletedStage;
 import io.quarkus.qute.EvalContext;
 import io.quarkus.qute.EvaluatedParams;
@@ -107,6 +109,16 @@ private Descriptors() {
             "matchClass", boolean.class, EvalContext.class, Class.class);
     public static final MethodDesc VALUE_RESOLVERS_HAS_NO_PARAMS = MethodDesc.of(ValueResolvers.class,
             "hasNoParams", boolean.class, EvalContext.class);
+    public static final MethodDesc BOOLEANS_IS_FALSY = MethodDesc.of(Booleans.class, "isFalsy", boolean.class,
+            Object.class);
+    public static final MethodDesc COMPILED_TEMPLATE_OUTPUT_GET = MethodDesc.of(CompiledTemplate.Output.class, "get",
+            Object.class, String.class);
+    public static final MethodDesc COMPILED_TEMPLATE_OUTPUT_CONTAINS = MethodDesc.of(CompiledTemplate.Output.class,
+            "contains", boolean.class, String.class);
+    public static final MethodDesc COMPILED_TEMPLATE_OUTPUT_APPEND = MethodDesc.of(CompiledTemplate.Output.class,
+            "append", void.class, String.class);
+    public static final MethodDesc COMPILED_TEMPLATE_OUTPUT_WRITE = MethodDesc.of(CompiledTemplate.Output.class,
+            "write", boolean.class, int.class, Object.class);
 
     public static final FieldDesc EVALUATED_PARAMS_STAGE = FieldDesc.of(EvaluatedParams.class, "stage");
 
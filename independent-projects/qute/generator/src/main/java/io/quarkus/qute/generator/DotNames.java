@@ -1,5 +1,6 @@
 package io.quarkus.qute.generator;
 
+import java.util.Map;
 import java.util.concurrent.CompletionStage;
 
 import org.jboss.jandex.DotName;
@@ -17,5 +18,7 @@ final class DotNames {
     static final DotName STRING = DotName.createSimple(String.class.getName());
     static final DotName COMPLETION_STAGE = DotName.createSimple(CompletionStage.class.getName());
     static final DotName OBJECT = DotName.createSimple(Object.class.getName());
+    static final DotName ITERABLE = DotName.createSimple(Iterable.class.getName());
+    static final DotName MAP = DotName.createSimple(Map.class.getName());
 
 }
@@ -0,0 +1,25 @@
+package io.quarkus.qute.generator;
+
+public class Book {
+
+    public final int pages;
+
+    private final String title;
+
+    private final boolean available;
+
+    public Book(String title, int pages, boolean available) {
+        this.title = title;
+        this.pages = pages;
+        this.available = available;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public boolean isAvailable() {
+        return available;
+    }
+
+}
@@ -0,0 +1,121 @@
+package io.quarkus.qute.generator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.gizmo2.ClassOutput;
+import io.quarkus.qute.CompiledTemplate;
+import io.quarkus.qute.Engine;
+import io.quarkus.qute.ReflectionValueResolver;
+import io.quarkus.qute.Template;
+
+public class CompiledTemplateGeneratorTest {
+
+    static final String BOOKS = "{@java.util.List<io.quarkus.qute.generator.Book> books}"
+            + "{#for book in books}{book.title}:{book.pages}{#if book.available} available{/if},{#else}No books{/for}";
+
+    static CompiledTemplateGenerator generator;
+
+    @BeforeAll
+    public static void init() throws IOException {
+        ClassOutput classOutput = ClassOutput.fileWriter(new File("target/test-classes/").toPath());
+        generator = new CompiledTemplateGenerator(SimpleGeneratorTest.index(Book.class, String.class, List.class),
+                classOutput, (clazz, name) -> true);
+    }
+
+    @Test
+    public void testCompiledTemplate() throws Exception {
+        CountingCompiledTemplate compiled = compile("books", BOOKS, Map.of());
+        Engine engine = engine(compiled);
+        Template template = engine.parse(BOOKS, null, "books");
+
+        assertEquals("Alpha:10 available,Beta:20,",
+                template.data("books", List.of(new Book("Alpha", 10, true), new Book("Beta", 20, false))).render());
+        assertEquals("No books", template.data("books", List.of()).render());
+        assertEquals(2, compiled.rendered.get());
+    }
+
+    @Test
+    public void testParameters() throws Exception {
+        String content = "{book.title}{#if book.available}!{#else}?{/if} {count}";
+        CountingCompiledTemplate compiled = compile("params", content,
+                Map.of("book", Book.class.getName(), "count", "int"));
+        Template template = engine(compiled).parse(content, null, "params");
+
+        assertEquals("Alpha! 1", template.data("book", new Book("Alpha", 10, true)).data("count", 1).render());
+        assertEquals(1, compiled.rendered.get());
+    }
+
+    @Test
+    public void testModifiedTemplate() throws Exception {
+        CountingCompiledTemplate compiled = compile("modified", BOOKS, Map.of());
+        Template template = engine(compiled).parse(BOOKS + "!", null, "modified");
+
+        assertEquals("Alpha:10 available,!", template.data("books", List.of(new Book("Alpha", 10, true))).render());
+        assertEquals(0, compiled.rendered.get());
+    }
+
+    @Test
+    public void testNotCompilable() {
+        assertNull(generator.generate("let", Engine.builder().addDefaults().build()
+                .parse("{@io.quarkus.qute.generator.Book book}{#let title=book.title}{title}{/let}").getNodes(), Map.of()));
+        assertNull(generator.generate("undeclared", Engine.builder().addDefaults().build()
+                .parse("{book.title}").getNodes(), Map.of()));
+    }
+
+    private static CountingCompiledTemplate compile(String id, String content, Map<String, String> parameters)
+            throws Exception {
+        String generatedClass = generator.generate(id, engine(null).parse(content, null, id).getNodes(), parameters);
+        assertNotNull(generatedClass);
+        return new CountingCompiledTemplate((CompiledTemplate) CompiledTemplateGeneratorTest.class.getClassLoader()
+                .loadClass(generatedClass).getDeclaredConstructor().newInstance());
+    }
+
+    private static Engine engine(CompiledTemplate compiled) {
+        var builder = Engine.builder().addDefaults().addValueResolver(new ReflectionValueResolver());
+        if (compiled != null) {
+            builder.addCompiledTemplate(compiled);
+        }
+        return builder.build();
+    }
+
+    static class CountingCompiledTemplate implements CompiledTemplate {
+
+        final CompiledTemplate delegate;
+        final AtomicInteger rendered = new AtomicInteger();
+
+        CountingCompiledTemplate(CompiledTemplate delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public String getTemplateId() {
+            return delegate.getTemplateId();
+        }
+
+        @Override
+        public long getFingerprint() {
+            return delegate.getFingerprint();
+        }
+
+        @Override
+        public boolean render(Output output) {
+            if (delegate.render(output)) {
+                rendered.incrementAndGet();
+                return true;
+            }
+            return false;
+        }
+    }
+
+}
@@ -62,6 +62,35 @@ public class QuarkusRestClientProperties {
      */
     public static final String NAME = "io.quarkus.rest.client.name";
 
+    /**
+     * Set to true to share the connection pools with the other REST clients that use the same connection options,
+     * e.g. timeouts, TLS and proxy settings. The connections to a given host are then pooled once for all these clients.
+     * Ignored if {@link #SHARED} is set, if HTTP/3 is used or if a custom redirect handler is registered.
+     */
+    public static final String SHARED_CONNECTION_POOL = "io.quarkus.rest.client.shared-connection-pool";
+
+    /**
+     * Set to true to hedge the idempotent requests sent to a Stork service: if no response is received after a delay
+     * derived from the observed latencies, the request is also sent to another instance of the service and the slowest
+     * request is cancelled.
+     */
+    public static final String HEDGING_ENABLED = "io.quarkus.rest.client.hedging.enabled";
+
+    /**
+     * The percentile of the observed latencies after which a request is hedged, 95 by default.
+     */
+    public static final String HEDGING_PERCENTILE = "io.quarkus.rest.client.hedging.percentile";
+
+    /**
+     * The minimum delay, in milliseconds, after which a request is hedged.
+     */
+    public static final String HEDGING_MIN_DELAY = "io.quarkus.rest.client.hedging.min-delay";
+
+    /**
+     * The maximum ratio of hedged requests to the requests sent, 0.1 by default.
+     */
+    public static final String HEDGING_BUDGET = "io.quarkus.rest.client.hedging.budget";
+
     /**
      * Set to true to prevent the client from providing additional contextual information (REST client class and method names)
      * when exception happens during a client invocation.
@@ -75,6 +104,12 @@ public class QuarkusRestClientProperties {
      */
     public static final String HTTP2 = "io.quarkus.rest.client.http2";
 
+    /**
+     * The maximum number of concurrent HTTP/2 streams opened on a single connection. By default, the limit advertised by
+     * the server is used.
+     */
+    public static final String HTTP2_MAX_CONCURRENT_STREAMS = "io.quarkus.rest.client.http2-max-concurrent-streams";
+
     /**
      * Configures the HTTP/2 upgrade maximum length of the aggregated content in bytes.
      */
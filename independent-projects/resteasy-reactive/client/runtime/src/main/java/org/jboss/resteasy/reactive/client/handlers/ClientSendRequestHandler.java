@@ -6,8 +6,10 @@
 import java.io.InputStream;
 import java.net.MalformedURLException;
 import java.net.URI;
+import java.net.URISyntaxException;
 import java.net.URL;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -30,7 +32,9 @@
 import org.jboss.resteasy.reactive.client.api.LoggingScope;
 import org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties;
 import org.jboss.resteasy.reactive.client.impl.AsyncInvokerImpl;
+import org.jboss.resteasy.reactive.client.impl.ConnectionPoolTracker;
 import org.jboss.resteasy.reactive.client.impl.InputStreamReadStream;
+import org.jboss.resteasy.reactive.client.impl.RequestHedging;
 import org.jboss.resteasy.reactive.client.impl.RestClientRequestContext;
 import org.jboss.resteasy.reactive.client.impl.multipart.PausableHttpPostRequestEncoder;
 import org.jboss.resteasy.reactive.client.impl.multipart.QuarkusMultipartForm;
@@ -50,6 +54,8 @@
 import io.smallrye.mutiny.Uni;
 import io.smallrye.mutiny.vertx.ReadStreamSubscriber;
 import io.smallrye.stork.api.ServiceInstance;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Context;
 import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import io.vertx.core.MultiMap;
@@ -236,6 +242,10 @@ public Buffer apply(Buffer buffer) {
                             clientLogger.logRequest(httpClientRequest, actualEntity, false);
                         }
                     }
+                    RequestHedging.StorkCall storkCall = requestContext.getStorkCall();
+                    if (storkCall != null) {
+                        sent = new HedgedRequest(requestContext, storkCall, httpClientRequest, actualEntity, sent).start();
+                    }
                     attachSentHandlers(sent, httpClientRequest, requestContext);
                 }
             }
@@ -512,8 +522,14 @@ private void reportFinish(Throwable throwable, RestClientRequestContext requestC
     }
 
     public Uni<HttpClientRequest> createRequest(RestClientRequestContext state) {
+        return createRequest(state, state.getUri());
+    }
+
+    private Uni<HttpClientRequest> createRequest(RestClientRequestContext state, URI uri) {
         HttpClient httpClient = state.getHttpClient();
-        URI uri = state.getUri();
+        ConnectionPoolTracker connectionPoolTracker = state.getRestClient() != null
+                ? state.getRestClient().getConnectionPoolTracker()
+                : null;
         Object readTimeout = state.getConfiguration().getProperty(QuarkusRestClientProperties.READ_TIMEOUT);
         Uni<RequestOptions> requestOptions;
         state.setMultipartResponsesData(multipartResponseDataMap);
@@ -563,6 +579,10 @@ public void accept(RequestOptions requestOptions) {
                 .onItem().transformToUni(new Function<RequestOptions, Uni<? extends HttpClientRequest>>() {
                     @Override
                     public Uni<? extends HttpClientRequest> apply(RequestOptions options) {
+                        if (connectionPoolTracker != null) {
+                            return AsyncResultUni.toUni(
+                                    handler -> connectionPoolTracker.request(httpClient, options).onComplete(handler));
+                        }
                         return AsyncResultUni.toUni(handler -> httpClient.request(options).onComplete(handler));
                     }
                 });
@@ -746,4 +766,243 @@ private void setEntityRelatedHeaders(MultivaluedMap<String, String> headerMap, E
             }
         }
     }
+
+    /**
+     * A request sent to an instance of a Stork service, that is sent to another instance if no response is received
+     * after the hedging delay. The first response wins and the other request is reset.
+     */
+    private final class HedgedRequest {
+
+        private final RestClientRequestContext requestContext;
+        private final RequestHedging hedging;
+        private final RequestHedging.StorkCall storkCall;
+        private final String serviceName;
+        private final HttpClientRequest primary;
+        private final Future<HttpClientResponse> primarySent;
+        private final Buffer entity;
+        private final long start = System.nanoTime();
+        private final Promise<HttpClientResponse> winner = Promise.promise();
+
+        private Vertx vertx;
+        private long timerId = -1;
+        // whether the winning response, or the failure, is known
+        private boolean decided;
+        private HttpClientRequest hedged;
+        private ServiceInstance hedgedInstance;
+        private URI hedgedUri;
+        private long hedgedStart;
+        // the number of requests that may still produce the response
+        private int pending = 1;
+        private Throwable failure;
+
+        HedgedRequest(RestClientRequestContext requestContext, RequestHedging.StorkCall storkCall,
+                HttpClientRequest primary, Buffer entity, Future<HttpClientResponse> primarySent) {
+            this.requestContext = requestContext;
+            this.hedging = requestContext.getRestClient().getRequestHedging();
+            this.storkCall = storkCall;
+            this.serviceName = storkCall.service().getServiceName();
+            this.primary = primary;
+            this.entity = entity;
+            this.primarySent = primarySent;
+        }
+
+        Future<HttpClientResponse> start() {
+            long delay = hedging.register(serviceName);
+            Context context = Vertx.currentContext();
+            if (delay < 0 || context == null) {
+                // not enough latencies have been observed yet to know when a request is slow
+                return primarySent.onSuccess(new Handler<>() {
+                    @Override
+                    public void handle(HttpClientResponse response) {
+                        hedging.recordLatency(serviceName, System.nanoTime() - start);
+                    }
+                });
+            }
+            vertx = context.owner();
+            timerId = vertx.setTimer(delay, new Handler<>() {
+                @Override
+                public void handle(Long id) {
+                    hedge();
+                }
+            });
+            primarySent.onComplete(new Handler<>() {
+                @Override
+                public void handle(AsyncResult<HttpClientResponse> ar) {
+                    if (ar.succeeded()) {
+                        onPrimaryResponse(ar.result());
+                    } else {
+                        onFailure(ar.cause(), true);
+                    }
+                }
+            });
+            return winner.future();
+        }
+
+        private void hedge() {
+            synchronized (this) {
+                timerId = -1;
+                if (decided || requestContext.isUserCanceled()) {
+                    return;
+                }
+                pending++;
+            }
+            storkCall.service().getInstances().subscribe().with(new Consumer<>() {
+                @Override
+                public void accept(List<ServiceInstance> instances) {
+                    List<ServiceInstance> others = new ArrayList<>(instances.size());
+                    for (ServiceInstance instance : instances) {
+                        if (instance.getId() != storkCall.instance().getId()) {
+                            others.add(instance);
+                        }
+                    }
+                    if (others.isEmpty() || !hedging.tryAcquire()) {
+                        onFailure(null, false);
+                        return;
+                    }
+                    ServiceInstance instance = storkCall.service().selectInstanceAndRecordStart(others, true);
+                    URI uri;
+                    try {
+                        uri = storkCall.resolve(instance);
+                    } catch (URISyntaxException e) {
+                        instance.recordEnd(e);
+                        onFailure(null, false);
+                        return;
+                    }
+                    createRequest(requestContext, uri).subscribe().with(new Consumer<>() {
+                        @Override
+                        public void accept(HttpClientRequest request) {
+                            send(request, instance, uri);
+                        }
+                    }, new Consumer<>() {
+                        @Override
+                        public void accept(Throwable t) {
+                            instance.recordEnd(t);
+                            onFailure(t, false);
+                        }
+                    });
+                }
+            }, new Consumer<>() {
+                @Override
+                public void accept(Throwable t) {
+                    onFailure(null, false);
+                }
+            });
+        }
+
+        private void send(HttpClientRequest request, ServiceInstance instance, URI uri) {
+            synchronized (this) {
+                if (decided) {
+                    // the primary request completed in the meantime
+                    instance.recordEnd(null);
+                    request.reset();
+                    return;
+                }
+                hedged = request;
+                hedgedInstance = instance;
+                hedgedUri = uri;
+                hedgedStart = System.nanoTime();
+            }
+            installRedirectRequestCustomizer(request, requestContext);
+            for (int i = 0; i < clientRequestCustomizers.size(); i++) {
+                clientRequestCustomizers.get(i).accept(request);
+            }
+            adaptRequest(request);
+            request.headers().setAll(primary.headers());
+            Future<HttpClientResponse> sent;
+            if (entity == AsyncInvokerImpl.EMPTY_BUFFER) {
+                sent = request.send();
+            } else {
+                sent = request.send(entity.copy());
+            }
+            if (loggingScope != LoggingScope.NONE) {
+                clientLogger.logRequest(request, entity == AsyncInvokerImpl.EMPTY_BUFFER ? null : entity, false);
+            }
+            sent.onComplete(new Handler<>() {
+                @Override
+                public void handle(AsyncResult<HttpClientResponse> ar) {
+                    if (ar.succeeded()) {
+                        onHedgedResponse(ar.result());
+                    } else {
+                        instance.recordEnd(ar.cause());
+                        onFailure(ar.cause(), false);
+                    }
+                }
+            });
+        }
+
+        private void onPrimaryResponse(HttpClientResponse response) {
+            HttpClientRequest loser;
+            ServiceInstance loserInstance;
+            synchronized (this) {
+                if (decided) {
+                    return;
+                }
+                decided = true;
+                if (timerId >= 0) {
+                    vertx.cancelTimer(timerId);
+                }
+                loser = hedged;
+                loserInstance = hedgedInstance;
+            }
+            hedging.recordLatency(serviceName, System.nanoTime() - start);
+            if (loser != null) {
+                // the hedged request was sent recently, its latency is not representative of the instance
+                loserInstance.recordEnd(null);
+                loser.reset();
+            }
+            winner.complete(response);
+        }
+
+        private void onHedgedResponse(HttpClientResponse response) {
+            synchronized (this) {
+                if (decided) {
+                    hedgedInstance.recordEnd(null);
+                    hedged.reset();
+                    return;
+                }
+                decided = true;
+            }
+            long now = System.nanoTime();
+            hedging.recordLatency(serviceName, now - hedgedStart);
+            // the latency of the primary request is at least the time waited so far; without this lower bound the slow
+            // requests would never be recorded once they are hedged, and the hedging delay would keep decreasing
+            hedging.recordLatency(serviceName, now - start);
+            // the primary instance is slow: record how long it has been waited for so that the load balancer avoids it
+            reportFinish(null, requestContext);
+            requestContext.setCallStatsCollector(hedgedInstance.gatherStatistics() ? hedgedInstance : null);
+            requestContext.setHttpClientRequest(hedged);
+            requestContext.setUri(hedgedUri);
+            primary.reset();
+            winner.complete(response);
+        }
+
+        private void onFailure(Throwable cause, boolean fromPrimary) {
+            Throwable result;
+            HttpClientRequest canceled = null;
+            synchronized (this) {
+                if (fromPrimary || failure == null) {
+                    failure = cause != null ? cause : failure;
+                }
+                if (fromPrimary && requestContext.isUserCanceled()) {
+                    // the user reset the primary request, the hedged request must be reset as well
+                    canceled = hedged;
+                }
+                if (--pending > 0 || decided) {
+                    result = null;
+                } else {
+                    decided = true;
+                    result = failure;
+                    if (timerId >= 0) {
+                        vertx.cancelTimer(timerId);
+                    }
+                }
+            }
+            if (canceled != null) {
+                canceled.reset();
+            }
+            if (result != null) {
+                winner.fail(result);
+            }
+        }
+    }
 }
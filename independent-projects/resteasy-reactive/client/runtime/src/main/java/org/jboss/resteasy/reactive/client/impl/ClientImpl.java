@@ -4,12 +4,18 @@
 import static org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties.CONNECTION_POOL_SIZE;
 import static org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties.CONNECTION_TTL;
 import static org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties.CONNECT_TIMEOUT;
+import static org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties.HEDGING_BUDGET;
+import static org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties.HEDGING_ENABLED;
+import static org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties.HEDGING_MIN_DELAY;
+import static org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties.HEDGING_PERCENTILE;
+import static org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties.HTTP2_MAX_CONCURRENT_STREAMS;
 import static org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties.KEEP_ALIVE_ENABLED;
 import static org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties.MAX_HEADER_SIZE;
 import static org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties.MAX_INITIAL_LINE_LENGTH;
 import static org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties.MAX_REDIRECTS;
 import static org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties.NAME;
 import static org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties.SHARED;
+import static org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties.SHARED_CONNECTION_POOL;
 
 import java.net.URI;
 import java.util.List;
@@ -95,6 +101,9 @@ public class ClientImpl implements Client {
     final ClientContext clientContext;
     final boolean closeVertx;
     final HttpClient httpClient;
+    final ConnectionPoolTracker connectionPoolTracker;
+    private final SharedConnectionPools.Lease sharedConnectionPool;
+    final RequestHedging requestHedging;
     final ConfigurationImpl configuration;
     final HostnameVerifier hostnameVerifier;
     final SSLContext sslContext;
@@ -196,6 +205,11 @@ public Vertx get() {
             options.setShared(true);
         }
 
+        Object http2MaxConcurrentStreams = configuration.getProperty(HTTP2_MAX_CONCURRENT_STREAMS);
+        if (http2MaxConcurrentStreams != null) {
+            options.setHttp2MultiplexingLimit((Integer) http2MaxConcurrentStreams);
+        }
+
         var poolOptions = new PoolOptions()
                 .setHttp1MaxSize((int) connectionPoolSize)
                 .setHttp2MaxSize((int) connectionPoolSize);
@@ -230,7 +244,33 @@ public Vertx get() {
             httpClientBuilder.withRedirectHandler(redirectFunction);
         }
 
-        httpClient = httpClientBuilder.build();
+        Object sharedConnectionPool = configuration.getProperty(SHARED_CONNECTION_POOL);
+        if (sharedConnectionPool != null && (boolean) sharedConnectionPool && !options.isShared() && !closeVertx
+                && !http3 && redirectFunction == null && SharedConnectionPools.isShareable(options)) {
+            this.sharedConnectionPool = SharedConnectionPools.acquire(this.vertx, options, poolOptions);
+            httpClient = this.sharedConnectionPool.httpClient();
+            connectionPoolTracker = this.sharedConnectionPool.tracker();
+        } else {
+            if (sharedConnectionPool != null && (boolean) sharedConnectionPool) {
+                log.debugf("The connection pool of the client '%s' cannot be shared", options.getMetricsName());
+            }
+            this.sharedConnectionPool = null;
+            httpClient = httpClientBuilder.build();
+            connectionPoolTracker = new ConnectionPoolTracker(poolName(options));
+        }
+
+        Object hedgingEnabled = configuration.getProperty(HEDGING_ENABLED);
+        if (hedgingEnabled != null && (boolean) hedgingEnabled) {
+            Object percentile = configuration.getProperty(HEDGING_PERCENTILE);
+            Object minDelay = configuration.getProperty(HEDGING_MIN_DELAY);
+            Object budget = configuration.getProperty(HEDGING_BUDGET);
+            requestHedging = new RequestHedging(
+                    percentile != null ? (double) percentile : RequestHedging.DEFAULT_PERCENTILE,
+                    minDelay != null ? (long) minDelay : 0,
+                    budget != null ? (double) budget : RequestHedging.DEFAULT_BUDGET);
+        } else {
+            requestHedging = null;
+        }
 
         handlerChain = new HandlerChain(options, isCaptureStacktrace(configuration),
                 followRedirects,
@@ -245,6 +285,24 @@ public HttpClient getVertxHttpClient() {
         return httpClient;
     }
 
+    public ConnectionPoolTracker getConnectionPoolTracker() {
+        return connectionPoolTracker;
+    }
+
+    public RequestHedging getRequestHedging() {
+        return requestHedging;
+    }
+
+    private static String poolName(HttpClientOptions options) {
+        String metricsName = options.getMetricsName();
+        if (metricsName == null || metricsName.isEmpty()) {
+            return options.getName();
+        }
+        // the REST clients are named "rest-client|<config key>" in the Vert.x metrics
+        int separator = metricsName.indexOf('|');
+        return separator >= 0 ? metricsName.substring(separator + 1) : metricsName;
+    }
+
     private boolean isCaptureStacktrace(ConfigurationImpl configuration) {
         Object captureStacktraceObj = configuration.getProperty(CAPTURE_STACKTRACE);
         if (captureStacktraceObj == null) {
@@ -262,7 +320,12 @@ public void close() {
         if (isClosed)
             return;
         isClosed = true;
-        httpClient.close();
+        if (sharedConnectionPool != null) {
+            SharedConnectionPools.release(sharedConnectionPool);
+        } else {
+            connectionPoolTracker.close();
+            httpClient.close();
+        }
         if (closeVertx) {
             vertx.close();
         }
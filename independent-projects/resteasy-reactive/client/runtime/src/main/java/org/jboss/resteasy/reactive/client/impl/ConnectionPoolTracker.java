@@ -0,0 +1,197 @@
+package org.jboss.resteasy.reactive.client.impl;
+
+import java.lang.ref.Cleaner;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jboss.resteasy.reactive.client.spi.ClientConnectionPool;
+import org.jboss.resteasy.reactive.client.spi.ClientConnectionPoolObserver;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.http.HttpClient;
+import io.vertx.core.http.HttpClientRequest;
+import io.vertx.core.http.HttpClientResponse;
+import io.vertx.core.http.RequestOptions;
+
+/**
+ * Tracks the requests waiting for and holding a connection of an {@link HttpClient}, per authority.
+ * <p>
+ * Vert.x pools the connections of a client per authority, so a tracker is shared by all the REST clients that share the
+ * underlying {@link HttpClient}.
+ * <p>
+ * The trackers are only weakly referenced, so that the tracker of a client that is never closed can be garbage collected.
+ * The observers are then notified that its pools are closed, like if the client was closed.
+ */
+public final class ConnectionPoolTracker {
+
+    private static final List<ClientConnectionPoolObserver> OBSERVERS = new CopyOnWriteArrayList<>();
+    private static final Set<ConnectionPoolTracker> TRACKERS = Collections
+            .synchronizedSet(Collections.newSetFromMap(new WeakHashMap<>()));
+    private static final Cleaner CLEANER = Cleaner.create();
+
+    private final String name;
+    private final ConcurrentMap<String, Pool> pools = new ConcurrentHashMap<>();
+    private final Cleaner.Cleanable cleanable;
+
+    public ConnectionPoolTracker(String name) {
+        this.name = name;
+        this.cleanable = CLEANER.register(this, new PoolsCloser(pools));
+        TRACKERS.add(this);
+    }
+
+    /**
+     * Registers the given observer and notifies it of the pools that already exist. A pool created concurrently may be
+     * reported twice, so {@link ClientConnectionPoolObserver#poolCreated(ClientConnectionPool)} must be idempotent.
+     */
+    public static void addObserver(ClientConnectionPoolObserver observer) {
+        OBSERVERS.add(observer);
+        List<ConnectionPoolTracker> trackers;
+        synchronized (TRACKERS) {
+            trackers = new ArrayList<>(TRACKERS);
+        }
+        for (ConnectionPoolTracker tracker : trackers) {
+            for (Pool pool : tracker.pools.values()) {
+                observer.poolCreated(pool);
+            }
+        }
+    }
+
+    public static void removeObserver(ClientConnectionPoolObserver observer) {
+        OBSERVERS.remove(observer);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Obtains a request from the given client, tracking the time spent waiting for the connection and the lifetime of the
+     * stream if there is an observer.
+     */
+    public Future<HttpClientRequest> request(HttpClient httpClient, RequestOptions options) {
+        if (OBSERVERS.isEmpty()) {
+            return httpClient.request(options);
+        }
+        Pool pool = pools.computeIfAbsent(authority(options), this::createPool);
+        pool.queued.incrementAndGet();
+        long start = System.nanoTime();
+        Future<HttpClientRequest> request = httpClient.request(options);
+        request.onComplete(new Handler<AsyncResult<HttpClientRequest>>() {
+            @Override
+            public void handle(AsyncResult<HttpClientRequest> ar) {
+                pool.queued.decrementAndGet();
+                if (ar.succeeded()) {
+                    pool.active.incrementAndGet();
+                    long duration = System.nanoTime() - start;
+                    for (ClientConnectionPoolObserver observer : OBSERVERS) {
+                        observer.streamAcquired(pool, duration);
+                    }
+                    ar.result().response().onComplete(new Handler<AsyncResult<HttpClientResponse>>() {
+                        @Override
+                        public void handle(AsyncResult<HttpClientResponse> response) {
+                            if (response.failed()) {
+                                pool.active.decrementAndGet();
+                            } else {
+                                // the stream is released once the response is fully read
+                                response.result().end().onComplete(new Handler<AsyncResult<Void>>() {
+                                    @Override
+                                    public void handle(AsyncResult<Void> end) {
+                                        pool.active.decrementAndGet();
+                                    }
+                                });
+                            }
+                        }
+                    });
+                }
+            }
+        });
+        return request;
+    }
+
+    /**
+     * Notifies the observers that the pools are closed.
+     */
+    public void close() {
+        TRACKERS.remove(this);
+        cleanable.clean();
+    }
+
+    private Pool createPool(String authority) {
+        Pool pool = new Pool(name, authority);
+        for (ClientConnectionPoolObserver observer : OBSERVERS) {
+            observer.poolCreated(pool);
+        }
+        return pool;
+    }
+
+    private static String authority(RequestOptions options) {
+        if (options.getServer() != null) {
+            return options.getServer().toString();
+        }
+        return options.getHost() + ":" + options.getPort();
+    }
+
+    /**
+     * Must not reference the tracker, otherwise the tracker would never become phantom reachable.
+     */
+    private static final class PoolsCloser implements Runnable {
+
+        private final ConcurrentMap<String, Pool> pools;
+
+        PoolsCloser(ConcurrentMap<String, Pool> pools) {
+            this.pools = pools;
+        }
+
+        @Override
+        public void run() {
+            for (Pool pool : pools.values()) {
+                for (ClientConnectionPoolObserver observer : OBSERVERS) {
+                    observer.poolClosed(pool);
+                }
+            }
+            pools.clear();
+        }
+    }
+
+    private static final class Pool implements ClientConnectionPool {
+
+        private final String name;
+        private final String authority;
+        private final AtomicInteger queued = new AtomicInteger();
+        private final AtomicInteger active = new AtomicInteger();
+
+        Pool(String name, String authority) {
+            this.name = name;
+            this.authority = authority;
+        }
+
+        @Override
+        public String name() {
+            return name;
+        }
+
+        @Override
+        public String authority() {
+            return authority;
+        }
+
+        @Override
+        public int queueDepth() {
+            return queued.get();
+        }
+
+        @Override
+        public int activeStreams() {
+            return active.get();
+        }
+    }
+}
@@ -0,0 +1,212 @@
+package org.jboss.resteasy.reactive.client.impl;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import io.smallrye.stork.api.Service;
+import io.smallrye.stork.api.ServiceInstance;
+
+/**
+ * The request hedging state of a client: the latencies observed per Stork service, from which the delay after which a
+ * request is hedged is derived, and the budget that limits the number of hedged requests.
+ * <p>
+ * Every request sent to a service adds a fraction of a token to the budget and every hedged request consumes a whole
+ * token, so that hedging cannot amplify the load beyond the configured ratio when the service slows down.
+ */
+public final class RequestHedging {
+
+    public static final double DEFAULT_PERCENTILE = 95;
+    public static final double DEFAULT_BUDGET = 0.1;
+
+    // no request is hedged until enough latencies have been observed
+    static final int MIN_SAMPLES = 100;
+
+    private static final long TOKEN = 1000;
+    // the budget left unused while the service is fast is capped to avoid bursts of hedged requests
+    private static final long MAX_TOKENS = 10 * TOKEN;
+
+    private final double percentile;
+    private final long minDelayMillis;
+    private final long deposit;
+    private final AtomicLong tokens = new AtomicLong();
+    private final Map<String, LatencyHistogram> latencies = new ConcurrentHashMap<>();
+
+    public RequestHedging(double percentile, long minDelayMillis, double budget) {
+        if (percentile <= 0 || percentile >= 100) {
+            throw new IllegalArgumentException("The hedging percentile must be between 0 and 100, got " + percentile);
+        }
+        if (budget < 0 || budget > 1) {
+            throw new IllegalArgumentException("The hedging budget must be between 0 and 1, got " + budget);
+        }
+        this.percentile = percentile;
+        this.minDelayMillis = Math.max(1, minDelayMillis);
+        this.deposit = Math.round(budget * TOKEN);
+    }
+
+    public static boolean isIdempotent(String httpMethod) {
+        switch (httpMethod) {
+            case "GET":
+            case "HEAD":
+            case "OPTIONS":
+            case "PUT":
+            case "DELETE":
+            case "TRACE":
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Registers a request sent to the given service.
+     *
+     * @return the delay in milliseconds after which the request should be hedged, or {@code -1} if not enough latencies
+     *         have been observed yet
+     */
+    public long register(String serviceName) {
+        tokens.getAndUpdate(t -> Math.min(MAX_TOKENS, t + deposit));
+        long micros = histogram(serviceName).percentile();
+        if (micros < 0) {
+            return -1;
+        }
+        return Math.max(minDelayMillis, TimeUnit.MICROSECONDS.toMillis(micros) + 1);
+    }
+
+    /**
+     * @return whether the budget allows another request to be hedged
+     */
+    public boolean tryAcquire() {
+        long current;
+        do {
+            current = tokens.get();
+            if (current < TOKEN) {
+                return false;
+            }
+        } while (!tokens.compareAndSet(current, current - TOKEN));
+        return true;
+    }
+
+    public void recordLatency(String serviceName, long durationNanos) {
+        histogram(serviceName).record(TimeUnit.NANOSECONDS.toMicros(durationNanos));
+    }
+
+    private LatencyHistogram histogram(String serviceName) {
+        LatencyHistogram histogram = latencies.get(serviceName);
+        if (histogram == null) {
+            histogram = latencies.computeIfAbsent(serviceName, s -> new LatencyHistogram(percentile));
+        }
+        return histogram;
+    }
+
+    /**
+     * The Stork service a request is sent to, and the instance that was selected for it.
+     *
+     * @param service the service
+     * @param serviceUri the {@code stork://} URI of the request
+     * @param instance the selected instance
+     */
+    public record StorkCall(Service service, URI serviceUri, ServiceInstance instance) {
+
+        /**
+         * @return the URI of the request sent to the given instance
+         */
+        public URI resolve(ServiceInstance other) throws URISyntaxException {
+            return StorkClientRequestFilter.resolve(serviceUri, other);
+        }
+    }
+
+    /**
+     * A histogram of latencies with buckets of exponentially growing size, that keeps a relative error below 12.5%.
+     * The counts are halved periodically so that the percentile follows the recent latencies.
+     */
+    static final class LatencyHistogram {
+
+        private static final int SUB_BUCKET_BITS = 3;
+        private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+        private static final int BUCKETS = (Long.SIZE - SUB_BUCKET_BITS + 1) << SUB_BUCKET_BITS;
+        // the percentile is computed again every UPDATE_INTERVAL samples
+        private static final int UPDATE_INTERVAL = 64;
+        private static final int DECAY_SAMPLES = 4096;
+
+        private final double percentile;
+        private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+        private final AtomicLong samples = new AtomicLong();
+        private volatile long value = -1;
+
+        LatencyHistogram(double percentile) {
+            this.percentile = percentile;
+        }
+
+        void record(long micros) {
+            counts.incrementAndGet(index(Math.max(0, micros)));
+            long n = samples.incrementAndGet();
+            if (n % UPDATE_INTERVAL == 0) {
+                update(n);
+            }
+        }
+
+        /**
+         * @return the upper bound of the configured percentile in microseconds, or {@code -1} if not enough latencies
+         *         have been observed yet
+         */
+        long percentile() {
+            return value;
+        }
+
+        private void update(long n) {
+            if (n >= MIN_SAMPLES) {
+                long[] snapshot = new long[BUCKETS];
+                long total = 0;
+                for (int i = 0; i < BUCKETS; i++) {
+                    snapshot[i] = counts.get(i);
+                    total += snapshot[i];
+                }
+                long rank = (long) Math.ceil(total * percentile / 100);
+                long seen = 0;
+                for (int i = 0; i < BUCKETS; i++) {
+                    seen += snapshot[i];
+                    if (seen >= rank) {
+                        value = upperBound(i);
+                        break;
+                    }
+                }
+            }
+            if (n >= DECAY_SAMPLES) {
+                long removed = 0;
+                for (int i = 0; i < BUCKETS; i++) {
+                    long count = counts.get(i);
+                    if (count > 0) {
+                        long half = count >> 1;
+                        counts.addAndGet(i, -half);
+                        removed += half;
+                    }
+                }
+                samples.addAndGet(-removed);
+            }
+        }
+
+        static int index(long value) {
+            if (value < SUB_BUCKETS) {
+                return (int) value;
+            }
+            int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+            int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+            return ((exponent - SUB_BUCKET_BITS + 1) << SUB_BUCKET_BITS) + subBucket;
+        }
+
+        static long upperBound(int index) {
+            if (index < SUB_BUCKETS) {
+                return index;
+            }
+            int exponent = (index >>> SUB_BUCKET_BITS) + SUB_BUCKET_BITS - 1;
+            int shift = exponent - SUB_BUCKET_BITS;
+            long lowerBound = (long) (SUB_BUCKETS + (index & (SUB_BUCKETS - 1))) << shift;
+            return lowerBound + (1L << shift) - 1;
+        }
+    }
+}
@@ -111,6 +111,7 @@ public class RestClientRequestContext extends AbstractResteasyReactiveContext<Re
     private List<InterfaceHttpData> responseMultiParts;
     private Response abortedWith;
     private ServiceInstance callStatsCollector;
+    private RequestHedging.StorkCall storkCall;
     private Map<Class<?>, MultipartResponseData> multipartResponsesData;
     private StackTraceElement[] callerStackTrace;
 
@@ -629,6 +630,14 @@ public ServiceInstance getCallStatsCollector() {
         return callStatsCollector;
     }
 
+    public void setStorkCall(RequestHedging.StorkCall storkCall) {
+        this.storkCall = storkCall;
+    }
+
+    public RequestHedging.StorkCall getStorkCall() {
+        return storkCall;
+    }
+
     public Map<Class<?>, MultipartResponseData> getMultipartResponsesData() {
         return multipartResponsesData;
     }
@@ -0,0 +1,134 @@
+package org.jboss.resteasy.reactive.client.impl;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jboss.logging.Logger;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpClient;
+import io.vertx.core.http.HttpClientOptions;
+import io.vertx.core.http.PoolOptions;
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.net.KeyCertOptions;
+import io.vertx.core.net.KeyStoreOptionsBase;
+import io.vertx.core.net.PemKeyCertOptions;
+import io.vertx.core.net.PemTrustOptions;
+import io.vertx.core.net.TrustOptions;
+
+/**
+ * The {@link HttpClient}s shared by the REST clients that use the same connection options.
+ * <p>
+ * Vert.x pools the connections of a client per authority, so sharing the client among the REST clients that target the
+ * same host means that they share the connections to that host.
+ */
+final class SharedConnectionPools {
+
+    private static final Logger log = Logger.getLogger(SharedConnectionPools.class);
+
+    private static final String METRICS_NAME_PREFIX = "rest-client|";
+
+    private static final AtomicInteger COUNTER = new AtomicInteger();
+    private static final Map<Key, Entry> ENTRIES = new HashMap<>();
+
+    private SharedConnectionPools() {
+    }
+
+    /**
+     * @return whether the connection options can be compared to find the clients that can share their pools
+     */
+    static boolean isShareable(HttpClientOptions options) {
+        // the custom key/trust options, e.g. wrapping an existing key manager, are not part of the JSON representation
+        KeyCertOptions keyCertOptions = options.getKeyCertOptions();
+        TrustOptions trustOptions = options.getTrustOptions();
+        return (keyCertOptions == null || keyCertOptions instanceof KeyStoreOptionsBase
+                || keyCertOptions instanceof PemKeyCertOptions)
+                && (trustOptions == null || trustOptions instanceof KeyStoreOptionsBase
+                        || trustOptions instanceof PemTrustOptions);
+    }
+
+    /**
+     * Returns the client shared by the REST clients with the same options, creating it if needed. Each call must be
+     * matched by a call to {@link #release(Lease)}.
+     */
+    static Lease acquire(Vertx vertx, HttpClientOptions options, PoolOptions poolOptions) {
+        JsonObject json = options.toJson();
+        // the names only identify the client in the metrics and logs
+        json.remove("metricsName");
+        json.remove("name");
+        Key key = new Key(vertx, json.encode() + poolOptions.toJson().encode());
+        synchronized (ENTRIES) {
+            Entry entry = ENTRIES.get(key);
+            if (entry == null) {
+                String name = "shared-" + COUNTER.incrementAndGet();
+                HttpClientOptions sharedOptions = new HttpClientOptions(options)
+                        .setMetricsName(METRICS_NAME_PREFIX + name);
+                HttpClient httpClient = vertx.httpClientBuilder().with(sharedOptions).with(poolOptions).build();
+                entry = new Entry(key, httpClient, new ConnectionPoolTracker(name));
+                ENTRIES.put(key, entry);
+                log.debugf("Created the shared connection pool '%s'", name);
+            }
+            entry.references++;
+            return new Lease(entry);
+        }
+    }
+
+    static void release(Lease lease) {
+        Entry entry = lease.entry;
+        synchronized (ENTRIES) {
+            if (--entry.references > 0) {
+                return;
+            }
+            ENTRIES.remove(entry.key);
+        }
+        log.debugf("Closing the shared connection pool '%s'", entry.tracker.getName());
+        entry.tracker.close();
+        entry.httpClient.close();
+    }
+
+    static final class Lease {
+
+        private final Entry entry;
+
+        private Lease(Entry entry) {
+            this.entry = entry;
+        }
+
+        HttpClient httpClient() {
+            return entry.httpClient;
+        }
+
+        ConnectionPoolTracker tracker() {
+            return entry.tracker;
+        }
+    }
+
+    private static final class Entry {
+
+        final Key key;
+        final HttpClient httpClient;
+        final ConnectionPoolTracker tracker;
+        int references;
+
+        Entry(Key key, HttpClient httpClient, ConnectionPoolTracker tracker) {
+            this.key = key;
+            this.httpClient = httpClient;
+            this.tracker = tracker;
+        }
+    }
+
+    private record Key(Vertx vertx, String options) {
+
+        @Override
+        public boolean equals(Object obj) {
+            // Vert.x instances are compared by identity
+            return obj instanceof Key other && vertx == other.vertx && options.equals(other.options);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * System.identityHashCode(vertx) + options.hashCode();
+        }
+    }
+}
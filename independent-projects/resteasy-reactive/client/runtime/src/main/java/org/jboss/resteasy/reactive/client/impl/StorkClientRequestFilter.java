@@ -16,6 +16,8 @@
 
 import io.smallrye.mutiny.Multi;
 import io.smallrye.stork.Stork;
+import io.smallrye.stork.api.Service;
+import io.smallrye.stork.api.ServiceInstance;
 
 @Priority(Priorities.AUTHENTICATION)
 @Provider
@@ -51,51 +53,19 @@ public void filter(ResteasyReactiveClientRequestContext requestContext) {
             requestContext.suspend();
             boolean measureTime = shouldMeasureTime(requestContext.getResponseType());
             try {
-                stork.getService(serviceName)
-                        .selectInstanceAndRecordStart(measureTime)
+                Service service = stork.getService(serviceName);
+                service.selectInstanceAndRecordStart(measureTime)
                         .subscribe()
                         .with(instance -> {
-                            boolean isHttps = instance.isSecure() || "storks".equals(uri.getScheme());
-                            String scheme = isHttps ? "https" : "http";
                             try {
-                                // In the case the service instance does not set the host and/or port
-                                String host = instance.getHost() == null ? "localhost" : instance.getHost();
-                                int port = instance.getPort();
-                                if (instance.getPort() == 0) {
-                                    if (isHttps) {
-                                        port = 433;
-                                    } else {
-                                        port = 80;
-                                    }
-                                }
-                                // Service instance can also contain an optional path.
-                                Optional<String> path = instance.getPath();
-                                String actualPath = uri.getRawPath();
-                                if (path.isPresent()) {
-                                    var p = path.get();
-                                    if (!p.startsWith("/")) {
-                                        p = "/" + p;
-                                    }
-                                    if (actualPath == null) {
-                                        actualPath = p;
-                                    } else {
-                                        // Append both.
-                                        if (actualPath.startsWith("/") || p.endsWith("/")) {
-                                            actualPath = p + actualPath;
-                                        } else {
-                                            actualPath = p + "/" + actualPath;
-                                        }
-                                    }
-                                }
-                                //To avoid the path double encoding we create uri with path=null and set the path after
-                                URI newUri = new URI(scheme,
-                                        uri.getUserInfo(), host, port,
-                                        null, null, uri.getFragment());
-                                URI build = UriBuilder.fromUri(newUri).path(actualPath).replaceQuery(uri.getRawQuery()).build();
-                                requestContext.setUri(build);
+                                requestContext.setUri(resolve(uri, instance));
                                 if (measureTime && instance.gatherStatistics()) {
                                     requestContext.setCallStatsCollector(instance);
                                 }
+                                if (measureTime && isHedgingEnabled(requestContext)) {
+                                    requestContext.unwrap(RestClientRequestContext.class)
+                                            .setStorkCall(new RequestHedging.StorkCall(service, uri, instance));
+                                }
                                 requestContext.resume();
                             } catch (URISyntaxException e) {
                                 requestContext.resume(new IllegalArgumentException("Invalid URI", e));
@@ -110,6 +80,55 @@ public void filter(ResteasyReactiveClientRequestContext requestContext) {
 
     }
 
+    /**
+     * Builds the URI of the request sent to the given instance of the service targeted by the {@code stork://} URI.
+     */
+    static URI resolve(URI uri, ServiceInstance instance) throws URISyntaxException {
+        boolean isHttps = instance.isSecure() || "storks".equals(uri.getScheme());
+        String scheme = isHttps ? "https" : "http";
+        // In the case the service instance does not set the host and/or port
+        String host = instance.getHost() == null ? "localhost" : instance.getHost();
+        int port = instance.getPort();
+        if (instance.getPort() == 0) {
+            if (isHttps) {
+                port = 433;
+            } else {
+                port = 80;
+            }
+        }
+        // Service instance can also contain an optional path.
+        Optional<String> path = instance.getPath();
+        String actualPath = uri.getRawPath();
+        if (path.isPresent()) {
+            var p = path.get();
+            if (!p.startsWith("/")) {
+                p = "/" + p;
+            }
+            if (actualPath == null) {
+                actualPath = p;
+            } else {
+                // Append both.
+                if (actualPath.startsWith("/") || p.endsWith("/")) {
+                    actualPath = p + actualPath;
+                } else {
+                    actualPath = p + "/" + actualPath;
+                }
+            }
+        }
+        //To avoid the path double encoding we create uri with path=null and set the path after
+        URI newUri = new URI(scheme,
+                uri.getUserInfo(), host, port,
+                null, null, uri.getFragment());
+        return UriBuilder.fromUri(newUri).path(actualPath).replaceQuery(uri.getRawQuery()).build();
+    }
+
+    private boolean isHedgingEnabled(ResteasyReactiveClientRequestContext requestContext) {
+        RestClientRequestContext restClientRequestContext = requestContext.unwrap(RestClientRequestContext.class);
+        return restClientRequestContext != null && restClientRequestContext.getRestClient() != null
+                && restClientRequestContext.getRestClient().getRequestHedging() != null
+                && RequestHedging.isIdempotent(requestContext.getMethod());
+    }
+
     private boolean shouldMeasureTime(GenericType<?> responseType) {
         return !Multi.class.equals(responseType.getRawType());
     }
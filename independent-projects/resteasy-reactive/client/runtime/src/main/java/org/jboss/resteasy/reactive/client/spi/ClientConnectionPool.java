@@ -0,0 +1,28 @@
+package org.jboss.resteasy.reactive.client.spi;
+
+/**
+ * The connections opened to a given authority by one or more REST clients.
+ */
+public interface ClientConnectionPool {
+
+    /**
+     * @return the name of the pool, the clients that share their connection pools use the same name
+     */
+    String name();
+
+    /**
+     * @return the {@code host:port} the connections are opened to
+     */
+    String authority();
+
+    /**
+     * @return the number of requests waiting for a connection or an HTTP/2 stream
+     */
+    int queueDepth();
+
+    /**
+     * @return the number of requests holding a connection or an HTTP/2 stream
+     */
+    int activeStreams();
+
+}
@@ -0,0 +1,31 @@
+package org.jboss.resteasy.reactive.client.spi;
+
+import org.jboss.resteasy.reactive.client.impl.ConnectionPoolTracker;
+
+/**
+ * Observes the connection pools of the REST clients, e.g. to expose metrics.
+ * <p>
+ * The connection pools are only tracked when at least one observer is registered with
+ * {@link ConnectionPoolTracker#addObserver(ClientConnectionPoolObserver)}.
+ */
+public interface ClientConnectionPoolObserver {
+
+    /**
+     * Called when the first request is sent to an authority through a pool, and for the existing pools when the observer
+     * is registered. Several pools may have the same name and authority, and the same pool may be reported more than once.
+     */
+    void poolCreated(ClientConnectionPool pool);
+
+    /**
+     * Called when a request obtained a connection or an HTTP/2 stream.
+     *
+     * @param durationNanos the time the request waited for the connection or stream
+     */
+    void streamAcquired(ClientConnectionPool pool, long durationNanos);
+
+    /**
+     * Called when the last client using the pool is closed.
+     */
+    void poolClosed(ClientConnectionPool pool);
+
+}
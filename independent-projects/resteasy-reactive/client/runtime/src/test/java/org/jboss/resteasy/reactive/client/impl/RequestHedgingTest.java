@@ -0,0 +1,84 @@
+package org.jboss.resteasy.reactive.client.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+class RequestHedgingTest {
+
+    @Test
+    void testHistogramBuckets() {
+        for (long value : new long[] { 0, 1, 7, 8, 15, 16, 17, 100, 1_000, 123_456_789, Long.MAX_VALUE }) {
+            int index = RequestHedging.LatencyHistogram.index(value);
+            long upperBound = RequestHedging.LatencyHistogram.upperBound(index);
+            assertTrue(upperBound >= value, value + " > " + upperBound);
+            assertTrue(upperBound - value <= value / 8, "Relative error too high for " + value);
+            if (index > 0) {
+                assertTrue(RequestHedging.LatencyHistogram.upperBound(index - 1) < value);
+            }
+        }
+    }
+
+    @Test
+    void testDelay() {
+        RequestHedging hedging = new RequestHedging(90, 1, 0.1);
+        // not enough latencies observed yet
+        assertEquals(-1, hedging.register("service"));
+        for (int i = 0; i < 1000; i++) {
+            hedging.recordLatency("service", TimeUnit.MILLISECONDS.toNanos(i < 900 ? 10 : 500));
+        }
+        long delay = hedging.register("service");
+        assertTrue(delay >= 10 && delay <= 12, "Unexpected delay " + delay);
+        // the latencies are tracked per service
+        assertEquals(-1, hedging.register("other"));
+    }
+
+    @Test
+    void testMinDelay() {
+        RequestHedging hedging = new RequestHedging(50, 100, 0.1);
+        for (int i = 0; i < 1000; i++) {
+            hedging.recordLatency("service", TimeUnit.MILLISECONDS.toNanos(1));
+        }
+        assertEquals(100, hedging.register("service"));
+    }
+
+    @Test
+    void testBudget() {
+        RequestHedging hedging = new RequestHedging(95, 1, 0.25);
+        assertFalse(hedging.tryAcquire());
+        for (int i = 0; i < 8; i++) {
+            hedging.register("service");
+        }
+        assertTrue(hedging.tryAcquire());
+        assertTrue(hedging.tryAcquire());
+        assertFalse(hedging.tryAcquire());
+        // the unused budget is capped
+        for (int i = 0; i < 1000; i++) {
+            hedging.register("service");
+        }
+        int acquired = 0;
+        while (hedging.tryAcquire()) {
+            acquired++;
+        }
+        assertEquals(10, acquired);
+    }
+
+    @Test
+    void testInvalidConfiguration() {
+        assertThrows(IllegalArgumentException.class, () -> new RequestHedging(100, 1, 0.1));
+        assertThrows(IllegalArgumentException.class, () -> new RequestHedging(95, 1, 2));
+    }
+
+    @Test
+    void testIdempotentMethods() {
+        assertTrue(RequestHedging.isIdempotent("GET"));
+        assertTrue(RequestHedging.isIdempotent("PUT"));
+        assertFalse(RequestHedging.isIdempotent("POST"));
+        assertFalse(RequestHedging.isIdempotent("PATCH"));
+    }
+}
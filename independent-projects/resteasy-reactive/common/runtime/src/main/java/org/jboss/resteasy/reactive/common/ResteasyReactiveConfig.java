@@ -39,6 +39,19 @@ public class ResteasyReactiveConfig {
      */
     private boolean defaultProduces;
 
+    /**
+     * The amount of serialized elements of a {@code Multi} streamed as a JSON array that are buffered before being
+     * written to the response.
+     */
+    private int streamingFlushThreshold = 8192;
+
+    /**
+     * How long, in milliseconds, the serialized elements of a {@code Multi} streamed as a JSON array can be buffered
+     * while waiting for more elements. With {@code 0}, they are written as soon as the {@code Multi} stops emitting
+     * elements.
+     */
+    private long streamingFlushInterval;
+
     // we need this (and the setters) due to Bytecode Recording
     public ResteasyReactiveConfig() {
     }
@@ -52,6 +65,13 @@ public ResteasyReactiveConfig(long inputBufferSize, int minChunkSize, int output
         this.defaultProduces = defaultProduces;
     }
 
+    public ResteasyReactiveConfig(long inputBufferSize, int minChunkSize, int outputBufferSize, boolean singleDefaultProduces,
+            boolean defaultProduces, int streamingFlushThreshold, long streamingFlushInterval) {
+        this(inputBufferSize, minChunkSize, outputBufferSize, singleDefaultProduces, defaultProduces);
+        this.streamingFlushThreshold = streamingFlushThreshold;
+        this.streamingFlushInterval = streamingFlushInterval;
+    }
+
     public long getInputBufferSize() {
         return inputBufferSize;
     }
@@ -91,4 +111,20 @@ public boolean isDefaultProduces() {
     public void setDefaultProduces(boolean defaultProduces) {
         this.defaultProduces = defaultProduces;
     }
+
+    public int getStreamingFlushThreshold() {
+        return streamingFlushThreshold;
+    }
+
+    public void setStreamingFlushThreshold(int streamingFlushThreshold) {
+        this.streamingFlushThreshold = streamingFlushThreshold;
+    }
+
+    public long getStreamingFlushInterval() {
+        return streamingFlushInterval;
+    }
+
+    public void setStreamingFlushInterval(long streamingFlushInterval) {
+        this.streamingFlushInterval = streamingFlushInterval;
+    }
 }
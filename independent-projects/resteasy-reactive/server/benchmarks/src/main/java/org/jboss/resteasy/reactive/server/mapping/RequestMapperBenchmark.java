@@ -0,0 +1,87 @@
+package org.jboss.resteasy.reactive.server.mapping;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Maps request paths with a {@link RequestMapper} built from a large synthetic route table.
+ * <p>
+ * Every resource contributes the templates {@code /api/<version>/<resource>}, {@code .../{id}}, {@code .../{id}/items},
+ * {@code .../{id}/items/{itemId}}, {@code .../{id:\d+}/history} and {@code .../search}. The requested paths are
+ * picked randomly from the table; some of them do not match any template.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(2)
+public class RequestMapperBenchmark {
+
+    private static final String[] SUFFIXES = { "", "/{id}", "/{id}/items", "/{id}/items/{itemId}", "/{id:\\d+}/history",
+            "/search" };
+    private static final int PATHS = 1024;
+
+    @Param({ "120", "1500", "6000" })
+    public int routes;
+
+    private RequestMapper<String> mapper;
+    private String[] paths;
+    private int next;
+
+    @Setup
+    public void setup() {
+        int resources = Math.max(1, routes / SUFFIXES.length);
+        ArrayList<RequestMapper.RequestPath<String>> templates = new ArrayList<>();
+        for (int i = 0; i < resources; i++) {
+            for (String suffix : SUFFIXES) {
+                String template = resource(i) + suffix;
+                templates.add(new RequestMapper.RequestPath<>(false, new URITemplate(template, false), template));
+            }
+        }
+        mapper = new RequestMapper<>(templates);
+
+        Random random = new Random(42);
+        paths = new String[PATHS];
+        for (int i = 0; i < PATHS; i++) {
+            String resource = resource(random.nextInt(resources));
+            paths[i] = switch (random.nextInt(7)) {
+                case 0 -> resource;
+                case 1 -> resource + "/" + random.nextInt(100_000);
+                case 2 -> resource + "/" + random.nextInt(100_000) + "/items";
+                case 3 -> resource + "/" + random.nextInt(100_000) + "/items/" + random.nextInt(100);
+                case 4 -> resource + "/" + random.nextInt(100_000) + "/history";
+                case 5 -> resource + "/search";
+                default -> resource + "/" + random.nextInt(100_000) + "/unknown/path";
+            };
+        }
+    }
+
+    @Benchmark
+    public RequestMapper.RequestMatch<String> map() {
+        return mapper.map(paths[next++ & (PATHS - 1)]);
+    }
+
+    private static String resource(int index) {
+        return "/api/v" + (index % 3 + 1) + "/resource" + index;
+    }
+
+    public static void main(String[] args) throws IOException {
+        org.openjdk.jmh.Main.main(new String[] { "-prof", "gc" });
+    }
+
+}
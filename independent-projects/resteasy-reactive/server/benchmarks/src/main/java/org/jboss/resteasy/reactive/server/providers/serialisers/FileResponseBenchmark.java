@@ -0,0 +1,138 @@
+package org.jboss.resteasy.reactive.server.providers.serialisers;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.lang.annotation.Annotation;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.MultivaluedHashMap;
+
+import org.jboss.resteasy.reactive.common.providers.serialisers.FileBodyHandler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.quarkus.vertx.utils.VertxJavaIoContext;
+import io.quarkus.vertx.utils.VertxOutputStream;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpServer;
+import io.vertx.ext.web.Router;
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * Downloads a file from a Vert.x server over a plain HTTP/1.1 keep-alive connection.
+ * <p>
+ * The {@code sendFile} path hands the file over to the server, as the {@code File}, {@code Path}, {@code FilePart} and
+ * {@code PathPart} body writers do. The {@code copy} path copies it to the response output stream with
+ * {@link FileBodyHandler#writeTo}, which is what happened when writer interceptors were registered. Run with
+ * {@code -prof gc} to compare the heap traffic of both paths: the client does not allocate, so
+ * {@code gc.alloc.rate.norm} is the server allocation per response.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(2)
+public class FileResponseBenchmark {
+
+    private static final byte[] HEADERS_END = { '\r', '\n', '\r', '\n' };
+
+    @Param({ "sendFile", "copy" })
+    public String path;
+
+    @Param({ "65536", "4194304" })
+    public int size;
+
+    private Vertx vertx;
+    private File file;
+    private SocketChannel channel;
+    private ByteBuffer request;
+    private final ByteBuffer response = ByteBuffer.allocateDirect(64 * 1024);
+
+    @Setup
+    public void setup() throws Exception {
+        file = File.createTempFile("file-response-benchmark", ".bin");
+        file.deleteOnExit();
+        try (RandomAccessFile f = new RandomAccessFile(file, "rw")) {
+            f.setLength(size);
+        }
+
+        vertx = Vertx.vertx();
+        Router router = Router.router(vertx);
+        router.get("/sendFile").handler(rc -> rc.response().sendFile(file.getPath()));
+        router.get("/copy").handler(rc -> rc.vertx().executeBlocking(() -> {
+            copy(rc);
+            return null;
+        }, false));
+        HttpServer server = vertx.createHttpServer().requestHandler(router).listen(0)
+                .toCompletionStage().toCompletableFuture().get();
+
+        channel = SocketChannel.open(new InetSocketAddress("localhost", server.actualPort()));
+        byte[] bytes = ("GET /" + path + " HTTP/1.1\r\nHost: localhost\r\n\r\n").getBytes(StandardCharsets.US_ASCII);
+        request = ByteBuffer.allocateDirect(bytes.length).put(bytes).flip();
+    }
+
+    private void copy(RoutingContext rc) throws IOException {
+        rc.response().putHeader(HttpHeaders.CONTENT_LENGTH, String.valueOf(size));
+        // the default quarkus.rest.min-chunk-size and quarkus.rest.output-buffer-size
+        try (OutputStream out = new VertxOutputStream(new VertxJavaIoContext(rc, 128, 8191))) {
+            new FileBodyHandler().writeTo(file, File.class, File.class, new Annotation[0],
+                    MediaType.APPLICATION_OCTET_STREAM_TYPE, new MultivaluedHashMap<>(), out);
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        channel.close();
+        vertx.close().toCompletionStage().toCompletableFuture().get();
+        file.delete();
+    }
+
+    @Benchmark
+    public long download() throws IOException {
+        request.rewind();
+        while (request.hasRemaining()) {
+            channel.write(request);
+        }
+        // reads the response headers, then the body, without allocating
+        int matched = 0;
+        long body = -1;
+        while (body < size) {
+            response.clear();
+            if (channel.read(response) < 0) {
+                throw new IOException("Connection closed");
+            }
+            response.flip();
+            if (body < 0) {
+                while (response.hasRemaining() && matched < HEADERS_END.length) {
+                    byte b = response.get();
+                    matched = b == HEADERS_END[matched] ? matched + 1 : (b == '\r' ? 1 : 0);
+                }
+                if (matched < HEADERS_END.length) {
+                    continue;
+                }
+                body = 0;
+            }
+            body += response.remaining();
+        }
+        return body;
+    }
+}
@@ -0,0 +1,53 @@
+package org.jboss.resteasy.reactive.server.jackson;
+
+import java.io.OutputStream;
+
+import org.jboss.resteasy.reactive.server.spi.StreamingArrayMessageBodyWriter;
+
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.databind.JavaType;
+import tools.jackson.databind.ObjectWriter;
+
+/**
+ * Writes the elements of a streamed JSON array through a single {@link JsonGenerator}, so the serializers are looked up
+ * and the generator buffers are allocated once for the whole array rather than once per element.
+ */
+public final class JacksonArrayGenerator implements StreamingArrayMessageBodyWriter.ArrayGenerator {
+
+    private final ObjectWriter writer;
+    private final JavaType elementType;
+    private final ObjectWriter typedWriter;
+    private final JsonGenerator generator;
+
+    /**
+     * @param writer the writer of the elements, which must not flush after each value nor close the stream
+     * @param elementType the type used for the elements it is a super type of, or {@code null}
+     */
+    public JacksonArrayGenerator(ObjectWriter writer, JavaType elementType, OutputStream stream) {
+        this.writer = writer;
+        this.elementType = elementType;
+        this.typedWriter = elementType != null ? writer.forType(elementType) : null;
+        this.generator = writer.createGenerator(stream);
+        generator.writeStartArray();
+    }
+
+    @Override
+    public void writeElement(Object element) {
+        if (typedWriter != null && elementType.isTypeOrSuperTypeOf(element.getClass())) {
+            typedWriter.writeValue(generator, element);
+        } else {
+            writer.writeValue(generator, element);
+        }
+    }
+
+    @Override
+    public void flush() {
+        generator.flush();
+    }
+
+    @Override
+    public void endArray() {
+        generator.writeEndArray();
+        generator.close();
+    }
+}
@@ -10,14 +10,17 @@
 import jakarta.ws.rs.core.MultivaluedMap;
 
 import org.jboss.resteasy.reactive.server.StreamingOutputStream;
+import org.jboss.resteasy.reactive.server.spi.StreamingArrayMessageBodyWriter;
 
 import com.fasterxml.jackson.annotation.JsonView;
 
 import tools.jackson.core.StreamReadFeature;
 import tools.jackson.core.StreamWriteFeature;
+import tools.jackson.databind.JavaType;
 import tools.jackson.databind.ObjectMapper;
 import tools.jackson.databind.ObjectReader;
 import tools.jackson.databind.ObjectWriter;
+import tools.jackson.databind.SerializationFeature;
 
 public final class JacksonMessageBodyWriterUtil {
 
@@ -59,6 +62,29 @@ public static void doLegacyWrite(Object o, Annotation[] annotations, Multivalued
         }
     }
 
+    /**
+     * Starts a JSON array whose elements are all written through the same generator, honoring the {@link JsonView}
+     * annotation the same way {@link #doLegacyWrite} does.
+     *
+     * @param elementType the type used for the elements it is a super type of, or {@code null}
+     */
+    public static StreamingArrayMessageBodyWriter.ArrayGenerator startLegacyArray(Annotation[] annotations,
+            OutputStream stream, ObjectWriter defaultWriter, JavaType elementType) {
+        ObjectWriter writer = defaultWriter.without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        if (annotations != null) {
+            for (Annotation annotation : annotations) {
+                if (JsonView.class.equals(annotation.annotationType())) {
+                    Class<?>[] views = ((JsonView) annotation).value();
+                    if (views.length > 0) {
+                        writer = writer.withView(views[0]);
+                        break;
+                    }
+                }
+            }
+        }
+        return new JacksonArrayGenerator(writer, elementType, stream);
+    }
+
     private static boolean handleJsonView(JsonView jsonView, Object o, OutputStream stream, ObjectWriter defaultWriter)
             throws IOException {
         if ((jsonView != null) && (jsonView.value().length > 0)) {
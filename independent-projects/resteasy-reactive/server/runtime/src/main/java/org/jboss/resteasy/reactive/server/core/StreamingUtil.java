@@ -17,6 +17,7 @@
 import org.jboss.resteasy.reactive.server.StreamingOutputStream;
 import org.jboss.resteasy.reactive.server.handlers.PublisherResponseHandler;
 import org.jboss.resteasy.reactive.server.spi.ServerHttpResponse;
+import org.jboss.resteasy.reactive.server.spi.StreamingArrayMessageBodyWriter;
 
 // FIXME: we need to refactor the serialisation of entities to bytes between here and Sse and Serialisers
 // and figure out where interceptors come into play
@@ -58,31 +59,53 @@ public static CompletionStage<?> send(ResteasyReactiveRequestContext context,
     }
 
     private static byte[] serialiseEntity(ResteasyReactiveRequestContext context, Object entity) throws IOException {
-        ServerSerialisers serialisers = context.getDeployment().getSerialisers();
+        StreamingOutputStream baos = new StreamingOutputStream();
+        writeEntity(context, entity, baos);
+        return baos.toByteArray();
+    }
+
+    private static void writeEntity(ResteasyReactiveRequestContext context, Object entity, StreamingOutputStream stream)
+            throws IOException {
         Class<?> entityClass = entity.getClass();
         Type entityType = context.getGenericReturnType();
         MediaType mediaType = context.getResponseMediaType();
+        // FIXME: spec doesn't really say what headers we should use here
+        findWriter(context, entityClass, entityType, mediaType).writeTo(entity, entityClass, entityType,
+                context.getAllAnnotations(), mediaType, new QuarkusMultivaluedHashMap<>(), stream);
+    }
+
+    private static MessageBodyWriter<Object> findWriter(ResteasyReactiveRequestContext context, Class<?> entityClass,
+            Type entityType, MediaType mediaType) {
+        ServerSerialisers serialisers = context.getDeployment().getSerialisers();
         // FIXME: this should belong somewhere else as it's generic
         @SuppressWarnings("unchecked")
         MessageBodyWriter<Object>[] writers = (MessageBodyWriter<Object>[]) serialisers
                 .findWriters(null, entityClass, mediaType, RuntimeType.SERVER)
                 .toArray(ServerSerialisers.NO_WRITER);
-        StreamingOutputStream baos = new StreamingOutputStream();
-        boolean wrote = false;
         for (MessageBodyWriter<Object> writer : writers) {
             if (writer.isWriteable(entityClass, entityType, context.getAllAnnotations(), mediaType)) {
-                // FIXME: spec doesn't really say what headers we should use here
-                writer.writeTo(entity, entityClass, entityType, context.getAllAnnotations(), mediaType,
-                        new QuarkusMultivaluedHashMap<>(), baos);
-                wrote = true;
-                break;
+                return writer;
             }
         }
-        if (!wrote) {
-            throw new IllegalStateException(
-                    "Could not find MessageBodyWriter for " + entityClass + " / " + entityType + " as " + mediaType);
+        throw new IllegalStateException(
+                "Could not find MessageBodyWriter for " + entityClass + " / " + entityType + " as " + mediaType);
+    }
+
+    /**
+     * Starts a JSON array on the given buffer, using the writer of the first element. When that writer is a
+     * {@link StreamingArrayMessageBodyWriter} it writes all the elements through a single generator, otherwise each
+     * element is serialized on its own and the array punctuation is added around it.
+     */
+    public static StreamingArrayMessageBodyWriter.ArrayGenerator startJsonArray(ResteasyReactiveRequestContext context,
+            Object firstEntity, ArrayBuffer buffer) throws IOException {
+        Type entityType = context.getGenericReturnType();
+        MediaType mediaType = context.getResponseMediaType();
+        MessageBodyWriter<Object> writer = findWriter(context, firstEntity.getClass(), entityType, mediaType);
+        if (writer instanceof StreamingArrayMessageBodyWriter) {
+            return ((StreamingArrayMessageBodyWriter) writer).startArray(entityType, context.getAllAnnotations(), mediaType,
+                    buffer);
         }
-        return baos.toByteArray();
+        return new MessageBodyWriterArrayGenerator(context, buffer);
     }
 
     public static void setHeaders(ResteasyReactiveRequestContext context, ServerHttpResponse response,
@@ -98,4 +121,55 @@ public static void setHeaders(ResteasyReactiveRequestContext context, ServerHttp
             }
         }
     }
+
+    /**
+     * The buffer elements of a streamed array are serialized to. It is reused for the whole response, so it only
+     * grows up to the flush threshold plus the size of one element.
+     */
+    public static final class ArrayBuffer extends StreamingOutputStream {
+
+        public ArrayBuffer(int size) {
+            buf = new byte[size];
+        }
+
+        /**
+         * Writes the buffered content to the response and empties the buffer.
+         */
+        public synchronized CompletionStage<Void> flushTo(ServerHttpResponse response) {
+            CompletionStage<Void> ret = response.write(buf, 0, count);
+            reset();
+            return ret;
+        }
+    }
+
+    private static final class MessageBodyWriterArrayGenerator implements StreamingArrayMessageBodyWriter.ArrayGenerator {
+
+        private final ResteasyReactiveRequestContext context;
+        private final ArrayBuffer buffer;
+        private boolean empty = true;
+
+        MessageBodyWriterArrayGenerator(ResteasyReactiveRequestContext context, ArrayBuffer buffer) {
+            this.context = context;
+            this.buffer = buffer;
+        }
+
+        @Override
+        public void writeElement(Object element) throws IOException {
+            buffer.write(empty ? '[' : ',');
+            empty = false;
+            writeEntity(context, element, buffer);
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void endArray() throws IOException {
+            if (empty) {
+                buffer.write('[');
+            }
+            buffer.write(']');
+        }
+    }
 }
@@ -7,6 +7,9 @@
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
 import java.util.concurrent.Flow.Publisher;
 import java.util.concurrent.Flow.Subscriber;
 import java.util.concurrent.Flow.Subscription;
@@ -16,6 +19,7 @@
 
 import org.jboss.logging.Logger;
 import org.jboss.resteasy.reactive.RestMulti;
+import org.jboss.resteasy.reactive.common.ResteasyReactiveConfig;
 import org.jboss.resteasy.reactive.common.util.RestMediaType;
 import org.jboss.resteasy.reactive.common.util.ServerMediaType;
 import org.jboss.resteasy.reactive.server.core.ResteasyReactiveRequestContext;
@@ -23,7 +27,9 @@
 import org.jboss.resteasy.reactive.server.core.StreamingUtil;
 import org.jboss.resteasy.reactive.server.jaxrs.OutboundSseEventImpl;
 import org.jboss.resteasy.reactive.server.model.HandlerChainCustomizer.Phase;
+import org.jboss.resteasy.reactive.server.spi.ServerHttpResponse;
 import org.jboss.resteasy.reactive.server.spi.ServerRestHandler;
+import org.jboss.resteasy.reactive.server.spi.StreamingArrayMessageBodyWriter;
 import org.jboss.resteasy.reactive.server.spi.StreamingResponse;
 
 import mutiny.zero.flow.adapters.AdaptersToFlow;
@@ -126,26 +132,7 @@ public void onNext(Object item) {
         }
 
         private List<StreamingResponseCustomizer> determineCustomizers(boolean isFirst) {
-            // we only need to obtain the customizers from the Publisher if it's the first time we are sending data and the Publisher has customizable data
-            // at this point no matter the type of RestMulti we can safely obtain the headers and status
-            if (isFirst && (publisher instanceof RestMulti<?> restMulti)) {
-                Map<String, List<String>> headers = restMulti.getHeaders();
-                Integer status = restMulti.getStatus();
-                if (headers.isEmpty() && (status == null)) {
-                    return staticCustomizers;
-                }
-                List<StreamingResponseCustomizer> result = new ArrayList<>(staticCustomizers.size() + 2);
-                result.addAll(staticCustomizers); // these are added first so that the result specific values will take precedence if there are conflicts
-                if (!headers.isEmpty()) {
-                    result.add(new StreamingResponseCustomizer.AddHeadersCustomizer(headers));
-                }
-                if (status != null) {
-                    result.add(new StreamingResponseCustomizer.StatusCustomizer(status));
-                }
-                return result;
-            }
-
-            return staticCustomizers;
+            return isFirst ? firstItemCustomizers(publisher, staticCustomizers) : staticCustomizers;
         }
 
         @Override
@@ -196,6 +183,320 @@ protected String messageSuffix() {
         }
     }
 
+    /**
+     * Streams the items as a JSON array. The items are serialized into a buffer that is reused for the whole response,
+     * through a single generator when the writer supports it, and the buffer is written as one chunk once it reaches the
+     * flush threshold, when the publisher stops emitting items synchronously (or once the flush interval elapsed, if one
+     * is configured) and when the publisher completes. More items are only requested while the response can take more
+     * data, which also covers the flow control window of HTTP/2 streams.
+     */
+    @SuppressWarnings("rawtypes")
+    private static class JsonArrayMultiSubscriber extends AbstractMultiSubscriber {
+
+        private static final byte[] EMPTY_ARRAY = "[]".getBytes(StandardCharsets.US_ASCII);
+
+        private final Publisher publisher;
+        private final int flushThreshold;
+        private final long flushInterval;
+        private final StreamingUtil.ArrayBuffer buffer;
+
+        // all the fields below are guarded by this
+        private StreamingArrayMessageBodyWriter.ArrayGenerator generator;
+        private boolean pending;
+        private long outstanding;
+        private boolean requesting;
+        private boolean awaitingDrain;
+        private boolean done;
+        private boolean idleCheckScheduled;
+        private Runnable cancelFlushTimer;
+
+        JsonArrayMultiSubscriber(ResteasyReactiveRequestContext requestContext,
+                List<StreamingResponseCustomizer> staticCustomizers, Publisher publisher, long demand) {
+            super(requestContext, staticCustomizers, demand);
+            this.publisher = publisher;
+            ResteasyReactiveConfig config = requestContext.getDeployment().getResteasyReactiveConfig();
+            this.flushThreshold = config.getStreamingFlushThreshold();
+            this.flushInterval = config.getStreamingFlushInterval();
+            this.buffer = new StreamingUtil.ArrayBuffer(Math.min(flushThreshold, config.getOutputBufferSize()));
+        }
+
+        @Override
+        public void onSubscribe(Subscription s) {
+            this.subscription = s;
+            requestMore();
+        }
+
+        @Override
+        public void onNext(Object item) {
+            Throwable failure = null;
+            boolean requestMore;
+            boolean checkIdle = false;
+            synchronized (this) {
+                if (done) {
+                    return;
+                }
+                outstanding--;
+                try {
+                    if (generator == null) {
+                        generator = StreamingUtil.startJsonArray(requestContext, item, buffer);
+                    }
+                    generator.writeElement(item);
+                    // hand the element over to the buffer, so that its size accounts for everything written so far
+                    generator.flush();
+                    pending = true;
+                    if (buffer.size() >= flushThreshold) {
+                        flush();
+                    }
+                } catch (Throwable t) {
+                    failure = fail(t);
+                }
+                // when the item was emitted from within requestMore(), the loop over there asks for the next ones
+                requestMore = failure == null && !requesting && outstanding == 0;
+                if (failure == null && !requesting && outstanding > 0 && pending && !idleCheckScheduled) {
+                    // an asynchronous publisher may not emit the rest of the requested items for a while,
+                    // so flush once the items emitted in the current burst were written to the buffer
+                    idleCheckScheduled = true;
+                    checkIdle = true;
+                }
+            }
+            if (failure != null) {
+                failure(failure);
+            } else if (requestMore) {
+                requestMore();
+            } else if (checkIdle) {
+                Executor executor = requestContext.getContextExecutor();
+                if (executor == null) {
+                    onUpstreamIdle();
+                } else {
+                    executor.execute(this::onUpstreamIdle);
+                }
+            }
+        }
+
+        private void onUpstreamIdle() {
+            Throwable failure;
+            synchronized (this) {
+                idleCheckScheduled = false;
+                if (done) {
+                    return;
+                }
+                failure = publisherIdle();
+            }
+            if (failure != null) {
+                failure(failure);
+            }
+        }
+
+        private void requestMore() {
+            ServerHttpResponse response = requestContext.serverResponse();
+            for (;;) {
+                synchronized (this) {
+                    if (done || requesting || awaitingDrain || outstanding > 0) {
+                        return;
+                    }
+                    if (response.isWriteQueueFull()) {
+                        awaitingDrain = true;
+                        response.addDrainHandler(this::onDrain);
+                        if (response.isWriteQueueFull()) {
+                            return;
+                        }
+                        // the queue drained before the handler was registered
+                        awaitingDrain = false;
+                    }
+                    requesting = true;
+                    outstanding = demand;
+                }
+                // synchronous publishers emit the items from within this call
+                subscription.request(demand);
+                Throwable failure = null;
+                synchronized (this) {
+                    requesting = false;
+                    if (outstanding > 0) {
+                        // the publisher is waiting for items, don't hold back the ones we have
+                        if (!done) {
+                            failure = publisherIdle();
+                        }
+                        if (failure == null) {
+                            return;
+                        }
+                    }
+                }
+                if (failure != null) {
+                    failure(failure);
+                    return;
+                }
+            }
+        }
+
+        private void onDrain() {
+            synchronized (this) {
+                if (!awaitingDrain) {
+                    return;
+                }
+                awaitingDrain = false;
+            }
+            requestMore();
+        }
+
+        private Throwable publisherIdle() {
+            if (!pending) {
+                return null;
+            }
+            if (flushInterval > 0) {
+                if (cancelFlushTimer == null) {
+                    cancelFlushTimer = requestContext.registerTimer(flushInterval, this::onFlushTimer);
+                }
+                return null;
+            }
+            try {
+                flush();
+                return null;
+            } catch (Throwable t) {
+                return fail(t);
+            }
+        }
+
+        private void onFlushTimer() {
+            Throwable failure;
+            synchronized (this) {
+                cancelFlushTimer = null;
+                if (done || !pending) {
+                    return;
+                }
+                try {
+                    flush();
+                    return;
+                } catch (Throwable t) {
+                    failure = fail(t);
+                }
+            }
+            failure(failure);
+        }
+
+        private void flush() {
+            cancelFlushTimer();
+            pending = false;
+            ServerHttpResponse response = requestContext.serverResponse();
+            if (response.closed() || buffer.size() == 0) {
+                buffer.reset();
+                return;
+            }
+            if (!response.headWritten()) {
+                StreamingUtil.setHeaders(requestContext, response, firstItemCustomizers(publisher, staticCustomizers));
+            }
+            buffer.flushTo(response).whenComplete(this::onWritten);
+        }
+
+        private void onWritten(Void v, Throwable t) {
+            if (t == null) {
+                return;
+            }
+            synchronized (this) {
+                if (done) {
+                    return;
+                }
+                fail(t);
+            }
+            failure(t);
+        }
+
+        private Throwable fail(Throwable t) {
+            done = true;
+            cancelFlushTimer();
+            return t;
+        }
+
+        private void cancelFlushTimer() {
+            if (cancelFlushTimer != null) {
+                cancelFlushTimer.run();
+                cancelFlushTimer = null;
+            }
+        }
+
+        private void failure(Throwable t) {
+            // need to cancel because the exception didn't come from the Multi
+            try {
+                subscription.cancel();
+            } catch (Throwable t2) {
+                log.debug("Failed to cancel the subscription", t2);
+            }
+            handleException(requestContext, t);
+        }
+
+        @Override
+        public void onComplete() {
+            ServerHttpResponse response = requestContext.serverResponse();
+            CompletionStage<Void> lastWrite;
+            Throwable failure = null;
+            synchronized (this) {
+                if (done) {
+                    return;
+                }
+                done = true;
+                cancelFlushTimer();
+                try {
+                    if (generator == null) {
+                        StreamingUtil.setHeaders(requestContext, response, firstItemCustomizers(publisher, staticCustomizers));
+                        lastWrite = response.write(EMPTY_ARRAY);
+                    } else {
+                        generator.endArray();
+                        if (!response.headWritten()) {
+                            StreamingUtil.setHeaders(requestContext, response,
+                                    firstItemCustomizers(publisher, staticCustomizers));
+                        }
+                        lastWrite = response.closed() ? CompletableFuture.completedFuture(null) : buffer.flushTo(response);
+                    }
+                } catch (Throwable t) {
+                    lastWrite = null;
+                    failure = t;
+                }
+            }
+            if (failure != null) {
+                handleException(requestContext, failure);
+                return;
+            }
+            lastWrite.handle((v, t) -> {
+                JsonArrayMultiSubscriber.super.onComplete();
+                return null;
+            });
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            synchronized (this) {
+                if (done) {
+                    return;
+                }
+                fail(t);
+            }
+            super.onError(t);
+        }
+    }
+
+    @SuppressWarnings("rawtypes")
+    private static List<StreamingResponseCustomizer> firstItemCustomizers(Publisher publisher,
+            List<StreamingResponseCustomizer> staticCustomizers) {
+        // we only need to obtain the customizers from the Publisher if it's the first time we are sending data and the Publisher has customizable data
+        // at this point no matter the type of RestMulti we can safely obtain the headers and status
+        if (publisher instanceof RestMulti<?> restMulti) {
+            Map<String, List<String>> headers = restMulti.getHeaders();
+            Integer status = restMulti.getStatus();
+            if (headers.isEmpty() && (status == null)) {
+                return staticCustomizers;
+            }
+            List<StreamingResponseCustomizer> result = new ArrayList<>(staticCustomizers.size() + 2);
+            result.addAll(staticCustomizers); // these are added first so that the result specific values will take precedence if there are conflicts
+            if (!headers.isEmpty()) {
+                result.add(new StreamingResponseCustomizer.AddHeadersCustomizer(headers));
+            }
+            if (status != null) {
+                result.add(new StreamingResponseCustomizer.StatusCustomizer(status));
+            }
+            return result;
+        }
+        return staticCustomizers;
+    }
+
     static abstract class AbstractMultiSubscriber implements Subscriber<Object> {
         protected final ResteasyReactiveRequestContext requestContext;
         protected final List<StreamingResponseCustomizer> staticCustomizers;
@@ -333,8 +634,12 @@ private void handleStreaming(ResteasyReactiveRequestContext requestContext, Publ
             demand = rest.getDemand();
             encodeAsJsonArray = rest.encodeAsJsonArray();
         }
-        result.subscribe(new StreamingMultiSubscriber(requestContext, streamingResponseCustomizers, result, json, demand,
-                encodeAsJsonArray));
+        if (json && encodeAsJsonArray) {
+            result.subscribe(new JsonArrayMultiSubscriber(requestContext, streamingResponseCustomizers, result, demand));
+        } else {
+            result.subscribe(new StreamingMultiSubscriber(requestContext, streamingResponseCustomizers, result, json, demand,
+                    encodeAsJsonArray));
+        }
     }
 
     private void handleSse(ResteasyReactiveRequestContext requestContext, Publisher<?> result) {
@@ -19,6 +19,8 @@
 import org.jboss.resteasy.reactive.common.util.CaseInsensitiveMap;
 import org.jboss.resteasy.reactive.server.core.ResteasyReactiveRequestContext;
 import org.jboss.resteasy.reactive.server.core.ServerSerialisers;
+import org.jboss.resteasy.reactive.server.providers.serialisers.ServerFileBodyHandler;
+import org.jboss.resteasy.reactive.server.spi.ServerMessageBodyWriter;
 
 public class WriterInterceptorContextImpl extends AbstractInterceptorContext
         implements WriterInterceptorContext {
@@ -58,6 +60,16 @@ public void proceed() throws IOException, WebApplicationException {
                 effectiveWriter = newWriters.get(0);
             }
             context.setResult(Response.fromResponse(response).replaceAll(headers).build());
+            if (context.getOutputStream() == null && ServerFileBodyHandler.isFileWriter(effectiveWriter)
+                    && ((ServerMessageBodyWriter) effectiveWriter).isWriteable(entity.getClass(), genericType,
+                            context.getTarget() == null ? null : context.getTarget().getLazyMethod(),
+                            context.getResponseMediaType())) {
+                // the interceptors did not replace the output stream, so the file does not need to be copied through it
+                context.serverResponse().setPreCommitListener(ServerSerialisers::encodeResponseHeaders);
+                ((ServerMessageBodyWriter) effectiveWriter).writeResponse(entity, genericType, context);
+                done = true;
+                return;
+            }
             ServerSerialisers.encodeResponseHeaders(context);
             // this must be done AFTER encoding the headers, otherwise the HTTP response gets all messed up
             effectiveWriter.writeTo(entity, type, genericType,
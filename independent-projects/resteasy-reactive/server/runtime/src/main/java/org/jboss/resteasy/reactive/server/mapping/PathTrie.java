@@ -0,0 +1,203 @@
+package org.jboss.resteasy.reactive.server.mapping;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * A radix trie of the template stems, i.e. the literal prefixes of the templates.
+ * <p>
+ * The trie is built once when the {@link RequestMapper} is created. A lookup walks the request path once, compares the
+ * compressed edges with {@link String#regionMatches(int, String, int, int)} and selects the child node by the first
+ * character with a binary search. It returns the longest stem that is a prefix of the path. The other stems that are
+ * a prefix of the path are reachable via {@link Stem#shorter}, longest first, so that no allocation is needed to
+ * iterate the candidates.
+ *
+ * @param <T> the value type
+ */
+final class PathTrie<T> implements Dumpable {
+
+    private final Node<T> root;
+    private final int size;
+
+    private PathTrie(Node<T> root, int size) {
+        this.root = root;
+        this.size = size;
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     *
+     * @param path
+     * @return the longest stem that is a prefix of the given path, or {@code null} if there is no such stem
+     */
+    Stem<T> longestPrefix(String path) {
+        Node<T> node = root;
+        Stem<T> result = null;
+        int pos = 0;
+        int length = path.length();
+        while (true) {
+            String label = node.label;
+            if (!path.regionMatches(pos, label, 0, label.length())) {
+                return result;
+            }
+            pos += label.length();
+            if (node.stem != null) {
+                result = node.stem;
+            }
+            if (pos == length) {
+                return result;
+            }
+            Node<T> child = node.child(path.charAt(pos));
+            if (child == null) {
+                return result;
+            }
+            node = child;
+        }
+    }
+
+    @Override
+    public void dump(int level) {
+        indent(level);
+        System.err.println("Stems: " + size);
+        dump(root, level + 1);
+    }
+
+    private void dump(Node<T> node, int level) {
+        if (node.stem != null) {
+            indent(level);
+            System.err.println(node.stem.key + ": ");
+            if (node.stem.value instanceof List) {
+                for (Object x : (List<?>) node.stem.value) {
+                    if (x instanceof Dumpable) {
+                        ((Dumpable) x).dump(level + 1);
+                    }
+                }
+            }
+        }
+        for (Node<T> child : node.children) {
+            dump(child, level);
+        }
+    }
+
+    static final class Stem<T> {
+
+        final String key;
+        final T value;
+        /**
+         * The next shorter stem that is a prefix of {@link #key}, or {@code null}.
+         */
+        final Stem<T> shorter;
+
+        private Stem(String key, T value, Stem<T> shorter) {
+            this.key = key;
+            this.value = value;
+            this.shorter = shorter;
+        }
+    }
+
+    private static final class Node<T> {
+
+        private static final char[] NO_CHARS = new char[0];
+
+        /**
+         * The characters matched by this node, the first character selects the node in its parent.
+         */
+        private final String label;
+        /**
+         * The stem that ends in this node, or {@code null}.
+         */
+        private final Stem<T> stem;
+        private final char[] firstChars;
+        private final Node<T>[] children;
+
+        private Node(String label, Stem<T> stem, char[] firstChars, Node<T>[] children) {
+            this.label = label;
+            this.stem = stem;
+            this.firstChars = firstChars;
+            this.children = children;
+        }
+
+        private Node<T> child(char c) {
+            char[] chars = firstChars;
+            int low = 0;
+            int high = chars.length - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                char midChar = chars[mid];
+                if (midChar < c) {
+                    low = mid + 1;
+                } else if (midChar > c) {
+                    high = mid - 1;
+                } else {
+                    return children[mid];
+                }
+            }
+            return null;
+        }
+    }
+
+    static class Builder<T> {
+
+        private final MutableNode<T> root = new MutableNode<>();
+        private int size;
+
+        /**
+         * Adds a stem. If the stem was already added then the value is replaced.
+         *
+         * @param stem
+         * @param value
+         */
+        void put(String stem, T value) {
+            if (stem.isEmpty()) {
+                throw new IllegalArgumentException("Stem not specified");
+            }
+            MutableNode<T> node = root;
+            for (int i = 0; i < stem.length(); i++) {
+                node = node.children.computeIfAbsent(stem.charAt(i), c -> new MutableNode<>());
+            }
+            if (node.key == null) {
+                size++;
+            }
+            node.key = stem;
+            node.value = value;
+        }
+
+        PathTrie<T> build() {
+            return new PathTrie<>(build(root, "", null), size);
+        }
+
+        @SuppressWarnings("unchecked")
+        private Node<T> build(MutableNode<T> node, String label, Stem<T> shorter) {
+            // Compress the chain of nodes that do not hold a stem and only have a single child
+            StringBuilder compressed = new StringBuilder(label);
+            while (node.key == null && node.children.size() == 1) {
+                Map.Entry<Character, MutableNode<T>> child = node.children.firstEntry();
+                compressed.append(child.getKey().charValue());
+                node = child.getValue();
+            }
+            Stem<T> stem = node.key != null ? new Stem<>(node.key, node.value, shorter) : null;
+            char[] firstChars = node.children.isEmpty() ? Node.NO_CHARS : new char[node.children.size()];
+            Node<T>[] children = new Node[node.children.size()];
+            int idx = 0;
+            for (Map.Entry<Character, MutableNode<T>> child : node.children.entrySet()) {
+                firstChars[idx] = child.getKey();
+                children[idx++] = build(child.getValue(), String.valueOf(child.getKey().charValue()),
+                        stem != null ? stem : shorter);
+            }
+            return new Node<>(compressed.toString(), stem, firstChars, children);
+        }
+    }
+
+    private static final class MutableNode<T> {
+
+        private final TreeMap<Character, MutableNode<T>> children = new TreeMap<>();
+        private String key;
+        private T value;
+
+    }
+
+}
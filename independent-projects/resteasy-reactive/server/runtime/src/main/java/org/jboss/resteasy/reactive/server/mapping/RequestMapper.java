@@ -4,22 +4,21 @@
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
-import java.util.function.BiConsumer;
 import java.util.regex.Matcher;
 
 public class RequestMapper<T> {
 
     private static final String[] EMPTY_STRING_ARRAY = new String[0];
+    private static final String STRING_PATH_SEPARATOR = "/";
 
-    private final PathMatcher<ArrayList<RequestPath<T>>> requestPaths;
-    private final PathMatcher.Builder<ArrayList<RequestPath<T>>> pathMatcherBuilder;
+    private final PathTrie<ArrayList<RequestPath<T>>> requestPaths;
+    private final ArrayList<RequestPath<T>> defaultPaths;
     private final ArrayList<RequestPath<T>> templates;
     final int maxParams;
 
     public RequestMapper(ArrayList<RequestPath<T>> templates) {
-        pathMatcherBuilder = new PathMatcher.Builder<>();
+        PathTrie.Builder<ArrayList<RequestPath<T>>> pathTrieBuilder = new PathTrie.Builder<>();
         this.templates = templates;
         int max = 0;
         Map<String, ArrayList<RequestPath<T>>> aggregates = new HashMap<>();
@@ -31,15 +30,26 @@ public RequestMapper(ArrayList<RequestPath<T>> templates) {
             paths.add(i);
             max = Math.max(max, i.template.countPathParamNames());
         }
-        aggregates.forEach(new BiConsumer<>() {
-            @Override
-            public void accept(String stem, ArrayList<RequestPath<T>> list) {
-                Collections.sort(list);
-                pathMatcherBuilder.addPrefixPath(stem, list);
+        ArrayList<RequestPath<T>> defaultPaths = null;
+        for (Map.Entry<String, ArrayList<RequestPath<T>>> entry : aggregates.entrySet()) {
+            String stem = entry.getKey();
+            ArrayList<RequestPath<T>> list = entry.getValue();
+            Collections.sort(list);
+            if (stem.isEmpty()) {
+                throw new IllegalArgumentException("Path not specified");
             }
-        });
+            if (STRING_PATH_SEPARATOR.equals(stem)) {
+                // The templates with the root stem are matched last
+                defaultPaths = list;
+            } else if (stem.endsWith(STRING_PATH_SEPARATOR)) {
+                throw new RuntimeException("Prefix path cannot end with /");
+            } else {
+                pathTrieBuilder.put(stem, list);
+            }
+        }
+        this.defaultPaths = defaultPaths;
         maxParams = max;
-        requestPaths = pathMatcherBuilder.build();
+        requestPaths = pathTrieBuilder.build();
     }
 
     /**
@@ -49,16 +59,18 @@ public void accept(String stem, ArrayList<RequestPath<T>> list) {
      * @return best RequestMatch, or null if the path has no match
      */
     public RequestMatch<T> map(String path) {
-        List<PathMatcher.PathMatch<ArrayList<RequestPath<T>>>> matches = requestPaths.match(path);
-        for (int i = 0; i < matches.size(); i++) {
-            var result = mapFromPathMatcher(path, matches.get(i), 0);
+        // The stems that are a prefix of the path, longest first
+        PathTrie.Stem<ArrayList<RequestPath<T>>> stem = requestPaths.longestPrefix(path);
+        while (stem != null) {
+            var result = mapFromStem(path, stem.key.length(), stem.value, 0);
             if (result != null) {
                 return result;
             }
+            stem = stem.shorter;
         }
 
         // the following code is meant to handle cases like https://github.com/quarkusio/quarkus/issues/30667
-        return mapFromPathMatcher(path, requestPaths.defaultMatch(path), 0);
+        return mapFromStem(path, 1, defaultPaths, 0);
     }
 
     /**
@@ -72,38 +84,39 @@ public RequestMatch<T> continueMatching(String path, RequestMatch<T> lastMatch)
             return null;
         }
 
-        var initialMatchesList = requestPaths.match(path);
-        for (int i = 0; i < initialMatchesList.size(); i++) {
-            var result = mapFromPathMatcher(path, initialMatchesList.get(i), 0);
+        // The stems that are a prefix of the path, longest first
+        PathTrie.Stem<ArrayList<RequestPath<T>>> stem = requestPaths.longestPrefix(path);
+        while (stem != null) {
+            int matchedLength = stem.key.length();
+            var result = mapFromStem(path, matchedLength, stem.value, 0);
             if (result != null) {
-                int idx = nextMatchStartingIndex(initialMatchesList.get(i), lastMatch);
-                RequestMatch<T> match = mapFromPathMatcher(path, initialMatchesList.get(i), idx);
+                int idx = nextMatchStartingIndex(stem.value, lastMatch);
+                RequestMatch<T> match = mapFromStem(path, matchedLength, stem.value, idx);
                 if (match != null) {
                     return match;
                 }
             }
+            stem = stem.shorter;
         }
 
         // the following code is meant to handle cases like https://github.com/quarkusio/quarkus/issues/30667
-        var initialMatches = requestPaths.defaultMatch(path);
-        var result = mapFromPathMatcher(path, initialMatches, 0);
+        var result = mapFromStem(path, 1, defaultPaths, 0);
         if (result != null) {
-            int idx = nextMatchStartingIndex(initialMatches, lastMatch);
-            return mapFromPathMatcher(path, initialMatches, idx);
+            int idx = nextMatchStartingIndex(defaultPaths, lastMatch);
+            return mapFromStem(path, 1, defaultPaths, idx);
         }
         return null;
     }
 
-    private int nextMatchStartingIndex(PathMatcher.PathMatch<ArrayList<RequestPath<T>>> initialMatches,
-            RequestMatch<T> current) {
-        if (initialMatches.getValue() == null || initialMatches.getValue().isEmpty()) {
+    private int nextMatchStartingIndex(ArrayList<RequestPath<T>> candidates, RequestMatch<T> current) {
+        if (candidates == null || candidates.isEmpty()) {
             return -1;
         }
-        for (int i = 0; i < initialMatches.getValue().size(); i++) {
-            if (initialMatches.getValue().get(i).template == current.template) {
+        for (int i = 0; i < candidates.size(); i++) {
+            if (candidates.get(i).template == current.template) {
                 i++;
 
-                if (i < initialMatches.getValue().size()) {
+                if (i < candidates.size()) {
                     return i;
                 }
                 return -1;
@@ -114,20 +127,20 @@ private int nextMatchStartingIndex(PathMatcher.PathMatch<ArrayList<RequestPath<T
     }
 
     @SuppressWarnings({ "rawtypes", "unchecked" })
-    private RequestMatch<T> mapFromPathMatcher(String path, PathMatcher.PathMatch<ArrayList<RequestPath<T>>> initialMatches,
+    private RequestMatch<T> mapFromStem(String path, int matchedLength, ArrayList<RequestPath<T>> candidates,
             int startIdx) {
-        var value = initialMatches.getValue();
-        if (value == null || startIdx < 0) {
+        if (candidates == null || startIdx < 0) {
             return null;
         }
         int pathLength = path.length();
-        for (int index = startIdx; index < value.size(); index++) {
-            RequestPath<T> potentialMatch = value.get(index);
-            String[] params = (maxParams > 0) ? new String[maxParams] : EMPTY_STRING_ARRAY;
+        // The array is only allocated when needed and reused if a candidate does not match
+        String[] params = (maxParams > 0) ? null : EMPTY_STRING_ARRAY;
+        for (int index = startIdx; index < candidates.size(); index++) {
+            RequestPath<T> potentialMatch = candidates.get(index);
             int paramCount = 0;
             boolean matched = true;
             boolean prefixAllowed = potentialMatch.prefixTemplate;
-            int matchPos = initialMatches.getMatched().length();
+            int matchPos = matchedLength;
             for (int i = 1; i < potentialMatch.template.components.length; ++i) {
                 URITemplate.TemplateComponent segment = potentialMatch.template.components[i];
                 if (segment.type == URITemplate.Type.CUSTOM_REGEX) {
@@ -143,32 +156,30 @@ private RequestMatch<T> mapFromPathMatcher(String path, PathMatcher.PathMatch<Ar
                     if (endSlash) {
                         matchPos++;
                     }
+                    if (params == null) {
+                        params = new String[maxParams];
+                    }
                     for (String group : segment.groups) {
                         params[paramCount++] = matcher.group(group);
                     }
                 } else if (segment.type == URITemplate.Type.LITERAL) {
                     //make sure the literal text is the same
-                    if (matchPos + segment.literalText.length() > pathLength) {
+                    String literalText = segment.literalText;
+                    if (!path.regionMatches(matchPos, literalText, 0, literalText.length())) {
                         matched = false;
-                        break; //too long
-                    }
-                    for (int pos = 0; pos < segment.literalText.length(); ++pos) {
-                        if (path.charAt(matchPos++) != segment.literalText.charAt(pos)) {
-                            matched = false;
-                            break;
-                        }
-                    }
-                    if (!matched) {
                         break;
                     }
+                    matchPos += literalText.length();
                 } else if (segment.type == URITemplate.Type.DEFAULT_REGEX) {
                     if (matchPos == pathLength) {
                         matched = false;
                         break;
                     }
                     int start = matchPos;
-                    while (matchPos < pathLength && path.charAt(matchPos) != '/') {
-                        matchPos++;
+                    int end = path.indexOf('/', matchPos);
+                    matchPos = end == -1 ? pathLength : end;
+                    if (params == null) {
+                        params = new String[maxParams];
                     }
                     params[paramCount++] = path.substring(start, matchPos);
                 }
@@ -176,9 +187,6 @@ private RequestMatch<T> mapFromPathMatcher(String path, PathMatcher.PathMatch<Ar
             if (!matched) {
                 continue;
             }
-            if (paramCount < params.length) {
-                params[paramCount] = null;
-            }
             boolean fullMatch = matchPos == pathLength;
             boolean doPrefixMatch = false;
             if (!fullMatch) {
@@ -200,6 +208,12 @@ private RequestMatch<T> mapFromPathMatcher(String path, PathMatcher.PathMatch<Ar
                         remaining = path.substring(matchPos);
                     }
                 }
+                if (params == null) {
+                    params = new String[maxParams];
+                } else if (paramCount < params.length) {
+                    // clear the values captured by the candidates that did not match
+                    Arrays.fill(params, paramCount, params.length, null);
+                }
                 return new RequestMatch(potentialMatch.template, potentialMatch.value, params, remaining);
             }
         }
@@ -266,10 +280,7 @@ public String toString() {
 
     public void dump() {
         this.requestPaths.dump(0);
-    }
-
-    public PathMatcher<ArrayList<RequestPath<T>>> getRequestPaths() {
-        return requestPaths;
+        System.err.println("Default paths: " + defaultPaths);
     }
 
     public ArrayList<RequestPath<T>> getTemplates() {
@@ -3,19 +3,31 @@
 import java.io.File;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Consumer;
 
 import jakarta.ws.rs.Consumes;
+import jakarta.ws.rs.HttpMethod;
 import jakarta.ws.rs.Produces;
 import jakarta.ws.rs.WebApplicationException;
+import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.ext.MessageBodyWriter;
 
 import org.jboss.logging.Logger;
 import org.jboss.resteasy.reactive.common.providers.serialisers.FileBodyHandler;
+import org.jboss.resteasy.reactive.server.core.EncodedMediaType;
 import org.jboss.resteasy.reactive.server.core.ResteasyReactiveRequestContext;
+import org.jboss.resteasy.reactive.server.core.ServerSerialisers;
 import org.jboss.resteasy.reactive.server.spi.ResteasyReactiveResourceInfo;
+import org.jboss.resteasy.reactive.server.spi.ServerHttpResponse;
 import org.jboss.resteasy.reactive.server.spi.ServerMessageBodyWriter;
 import org.jboss.resteasy.reactive.server.spi.ServerRequestContext;
 
@@ -23,6 +35,8 @@
 @Consumes("*/*")
 public class ServerFileBodyHandler extends FileBodyHandler implements ServerMessageBodyWriter<File> {
 
+    private static final Logger log = Logger.getLogger(ServerFileBodyHandler.class);
+
     @Override
     public long getSize(File o, Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType) {
         return o.length();
@@ -39,28 +53,130 @@ public void writeResponse(File o, Type genericType, ServerRequestContext context
     }
 
     static void sendFile(File file, ServerRequestContext context) {
+        sendFile(file.getAbsolutePath(), 0, file.length(), context);
+    }
+
+    /**
+     * Sends a region of a file, or the parts of it that are requested by the {@code Range} header. The file content is
+     * handed over to the server with {@link ServerHttpResponse#sendFile}, which does not copy it through the heap when
+     * the connection allows it.
+     */
+    static void sendFile(String path, long offset, long count, ServerRequestContext context) {
         ResteasyReactiveRequestContext ctx = ((ResteasyReactiveRequestContext) context);
+        ServerHttpResponse response = context.serverResponse();
+        List<ByteRange.Range> ranges = requestedRanges(ctx, count);
+        if (ranges.size() == 1) {
+            ByteRange.Range range = ranges.get(0);
+            long length = range.getEnd() - range.getStart() + 1;
+            response.setPreCommitListener(new PartialContentHeaders(null,
+                    "bytes " + range.getStart() + "-" + range.getEnd() + "/" + count, length));
+            response.sendFile(path, offset + range.getStart(), length);
+        } else if (ranges.size() > 1) {
+            sendByteRanges(ctx, path, offset, count, ranges);
+        } else {
+            response.sendFile(path, offset, count);
+        }
+    }
+
+    /**
+     * @return whether the given writer sends its entity with {@link #sendFile(String, long, long, ServerRequestContext)}
+     */
+    public static boolean isFileWriter(MessageBodyWriter<?> writer) {
+        return writer instanceof ServerFileBodyHandler || writer instanceof ServerPathBodyHandler
+                || writer instanceof ServerFilePartBodyHandler || writer instanceof ServerPathPartBodyHandler;
+    }
+
+    private static List<ByteRange.Range> requestedRanges(ResteasyReactiveRequestContext ctx, long length) {
+        // range requests are only defined for GET
+        if (!HttpMethod.GET.equals(ctx.serverRequest().getRequestMethod())) {
+            return List.of();
+        }
+        if (ctx.getResponse().isCreated() && ctx.getResponse().get().getStatus() != Response.Status.OK.getStatusCode()) {
+            return List.of();
+        }
         Object rangeObj = ctx.getHeader("Range", true);
         ByteRange byteRange = rangeObj == null ? null : ByteRange.parse(rangeObj.toString());
-        long fileLength = file.length();
-        if ((byteRange != null) && (byteRange.ranges.size() == 1)) {
-            ByteRange.Range range = byteRange.ranges.get(0);
-
-            ByteRange.Range fileRange = (range.getStart() == -1)
-                    ? new ByteRange.Range(fileLength - range.getEnd(), fileLength - 1)
-                    : new ByteRange.Range(range.getStart(), Math.min(fileLength - 1, range.getEnd()));
-
-            if ((fileRange.getStart() >= 0) && (fileRange.getStart() <= fileRange.getEnd())) {
-                String contentRange = "bytes " + fileRange.getStart() + "-" + fileRange.getEnd() + "/" + fileLength;
-                long length = fileRange.getEnd() - fileRange.getStart() + 1;
-                context.serverResponse()
-                        .setStatusCode(Response.Status.PARTIAL_CONTENT.getStatusCode())
-                        .setResponseHeader("Content-Range", contentRange)
-                        .sendFile(file.getAbsolutePath(), fileRange.getStart(), length);
-                return;
+        return byteRange == null ? List.of() : byteRange.satisfiableRanges(length);
+    }
+
+    /**
+     * Sends the ranges as a {@code multipart/byteranges} response. The part headers are written as byte arrays and the
+     * ranges with {@link ServerHttpResponse#writeFile}, one after the other.
+     */
+    private static void sendByteRanges(ResteasyReactiveRequestContext ctx, String path, long offset, long count,
+            List<ByteRange.Range> ranges) {
+        String boundary = Long.toHexString(ThreadLocalRandom.current().nextLong() | Long.MIN_VALUE)
+                + Long.toHexString(ThreadLocalRandom.current().nextLong() | Long.MIN_VALUE);
+        EncodedMediaType contentType = ctx.getResponseContentType();
+        byte[][] partHeaders = new byte[ranges.size()][];
+        long contentLength = 0;
+        for (int i = 0; i < ranges.size(); i++) {
+            ByteRange.Range range = ranges.get(i);
+            StringBuilder partHeader = new StringBuilder();
+            if (i > 0) {
+                partHeader.append("\r\n");
+            }
+            partHeader.append("--").append(boundary).append("\r\n");
+            if (contentType != null) {
+                partHeader.append("Content-Type: ").append(contentType).append("\r\n");
+            }
+            partHeader.append("Content-Range: bytes ").append(range.getStart()).append('-').append(range.getEnd())
+                    .append('/').append(count).append("\r\n\r\n");
+            partHeaders[i] = partHeader.toString().getBytes(StandardCharsets.US_ASCII);
+            contentLength += partHeaders[i].length + range.getEnd() - range.getStart() + 1;
+        }
+        byte[] closeDelimiter = ("\r\n--" + boundary + "--\r\n").getBytes(StandardCharsets.US_ASCII);
+        contentLength += closeDelimiter.length;
+
+        ServerHttpResponse response = ctx.serverResponse();
+        response.setPreCommitListener(
+                new PartialContentHeaders("multipart/byteranges; boundary=" + boundary, null, contentLength));
+        CompletionStage<Void> written = CompletableFuture.completedFuture(null);
+        for (int i = 0; i < ranges.size(); i++) {
+            byte[] partHeader = partHeaders[i];
+            ByteRange.Range range = ranges.get(i);
+            written = written.thenCompose(v -> response.write(partHeader))
+                    .thenCompose(v -> response.writeFile(path, offset + range.getStart(),
+                            range.getEnd() - range.getStart() + 1));
+        }
+        written.whenComplete((v, t) -> {
+            if (t == null) {
+                response.end(closeDelimiter);
+            } else {
+                log.debugf(t, "Failed to send the ranges of %s", path);
+                response.reset();
+            }
+        });
+    }
+
+    /**
+     * Encodes the response headers, then turns the response into a {@code 206 Partial Content} one.
+     */
+    private static class PartialContentHeaders implements Consumer<ResteasyReactiveRequestContext> {
+
+        private final String contentType;
+        private final String contentRange;
+        private final long contentLength;
+
+        PartialContentHeaders(String contentType, String contentRange, long contentLength) {
+            this.contentType = contentType;
+            this.contentRange = contentRange;
+            this.contentLength = contentLength;
+        }
+
+        @Override
+        public void accept(ResteasyReactiveRequestContext context) {
+            ServerSerialisers.encodeResponseHeaders(context);
+            ServerHttpResponse response = context.serverResponse();
+            response.setStatusCode(Response.Status.PARTIAL_CONTENT.getStatusCode());
+            if (contentType != null) {
+                response.setResponseHeader(HttpHeaders.CONTENT_TYPE, contentType);
+            }
+            if (contentRange != null) {
+                response.setResponseHeader("Content-Range", contentRange);
             }
+            response.setResponseHeader(HttpHeaders.CONTENT_LENGTH, Long.toString(contentLength));
         }
-        context.serverResponse().sendFile(file.getAbsolutePath(), 0, fileLength);
     }
 
     /**
@@ -74,6 +190,8 @@ public static class ByteRange {
 
         private static final Logger log = Logger.getLogger(ByteRange.class);
 
+        private static final int MAX_RANGES = 16;
+
         private final List<Range> ranges;
 
         public ByteRange(List<Range> ranges) {
@@ -104,6 +222,38 @@ public long getEnd(int range) {
             return ranges.get(range).getEnd();
         }
 
+        /**
+         * Resolves the range segments against the length of the representation, dropping the unsatisfiable ones.
+         * <p>
+         * An empty list is returned when the ranges overlap or when there are too many of them, in which case the whole
+         * representation should be sent: serving them could amplify the response well beyond the representation size.
+         *
+         * @param length The length of the representation
+         * @return The satisfiable ranges, with inclusive bounds
+         */
+        public List<Range> satisfiableRanges(long length) {
+            if (ranges.size() > MAX_RANGES) {
+                return List.of();
+            }
+            List<Range> result = new ArrayList<>(ranges.size());
+            for (Range range : ranges) {
+                Range resolved = (range.getStart() == -1)
+                        ? new Range(Math.max(0, length - range.getEnd()), length - 1)
+                        : new Range(range.getStart(), Math.min(length - 1, range.getEnd()));
+                if ((resolved.getStart() >= 0) && (resolved.getStart() <= resolved.getEnd())) {
+                    result.add(resolved);
+                }
+            }
+            List<Range> sorted = new ArrayList<>(result);
+            sorted.sort(Comparator.comparingLong(Range::getStart));
+            for (int i = 1; i < sorted.size(); i++) {
+                if (sorted.get(i).getStart() <= sorted.get(i - 1).getEnd()) {
+                    return List.of();
+                }
+            }
+            return result;
+        }
+
         /**
          * Attempts to parse a range request. If the range request is invalid it will just return null so that
          * it may be ignored.
@@ -121,6 +271,7 @@ public static ByteRange parse(String rangeHeader) {
             List<Range> ranges = new ArrayList<>();
             String[] parts = rangeHeader.substring(6).split(",");
             for (String part : parts) {
+                part = part.trim();
                 try {
                     int index = part.indexOf('-');
                     if (index == 0) {
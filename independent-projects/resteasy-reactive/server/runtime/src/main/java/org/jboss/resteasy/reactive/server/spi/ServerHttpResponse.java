@@ -1,7 +1,15 @@
 package org.jboss.resteasy.reactive.server.spi;
 
+import java.io.EOFException;
+import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.function.Consumer;
 
@@ -39,8 +47,51 @@ public interface ServerHttpResponse extends StreamingResponse<ServerHttpResponse
 
     CompletionStage<Void> write(byte[] data);
 
+    /**
+     * Writes a region of the given array. The caller is free to reuse the array as soon as this method returns.
+     */
+    default CompletionStage<Void> write(byte[] data, int offset, int length) {
+        return write(Arrays.copyOfRange(data, offset, offset + length));
+    }
+
     ServerHttpResponse sendFile(String path, long offset, long length);
 
+    /**
+     * Writes a region of the given file without ending the response. Implementations should stream the region with
+     * backpressure instead of loading it in memory.
+     */
+    default CompletionStage<Void> writeFile(String path, long offset, long length) {
+        FileChannel channel;
+        try {
+            channel = FileChannel.open(Path.of(path), StandardOpenOption.READ);
+        } catch (IOException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        return writeFileChunks(channel, new byte[8192], offset, offset + length)
+                .whenComplete((v, t) -> {
+                    try {
+                        channel.close();
+                    } catch (IOException ignored) {
+                    }
+                });
+    }
+
+    private CompletionStage<Void> writeFileChunks(FileChannel channel, byte[] chunk, long position, long end) {
+        if (position >= end) {
+            return CompletableFuture.completedFuture(null);
+        }
+        int read;
+        try {
+            read = channel.read(ByteBuffer.wrap(chunk, 0, (int) Math.min(chunk.length, end - position)), position);
+        } catch (IOException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        if (read < 0) {
+            return CompletableFuture.failedFuture(new EOFException("Unexpected end of file at " + position));
+        }
+        return write(chunk, 0, read).thenCompose(v -> writeFileChunks(channel, chunk, position + read, end));
+    }
+
     OutputStream createResponseOutputStream();
 
     void setPreCommitListener(Consumer<ResteasyReactiveRequestContext> task);
@@ -0,0 +1,42 @@
+package org.jboss.resteasy.reactive.server.spi;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+
+import jakarta.ws.rs.core.MediaType;
+
+/**
+ * Optional extension of a {@link ServerMessageBodyWriter} that can write the elements of a streamed array, such as the
+ * items of a {@code Multi} produced as {@code application/json}, through a single generator that stays open for the
+ * whole response, instead of serializing each element on its own.
+ */
+public interface StreamingArrayMessageBodyWriter {
+
+    /**
+     * Starts an array on the given stream.
+     *
+     * @param elementType the generic type of the elements
+     * @param annotations the annotations of the resource method
+     * @param mediaType the media type of the response
+     * @param stream the stream the array is written to, which must not be closed by the generator
+     */
+    ArrayGenerator startArray(Type elementType, Annotation[] annotations, MediaType mediaType, OutputStream stream)
+            throws IOException;
+
+    interface ArrayGenerator {
+
+        void writeElement(Object element) throws IOException;
+
+        /**
+         * Pushes the content buffered by the generator to the underlying stream.
+         */
+        void flush() throws IOException;
+
+        /**
+         * Ends the array and pushes the remaining content to the underlying stream.
+         */
+        void endArray() throws IOException;
+    }
+}
@@ -50,6 +50,7 @@
 import io.vertx.core.MultiMap;
 import io.vertx.core.Vertx;
 import io.vertx.core.buffer.Buffer;
+import io.vertx.core.file.OpenOptions;
 import io.vertx.core.http.HttpServerRequest;
 import io.vertx.core.http.HttpServerResponse;
 import io.vertx.core.impl.buffer.VertxByteBufAllocator;
@@ -62,6 +63,7 @@ public class VertxResteasyReactiveRequestContext extends ResteasyReactiveRequest
         implements ServerHttpRequest, ServerHttpResponse, Handler<Void> {
 
     public static final String CONTINUE = "100-continue";
+    private static final OpenOptions READ_ONLY = new OpenOptions().setRead(true).setWrite(false).setCreate(false);
     protected final RoutingContext context;
     protected final HttpServerRequest request;
     protected final HttpServerResponse response;
@@ -503,12 +505,44 @@ public CompletionStage<Void> write(byte[] data) {
         return ret;
     }
 
+    @Override
+    public CompletionStage<Void> write(byte[] data, int offset, int length) {
+        var buffer = VertxByteBufAllocator.POOLED_ALLOCATOR.directBuffer(length);
+        buffer.writeBytes(data, offset, length);
+        CompletableFuture<Void> ret = new CompletableFuture<>();
+        response.write(new NoBoundChecksBuffer(buffer)).onComplete(event -> {
+            if (event.failed()) {
+                ret.completeExceptionally(event.cause());
+            } else {
+                ret.complete(null);
+            }
+        });
+        return ret;
+    }
+
     @Override
     public ServerHttpResponse sendFile(String path, long offset, long length) {
         response.sendFile(path, offset, length);
         return this;
     }
 
+    @Override
+    public CompletionStage<Void> writeFile(String path, long offset, long length) {
+        CompletableFuture<Void> ret = new CompletableFuture<>();
+        context.vertx().fileSystem().open(path, READ_ONLY)
+                .compose(file -> file.setReadPos(offset).setReadLength(length)
+                        .pipe().endOnComplete(false).endOnFailure(false).to(response)
+                        .eventually(file::close))
+                .onComplete(event -> {
+                    if (event.failed()) {
+                        ret.completeExceptionally(event.cause());
+                    } else {
+                        ret.complete(null);
+                    }
+                });
+        return ret;
+    }
+
     @Override
     public OutputStream createResponseOutputStream() {
         final ResteasyReactiveConfig config = getDeployment().getResteasyReactiveConfig();